@@ -0,0 +1,105 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>A fixed-size Bloom filter over strings.</p>
+ * <p>{@link #mightContain(String)} never returns false for a string that was added, and
+ * returns true for a string that was not added with roughly the false-positive rate the
+ * filter was sized for.  Strings cannot be removed; {@link #clear()} empties the filter.</p>
+ * <p>Thread-safe and lock-free.</p>
+ */
+final class BloomFilter
+{
+
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions The number of strings the filter is sized for
+     * @param falsePositiveRate The false-positive rate wanted at that many strings, between 0 and 1
+     */
+    BloomFilter(int expectedInsertions, double falsePositiveRate)
+    {
+        int n = Math.max(1, expectedInsertions);
+        double bits = -n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        int words = (int) Math.max(1, Math.min(Integer.MAX_VALUE / 64, Math.ceil(bits / 64)));
+        this.words = new AtomicLongArray(words);
+        this.bitCount = words * 64;
+        this.hashCount = Math.max(1, (int) Math.round(bits / n * Math.log(2)));
+    }
+
+    /**
+     * @param value The string to add
+     */
+    void put(String value)
+    {
+        int h1 = value.hashCode();
+        int h2 = secondHash(value);
+        for (int i = 0; i < hashCount; i++)
+        {
+            int bit = index(h1 + i * h2);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long current;
+            do
+            {
+                current = words.get(word);
+                if ((current & mask) != 0)
+                {
+                    break;
+                }
+            }
+            while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * @param value The string to check
+     * @return false if the string was certainly never added, true if it may have been
+     */
+    boolean mightContain(String value)
+    {
+        int h1 = value.hashCode();
+        int h2 = secondHash(value);
+        for (int i = 0; i < hashCount; i++)
+        {
+            int bit = index(h1 + i * h2);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>Remove every string.</p>
+     */
+    void clear()
+    {
+        for (int i = 0; i < words.length(); i++)
+        {
+            words.set(i, 0L);
+        }
+    }
+
+    private int index(int hash)
+    {
+        return (hash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /** FNV-1a, independent of <tt>String.hashCode</tt>; forced odd so the probe sequence covers distinct bits */
+    private static int secondHash(String value)
+    {
+        int h = 0x811c9dc5;
+        for (int i = 0; i < value.length(); i++)
+        {
+            h ^= value.charAt(i);
+            h *= 0x01000193;
+        }
+        return h | 1;
+    }
+}
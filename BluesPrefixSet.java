@@ -0,0 +1,64 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.*;
+
+import com.amerigroup.facets.dao.dto.FacetsMemberBluesPrefixDto;
+
+/**
+ * <p>An immutable set of the three-character BlueCard (ITS) prefixes found in
+ * <tt>CMC_CSPI_CS_PLAN</tt>.</p>
+ */
+final class BluesPrefixSet
+{
+
+    private final Set<String> prefixes;
+
+    /**
+     * @param prefixes The prefixes, in the order the database returned them; nulls are ignored
+     */
+    BluesPrefixSet(Collection<String> prefixes)
+    {
+        Set<String> copy = new LinkedHashSet<String>();
+        for (String prefix : prefixes)
+        {
+            if (prefix != null)
+            {
+                copy.add(prefix);
+            }
+        }
+        this.prefixes = Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * @param prefix The prefix to check, compared exactly as stored
+     * @return whether the prefix is a known blues prefix
+     */
+    boolean contains(String prefix)
+    {
+        return prefix != null && prefixes.contains(prefix);
+    }
+
+    /**
+     * @return the prefixes; unmodifiable
+     */
+    Set<String> getPrefixes()
+    {
+        return prefixes;
+    }
+
+    /**
+     * @return a new list of DTOs, one per prefix, safe for the caller to modify
+     */
+    List<FacetsMemberBluesPrefixDto> toDtos()
+    {
+        List<FacetsMemberBluesPrefixDto> result = new ArrayList<FacetsMemberBluesPrefixDto>(prefixes.size());
+        for (String prefix : prefixes)
+        {
+            FacetsMemberBluesPrefixDto dto = new FacetsMemberBluesPrefixDto();
+            dto.prefix = prefix;
+            result.add(dto);
+        }
+        return result;
+    }
+}
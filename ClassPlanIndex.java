@@ -0,0 +1,300 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.*;
+
+import com.amerigroup.facets.dao.dto.FacetsMemberAmerigroupIDDto;
+import com.amerigroup.facets.dao.dto.FacetsMemberClassPlanPrefixDto;
+import com.amerigroup.facets.dao.dto.FacetsMemberIdAndBluesPrefixDto;
+
+/**
+ * <p>An immutable in-memory copy of <tt>CMC_CSPI_CS_PLAN</tt> indexed for the prefix
+ * lookups.</p>
+ * <p>Rows are grouped by <tt>(GRGR_CK, CSCS_ID, CSPI_ID, CSPD_CAT)</tt>.  The rows of each
+ * group are held in an interval tree on <tt>CSPI_EFF_DT</tt>/<tt>CSPI_TERM_DT</tt>, so
+ * finding the rows in effect at some time in a date range takes a hash lookup plus
+ * O(log n) in the size of the group.</p>
+ * <p>Matching reproduces the DAO's SQL.  Keys are compared exactly as the database returns
+ * them, date ranges are inclusive at both ends, and a null date never matches.</p>
+ */
+final class ClassPlanIndex
+{
+
+    /**
+     * <p>One row of the class plan table.</p>
+     */
+    static final class Entry
+    {
+        final String groupCk;
+        final String classId;
+        final String planId;
+        final String cspdCat;
+        final String prefix;
+        final long effDate;
+        final long termDate;
+
+        Entry(String groupCk, String classId, String planId, String cspdCat, String prefix, Date effDate, Date termDate)
+        {
+            this.groupCk = groupCk;
+            this.classId = classId;
+            this.planId = planId;
+            this.cspdCat = cspdCat;
+            this.prefix = prefix;
+            this.effDate = effDate == null ? Long.MAX_VALUE : effDate.getTime();
+            this.termDate = termDate == null ? Long.MIN_VALUE : termDate.getTime();
+        }
+    }
+
+    /**
+     * <p>One eligibility span of a subscriber's members, with the class plan it points at.</p>
+     */
+    static final class Span
+    {
+        final String sbsbId;
+        final String subscriberGroupCk;
+        final String groupCk;
+        final String classId;
+        final String planId;
+        final String cspdCat;
+        final Date effDate;
+        final Date termDate;
+
+        Span(String sbsbId, String subscriberGroupCk, String groupCk, String classId, String planId, String cspdCat, Date effDate, Date termDate)
+        {
+            this.sbsbId = sbsbId;
+            this.subscriberGroupCk = subscriberGroupCk;
+            this.groupCk = groupCk;
+            this.classId = classId;
+            this.planId = planId;
+            this.cspdCat = cspdCat;
+            this.effDate = effDate;
+            this.termDate = termDate;
+        }
+    }
+
+    private final Map<String, IntervalTree> byClassPlan;
+    private final int size;
+
+    /**
+     * @param rows The rows of the table; rows with a null key column or date are dropped, as
+     * the SQL comparisons never match them
+     */
+    ClassPlanIndex(List<Entry> rows)
+    {
+        Map<String, List<Entry>> groups = new HashMap<String, List<Entry>>();
+        int kept = 0;
+        for (Entry entry : rows)
+        {
+            if (entry.groupCk == null || entry.classId == null || entry.planId == null || entry.cspdCat == null
+                || entry.effDate == Long.MAX_VALUE || entry.termDate == Long.MIN_VALUE)
+            {
+                continue;
+            }
+            String key = key(entry.groupCk, entry.classId, entry.planId, entry.cspdCat);
+            List<Entry> group = groups.get(key);
+            if (group == null)
+            {
+                group = new ArrayList<Entry>(2);
+                groups.put(key, group);
+            }
+            group.add(entry);
+            kept++;
+        }
+        Map<String, IntervalTree> trees = new HashMap<String, IntervalTree>(groups.size() * 4 / 3 + 1);
+        for (Map.Entry<String, List<Entry>> group : groups.entrySet())
+        {
+            trees.put(group.getKey(), new IntervalTree(group.getValue()));
+        }
+        this.byClassPlan = trees;
+        this.size = kept;
+    }
+
+    /**
+     * @return the number of indexed rows
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * <p>The in-memory form of <tt>getPrefixByClassPlan</tt>: the prefix of the row that
+     * overlaps the eligibility dates and has the latest <tt>CSPI_TERM_DT</tt>.</p>
+     * @return the prefix, or null if no row matches
+     */
+    FacetsMemberClassPlanPrefixDto prefixByClassPlan(Date eligTermDt, Date eligEffDt, String groupCk, String classId, String cspdCat, String planId)
+    {
+        if (eligTermDt == null || eligEffDt == null)
+        {
+            return null;
+        }
+        Entry latest = null;
+        for (Entry entry : find(groupCk, classId, planId, cspdCat, eligEffDt.getTime(), eligTermDt.getTime()))
+        {
+            if (latest == null || entry.termDate > latest.termDate)
+            {
+                latest = entry;
+            }
+        }
+        if (latest == null)
+        {
+            return null;
+        }
+        FacetsMemberClassPlanPrefixDto dto = new FacetsMemberClassPlanPrefixDto();
+        dto.prefix = latest.prefix;
+        return dto;
+    }
+
+    /**
+     * <p>The in-memory form of the class plan join of <tt>getIdAndPrefixBySbsbIdDateAndPrefix</tt>:
+     * one result per span and row where the row overlaps both the span and the search dates and
+     * its upper-cased prefix equals <tt>prefix</tt>.</p>
+     * @return the subscriber ID and group of each match; empty but never null
+     */
+    List<FacetsMemberAmerigroupIDDto> idsWithPrefix(List<Span> spans, String prefix, Date searchStartDate, Date searchEndDate)
+    {
+        List<FacetsMemberAmerigroupIDDto> result = new ArrayList<FacetsMemberAmerigroupIDDto>();
+        if (prefix == null || searchStartDate == null || searchEndDate == null)
+        {
+            return result;
+        }
+        for (Span span : spans)
+        {
+            if (span.effDate == null || span.termDate == null)
+            {
+                continue;
+            }
+            for (Entry entry : find(span.groupCk, span.classId, span.planId, span.cspdCat, span.effDate.getTime(), span.termDate.getTime()))
+            {
+                if (entry.prefix != null && prefix.equals(entry.prefix.toUpperCase(Locale.ROOT))
+                    && searchStartDate.getTime() <= entry.termDate && searchEndDate.getTime() >= entry.effDate)
+                {
+                    FacetsMemberAmerigroupIDDto dto = new FacetsMemberAmerigroupIDDto();
+                    dto.amerigroupID = span.sbsbId;
+                    dto.groupID = span.subscriberGroupCk;
+                    result.add(dto);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * <p>The in-memory form of the class plan join of <tt>getIdAndBluesPrefixBySbsbIdAndDate</tt>:
+     * the first three-character prefix of a row that overlaps a span and is in effect on
+     * <tt>searchDate</tt>.</p>
+     * @return the subscriber ID and prefix, or null if no row matches
+     */
+    FacetsMemberIdAndBluesPrefixDto bluesPrefix(List<Span> spans, Date searchDate)
+    {
+        if (searchDate == null)
+        {
+            return null;
+        }
+        long date = searchDate.getTime();
+        for (Span span : spans)
+        {
+            if (span.effDate == null || span.termDate == null)
+            {
+                continue;
+            }
+            for (Entry entry : find(span.groupCk, span.classId, span.planId, span.cspdCat, date, date))
+            {
+                if (entry.prefix != null && entry.prefix.length() == 3
+                    && span.effDate.getTime() <= entry.termDate && span.termDate.getTime() >= entry.effDate)
+                {
+                    FacetsMemberIdAndBluesPrefixDto dto = new FacetsMemberIdAndBluesPrefixDto();
+                    dto.sbsbId = span.sbsbId;
+                    dto.prefix = entry.prefix;
+                    return dto;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <p>Find the rows of a class plan in effect at some time between <tt>from</tt> and <tt>to</tt>.</p>
+     * @return the matching rows in effective date order; empty but never null
+     */
+    List<Entry> find(String groupCk, String classId, String planId, String cspdCat, long from, long to)
+    {
+        if (groupCk == null || classId == null || planId == null || cspdCat == null || from > to)
+        {
+            return Collections.emptyList();
+        }
+        IntervalTree tree = byClassPlan.get(key(groupCk, classId, planId, cspdCat));
+        if (tree == null)
+        {
+            return Collections.emptyList();
+        }
+        List<Entry> result = new ArrayList<Entry>(2);
+        tree.collect(0, tree.entries.length, from, to, result);
+        return result;
+    }
+
+    private static String key(String groupCk, String classId, String planId, String cspdCat)
+    {
+        return groupCk + '\u0000' + classId + '\u0000' + planId + '\u0000' + cspdCat;
+    }
+
+    /**
+     * <p>A static interval tree: the rows sorted by effective date form an implicit balanced
+     * binary tree (the middle of each range is its root), and each node records the latest
+     * termination date in its subtree so whole subtrees ending before the range are skipped.</p>
+     */
+    private static final class IntervalTree
+    {
+        private final Entry[] entries;
+        private final long[] maxTerm;
+
+        IntervalTree(List<Entry> rows)
+        {
+            entries = rows.toArray(new Entry[rows.size()]);
+            Arrays.sort(entries, new Comparator<Entry>()
+            {
+                public int compare(Entry a, Entry b)
+                {
+                    return a.effDate < b.effDate ? -1 : (a.effDate == b.effDate ? 0 : 1);
+                }
+            });
+            maxTerm = new long[entries.length];
+            build(0, entries.length);
+        }
+
+        private long build(int lo, int hi)
+        {
+            if (lo >= hi)
+            {
+                return Long.MIN_VALUE;
+            }
+            int mid = (lo + hi) >>> 1;
+            long max = Math.max(entries[mid].termDate, Math.max(build(lo, mid), build(mid + 1, hi)));
+            maxTerm[mid] = max;
+            return max;
+        }
+
+        private void collect(int lo, int hi, long from, long to, List<Entry> result)
+        {
+            if (lo >= hi)
+            {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (maxTerm[mid] < from)
+            {
+                return;
+            }
+            collect(lo, mid, from, to, result);
+            Entry entry = entries[mid];
+            if (entry.effDate <= to)
+            {
+                if (entry.termDate >= from)
+                {
+                    result.add(entry);
+                }
+                collect(mid + 1, hi, from, to, result);
+            }
+        }
+    }
+}
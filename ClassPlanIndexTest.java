@@ -0,0 +1,78 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+
+public class ClassPlanIndexTest {
+
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    private static ClassPlanIndex.Entry entry(String prefix, long effDay, long termDay) {
+        return new ClassPlanIndex.Entry("100", "C001", "P0000001", "M", prefix, new Date(effDay * DAY), new Date(termDay * DAY));
+    }
+
+    private static ClassPlanIndex.Span span(long effDay, long termDay) {
+        return new ClassPlanIndex.Span("SUB1", "100", "100", "C001", "P0000001", "M", new Date(effDay * DAY), new Date(termDay * DAY));
+    }
+
+    @Test
+    public void testPrefixByClassPlanTakesLatestOverlappingRow() {
+        ClassPlanIndex index = new ClassPlanIndex(Arrays.asList(
+            entry("AAA", 0, 99), entry("BBB", 100, 199), entry("CCC", 200, 299)));
+
+        assertEquals("BBB", index.prefixByClassPlan(new Date(150 * DAY), new Date(50 * DAY), "100", "C001", "M", "P0000001").prefix);
+        assertEquals("CCC", index.prefixByClassPlan(new Date(250 * DAY), new Date(150 * DAY), "100", "C001", "M", "P0000001").prefix);
+        assertNull(index.prefixByClassPlan(new Date(400 * DAY), new Date(300 * DAY), "100", "C001", "M", "P0000001"));
+        assertNull(index.prefixByClassPlan(new Date(150 * DAY), new Date(50 * DAY), "200", "C001", "M", "P0000001"));
+        assertNull(index.prefixByClassPlan(null, new Date(50 * DAY), "100", "C001", "M", "P0000001"));
+    }
+
+    @Test
+    public void testFindMatchesBruteForce() {
+        Random random = new Random(7);
+        List<ClassPlanIndex.Entry> rows = new ArrayList<ClassPlanIndex.Entry>();
+        for (int i = 0; i < 500; i++) {
+            long eff = random.nextInt(1000);
+            rows.add(entry("P" + i, eff, eff + random.nextInt(200)));
+        }
+        ClassPlanIndex index = new ClassPlanIndex(rows);
+
+        for (int q = 0; q < 200; q++) {
+            long from = random.nextInt(1200) * DAY;
+            long to = from + random.nextInt(50) * DAY;
+            int expected = 0;
+            for (ClassPlanIndex.Entry row : rows) {
+                if (row.effDate <= to && row.termDate >= from) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, index.find("100", "C001", "P0000001", "M", from, to).size());
+        }
+    }
+
+    @Test
+    public void testIdsWithPrefixComparesUpperCasedPrefixAndBothRanges() {
+        ClassPlanIndex index = new ClassPlanIndex(Arrays.asList(entry("abc", 0, 99), entry("ABC", 100, 199)));
+        List<ClassPlanIndex.Span> spans = Arrays.asList(span(50, 150));
+
+        assertEquals(2, index.idsWithPrefix(spans, "ABC", new Date(90 * DAY), new Date(110 * DAY)).size());
+        assertEquals(1, index.idsWithPrefix(spans, "ABC", new Date(120 * DAY), new Date(130 * DAY)).size());
+        assertEquals("SUB1", index.idsWithPrefix(spans, "ABC", new Date(120 * DAY), new Date(130 * DAY)).get(0).amerigroupID);
+        assertEquals(0, index.idsWithPrefix(spans, "abc", new Date(90 * DAY), new Date(110 * DAY)).size());
+    }
+
+    @Test
+    public void testBluesPrefixNeedsThreeCharacterPrefixInEffectOnDate() {
+        ClassPlanIndex index = new ClassPlanIndex(Arrays.asList(entry("AB", 0, 99), entry("XYZ", 0, 99)));
+
+        assertEquals("XYZ", index.bluesPrefix(Arrays.asList(span(10, 20)), new Date(50 * DAY)).prefix);
+        assertNull(index.bluesPrefix(Arrays.asList(span(10, 20)), new Date(150 * DAY)));
+        assertNull(index.bluesPrefix(Arrays.asList(span(120, 130)), new Date(50 * DAY)));
+    }
+}
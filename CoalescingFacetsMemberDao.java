@@ -0,0 +1,138 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+
+/**
+ * <p>Wraps an <tt>IFacetsMemberDao</tt> so concurrent calls of the same lookup with equal
+ * arguments share one database query.</p>
+ * <p>Every non-void method declared by <tt>IFacetsMemberDao</tt> goes through a
+ * {@link SingleFlight} keyed by the method and its arguments: while a call is running, other
+ * threads making the identical call wait for it instead of running the same query again.  A
+ * returned <tt>List</tt> is copied once before it is shared and every caller, including the
+ * one whose call ran the query, gets its own copy of that; the DTOs in it are shared and must
+ * not be modified.  Methods inherited from <tt>IDatabaseDao</tt>
+ * are passed straight through.</p>
+ * <pre>
+ * IFacetsMemberDao dao = CoalescingFacetsMemberDao.wrap(new FacetsMemberDaoImpl());
+ * </pre>
+ */
+public final class CoalescingFacetsMemberDao implements InvocationHandler
+{
+
+    private final IFacetsMemberDao dao;
+    private final SingleFlight<List<Object>, Object> flights = new SingleFlight<List<Object>, Object>();
+
+    private CoalescingFacetsMemberDao(IFacetsMemberDao dao)
+    {
+        this.dao = dao;
+    }
+
+    /**
+     * <p>Wrap a DAO.</p>
+     * @param dao The DAO to call
+     * @return a DAO that coalesces identical concurrent lookups
+     */
+    public static IFacetsMemberDao wrap(IFacetsMemberDao dao)
+    {
+        return (IFacetsMemberDao) Proxy.newProxyInstance(IFacetsMemberDao.class.getClassLoader(),
+            new Class<?>[] { IFacetsMemberDao.class }, new CoalescingFacetsMemberDao(dao));
+    }
+
+    /**
+     * <p>Get the coalescing state behind a wrapped DAO, for its counters.</p>
+     * @param wrapped A DAO returned by {@link #wrap(IFacetsMemberDao)}
+     * @return the handler of <tt>wrapped</tt>
+     * @throws IllegalArgumentException if <tt>wrapped</tt> was not created by {@link #wrap(IFacetsMemberDao)}
+     */
+    public static CoalescingFacetsMemberDao handlerOf(IFacetsMemberDao wrapped)
+    {
+        if (!Proxy.isProxyClass(wrapped.getClass()) || !(Proxy.getInvocationHandler(wrapped) instanceof CoalescingFacetsMemberDao))
+        {
+            throw new IllegalArgumentException("Not a coalescing DAO: " + wrapped.getClass().getName());
+        }
+        return (CoalescingFacetsMemberDao) Proxy.getInvocationHandler(wrapped);
+    }
+
+    /** @return the number of lookups that ran against the database */
+    public long getExecutions()
+    {
+        return flights.getExecutions();
+    }
+
+    /** @return the number of lookups that shared the result of an identical call in flight */
+    public long getCoalesced()
+    {
+        return flights.getCoalesced();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object invoke(Object proxy, final Method method, final Object[] args) throws Throwable
+    {
+        if (method.getDeclaringClass() == Object.class)
+        {
+            if ("equals".equals(method.getName()))
+            {
+                return Boolean.valueOf(proxy == args[0]);
+            }
+            return call(method, args);
+        }
+        if (method.getDeclaringClass() != IFacetsMemberDao.class || method.getReturnType() == void.class)
+        {
+            return call(method, args);
+        }
+
+        List<Object> key = new ArrayList<Object>(1 + (args == null ? 0 : args.length));
+        key.add(method);
+        if (args != null)
+        {
+            key.addAll(Arrays.asList(args));
+        }
+
+        Object result = flights.execute(key, new Callable<Object>()
+        {
+            public Object call() throws Exception
+            {
+                Object value = CoalescingFacetsMemberDao.this.call(method, args);
+                if (value instanceof List)
+                {
+                    return Collections.unmodifiableList(new ArrayList<Object>((List<?>) value));
+                }
+                return value;
+            }
+        });
+        if (result instanceof List)
+        {
+            return new ArrayList<Object>((List<?>) result);
+        }
+        return result;
+    }
+
+    /**
+     * <p>Call the wrapped DAO, rethrowing whatever it threw, e.g. a <tt>DAOException</tt>, unchanged.</p>
+     */
+    private Object call(Method method, Object[] args) throws Exception
+    {
+        try
+        {
+            return method.invoke(dao, args);
+        }
+        catch (InvocationTargetException ex)
+        {
+            Throwable cause = ex.getCause();
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw (Exception) cause;
+        }
+    }
+}
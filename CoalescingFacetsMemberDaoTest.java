@@ -0,0 +1,95 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.Test;
+import com.amerigroup.exception.runtime.execution.DAOException;
+import com.amerigroup.facets.dao.dto.FacetsMemberAmerigroupIDDto;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.*;
+
+
+public class CoalescingFacetsMemberDaoTest {
+
+    @Test
+    public void testLeaderChangingItsListDoesNotReachFollowers() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<FacetsMemberAmerigroupIDDto> rows = new ArrayList<FacetsMemberAmerigroupIDDto>(
+            Arrays.asList(new FacetsMemberAmerigroupIDDto(), new FacetsMemberAmerigroupIDDto()));
+        IFacetsMemberDao slow = (IFacetsMemberDao) Proxy.newProxyInstance(IFacetsMemberDao.class.getClassLoader(),
+            new Class<?>[] { IFacetsMemberDao.class }, new InvocationHandler() {
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    started.countDown();
+                    release.await();
+                    return rows;
+                }
+            });
+        final IFacetsMemberDao dao = CoalescingFacetsMemberDao.wrap(slow);
+        final Callable<List<FacetsMemberAmerigroupIDDto>> lookup = new Callable<List<FacetsMemberAmerigroupIDDto>>() {
+            public List<FacetsMemberAmerigroupIDDto> call() {
+                return dao.findByAgp("AGP1");
+            }
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            Future<List<FacetsMemberAmerigroupIDDto>> leader = pool.submit(new Callable<List<FacetsMemberAmerigroupIDDto>>() {
+                public List<FacetsMemberAmerigroupIDDto> call() throws Exception {
+                    List<FacetsMemberAmerigroupIDDto> mine = lookup.call();
+                    mine.clear();
+                    rows.clear();
+                    return mine;
+                }
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<List<FacetsMemberAmerigroupIDDto>> first = pool.submit(lookup);
+            Future<List<FacetsMemberAmerigroupIDDto>> second = pool.submit(lookup);
+            while (CoalescingFacetsMemberDao.handlerOf(dao).getCoalesced() < 2) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            List<FacetsMemberAmerigroupIDDto> mine = leader.get(5, TimeUnit.SECONDS);
+            List<FacetsMemberAmerigroupIDDto> theirs = first.get(5, TimeUnit.SECONDS);
+            List<FacetsMemberAmerigroupIDDto> others = second.get(5, TimeUnit.SECONDS);
+            assertNotSame(rows, mine);
+            assertTrue(mine.isEmpty());
+            assertEquals(2, theirs.size());
+            assertEquals(2, others.size());
+            assertNotSame(theirs, others);
+            theirs.clear();
+            assertEquals(2, others.size());
+            assertEquals(1, CoalescingFacetsMemberDao.handlerOf(dao).getExecutions());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDaoExceptionIsRethrownUnchanged() {
+        final DAOException failure = new DAOException("Unable to perform read");
+        IFacetsMemberDao failing = (IFacetsMemberDao) Proxy.newProxyInstance(IFacetsMemberDao.class.getClassLoader(),
+            new Class<?>[] { IFacetsMemberDao.class }, new InvocationHandler() {
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    throw failure;
+                }
+            });
+
+        try {
+            CoalescingFacetsMemberDao.wrap(failing).findByAgp("AGP1");
+            fail("Expected the DAO's exception");
+        } catch (DAOException ex) {
+            assertSame(failure, ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import com.amerigroup.exception.runtime.execution.DAOException;
+
+/**
+ * <p>Thrown by the DAO when no pooled connection became free in time.</p>
+ * <p>Kept separate from other <tt>DAOException</tt>s so callers can shed load or retry
+ * later instead of treating the lookup as failed; an exhausted pool used to show up only as
+ * an empty result.</p>
+ */
+public class ConnectionPoolExhaustedException extends DAOException
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message The message
+     * @param cause The timeout reported by the pool
+     */
+    public ConnectionPoolExhaustedException(String message, Throwable cause)
+    {
+        super(message, cause);
+    }
+}
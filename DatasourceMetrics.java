@@ -0,0 +1,164 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Connection acquisition metrics for one logical datasource, shared by every DAO
+ * instance that uses it.</p>
+ * <p>Every checkout through {@link FacetsDatasourceHandle#getConnection()} is timed,
+ * whether the connection comes from the container's JNDI pool or from a
+ * {@link LocalConnectionPool}.  A checkout that times out waiting for a pooled connection is
+ * counted as an exhaustion, any other failure as a failure.  The active, idle and pending
+ * gauges are only available for a local pool; the container does not expose its own.</p>
+ * <p>When queries are routed between replicas, the time each query spent on the datasource
+ * is also folded into an exponentially weighted moving average that
+ * {@link ReplicaRouter} uses for least-latency selection.</p>
+ */
+public class DatasourceMetrics
+{
+
+    /** Weight of the newest sample in the latency average */
+    private static final double LATENCY_ALPHA = 0.2;
+
+    private static final ConcurrentMap<String, DatasourceMetrics> byDatasource =
+        new ConcurrentHashMap<String, DatasourceMetrics>();
+
+    private final String name;
+    private final QueryHistogram acquireTime = new QueryHistogram();
+    private final AtomicLong exhaustions = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    /** Bits of the latency average in nanoseconds; 0 until the first sample */
+    private final AtomicLong latencyAverage = new AtomicLong();
+    private volatile LocalConnectionPool pool;
+
+    private DatasourceMetrics(String name)
+    {
+        this.name = name;
+    }
+
+    /**
+     * <p>Get the metrics of a logical datasource, creating them on first use.</p>
+     * @param name The logical datasource name
+     * @return the shared metrics
+     */
+    static DatasourceMetrics forDatasource(String name)
+    {
+        DatasourceMetrics metrics = byDatasource.get(name);
+        if (metrics == null)
+        {
+            metrics = new DatasourceMetrics(name);
+            DatasourceMetrics existing = byDatasource.putIfAbsent(name, metrics);
+            if (existing != null)
+            {
+                metrics = existing;
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * @return the metrics of every datasource used so far, keyed and sorted by name; unmodifiable
+     */
+    public static Map<String, DatasourceMetrics> getAll()
+    {
+        return Collections.unmodifiableMap(new TreeMap<String, DatasourceMetrics>(byDatasource));
+    }
+
+    void recordAcquire(long nanos)
+    {
+        acquireTime.record(nanos);
+    }
+
+    void recordExhausted()
+    {
+        exhaustions.incrementAndGet();
+    }
+
+    void recordFailure()
+    {
+        failures.incrementAndGet();
+    }
+
+    void recordLatency(long nanos)
+    {
+        while (true)
+        {
+            long bits = latencyAverage.get();
+            double average = Double.longBitsToDouble(bits);
+            double next = bits == 0 ? nanos : average + LATENCY_ALPHA * (nanos - average);
+            if (latencyAverage.compareAndSet(bits, Double.doubleToLongBits(next)))
+            {
+                return;
+            }
+        }
+    }
+
+    void setPool(LocalConnectionPool pool)
+    {
+        this.pool = pool;
+    }
+
+    /** @return the logical datasource name */
+    public String getName()
+    {
+        return name;
+    }
+
+    /** @return nanoseconds taken by each successful checkout */
+    public QueryHistogram getAcquireTime()
+    {
+        return acquireTime;
+    }
+
+    /** @return the number of checkouts that timed out waiting for a pooled connection */
+    public long getExhaustions()
+    {
+        return exhaustions.get();
+    }
+
+    /** @return the number of checkouts that failed for any other reason */
+    public long getFailures()
+    {
+        return failures.get();
+    }
+
+    /**
+     * @return the moving average of the connection and execution time of the queries routed
+     * to the datasource, in nanoseconds, or 0 if none have been
+     */
+    public double getLatencyAverage()
+    {
+        return Double.longBitsToDouble(latencyAverage.get());
+    }
+
+    /** @return the local pool serving the datasource, or null if it comes from JNDI */
+    public LocalConnectionPool getPool()
+    {
+        return pool;
+    }
+
+    /** @return the number of connections checked out, or -1 if not known */
+    public int getActive()
+    {
+        LocalConnectionPool current = pool;
+        return current == null ? -1 : current.getActive();
+    }
+
+    /** @return the number of idle pooled connections, or -1 if not known */
+    public int getIdle()
+    {
+        LocalConnectionPool current = pool;
+        return current == null ? -1 : current.getIdle();
+    }
+
+    /** @return the number of threads waiting for a connection, or -1 if not known */
+    public int getPending()
+    {
+        LocalConnectionPool current = pool;
+        return current == null ? -1 : current.getPending();
+    }
+}
@@ -0,0 +1,95 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Measures the garbage the DAO's per-call debug logging creates when DEBUG is off,
+ * before and after guarding it with <tt>isDebugEnabled()</tt>.</p>
+ * <p>Each benchmark makes the debug calls of one eligibility lookup: the statement line and
+ * one parameter line.  Run {@link #main(String[])} and compare <tt>gc.alloc.rate.norm</tt>
+ * (bytes per operation): the unguarded form copies the full eleven-join statement into a
+ * new string on every call, the guarded form allocates nothing.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DebugLoggingBenchmark
+{
+
+    /** Log4j logger, set to INFO as in production */
+    private static final Logger log = Logger.getLogger(DebugLoggingBenchmark.class);
+
+    /** The statement of getAllEligibilityByMedicaidID */
+    private final String sql = ""+
+        " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
+        " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
+        " from CMC_MEPE_PRCS_ELIG e"+
+        " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
+        " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
+        " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
+        " left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK"+
+        " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
+        " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
+        " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
+        " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
+        " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
+        " where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') order by e.MEPE_EFF_DT desc";
+
+    private final String medicaidId = "MCD12345";
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        log.setLevel(org.apache.log4j.Level.INFO);
+    }
+
+    @Benchmark
+    public int unguarded()
+    {
+        int parmNum = 1;
+        log.debug("Executing SQL: " + sql);
+        log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
+        return parmNum;
+    }
+
+    @Benchmark
+    public int guarded()
+    {
+        int parmNum = 1;
+        if (log.isDebugEnabled())
+        {
+            log.debug("Executing SQL: " + sql);
+        }
+        if (log.isDebugEnabled())
+        {
+            log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
+        }
+        return parmNum;
+    }
+
+    /**
+     * <p>Run both benchmarks with the GC profiler attached.</p>
+     * @param args Ignored
+     * @throws RunnerException if JMH fails
+     */
+    public static void main(String[] args) throws RunnerException
+    {
+        Options options = new OptionsBuilder()
+            .include(DebugLoggingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,252 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amerigroup.facets.dao.dto.FacetsMemberEligibilityDto;
+
+/**
+ * <p>A bounded, time-limited cache of eligibility lookup results keyed by query and member
+ * identifier.</p>
+ * <p>Each entry expires <tt>ttlMillis</tt> after it was loaded.  The total number of cached
+ * rows is kept at or below <tt>maxWeight</tt> by evicting the least recently used entries.
+ * Only non-empty results are cached, so an unknown identifier is looked up again on the
+ * next call.</p>
+ * <p>Callers get their own copy of the list, but the <tt>FacetsMemberEligibilityDto</tt>
+ * objects in it are shared with other callers and must not be modified.</p>
+ * <p>Thread-safe.</p>
+ */
+public class EligibilityResultCache
+{
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxWeight;
+
+    /** Cached results in access order; guarded by <tt>this</tt> */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+
+    /** Total number of rows held by <tt>entries</tt>; guarded by <tt>this</tt> */
+    private int weight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    /**
+     * @param enabled If false nothing is cached and every lookup is a miss
+     * @param ttlMillis How long a result is served after it was loaded
+     * @param maxWeight The maximum number of eligibility rows held across all entries
+     */
+    public EligibilityResultCache(boolean enabled, long ttlMillis, int maxWeight)
+    {
+        this.enabled = enabled && ttlMillis > 0 && maxWeight > 0;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * <p>Get a cached result.</p>
+     * @param query The query that was run
+     * @param id The member identifier it was run for
+     * @return a copy of the cached rows, or null if there is no live entry
+     */
+    public List<FacetsMemberEligibilityDto> get(FacetsEligibilityQuery query, String id)
+    {
+        if (!enabled)
+        {
+            return null;
+        }
+        Key key = new Key(query, id);
+        synchronized (this)
+        {
+            Entry entry = entries.get(key);
+            if (entry != null)
+            {
+                if (System.nanoTime() - entry.loadedAt < ttlNanos)
+                {
+                    hits.incrementAndGet();
+                    return new ArrayList<FacetsMemberEligibilityDto>(entry.rows);
+                }
+                remove(key);
+                expirations.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * <p>Cache the result of a lookup.  Empty results, and results with more rows than the
+     * whole cache may hold, are not cached.</p>
+     * @param query The query that was run
+     * @param id The member identifier it was run for
+     * @param rows The rows it returned; copied
+     */
+    public void put(FacetsEligibilityQuery query, String id, List<FacetsMemberEligibilityDto> rows)
+    {
+        if (!enabled || rows == null || rows.isEmpty() || rows.size() > maxWeight)
+        {
+            return;
+        }
+        Key key = new Key(query, id);
+        Entry entry = new Entry(id, rows);
+        synchronized (this)
+        {
+            remove(key);
+            entries.put(key, entry);
+            weight += entry.rows.size();
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (weight > maxWeight && eldest.hasNext())
+            {
+                weight -= eldest.next().rows.size();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * <p>Drop every entry for a member, whichever query it was cached under.</p>
+     * <p>An entry belongs to the member if it was looked up with <tt>memberId</tt> or if any of
+     * its rows carries <tt>memberId</tt> as its subscriber ID, Medicaid ID, Medicare ID or
+     * member key, so invalidating by one identifier also drops lookups made by another.</p>
+     * @param memberId Any identifier of the member
+     * @return the number of entries dropped
+     */
+    public synchronized int invalidateMember(String memberId)
+    {
+        int removed = 0;
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext())
+        {
+            Entry entry = it.next();
+            if (entry.memberIds.contains(memberId))
+            {
+                weight -= entry.rows.size();
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * <p>Drop every entry.</p>
+     */
+    public synchronized void clear()
+    {
+        entries.clear();
+        weight = 0;
+    }
+
+    /** @return the number of lookups served from the cache */
+    public long getHits()
+    {
+        return hits.get();
+    }
+
+    /** @return the number of lookups that had to go to the database */
+    public long getMisses()
+    {
+        return misses.get();
+    }
+
+    /** @return the number of entries dropped to stay within the maximum weight */
+    public long getEvictions()
+    {
+        return evictions.get();
+    }
+
+    /** @return the number of entries dropped because they were older than the TTL */
+    public long getExpirations()
+    {
+        return expirations.get();
+    }
+
+    /** @return the number of cached entries */
+    public synchronized int getSize()
+    {
+        return entries.size();
+    }
+
+    /** @return the number of rows held across all entries */
+    public synchronized int getWeight()
+    {
+        return weight;
+    }
+
+    /** @return whether results are being cached */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    private void remove(Key key)
+    {
+        Entry previous = entries.remove(key);
+        if (previous != null)
+        {
+            weight -= previous.rows.size();
+        }
+    }
+
+    /**
+     * <p>A query and the identifier it was run for.</p>
+     */
+    private static final class Key
+    {
+        private final FacetsEligibilityQuery query;
+        private final String id;
+
+        Key(FacetsEligibilityQuery query, String id)
+        {
+            this.query = query;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+            Key other = (Key) o;
+            return query == other.query && (id == null ? other.id == null : id.equals(other.id));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * query.hashCode() + (id == null ? 0 : id.hashCode());
+        }
+    }
+
+    /**
+     * <p>A cached result with the identifiers of the member it belongs to.</p>
+     */
+    private static final class Entry
+    {
+        private final List<FacetsMemberEligibilityDto> rows;
+        private final Set<String> memberIds = new HashSet<String>();
+        private final long loadedAt = System.nanoTime();
+
+        Entry(String id, List<FacetsMemberEligibilityDto> rows)
+        {
+            this.rows = new ArrayList<FacetsMemberEligibilityDto>(rows);
+            memberIds.add(id);
+            for (FacetsMemberEligibilityDto dto : rows)
+            {
+                memberIds.add(dto.sbsbID);
+                memberIds.add(dto.medicaidID);
+                memberIds.add(dto.medicareID);
+                memberIds.add(dto.memeCk);
+            }
+            memberIds.remove(null);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import com.amerigroup.facets.dao.dto.FacetsMemberEligibilityDto;
+import static org.junit.Assert.*;
+
+
+public class EligibilityResultCacheTest {
+
+    private static List<FacetsMemberEligibilityDto> rows(String sbsbId, int count) {
+        List<FacetsMemberEligibilityDto> rows = new ArrayList<FacetsMemberEligibilityDto>();
+        for (int i = 0; i < count; i++) {
+            FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
+            dto.sbsbID = sbsbId;
+            dto.medicaidID = "MCD-" + sbsbId;
+            rows.add(dto);
+        }
+        return rows;
+    }
+
+    @Test
+    public void testServesCachedRowsPerQueryAndId() {
+        EligibilityResultCache cache = new EligibilityResultCache(true, 60000, 100);
+        cache.put(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB1", rows("SUB1", 2));
+
+        assertEquals(2, cache.get(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB1").size());
+        assertNull(cache.get(FacetsEligibilityQuery.CURRENT_BY_AMERIGROUP_ID, "SUB1"));
+        assertNull(cache.get(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB2"));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testDoesNotCacheEmptyResults() {
+        EligibilityResultCache cache = new EligibilityResultCache(true, 60000, 100);
+        cache.put(FacetsEligibilityQuery.BY_MEDICAID_ID, "UNKNOWN", new ArrayList<FacetsMemberEligibilityDto>());
+
+        assertNull(cache.get(FacetsEligibilityQuery.BY_MEDICAID_ID, "UNKNOWN"));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedOverMaxWeight() {
+        EligibilityResultCache cache = new EligibilityResultCache(true, 60000, 5);
+        cache.put(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB1", rows("SUB1", 2));
+        cache.put(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB2", rows("SUB2", 2));
+        cache.get(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB1");
+        cache.put(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB3", rows("SUB3", 2));
+
+        assertNotNull(cache.get(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB1"));
+        assertNull(cache.get(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB2"));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(4, cache.getWeight());
+    }
+
+    @Test
+    public void testExpiresAfterTtl() throws Exception {
+        EligibilityResultCache cache = new EligibilityResultCache(true, 1, 100);
+        cache.put(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB1", rows("SUB1", 1));
+        Thread.sleep(10);
+
+        assertNull(cache.get(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB1"));
+        assertEquals(1, cache.getExpirations());
+    }
+
+    @Test
+    public void testInvalidateMemberDropsLookupsByAnyIdentifier() {
+        EligibilityResultCache cache = new EligibilityResultCache(true, 60000, 100);
+        cache.put(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB1", rows("SUB1", 1));
+        cache.put(FacetsEligibilityQuery.BY_MEDICAID_ID, "MCD-SUB1", rows("SUB1", 1));
+        cache.put(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB2", rows("SUB2", 1));
+
+        assertEquals(2, cache.invalidateMember("SUB1"));
+        assertNull(cache.get(FacetsEligibilityQuery.BY_MEDICAID_ID, "MCD-SUB1"));
+        assertNotNull(cache.get(FacetsEligibilityQuery.BY_AMERIGROUP_ID, "SUB2"));
+        assertEquals(1, cache.getWeight());
+    }
+}
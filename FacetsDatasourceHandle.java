@@ -0,0 +1,203 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.sql.DataSource;
+
+import com.amerigroup.utilities.Text;
+import org.apache.log4j.Logger;
+
+/**
+ * <p>A resolved-once handle on a DAO's datasource: the JNDI name for the current
+ * environment and the <tt>DataSource</tt> bound under it.</p>
+ * <p>The JNDI name is resolved on first use and the <tt>DataSource</tt> is looked up on the
+ * first call to {@link #getDataSource()}; both are then reused until {@link #refresh()} is
+ * called.  A failed lookup is not remembered, so the next call tries again.</p>
+ * <p>When a {@link LocalConnectionPool} is configured for the handle's logical name it is
+ * used instead of the JNDI datasource.  Checkouts through {@link #getConnection()} are
+ * recorded in the {@link DatasourceMetrics} of that name.</p>
+ * <p>Thread-safe.  Concurrent first calls may resolve more than once, which is harmless.</p>
+ */
+public class FacetsDatasourceHandle
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(FacetsDatasourceHandle.class);
+
+    /**
+     * <p>Supplies the JNDI name for the current environment.</p>
+     */
+    public interface JndiNameResolver
+    {
+        /**
+         * @return the JNDI name, or null if it cannot be determined
+         */
+        String resolveJndiName();
+    }
+
+    private final String logicalName;
+    private final JndiNameResolver resolver;
+    private final DatasourceMetrics metrics;
+    /** The datasource given to the constructor, or null if it is looked up */
+    private final DataSource given;
+
+    private volatile String jndiName;
+    private volatile DataSource dataSource;
+
+    /**
+     * @param resolver Called to resolve the JNDI name on first use and after each refresh
+     */
+    public FacetsDatasourceHandle(JndiNameResolver resolver)
+    {
+        this("Facets", resolver);
+    }
+
+    /**
+     * @param name The logical datasource name, which selects the local pool settings and metrics
+     * @param resolver Called to resolve the JNDI name on first use and after each refresh
+     */
+    public FacetsDatasourceHandle(String name, JndiNameResolver resolver)
+    {
+        this.logicalName = name;
+        this.resolver = resolver;
+        this.metrics = DatasourceMetrics.forDatasource(name);
+        this.given = null;
+    }
+
+    /**
+     * <p>A handle on a datasource that is already open, e.g. an H2 test database.  It has no
+     * JNDI name and is never looked up.</p>
+     * @param name The logical datasource name, which selects the metrics
+     * @param dataSource The datasource every checkout goes to
+     */
+    FacetsDatasourceHandle(String name, DataSource dataSource)
+    {
+        this.logicalName = name;
+        this.resolver = new JndiNameResolver()
+        {
+            public String resolveJndiName()
+            {
+                return null;
+            }
+        };
+        this.metrics = DatasourceMetrics.forDatasource(name);
+        this.given = dataSource;
+        if (dataSource instanceof LocalConnectionPool)
+        {
+            metrics.setPool((LocalConnectionPool) dataSource);
+        }
+    }
+
+    /** @return the logical datasource name */
+    public String getName()
+    {
+        return logicalName;
+    }
+
+    /** @return the acquisition metrics of the logical datasource */
+    public DatasourceMetrics getMetrics()
+    {
+        return metrics;
+    }
+
+    /**
+     * <p>Get the JNDI name, resolving it if necessary.</p>
+     * @return the JNDI name, or null if it could not be resolved
+     */
+    public String getJndiName()
+    {
+        String name = jndiName;
+        if (name == null)
+        {
+            name = resolver.resolveJndiName();
+            jndiName = name;
+        }
+        return name;
+    }
+
+    /**
+     * <p>Get the datasource the handle was created with, the local pool configured for the
+     * logical name, or else the <tt>DataSource</tt> bound under the JNDI name, looking it up if
+     * necessary.</p>
+     * @return the datasource, or null if the name could not be resolved or the lookup failed
+     */
+    public DataSource getDataSource()
+    {
+        if (given != null)
+        {
+            return given;
+        }
+        DataSource ds = dataSource;
+        if (ds == null)
+        {
+            LocalConnectionPool pool = LocalConnectionPool.forDatasource(logicalName);
+            if (pool != null)
+            {
+                metrics.setPool(pool);
+                dataSource = pool;
+                return pool;
+            }
+            String name = getJndiName();
+            if (Text.isEffectivelyEmptyOrNull(name))
+            {
+                return null;
+            }
+            try
+            {
+                ds = (DataSource) new InitialContext().lookup(name);
+                dataSource = ds;
+            }
+            catch (NamingException ex)
+            {
+                log.error("Unable to look up datasource " + name, ex);
+            }
+        }
+        return ds;
+    }
+
+    /**
+     * <p>Check out a connection from the datasource, recording how long it took.</p>
+     * @return a connection, or null if there is no datasource
+     * @throws SQLTransientConnectionException if the pool timed out; counted as an exhaustion
+     * @throws SQLException if the connection could not be obtained for another reason
+     */
+    public Connection getConnection() throws SQLException
+    {
+        DataSource ds = getDataSource();
+        if (ds == null)
+        {
+            return null;
+        }
+        long start = System.nanoTime();
+        try
+        {
+            Connection conn = ds.getConnection();
+            metrics.recordAcquire(System.nanoTime() - start);
+            return conn;
+        }
+        catch (SQLTransientConnectionException ex)
+        {
+            metrics.recordExhausted();
+            throw ex;
+        }
+        catch (SQLException ex)
+        {
+            metrics.recordFailure();
+            throw ex;
+        }
+    }
+
+    /**
+     * <p>Forget the resolved name and datasource so the next call resolves them again.</p>
+     */
+    public void refresh()
+    {
+        jndiName = null;
+        dataSource = null;
+    }
+}
@@ -0,0 +1,297 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.*;
+
+/**
+ * <p>The member eligibility queries of <tt>FacetsMemberDaoImpl</tt>.</p>
+ * <p>Every constant is composed from the same SELECT list and join core, so all of them
+ * produce rows that {@link FacetsMemberEligibilityRowMapper} can map.  They differ only in
+ * the member identifier they look up, whether ineligible spans are included, how the group
+ * is joined, the group type filter, and whether they return the full history (newest span
+ * first) or only the span in force today.  All of them take the member identifier as their
+ * only parameter.</p>
+ */
+public enum FacetsEligibilityQuery
+{
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilitiesByAmerigroupID(String)} */
+    BY_AMERIGROUP_ID("getAllEligibilitiesByAmerigroupID",
+        Key.AMERIGROUP_ID, true, GroupJoin.ELIGIBILITY, null, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilityByINMedicaidID(String)} */
+    BY_IN_MEDICAID_ID("getAllEligibilityByINMedicaidID",
+        Key.MEDICAID_ID, true, GroupJoin.ELIGIBILITY, GroupFilter.IN_MEDICAID, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilityByMedicaidID(String)} */
+    BY_MEDICAID_ID("getAllEligibilityByMedicaidID",
+        Key.MEDICAID_ID, true, GroupJoin.ELIGIBILITY, GroupFilter.MEDICAID, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilityByMedicaidIDWithMDCRGrpType(String)} */
+    BY_MEDICAID_ID_WITH_MDCR_GRP_TYPE("getAllEligibilityByMedicaidIDWithMDCRGrpType",
+        Key.MEDICAID_ID, true, GroupJoin.ELIGIBILITY, GroupFilter.MEDICAID_OR_MEDICARE, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilityByCurrentMedicareID(String)} */
+    BY_CURRENT_MEDICARE_ID("getAllEligibilityByCurrentMedicareID",
+        Key.MEDICARE_ID, true, GroupJoin.SUB_GROUP, GroupFilter.MEDICARE, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilityByOldMedicareID(String)} */
+    BY_OLD_MEDICARE_ID("getAllEligibilityByOldMedicareID",
+        Key.OLD_MEDICARE_ID, true, GroupJoin.SUB_GROUP, GroupFilter.MEDICARE, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilitiesWithNoEligibilityCheckByAmerigroupID(String)} */
+    NO_ELIGIBILITY_CHECK_BY_AMERIGROUP_ID("getAllEligibilitiesWithNoEligibilityCheckByAmerigroupID",
+        Key.AMERIGROUP_ID, false, GroupJoin.ELIGIBILITY, null, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilityWithNoEligibilityCheckByINMedicaidID(String)} */
+    NO_ELIGIBILITY_CHECK_BY_IN_MEDICAID_ID("getAllEligibilityWithNoEligibilityCheckByINMedicaidID",
+        Key.MEDICAID_ID, false, GroupJoin.SUB_GROUP, GroupFilter.IN_MEDICAID, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilityWithNoEligibilityCheckByMedicaidID(String)} */
+    NO_ELIGIBILITY_CHECK_BY_MEDICAID_ID("getAllEligibilityWithNoEligibilityCheckByMedicaidID",
+        Key.MEDICAID_ID, false, GroupJoin.SUB_GROUP, GroupFilter.MEDICAID, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilityWithNoEligibilityCheckByMedicaidIDWithMdcrGrpType(String)} */
+    NO_ELIGIBILITY_CHECK_BY_MEDICAID_ID_WITH_MDCR_GRP_TYPE("getAllEligibilityWithNoEligibilityCheckByMedicaidIDWithMdcrGrpType",
+        Key.MEDICAID_ID, false, GroupJoin.SUB_GROUP, GroupFilter.MEDICAID_OR_MEDICARE, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilityWithNoEligibilityCheckByCurrentMedicareID(String)} */
+    NO_ELIGIBILITY_CHECK_BY_CURRENT_MEDICARE_ID("getAllEligibilityWithNoEligibilityCheckByCurrentMedicareID",
+        Key.MEDICARE_ID, false, GroupJoin.SUB_GROUP, GroupFilter.MEDICARE, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getAllEligibilityWithNoEligibilityCheckByOldMedicareID(String)} */
+    NO_ELIGIBILITY_CHECK_BY_OLD_MEDICARE_ID("getAllEligibilityWithNoEligibilityCheckByOldMedicareID",
+        Key.OLD_MEDICARE_ID, false, GroupJoin.SUB_GROUP, GroupFilter.MEDICARE, false),
+
+    /** The query of {@link FacetsMemberDaoImpl#getCurrentEligibilityByAmerigroupID(String)} */
+    CURRENT_BY_AMERIGROUP_ID("getCurrentEligibilityByAmerigroupID",
+        Key.AMERIGROUP_ID, true, GroupJoin.SUB_GROUP, null, true),
+
+    /** The query of {@link FacetsMemberDaoImpl#getCurrentEligibilityByMedicaidID(String)} */
+    CURRENT_BY_MEDICAID_ID("getCurrentEligibilityByMedicaidID",
+        Key.MEDICAID_ID, true, GroupJoin.SUB_GROUP, null, true),
+
+    /** The query of {@link FacetsMemberDaoImpl#getCurrentEligibilityByCurrentMedicareID(String)} */
+    CURRENT_BY_CURRENT_MEDICARE_ID("getCurrentEligibilityByCurrentMedicareID",
+        Key.MEDICARE_ID, true, GroupJoin.SUB_GROUP, null, true),
+
+    /** The query of {@link FacetsMemberDaoImpl#getCurrentEligibilityByOldMedicareID(String)} */
+    CURRENT_BY_OLD_MEDICARE_ID("getCurrentEligibilityByOldMedicareID",
+        Key.OLD_MEDICARE_ID, true, GroupJoin.SUB_GROUP, null, true),
+
+    /** The query of {@link FacetsMemberDaoImpl#getCurrentEligibilityWithNoEligibilityCheckByAmerigroupID(String)} */
+    CURRENT_NO_ELIGIBILITY_CHECK_BY_AMERIGROUP_ID("getCurrentEligibilityWithNoEligibilityCheckByAmerigroupID",
+        Key.AMERIGROUP_ID, false, GroupJoin.SUB_GROUP, null, true),
+
+    /** The query of {@link FacetsMemberDaoImpl#getCurrentEligibilityWithNoEligibilityCheckByMedicaidID(String)} */
+    CURRENT_NO_ELIGIBILITY_CHECK_BY_MEDICAID_ID("getCurrentEligibilityWithNoEligibilityCheckByMedicaidID",
+        Key.MEDICAID_ID, false, GroupJoin.SUB_GROUP, null, true),
+
+    /** The query of {@link FacetsMemberDaoImpl#getCurrentEligibilityWithNoEligibilityCheckByCurrentMedicareID(String)} */
+    CURRENT_NO_ELIGIBILITY_CHECK_BY_CURRENT_MEDICARE_ID("getCurrentEligibilityWithNoEligibilityCheckByCurrentMedicareID",
+        Key.MEDICARE_ID, false, GroupJoin.SUB_GROUP, null, true),
+
+    /** The query of {@link FacetsMemberDaoImpl#getCurrentEligibilityWithNoEligibilityCheckByOldMedicareID(String)} */
+    CURRENT_NO_ELIGIBILITY_CHECK_BY_OLD_MEDICARE_ID("getCurrentEligibilityWithNoEligibilityCheckByOldMedicareID",
+        Key.OLD_MEDICARE_ID, false, GroupJoin.SUB_GROUP, null, true);
+
+    /** The columns read by {@link FacetsMemberEligibilityRowMapper} */
+    private static final String SELECT =
+        " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
+        " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE";
+
+    /**
+     * <p>The same columns with the descriptive ones left to be filled from the reference
+     * tables, plus the key of the joined group as <tt>GROUP_KEY</tt>.</p>
+     */
+    private static final String CORE_SELECT =
+        " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, null as LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, null as PLDS_DESC, null as GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, null as NAME, null as GENERAL_DESC, e.CSPD_CAT,"+
+        " e.MEPE_ELIG_IND, null as GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, null as GRGR_MCTR_TYPE , e.GRGR_CK,null as PDDS_MCTR_VAL1,null as mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, null as GRGR_PHONE";
+
+    /** The product and plan description joins shared by every query */
+    private static final String PRODUCT_JOINS =
+        " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
+        " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
+        " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
+        " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
+        " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'";
+
+    private static final String ORDER_BY = " order by e.MEPE_EFF_DT desc";
+
+    private static final String CURRENT_WINDOW = " and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT";
+
+    /**
+     * <p>The member identifier a query looks up.</p>
+     */
+    private enum Key
+    {
+        AMERIGROUP_ID("s.SBSB_ID", false),
+        MEDICAID_ID("m.MEME_MEDCD_NO", false),
+        MEDICARE_ID("m.MEME_HICN", false),
+        OLD_MEDICARE_ID("x.MECR_NO_ORIG", true);
+
+        private final String column;
+        private final boolean crossReference;
+
+        private Key(String column, boolean crossReference)
+        {
+            this.column = column;
+            this.crossReference = crossReference;
+        }
+    }
+
+    /**
+     * <p>How the group is joined: through the eligibility span itself or through its subgroup.</p>
+     */
+    private enum GroupJoin
+    {
+        ELIGIBILITY(" left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK", "e.GRGR_CK"),
+        SUB_GROUP(" left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK", "sg.GRGR_CK");
+
+        private final String join;
+        private final String keyColumn;
+
+        private GroupJoin(String join, String keyColumn)
+        {
+            this.join = join;
+            this.keyColumn = keyColumn;
+        }
+    }
+
+    /**
+     * <p>The group type restriction of the history queries.</p>
+     */
+    private enum GroupFilter
+    {
+        MEDICAID(null, "MDCD", "MDDD"),
+        IN_MEDICAID("INMCD", "MDCD", "MDDD"),
+        MEDICAID_OR_MEDICARE(null, "MDCD", "MDDD", "MDCR"),
+        MEDICARE(null, "MDCR", "MDDD");
+
+        private final List<String> types;
+        private final String idPrefix;
+        private final String predicate;
+
+        private GroupFilter(String idPrefix, String... types)
+        {
+            this.types = Arrays.asList(types);
+            this.idPrefix = idPrefix;
+            StringBuilder sb = new StringBuilder(" and g.grgr_mctr_type in (");
+            for (int i = 0; i < types.length; i++)
+            {
+                sb.append(i == 0 ? "'" : ", '").append(types[i]).append('\'');
+            }
+            sb.append(')');
+            if (idPrefix != null)
+            {
+                sb.append(" and g.grgr_id like '").append(idPrefix).append("%'");
+            }
+            this.predicate = sb.toString();
+        }
+
+        private boolean accepts(String groupType, String groupId)
+        {
+            return groupType != null && types.contains(groupType)
+                && (idPrefix == null || (groupId != null && groupId.startsWith(idPrefix)));
+        }
+    }
+
+    private final String methodName;
+    private final Key key;
+    private final boolean current;
+    private final GroupFilter groupFilter;
+    private final String from;
+    private final String filter;
+    private final String sql;
+    private final String coreSql;
+
+    private FacetsEligibilityQuery(String methodName, Key key, boolean eligibleOnly, GroupJoin groupJoin,
+        GroupFilter groupFilter, boolean current)
+    {
+        this.methodName = methodName;
+        this.key = key;
+        this.current = current;
+        this.groupFilter = groupFilter;
+        String coreFrom = " from CMC_MEPE_PRCS_ELIG e"+
+            " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK" + (eligibleOnly ? " and e.MEPE_ELIG_IND = 'Y'" : "")+
+            " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
+            (key.crossReference ? " left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK" : "")+
+            " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK";
+        this.from = coreFrom+
+            groupJoin.join+
+            PRODUCT_JOINS;
+        this.filter = groupFilter == null ? "" : groupFilter.predicate;
+        this.sql = SELECT + from + " where (" + key.column + " =?)"
+            + (current ? CURRENT_WINDOW : filter + ORDER_BY);
+        this.coreSql = CORE_SELECT + ", " + groupJoin.keyColumn + " as GROUP_KEY" + coreFrom
+            + " where (" + key.column + " =?)"
+            + (current ? CURRENT_WINDOW : ORDER_BY);
+    }
+
+    /**
+     * @return the name of the DAO method with the same query
+     */
+    public String getMethodName()
+    {
+        return methodName;
+    }
+
+    /**
+     * @return the SQL, with one parameter for the member identifier
+     */
+    public String getSql()
+    {
+        return sql;
+    }
+
+    /**
+     * <p>Get the query without the group and description joins, for filling the descriptive
+     * columns from the reference tables.  It selects the same column labels, with the
+     * descriptive ones null, plus the key of the group the full query joins as
+     * <tt>GROUP_KEY</tt>.  The group type filter is not applied; use
+     * {@link #acceptsGroup(String, String)} on each row.</p>
+     * @return the SQL, with one parameter for the member identifier
+     */
+    public String getCoreSql()
+    {
+        return coreSql;
+    }
+
+    /**
+     * <p>Apply the group type filter of the full query to a row of the core query.</p>
+     * @param groupType <tt>GRGR_MCTR_TYPE</tt> of the row's group, null if it has none
+     * @param groupId <tt>GRGR_ID</tt> of the row's group, null if it has none
+     * @return whether the full query would have returned the row
+     */
+    public boolean acceptsGroup(String groupType, String groupId)
+    {
+        return groupFilter == null || groupFilter.accepts(groupType, groupId);
+    }
+
+    /**
+     * @return whether the query only returns the eligibility span in force today
+     */
+    public boolean isCurrent()
+    {
+        return current;
+    }
+
+    /**
+     * <p>Get the start of the same query for many members at once, up to and including the
+     * opening parenthesis of the <tt>in</tt> list.  The identifier is also selected as
+     * <tt>LOOKUP_KEY</tt> so rows can be matched back to the member they were read for.</p>
+     * @return the SQL before the <tt>in</tt> list parameters
+     */
+    public String getBulkSqlHead()
+    {
+        return SELECT + ", " + key.column + " as LOOKUP_KEY" + from + " where " + key.column + " in (";
+    }
+
+    /**
+     * @return the SQL after the <tt>in</tt> list parameters, starting with the closing parenthesis
+     */
+    public String getBulkSqlTail()
+    {
+        return ")" + (current ? CURRENT_WINDOW : filter + ORDER_BY);
+    }
+}
@@ -0,0 +1,168 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import com.amerigroup.facets.dao.dto.FacetsMemberEligibilityDto;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.Assert.*;
+
+
+public class FacetsEligibilityQueryTest {
+    private static final int MEMBERS = 20;
+    private static final int SPANS = 3;
+
+    private static final Date PLAN_START = Date.valueOf("2020-01-01");
+    private static final Date FAR_FUTURE = Date.valueOf("9999-12-31");
+
+    /** Member in a Medicare-only group */
+    private static final int MEDICARE_ONLY = 100;
+    /** Member in a Medicaid group whose ID starts with INMCD */
+    private static final int INDIANA = 101;
+    /** Member whose only span is current but not eligible */
+    private static final int INELIGIBLE = 102;
+    /** Member with a span that ended yesterday and one that starts tomorrow */
+    private static final int BETWEEN_SPANS = 103;
+    /** Member whose span ends today */
+    private static final int ENDS_TODAY = 104;
+    /** Member with two overlapping current spans */
+    private static final int OVERLAPPING = 105;
+
+    private LocalConnectionPool pool;
+    private FacetsMemberDaoImpl dao;
+
+    @Before
+    public void setUp() throws Exception {
+        FacetsMemberDaoImpl.getNegativeCache().clear();
+        pool = FacetsH2Schema.open("eligibilityquery", MEMBERS, SPANS);
+        LocalDate today = LocalDate.now();
+        Connection conn = pool.getConnection();
+        try {
+            addGroup(conn, 50, "GRP050", "MDCR");
+            addGroup(conn, 51, "INMCD051", "MDCD");
+            addMember(conn, MEDICARE_ONLY, 50);
+            addSpan(conn, MEDICARE_ONLY, 50, "Y", PLAN_START, FAR_FUTURE);
+            addMember(conn, INDIANA, 51);
+            addSpan(conn, INDIANA, 51, "Y", PLAN_START, FAR_FUTURE);
+            addMember(conn, INELIGIBLE, 0);
+            addSpan(conn, INELIGIBLE, 0, "N", PLAN_START, FAR_FUTURE);
+            addMember(conn, BETWEEN_SPANS, 0);
+            addSpan(conn, BETWEEN_SPANS, 0, "Y", PLAN_START, Date.valueOf(today.minusDays(1)));
+            addSpan(conn, BETWEEN_SPANS, 0, "Y", Date.valueOf(today.plusDays(1)), FAR_FUTURE);
+            addMember(conn, ENDS_TODAY, 0);
+            addSpan(conn, ENDS_TODAY, 0, "Y", PLAN_START, Date.valueOf(today));
+            addMember(conn, OVERLAPPING, 0);
+            addSpan(conn, OVERLAPPING, 0, "Y", PLAN_START, FAR_FUTURE);
+            addSpan(conn, OVERLAPPING, 0, "Y", Date.valueOf("2021-01-01"), FAR_FUTURE);
+        } finally {
+            conn.close();
+        }
+        dao = new H2FacetsMemberDao(pool);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        FacetsMemberDaoImpl.getNegativeCache().clear();
+        FacetsH2Schema.drop(pool);
+    }
+
+    private static void addGroup(Connection conn, int ck, String id, String type) throws Exception {
+        FacetsH2Schema.execute(conn, "INSERT INTO cmc_grgr_group VALUES (?, ?, ?, ?, '800-555-0100')",
+            ck, id, "Group " + id, type);
+        FacetsH2Schema.execute(conn, "INSERT INTO cmc_sgsg_sub_group VALUES (?, ?, ?, ?, ?, ?, ?)",
+            ck, ck, "SG" + ck, "Sub group " + ck, type, PLAN_START, FAR_FUTURE);
+    }
+
+    private static void addMember(Connection conn, int n, int groupCk) throws Exception {
+        FacetsH2Schema.execute(conn, "INSERT INTO cmc_sbsb_subsc VALUES (?, ?, ?)",
+            n, FacetsH2Schema.subscriberId(n), groupCk);
+        FacetsH2Schema.execute(conn, "INSERT INTO cmc_meme_member VALUES (?, ?, 'FIRST', ?, 'JR', ?, ?, ?)",
+            n, n, "LAST" + n, Date.valueOf("1980-06-15"), FacetsH2Schema.medicaidId(n), FacetsH2Schema.medicareId(n));
+    }
+
+    private static void addSpan(Connection conn, int n, int groupCk, String eligible, Date eff, Date term) throws Exception {
+        FacetsH2Schema.execute(conn, "INSERT INTO cmc_mepe_prcs_elig VALUES (?, ?, ?, 'CS01', 'PLAN0', 'M', 'PROD0', ?, ?, ?, ?, ?)",
+            n, groupCk, groupCk, eff, term, eligible, PLAN_START, Timestamp.valueOf("2020-01-01 00:00:00"));
+    }
+
+    @Test
+    public void testHistoryIsNewestFirstForEveryIdentifier() {
+        List<FacetsMemberEligibilityDto> byId = dao.getAllEligibilitiesByAmerigroupID(FacetsH2Schema.subscriberId(7));
+        List<FacetsMemberEligibilityDto> byMedicaid = dao.getAllEligibilityByMedicaidID(FacetsH2Schema.medicaidId(7));
+        List<FacetsMemberEligibilityDto> byMedicare = dao.getAllEligibilityByCurrentMedicareID(FacetsH2Schema.medicareId(7));
+        List<FacetsMemberEligibilityDto> byOldMedicare = dao.getAllEligibilityByOldMedicareID(FacetsH2Schema.oldMedicareId(7));
+
+        for (List<FacetsMemberEligibilityDto> rows : new List[] { byId, byMedicaid, byMedicare, byOldMedicare }) {
+            assertEquals(SPANS, rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                assertEquals(FacetsH2Schema.subscriberId(7), rows.get(i).sbsbID);
+                assertEquals(Date.valueOf((2020 + SPANS - 1 - i) + "-01-01").getTime(), rows.get(i).dateEffective.getTime());
+            }
+        }
+        assertEquals("GRP007", byId.get(0).groupID);
+        assertEquals("Plan 7", byId.get(0).planDesc);
+    }
+
+    @Test
+    public void testGroupTypeFilter() {
+        assertTrue(dao.getAllEligibilityByMedicaidID(FacetsH2Schema.medicaidId(MEDICARE_ONLY)).isEmpty());
+        assertEquals(1, dao.getAllEligibilityByMedicaidIDWithMDCRGrpType(FacetsH2Schema.medicaidId(MEDICARE_ONLY)).size());
+        assertEquals(1, dao.getAllEligibilityByCurrentMedicareID(FacetsH2Schema.medicareId(MEDICARE_ONLY)).size());
+        assertEquals(1, dao.getAllEligibilitiesByAmerigroupID(FacetsH2Schema.subscriberId(MEDICARE_ONLY)).size());
+
+        assertTrue(dao.getAllEligibilityByCurrentMedicareID(FacetsH2Schema.medicareId(INDIANA)).isEmpty());
+        assertEquals(1, dao.getAllEligibilityByMedicaidID(FacetsH2Schema.medicaidId(INDIANA)).size());
+        assertEquals(1, dao.getAllEligibilityByINMedicaidID(FacetsH2Schema.medicaidId(INDIANA)).size());
+        assertEquals("INMCD051", dao.getAllEligibilityByINMedicaidID(FacetsH2Schema.medicaidId(INDIANA)).get(0).groupID);
+
+        assertTrue(dao.getAllEligibilityByINMedicaidID(FacetsH2Schema.medicaidId(7)).isEmpty());
+        assertEquals(SPANS, dao.getAllEligibilityByMedicaidID(FacetsH2Schema.medicaidId(7)).size());
+    }
+
+    @Test
+    public void testNoEligibilityCheckIncludesIneligibleSpans() {
+        String id = FacetsH2Schema.subscriberId(INELIGIBLE);
+
+        assertTrue(dao.getAllEligibilitiesByAmerigroupID(id).isEmpty());
+        List<FacetsMemberEligibilityDto> rows = dao.getAllEligibilitiesWithNoEligibilityCheckByAmerigroupID(id);
+        assertEquals(1, rows.size());
+        assertEquals("N", rows.get(0).statusCode);
+        assertEquals(1, dao.getAllEligibilityWithNoEligibilityCheckByMedicaidID(FacetsH2Schema.medicaidId(INELIGIBLE)).size());
+
+        assertNull(dao.getCurrentEligibilityByAmerigroupID(id));
+        assertEquals("N", dao.getCurrentEligibilityWithNoEligibilityCheckByAmerigroupID(id).statusCode);
+    }
+
+    @Test
+    public void testCurrentEligibilityWindowIsToday() {
+        assertNull(dao.getCurrentEligibilityByAmerigroupID(FacetsH2Schema.subscriberId(BETWEEN_SPANS)));
+        assertEquals(2, dao.getAllEligibilitiesByAmerigroupID(FacetsH2Schema.subscriberId(BETWEEN_SPANS)).size());
+
+        FacetsMemberEligibilityDto endsToday = dao.getCurrentEligibilityByAmerigroupID(FacetsH2Schema.subscriberId(ENDS_TODAY));
+        assertNotNull(endsToday);
+        assertEquals(Date.valueOf(LocalDate.now()).getTime(), endsToday.dateTermination.getTime());
+
+        FacetsMemberEligibilityDto current = dao.getCurrentEligibilityByMedicaidID(FacetsH2Schema.medicaidId(7));
+        assertEquals(FacetsH2Schema.subscriberId(7), current.sbsbID);
+        assertEquals(FAR_FUTURE.getTime(), current.dateTermination.getTime());
+        assertNull(dao.getCurrentEligibilityByCurrentMedicareID("UNKNOWN"));
+    }
+
+    @Test
+    public void testCurrentEligibilityReadsOnlyTheFirstRow() {
+        String id = FacetsH2Schema.subscriberId(OVERLAPPING);
+
+        assertEquals(2, dao.getAllEligibilitiesByAmerigroupID(id).size());
+        QueryHistogram rowsRead = FacetsMemberDaoImpl.getMetrics().timer("getCurrentEligibilityByAmerigroupID").getRowsRead();
+        long before = rowsRead.getSum();
+        FacetsMemberEligibilityDto current = dao.getCurrentEligibilityByAmerigroupID(id);
+
+        assertNotNull(current);
+        assertEquals(id, current.sbsbID);
+        assertEquals(1, rowsRead.getSum() - before);
+    }
+}
@@ -0,0 +1,292 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+/**
+ * <p>Creates and fills the subset of the Facets schema read by <tt>FacetsMemberDaoImpl</tt>
+ * in an H2 database running in Oracle mode (<tt>jdbc:h2:mem:...;MODE=Oracle</tt>).</p>
+ * <p>The tables extend the DDL of <tt>FacetsMemberAmerigroupIDDaoTest</tt> with the
+ * columns the eligibility queries join on and select, and the generated rows follow the
+ * shape of <tt>test-dataset.xml</tt>: subscriber <tt>SUB&lt;n&gt;</tt> in group
+ * <tt>GRP00&lt;n % 10&gt;</tt> on a plan with blues prefix <tt>ABC</tt>.  Groups are dual
+ * (<tt>MDDD</tt>) so both the Medicaid and the Medicare lookups find every member.</p>
+ */
+final class FacetsH2Schema
+{
+
+    /** Blues prefix given to every generated plan */
+    static final String PREFIX = "ABC";
+
+    /** Number of generated groups */
+    static final int GROUPS = 10;
+
+    private static final String[] DDL = {
+        "CREATE SCHEMA IF NOT EXISTS AGP",
+        "CREATE SCHEMA IF NOT EXISTS FACETS",
+        "CREATE TABLE cmc_sbsb_subsc (SBSB_CK INTEGER, SBSB_ID VARCHAR(9), GRGR_CK INTEGER)",
+        "CREATE TABLE cmc_meme_member (MEME_CK INTEGER, SBSB_CK INTEGER, MEME_FIRST_NAME VARCHAR(15),"
+            + " MEME_LAST_NAME VARCHAR(35), MEME_TITLE VARCHAR(10), MEME_BIRTH_DT DATE,"
+            + " MEME_MEDCD_NO VARCHAR(20), MEME_HICN VARCHAR(12))",
+        "CREATE TABLE cmc_mepe_prcs_elig (MEME_CK INTEGER, GRGR_CK INTEGER, SGSG_CK INTEGER,"
+            + " CSCS_ID VARCHAR(4), CSPI_ID VARCHAR(8), CSPD_CAT VARCHAR(1), PDPD_ID VARCHAR(8),"
+            + " MEPE_EFF_DT DATE, MEPE_TERM_DT DATE, MEPE_ELIG_IND VARCHAR(1),"
+            + " MEPE_PLAN_ENTRY_DT DATE, MEPE_CREATE_DTM TIMESTAMP)",
+        "CREATE TABLE cmc_sgsg_sub_group (SGSG_CK INTEGER, GRGR_CK INTEGER, SGSG_ID VARCHAR(4),"
+            + " SGSG_NAME VARCHAR(50), SGSG_MCTR_TYPE VARCHAR(4), SGSG_ORIG_EFF_DT DATE, SGSG_TERM_DT DATE)",
+        "CREATE TABLE cmc_grgr_group (GRGR_CK INTEGER, GRGR_ID VARCHAR(8), GRGR_NAME VARCHAR(50),"
+            + " GRGR_MCTR_TYPE VARCHAR(4), GRGR_PHONE VARCHAR(20))",
+        "CREATE TABLE AGP.cctr_product (PRODUCT_ID VARCHAR(8), MARKET_CD VARCHAR(4), NAME VARCHAR(50),"
+            + " GENERAL_DESC VARCHAR(100))",
+        "CREATE TABLE cmc_plds_plan_desc (CSPI_ID VARCHAR(8), PLDS_DESC VARCHAR(70))",
+        "CREATE TABLE FACETS.cmc_pdpd_product (PDPD_ID VARCHAR(8), LOBD_ID VARCHAR(4),"
+            + " PDPD_EFF_DT DATE, PDPD_TERM_DT DATE)",
+        "CREATE TABLE cmc_pdds_prod_desc (PDPD_ID VARCHAR(8), PDDS_MCTR_VAL1 VARCHAR(4))",
+        "CREATE TABLE cmc_mctr_cd_trans (MCTR_ENTITY VARCHAR(4), MCTR_TYPE VARCHAR(4),"
+            + " MCTR_VALUE VARCHAR(4), MCTR_DESC VARCHAR(70))",
+        "CREATE TABLE cmc_cspi_cs_plan (GRGR_CK INTEGER, CSCS_ID VARCHAR(4), CSPI_ID VARCHAR(8),"
+            + " CSPD_CAT VARCHAR(1), CSPI_ITS_PREFIX VARCHAR(3), CSPI_EFF_DT DATE, CSPI_TERM_DT DATE)",
+        "CREATE TABLE cmc_mecr_no_xref (MEME_CK INTEGER, MECR_NO_ORIG VARCHAR(12))",
+        "CREATE INDEX sbsb_id_ix ON cmc_sbsb_subsc (SBSB_ID)",
+        "CREATE INDEX meme_sbsb_ix ON cmc_meme_member (SBSB_CK)",
+        "CREATE INDEX meme_medcd_ix ON cmc_meme_member (MEME_MEDCD_NO)",
+        "CREATE INDEX meme_hicn_ix ON cmc_meme_member (MEME_HICN)",
+        "CREATE INDEX mepe_meme_ix ON cmc_mepe_prcs_elig (MEME_CK)",
+        "CREATE INDEX mecr_orig_ix ON cmc_mecr_no_xref (MECR_NO_ORIG)"
+    };
+
+    private FacetsH2Schema()
+    {
+    }
+
+    /**
+     * <p>Create the tables and indexes.</p>
+     * @param conn A connection to an empty H2 database in Oracle mode
+     * @throws SQLException if a statement fails
+     */
+    static void create(Connection conn) throws SQLException
+    {
+        Statement st = conn.createStatement();
+        try
+        {
+            for (String ddl : DDL)
+            {
+                st.execute(ddl);
+            }
+        }
+        finally
+        {
+            st.close();
+        }
+    }
+
+    /**
+     * <p>Insert the reference rows and <tt>members</tt> members, each with <tt>spans</tt>
+     * yearly eligibility spans starting in 2020; the last span is open-ended so every
+     * member has a current eligibility.</p>
+     * @param conn A connection to a database set up by {@link #create(Connection)}
+     * @param members The number of subscribers (one member each)
+     * @param spans The number of eligibility spans per member, at least 1
+     * @throws SQLException if an insert fails
+     */
+    static void populate(Connection conn, int members, int spans) throws SQLException
+    {
+        Date farFuture = Date.valueOf("9999-12-31");
+        Date planStart = Date.valueOf("2020-01-01");
+
+        for (int g = 0; g < GROUPS; g++)
+        {
+            execute(conn, "INSERT INTO cmc_grgr_group VALUES (?, ?, ?, 'MDDD', '800-555-0100')",
+                g, groupId(g), "Group " + g);
+            execute(conn, "INSERT INTO cmc_sgsg_sub_group VALUES (?, ?, ?, ?, 'MDCD', ?, ?)",
+                g, g, "SG" + g, "Sub group " + g, planStart, farFuture);
+            execute(conn, "INSERT INTO cmc_cspi_cs_plan VALUES (?, 'CS01', ?, 'M', ?, ?, ?)",
+                g, planId(g), PREFIX, planStart, farFuture);
+            execute(conn, "INSERT INTO cmc_plds_plan_desc VALUES (?, ?)", planId(g), "Plan " + g);
+            execute(conn, "INSERT INTO AGP.cctr_product VALUES (?, 'MDCD', ?, ?)",
+                productId(g), "Product " + g, "Medicaid product " + g);
+            execute(conn, "INSERT INTO FACETS.cmc_pdpd_product VALUES (?, 'MCD', ?, ?)",
+                productId(g), planStart, farFuture);
+            execute(conn, "INSERT INTO cmc_pdds_prod_desc VALUES (?, 'V1')", productId(g));
+        }
+        execute(conn, "INSERT INTO cmc_mctr_cd_trans VALUES ('PDDS', 'VAL', 'V1', 'Value one')");
+
+        PreparedStatement sbsb = conn.prepareStatement("INSERT INTO cmc_sbsb_subsc VALUES (?, ?, ?)");
+        PreparedStatement meme = conn.prepareStatement("INSERT INTO cmc_meme_member VALUES (?, ?, 'FIRST', ?, 'JR', ?, ?, ?)");
+        PreparedStatement mepe = conn.prepareStatement("INSERT INTO cmc_mepe_prcs_elig VALUES (?, ?, ?, 'CS01', ?, 'M', ?, ?, ?, 'Y', ?, ?)");
+        PreparedStatement mecr = conn.prepareStatement("INSERT INTO cmc_mecr_no_xref VALUES (?, ?)");
+        try
+        {
+            Date birth = Date.valueOf("1980-06-15");
+            Timestamp created = Timestamp.valueOf("2020-01-01 00:00:00");
+            for (int n = 0; n < members; n++)
+            {
+                int g = n % GROUPS;
+                sbsb.setInt(1, n);
+                sbsb.setString(2, subscriberId(n));
+                sbsb.setInt(3, g);
+                sbsb.addBatch();
+
+                meme.setInt(1, n);
+                meme.setInt(2, n);
+                meme.setString(3, "LAST" + n);
+                meme.setDate(4, birth);
+                meme.setString(5, medicaidId(n));
+                meme.setString(6, medicareId(n));
+                meme.addBatch();
+
+                mecr.setInt(1, n);
+                mecr.setString(2, oldMedicareId(n));
+                mecr.addBatch();
+
+                for (int s = 0; s < spans; s++)
+                {
+                    mepe.setInt(1, n);
+                    mepe.setInt(2, g);
+                    mepe.setInt(3, g);
+                    mepe.setString(4, planId(g));
+                    mepe.setString(5, productId(g));
+                    mepe.setDate(6, Date.valueOf((2020 + s) + "-01-01"));
+                    mepe.setDate(7, s == spans - 1 ? farFuture : Date.valueOf((2020 + s) + "-12-31"));
+                    mepe.setDate(8, planStart);
+                    mepe.setTimestamp(9, created);
+                    mepe.addBatch();
+                }
+
+                if (n % 500 == 499)
+                {
+                    sbsb.executeBatch();
+                    meme.executeBatch();
+                    mecr.executeBatch();
+                    mepe.executeBatch();
+                }
+            }
+            sbsb.executeBatch();
+            meme.executeBatch();
+            mecr.executeBatch();
+            mepe.executeBatch();
+        }
+        finally
+        {
+            sbsb.close();
+            meme.close();
+            mepe.close();
+            mecr.close();
+        }
+    }
+
+    /**
+     * <p>Open an in-memory H2 database in Oracle mode through a {@link LocalConnectionPool},
+     * then create the tables and {@link #populate(Connection, int, int) populate} them.</p>
+     * @param name The database name, one per test class
+     * @param members The number of subscribers (one member each)
+     * @param spans The number of eligibility spans per member, at least 1
+     * @return the pool; give it to {@link #drop(LocalConnectionPool)} when done
+     * @throws SQLException if the database could not be set up
+     */
+    static LocalConnectionPool open(String name, int members, int spans) throws SQLException
+    {
+        LocalConnectionPool pool = new LocalConnectionPool(name, "jdbc:h2:mem:" + name + ";MODE=Oracle;DB_CLOSE_DELAY=-1",
+            "sa", "", 2, 5000);
+        Connection conn = pool.getConnection();
+        try
+        {
+            create(conn);
+            populate(conn, members, spans);
+        }
+        finally
+        {
+            conn.close();
+        }
+        return pool;
+    }
+
+    /**
+     * <p>Forget the DAO's statements cached against a database opened by
+     * {@link #open(String, int, int)}, drop everything in it and close the pool.</p>
+     * @param pool The pool
+     * @throws SQLException if the database could not be dropped
+     */
+    static void drop(LocalConnectionPool pool) throws SQLException
+    {
+        FacetsMemberDaoImpl.getStatementCache().clear();
+        Connection conn = pool.getConnection();
+        try
+        {
+            Statement st = conn.createStatement();
+            try
+            {
+                st.execute("DROP ALL OBJECTS");
+            }
+            finally
+            {
+                st.close();
+            }
+        }
+        finally
+        {
+            conn.close();
+        }
+        pool.close();
+    }
+
+    static String subscriberId(int n)
+    {
+        return "SUB" + n;
+    }
+
+    static String medicaidId(int n)
+    {
+        return "MCD" + n;
+    }
+
+    static String medicareId(int n)
+    {
+        return "MCR" + n;
+    }
+
+    static String oldMedicareId(int n)
+    {
+        return "OLDMCR" + n;
+    }
+
+    private static String groupId(int g)
+    {
+        return "GRP00" + g;
+    }
+
+    private static String planId(int g)
+    {
+        return "PLAN" + g;
+    }
+
+    private static String productId(int g)
+    {
+        return "PROD" + g;
+    }
+
+    /**
+     * <p>Run one insert or update, e.g. to add rows a test needs on top of the generated ones.</p>
+     */
+    static void execute(Connection conn, String sql, Object... parms) throws SQLException
+    {
+        PreparedStatement ps = conn.prepareStatement(sql);
+        try
+        {
+            for (int i = 0; i < parms.length; i++)
+            {
+                ps.setObject(i + 1, parms[i]);
+            }
+            ps.executeUpdate();
+        }
+        finally
+        {
+            ps.close();
+        }
+    }
+}
@@ -0,0 +1,750 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+
+import com.amerigroup.facets.dao.dto.*;
+
+/**
+ * <p>Asynchronous facade over an <tt>IFacetsMemberDao</tt>.</p>
+ * <p>Every DAO method has a counterpart here that runs the call on a background thread and
+ * returns a <tt>CompletableFuture</tt>, so independent lookups for one member (for example
+ * <tt>getMemberWarningMsg</tt> and <tt>getPlanWarningMsg</tt>) overlap their database wait
+ * instead of running one after the other.</p>
+ * <p>Calls run on a fixed pool of <tt>facets.dao.async.platformThreads</tt> platform
+ * threads.  With <tt>facets.dao.async.virtualThreads</tt> they run on virtual threads
+ * instead, where the JVM provides them.  That is off by default: the JDBC driver and the
+ * logging framework still block while holding monitors, which pins the carrier thread.  At most
+ * <tt>facets.dao.async.maxConcurrency</tt> calls per datasource JNDI name hold a connection
+ * at once; further calls wait for a permit on their own thread, not on the caller's.</p>
+ * <p>A failed call completes its future exceptionally with the <tt>DAOException</tt> the DAO threw.</p>
+ */
+public class FacetsMemberDaoAsync
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(FacetsMemberDaoAsync.class);
+
+    /** Concurrency permits per datasource JNDI name, shared by every facade instance */
+    private static final ConcurrentMap<String, Semaphore> permitsByDatasource = new ConcurrentHashMap<String, Semaphore>();
+
+    /** Executor used when none is supplied; created on first use */
+    private static volatile Executor defaultExecutor;
+
+    private final IFacetsMemberDao dao;
+    private final Executor executor;
+    private final Semaphore permits;
+
+    /**
+     * <p>Create a facade on the default executor with the configured per-datasource concurrency cap.</p>
+     * @param dao The DAO to call
+     */
+    public FacetsMemberDaoAsync(IFacetsMemberDao dao)
+    {
+        this(dao, getDefaultExecutor(), FacetsMemberDaoConfig.getInt("facets.dao.async.maxConcurrency", 16));
+    }
+
+    /**
+     * @param dao The DAO to call
+     * @param executor The executor to run calls on
+     * @param maxConcurrency The cap on concurrent calls against the DAO's datasource; the first
+     * facade created for a datasource sets the cap for all facades sharing it
+     */
+    public FacetsMemberDaoAsync(IFacetsMemberDao dao, Executor executor, int maxConcurrency)
+    {
+        this.dao = dao;
+        this.executor = executor;
+        this.permits = permitsFor(dao.getDatasourceJndiName(), maxConcurrency);
+    }
+
+    private static Semaphore permitsFor(String jndiName, int maxConcurrency)
+    {
+        String key = jndiName == null ? "" : jndiName;
+        Semaphore permits = permitsByDatasource.get(key);
+        if (permits == null)
+        {
+            permits = new Semaphore(Math.max(1, maxConcurrency), true);
+            Semaphore existing = permitsByDatasource.putIfAbsent(key, permits);
+            if (existing != null)
+            {
+                permits = existing;
+            }
+        }
+        return permits;
+    }
+
+    /**
+     * <p>Get the shared default executor: a fixed pool of daemon platform threads, or one
+     * virtual thread per call if <tt>facets.dao.async.virtualThreads</tt> is set and the JVM
+     * supports them (Java 21+).</p>
+     * @return the default executor
+     */
+    public static Executor getDefaultExecutor()
+    {
+        Executor result = defaultExecutor;
+        if (result == null)
+        {
+            synchronized (FacetsMemberDaoAsync.class)
+            {
+                result = defaultExecutor;
+                if (result == null)
+                {
+                    result = createDefaultExecutor();
+                    defaultExecutor = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Executor createDefaultExecutor()
+    {
+        if (FacetsMemberDaoConfig.getBoolean("facets.dao.async.virtualThreads", false))
+        {
+            try
+            {
+                ExecutorService virtual = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                log.info("Facets DAO async calls will run on virtual threads");
+                return virtual;
+            }
+            catch (Exception ex)
+            {
+                log.warn("Virtual threads not available, Facets DAO async calls will run on platform threads");
+            }
+        }
+        int threads = Math.max(1, FacetsMemberDaoConfig.getInt("facets.dao.async.platformThreads", 32));
+        log.info("Facets DAO async calls will run on " + threads + " platform threads");
+        return Executors.newFixedThreadPool(threads, new ThreadFactory()
+        {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable r)
+            {
+                Thread t = new Thread(r, "facets-dao-async-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    /**
+     * <p>Run any call against the wrapped DAO under this facade's concurrency cap.</p>
+     * @param call The call to make
+     * @return a future completed with the call's result or exception
+     */
+    public <T> CompletableFuture<T> submit(final Callable<T> call)
+    {
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+        executor.execute(new Runnable()
+        {
+            public void run()
+            {
+                boolean acquired = false;
+                try
+                {
+                    permits.acquire();
+                    acquired = true;
+                    future.complete(call.call());
+                }
+                catch (InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                    future.completeExceptionally(ex);
+                }
+                catch (Throwable ex)
+                {
+                    future.completeExceptionally(ex);
+                }
+                finally
+                {
+                    if (acquired)
+                    {
+                        permits.release();
+                    }
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * @return the wrapped DAO
+     */
+    public IFacetsMemberDao getDao()
+    {
+        return dao;
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getIdAndPrefixBySbsbIdDateAndPrefix(String, String, Date, Date)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberAmerigroupIDDto>> getIdAndPrefixBySbsbIdDateAndPrefix(final String subscriberID, final String prefix, final Date searchStartDate, final Date searchEndDate)
+    {
+        return submit(new Callable<List<FacetsMemberAmerigroupIDDto>>()
+        {
+            public List<FacetsMemberAmerigroupIDDto> call()
+            {
+                return dao.getIdAndPrefixBySbsbIdDateAndPrefix(subscriberID, prefix, searchStartDate, searchEndDate);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#findByAgp(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberAmerigroupIDDto>> findByAgp(final String agp)
+    {
+        return submit(new Callable<List<FacetsMemberAmerigroupIDDto>>()
+        {
+            public List<FacetsMemberAmerigroupIDDto> call()
+            {
+                return dao.findByAgp(agp);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilitiesByAmerigroupID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilitiesByAmerigroupID(final String amerigroupID)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilitiesByAmerigroupID(amerigroupID);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilityByINMedicaidID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilityByINMedicaidID(final String medicaidId)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilityByINMedicaidID(medicaidId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilityByMedicaidID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilityByMedicaidID(final String medicaidId)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilityByMedicaidID(medicaidId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilityByMedicaidIDWithMDCRGrpType(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilityByMedicaidIDWithMDCRGrpType(final String medicaidId)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilityByMedicaidIDWithMDCRGrpType(medicaidId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilityByCurrentMedicareID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilityByCurrentMedicareID(final String medicareId)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilityByCurrentMedicareID(medicareId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilityByOldMedicareID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilityByOldMedicareID(final String medicareId)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilityByOldMedicareID(medicareId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilitiesWithNoEligibilityCheckByAmerigroupID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilitiesWithNoEligibilityCheckByAmerigroupID(final String amerigroupID)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilitiesWithNoEligibilityCheckByAmerigroupID(amerigroupID);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilityWithNoEligibilityCheckByINMedicaidID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilityWithNoEligibilityCheckByINMedicaidID(final String medicaidId)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilityWithNoEligibilityCheckByINMedicaidID(medicaidId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilityWithNoEligibilityCheckByMedicaidID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilityWithNoEligibilityCheckByMedicaidID(final String medicaidId)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilityWithNoEligibilityCheckByMedicaidID(medicaidId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilityWithNoEligibilityCheckByMedicaidIDWithMdcrGrpType(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilityWithNoEligibilityCheckByMedicaidIDWithMdcrGrpType(final String medicaidId)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilityWithNoEligibilityCheckByMedicaidIDWithMdcrGrpType(medicaidId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilityWithNoEligibilityCheckByCurrentMedicareID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilityWithNoEligibilityCheckByCurrentMedicareID(final String medicareId)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilityWithNoEligibilityCheckByCurrentMedicareID(medicareId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getAllEligibilityWithNoEligibilityCheckByOldMedicareID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberEligibilityDto>> getAllEligibilityWithNoEligibilityCheckByOldMedicareID(final String medicareId)
+    {
+        return submit(new Callable<List<FacetsMemberEligibilityDto>>()
+        {
+            public List<FacetsMemberEligibilityDto> call()
+            {
+                return dao.getAllEligibilityWithNoEligibilityCheckByOldMedicareID(medicareId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getHomeAddress(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberAddressDto> getHomeAddress(final String agpID)
+    {
+        return submit(new Callable<FacetsMemberAddressDto>()
+        {
+            public FacetsMemberAddressDto call()
+            {
+                return dao.getHomeAddress(agpID);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getDualCitizenshipDetailsBySBSBIDwithMediciad(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberDualCitizenshipDetailsDto>> getDualCitizenshipDetailsBySBSBIDwithMediciad(final String sbsbId)
+    {
+        return submit(new Callable<List<FacetsMemberDualCitizenshipDetailsDto>>()
+        {
+            public List<FacetsMemberDualCitizenshipDetailsDto> call()
+            {
+                return dao.getDualCitizenshipDetailsBySBSBIDwithMediciad(sbsbId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getDualCitizenshipAIDCategoryByMemeCk(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberDualCitizenshipAIDCategoryDto>> getDualCitizenshipAIDCategoryByMemeCk(final String memeCk)
+    {
+        return submit(new Callable<List<FacetsMemberDualCitizenshipAIDCategoryDto>>()
+        {
+            public List<FacetsMemberDualCitizenshipAIDCategoryDto> call()
+            {
+                return dao.getDualCitizenshipAIDCategoryByMemeCk(memeCk);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getEligibilityBySbrUidAndEligibilityDates(String, Date, Date)}.</p>
+     */
+    public CompletableFuture<FacetsMemberMemberDetailsDto> getEligibilityBySbrUidAndEligibilityDates(final String sbrUid, final Date eligibilityEffDt, final Date eligibilityTermDt)
+    {
+        return submit(new Callable<FacetsMemberMemberDetailsDto>()
+        {
+            public FacetsMemberMemberDetailsDto call()
+            {
+                return dao.getEligibilityBySbrUidAndEligibilityDates(sbrUid, eligibilityEffDt, eligibilityTermDt);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getMemberClaimHoldDetailsBySbruid(String, Date, Date)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberMemberClaimHoldInfoDto>> getMemberClaimHoldDetailsBySbruid(final String sbruid, final Date effDate, final Date termDate)
+    {
+        return submit(new Callable<List<FacetsMemberMemberClaimHoldInfoDto>>()
+        {
+            public List<FacetsMemberMemberClaimHoldInfoDto> call()
+            {
+                return dao.getMemberClaimHoldDetailsBySbruid(sbruid, effDate, termDate);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getPrefixByClassPlan(Date, Date, String, String, String, String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberClassPlanPrefixDto> getPrefixByClassPlan(final Date eligTermDt, final Date eligEffDt, final String groupCk, final String classId, final String cspdCat, final String planId)
+    {
+        return submit(new Callable<FacetsMemberClassPlanPrefixDto>()
+        {
+            public FacetsMemberClassPlanPrefixDto call()
+            {
+                return dao.getPrefixByClassPlan(eligTermDt, eligEffDt, groupCk, classId, cspdCat, planId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getMemberMarketBrand(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberMarketBrandDto>> getMemberMarketBrand(final String GCPProduct)
+    {
+        return submit(new Callable<List<FacetsMemberMarketBrandDto>>()
+        {
+            public List<FacetsMemberMarketBrandDto> call()
+            {
+                return dao.getMemberMarketBrand(GCPProduct);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getMemberPrinttBrand(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberMarketBrandDto>> getMemberPrinttBrand(final String GCPProduct)
+    {
+        return submit(new Callable<List<FacetsMemberMarketBrandDto>>()
+        {
+            public List<FacetsMemberMarketBrandDto> call()
+            {
+                return dao.getMemberPrinttBrand(GCPProduct);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getPBPIdBySbrUidAndEligibility(String, Date, Date)}.</p>
+     */
+    public CompletableFuture<FacetsMemberPBPDetailsDto> getPBPIdBySbrUidAndEligibility(final String sbsbCk, final Date eligEffDt, final Date eligTermDt)
+    {
+        return submit(new Callable<FacetsMemberPBPDetailsDto>()
+        {
+            public FacetsMemberPBPDetailsDto call()
+            {
+                return dao.getPBPIdBySbrUidAndEligibility(sbsbCk, eligEffDt, eligTermDt);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getBillingComponentID(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberBillingComponentDto>> getBillingComponentID(final String pdpdId)
+    {
+        return submit(new Callable<List<FacetsMemberBillingComponentDto>>()
+        {
+            public List<FacetsMemberBillingComponentDto> call()
+            {
+                return dao.getBillingComponentID(pdpdId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getCMSContractIdBySbrUidAndEligibilityDates(String, Date, Date)}.</p>
+     */
+    public CompletableFuture<FacetsMemberBillingGroupDto> getCMSContractIdBySbrUidAndEligibilityDates(final String sbsbCk, final Date eligEffDt, final Date eligTermDt)
+    {
+        return submit(new Callable<FacetsMemberBillingGroupDto>()
+        {
+            public FacetsMemberBillingGroupDto call()
+            {
+                return dao.getCMSContractIdBySbrUidAndEligibilityDates(sbsbCk, eligEffDt, eligTermDt);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getMemberWarningMsg(String, Date, Date)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberMemberFullAlertTextDto>> getMemberWarningMsg(final String subscriberId, final Date effDate, final Date termDate)
+    {
+        return submit(new Callable<List<FacetsMemberMemberFullAlertTextDto>>()
+        {
+            public List<FacetsMemberMemberFullAlertTextDto> call()
+            {
+                return dao.getMemberWarningMsg(subscriberId, effDate, termDate);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getPlanWarningMsg(String, String, String, String, Date, Date)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberPlanFullAlertTextDto>> getPlanWarningMsg(final String grgrck, final String cscsid, final String cspiid, final String pdpdid, final Date effDate, final Date termDate)
+    {
+        return submit(new Callable<List<FacetsMemberPlanFullAlertTextDto>>()
+        {
+            public List<FacetsMemberPlanFullAlertTextDto> call()
+            {
+                return dao.getPlanWarningMsg(grgrck, cscsid, cspiid, pdpdid, effDate, termDate);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getMemberTobaccoStatus(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberTobaccoStatusDto> getMemberTobaccoStatus(final String sbsb_ck)
+    {
+        return submit(new Callable<FacetsMemberTobaccoStatusDto>()
+        {
+            public FacetsMemberTobaccoStatusDto call()
+            {
+                return dao.getMemberTobaccoStatus(sbsb_ck);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getBluesPrefixes()}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberBluesPrefixDto>> getBluesPrefixes()
+    {
+        return submit(new Callable<List<FacetsMemberBluesPrefixDto>>()
+        {
+            public List<FacetsMemberBluesPrefixDto> call()
+            {
+                return dao.getBluesPrefixes();
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getIdAndBluesPrefixBySbsbIdAndDate(String, Date)}.</p>
+     */
+    public CompletableFuture<FacetsMemberIdAndBluesPrefixDto> getIdAndBluesPrefixBySbsbIdAndDate(final String subscriberID, final Date searchDate)
+    {
+        return submit(new Callable<FacetsMemberIdAndBluesPrefixDto>()
+        {
+            public FacetsMemberIdAndBluesPrefixDto call()
+            {
+                return dao.getIdAndBluesPrefixBySbsbIdAndDate(subscriberID, searchDate);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getSriBySbsbCK(String)}.</p>
+     */
+    public CompletableFuture<List<FacetsMemberSriDto>> getSriBySbsbCK(final String sbsbCK)
+    {
+        return submit(new Callable<List<FacetsMemberSriDto>>()
+        {
+            public List<FacetsMemberSriDto> call()
+            {
+                return dao.getSriBySbsbCK(sbsbCK);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getHipaa(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberHippaDto> getHipaa(final String memberId)
+    {
+        return submit(new Callable<FacetsMemberHippaDto>()
+        {
+            public FacetsMemberHippaDto call()
+            {
+                return dao.getHipaa(memberId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getCurrentEligibilityByMedicaidID(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberEligibilityDto> getCurrentEligibilityByMedicaidID(final String medicaidId)
+    {
+        return submit(new Callable<FacetsMemberEligibilityDto>()
+        {
+            public FacetsMemberEligibilityDto call()
+            {
+                return dao.getCurrentEligibilityByMedicaidID(medicaidId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getCurrentEligibilityByCurrentMedicareID(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberEligibilityDto> getCurrentEligibilityByCurrentMedicareID(final String medicareId)
+    {
+        return submit(new Callable<FacetsMemberEligibilityDto>()
+        {
+            public FacetsMemberEligibilityDto call()
+            {
+                return dao.getCurrentEligibilityByCurrentMedicareID(medicareId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getCurrentEligibilityByOldMedicareID(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberEligibilityDto> getCurrentEligibilityByOldMedicareID(final String medicareId)
+    {
+        return submit(new Callable<FacetsMemberEligibilityDto>()
+        {
+            public FacetsMemberEligibilityDto call()
+            {
+                return dao.getCurrentEligibilityByOldMedicareID(medicareId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getCurrentEligibilityWithNoEligibilityCheckByMedicaidID(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberEligibilityDto> getCurrentEligibilityWithNoEligibilityCheckByMedicaidID(final String medicaidId)
+    {
+        return submit(new Callable<FacetsMemberEligibilityDto>()
+        {
+            public FacetsMemberEligibilityDto call()
+            {
+                return dao.getCurrentEligibilityWithNoEligibilityCheckByMedicaidID(medicaidId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getCurrentEligibilityWithNoEligibilityCheckByCurrentMedicareID(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberEligibilityDto> getCurrentEligibilityWithNoEligibilityCheckByCurrentMedicareID(final String medicaidId)
+    {
+        return submit(new Callable<FacetsMemberEligibilityDto>()
+        {
+            public FacetsMemberEligibilityDto call()
+            {
+                return dao.getCurrentEligibilityWithNoEligibilityCheckByCurrentMedicareID(medicaidId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getCurrentEligibilityWithNoEligibilityCheckByOldMedicareID(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberEligibilityDto> getCurrentEligibilityWithNoEligibilityCheckByOldMedicareID(final String medicareId)
+    {
+        return submit(new Callable<FacetsMemberEligibilityDto>()
+        {
+            public FacetsMemberEligibilityDto call()
+            {
+                return dao.getCurrentEligibilityWithNoEligibilityCheckByOldMedicareID(medicareId);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getCurrentEligibilityByAmerigroupID(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberEligibilityDto> getCurrentEligibilityByAmerigroupID(final String amerigroupID)
+    {
+        return submit(new Callable<FacetsMemberEligibilityDto>()
+        {
+            public FacetsMemberEligibilityDto call()
+            {
+                return dao.getCurrentEligibilityByAmerigroupID(amerigroupID);
+            }
+        });
+    }
+
+    /**
+     * <p>Asynchronous {@link IFacetsMemberDao#getCurrentEligibilityWithNoEligibilityCheckByAmerigroupID(String)}.</p>
+     */
+    public CompletableFuture<FacetsMemberEligibilityDto> getCurrentEligibilityWithNoEligibilityCheckByAmerigroupID(final String amerigroupID)
+    {
+        return submit(new Callable<FacetsMemberEligibilityDto>()
+        {
+            public FacetsMemberEligibilityDto call()
+            {
+                return dao.getCurrentEligibilityWithNoEligibilityCheckByAmerigroupID(amerigroupID);
+            }
+        });
+    }
+}
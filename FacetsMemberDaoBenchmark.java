@@ -0,0 +1,154 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.amerigroup.facets.dao.dto.FacetsMemberAmerigroupIDDto;
+import com.amerigroup.facets.dao.dto.FacetsMemberEligibilityDto;
+
+/**
+ * <p>JMH benchmarks for the per-call overhead of the hot <tt>FacetsMemberDaoImpl</tt> lookups,
+ * run against an in-memory H2 database filled by {@link FacetsH2Schema}.</p>
+ * <p>Each benchmark is measured in throughput and sample-time mode, so one run reports
+ * operations per microsecond and the latency percentiles; {@link #main(String[])} also adds
+ * the GC profiler for the allocation rate per operation.  Compile with <tt>jmh-core</tt>,
+ * <tt>jmh-generator-annprocess</tt> and <tt>h2</tt> on the classpath and run
+ * <tt>java -cp ... com.amerigroup.facets.dao.FacetsMemberDaoBenchmark</tt>; JMH options
+ * can be given to the standard JMH runner instead, e.g. <tt>-p logLevel=DEBUG</tt> to include
+ * the cost of the query statistics logging.</p>
+ * <p>Lookups cycle through the generated members so successive calls do not read the same rows.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FacetsMemberDaoBenchmark
+{
+
+    /** Number of generated subscribers */
+    @Param({"1000"})
+    public int members;
+
+    /** Eligibility spans per member, i.e. rows returned by the list lookups */
+    @Param({"3"})
+    public int spansPerMember;
+
+    /** Log4j level of the DAO; DEBUG adds the per-call query statistics line and the method traces */
+    @Param({"WARN"})
+    public String logLevel;
+
+    private JdbcConnectionPool pool;
+    private FacetsMemberDaoImpl dao;
+
+    private final Date searchStartDate = Date.valueOf("2024-02-01");
+    private final Date searchEndDate = Date.valueOf("2024-12-31");
+
+    /**
+     * <p>The member used by the next call on this thread.</p>
+     */
+    @State(Scope.Thread)
+    public static class Cursor
+    {
+        private int next;
+
+        int next(int members)
+        {
+            // Step by a prime so consecutive calls land on unrelated rows
+            next = (next + 7919) % members;
+            return next;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException
+    {
+        Logger.getLogger(FacetsMemberDaoImpl.class).setLevel(org.apache.log4j.Level.toLevel(logLevel));
+
+        pool = JdbcConnectionPool.create("jdbc:h2:mem:facetsbench;MODE=Oracle;DB_CLOSE_DELAY=-1", "sa", "");
+        pool.setMaxConnections(64);
+        Connection conn = pool.getConnection();
+        try
+        {
+            FacetsH2Schema.create(conn);
+            FacetsH2Schema.populate(conn, members, spansPerMember);
+        }
+        finally
+        {
+            conn.close();
+        }
+        dao = new H2FacetsMemberDao(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        FacetsMemberDaoImpl.getStatementCache().clear();
+        pool.dispose();
+    }
+
+    @Benchmark
+    public List<FacetsMemberAmerigroupIDDto> getIdAndPrefixBySbsbIdDateAndPrefix(Cursor cursor)
+    {
+        return dao.getIdAndPrefixBySbsbIdDateAndPrefix(FacetsH2Schema.subscriberId(cursor.next(members)),
+            FacetsH2Schema.PREFIX, searchStartDate, searchEndDate);
+    }
+
+    @Benchmark
+    public List<FacetsMemberAmerigroupIDDto> findByAgp(Cursor cursor)
+    {
+        return dao.findByAgp(FacetsH2Schema.subscriberId(cursor.next(members)));
+    }
+
+    @Benchmark
+    public List<FacetsMemberEligibilityDto> getAllEligibilitiesByAmerigroupID(Cursor cursor)
+    {
+        return dao.getAllEligibilitiesByAmerigroupID(FacetsH2Schema.subscriberId(cursor.next(members)));
+    }
+
+    @Benchmark
+    public List<FacetsMemberEligibilityDto> getAllEligibilityByMedicaidID(Cursor cursor)
+    {
+        return dao.getAllEligibilityByMedicaidID(FacetsH2Schema.medicaidId(cursor.next(members)));
+    }
+
+    @Benchmark
+    public List<FacetsMemberEligibilityDto> getAllEligibilityByOldMedicareID(Cursor cursor)
+    {
+        return dao.getAllEligibilityByOldMedicareID(FacetsH2Schema.oldMedicareId(cursor.next(members)));
+    }
+
+    @Benchmark
+    public FacetsMemberEligibilityDto getCurrentEligibilityByAmerigroupID(Cursor cursor)
+    {
+        return dao.getCurrentEligibilityByAmerigroupID(FacetsH2Schema.subscriberId(cursor.next(members)));
+    }
+
+    /**
+     * <p>Run every benchmark in this class with the GC profiler attached.</p>
+     * @param args Ignored
+     * @throws RunnerException if JMH fails
+     */
+    public static void main(String[] args) throws RunnerException
+    {
+        Options options = new OptionsBuilder()
+            .include(FacetsMemberDaoBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,144 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import com.amerigroup.facets.dao.dto.FacetsMemberEligibilityDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.*;
+
+
+public class FacetsMemberDaoBulkLookupTest {
+    /** More members than fit in one IN-list at the largest chunk size Oracle allows */
+    private static final int MEMBERS = 1200;
+    private static final int SPANS = 2;
+
+    private LocalConnectionPool pool;
+    private FacetsMemberDaoImpl dao;
+
+    /** The identifier a lookup matches for a generated member */
+    private interface IdOf {
+        String id(int member);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        pool = FacetsH2Schema.open("bulklookup", MEMBERS, SPANS);
+        dao = new H2FacetsMemberDao(pool);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        FacetsH2Schema.drop(pool);
+    }
+
+    /**
+     * Every member from last to first, with an unknown ID up front, and a duplicate, a null
+     * and another unknown ID in the middle.  Maps each ID to the subscriber whose rows it
+     * should get, or null if it should get none.
+     */
+    private static Map<String, String> request(IdOf ids, List<String> requested) {
+        Map<String, String> expected = new LinkedHashMap<String, String>();
+        requested.add("UNKNOWN1");
+        expected.put("UNKNOWN1", null);
+        for (int n = MEMBERS - 1; n >= 0; n--) {
+            requested.add(ids.id(n));
+            expected.put(ids.id(n), FacetsH2Schema.subscriberId(n));
+            if (n == MEMBERS / 2) {
+                requested.add(ids.id(MEMBERS - 1));
+                requested.add(null);
+                requested.add("UNKNOWN2");
+                expected.put("UNKNOWN2", null);
+            }
+        }
+        requested.add(ids.id(0));
+        return expected;
+    }
+
+    private static void assertEachIdGetsOnlyItsRows(Map<String, String> expected,
+            Map<String, List<FacetsMemberEligibilityDto>> result) {
+        assertEquals(new ArrayList<String>(expected.keySet()), new ArrayList<String>(result.keySet()));
+        for (Map.Entry<String, String> entry : expected.entrySet()) {
+            List<FacetsMemberEligibilityDto> rows = result.get(entry.getKey());
+            if (entry.getValue() == null) {
+                assertTrue(entry.getKey(), rows.isEmpty());
+                continue;
+            }
+            assertEquals(entry.getKey(), SPANS, rows.size());
+            for (FacetsMemberEligibilityDto row : rows) {
+                assertEquals(entry.getKey(), entry.getValue(), row.sbsbID);
+            }
+            assertTrue(entry.getKey(), rows.get(0).dateEffective.after(rows.get(1).dateEffective));
+        }
+    }
+
+    @Test
+    public void testAmerigroupIdsMapToTheirOwnRowsAcrossChunks() {
+        List<String> requested = new ArrayList<String>();
+        Map<String, String> expected = request(new IdOf() {
+            public String id(int member) {
+                return FacetsH2Schema.subscriberId(member);
+            }
+        }, requested);
+
+        assertEachIdGetsOnlyItsRows(expected, dao.getAllEligibilitiesByAmerigroupIDs(requested));
+    }
+
+    @Test
+    public void testMedicaidIdsMapToTheirOwnRowsAcrossChunks() {
+        List<String> requested = new ArrayList<String>();
+        Map<String, String> expected = request(new IdOf() {
+            public String id(int member) {
+                return FacetsH2Schema.medicaidId(member);
+            }
+        }, requested);
+
+        assertEachIdGetsOnlyItsRows(expected, dao.getAllEligibilityByMedicaidIDs(requested));
+    }
+
+    @Test
+    public void testCurrentMedicareIdsMapToTheirOwnRowsAcrossChunks() {
+        List<String> requested = new ArrayList<String>();
+        Map<String, String> expected = request(new IdOf() {
+            public String id(int member) {
+                return FacetsH2Schema.medicareId(member);
+            }
+        }, requested);
+
+        assertEachIdGetsOnlyItsRows(expected, dao.getAllEligibilityByCurrentMedicareIDs(requested));
+    }
+
+    @Test
+    public void testOldMedicareIdsMapToTheirOwnRowsAcrossChunks() {
+        List<String> requested = new ArrayList<String>();
+        Map<String, String> expected = request(new IdOf() {
+            public String id(int member) {
+                return FacetsH2Schema.oldMedicareId(member);
+            }
+        }, requested);
+
+        assertEachIdGetsOnlyItsRows(expected, dao.getAllEligibilityByOldMedicareIDs(requested));
+    }
+
+    @Test
+    public void testBulkRowsMatchSingleLookups() {
+        List<String> ids = Arrays.asList(FacetsH2Schema.subscriberId(3), FacetsH2Schema.subscriberId(MEMBERS - 3));
+
+        Map<String, List<FacetsMemberEligibilityDto>> result = dao.getAllEligibilitiesByAmerigroupIDs(ids);
+
+        for (String id : ids) {
+            List<FacetsMemberEligibilityDto> single = dao.getAllEligibilitiesByAmerigroupID(id);
+            assertEquals(single.size(), result.get(id).size());
+            for (int i = 0; i < single.size(); i++) {
+                assertEquals(single.get(i).dateEffective, result.get(id).get(i).dateEffective);
+                assertEquals(single.get(i).groupID, result.get(id).get(i).groupID);
+            }
+        }
+        assertTrue(dao.getAllEligibilitiesByAmerigroupIDs(Collections.<String>singletonList(null)).isEmpty());
+    }
+}
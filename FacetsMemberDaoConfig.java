@@ -0,0 +1,101 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import com.elevancehealth.dckr.microsvc.aksgbdsoamembereligibility.EnvironmentResolver;
+import org.apache.log4j.Logger;
+
+/**
+ * <p>Tuning settings for the Facets member DAO.</p>
+ * <p>Values are read from the environment properties loaded by <tt>EnvironmentResolver</tt>
+ * (<tt>envId.properties</tt>).  A missing, blank or unparseable value falls back to the
+ * default supplied by the caller, so none of the settings are required.</p>
+ */
+public final class FacetsMemberDaoConfig
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(FacetsMemberDaoConfig.class);
+
+    private FacetsMemberDaoConfig()
+    {
+    }
+
+    /**
+     * <p>Get a string setting.</p>
+     * @param key The property name
+     * @param defaultValue The value to use if the property is not set
+     * @return the trimmed property value, or <tt>defaultValue</tt>
+     */
+    public static String getString(String key, String defaultValue)
+    {
+        String value = null;
+        try
+        {
+            value = EnvironmentResolver.getEnvProperty(key);
+        }
+        catch (RuntimeException ex)
+        {
+            log.warn("Unable to read DAO setting " + key + ", using default " + defaultValue, ex);
+        }
+        catch (LinkageError err)
+        {
+            log.warn("Unable to read DAO setting " + key + ", using default " + defaultValue, err);
+        }
+        if (value == null || value.trim().length() == 0)
+        {
+            return defaultValue;
+        }
+        return value.trim();
+    }
+
+    /**
+     * <p>Get an integer setting.</p>
+     * @param key The property name
+     * @param defaultValue The value to use if the property is not set or not a number
+     * @return the property value, or <tt>defaultValue</tt>
+     */
+    public static int getInt(String key, int defaultValue)
+    {
+        return (int) getLong(key, defaultValue);
+    }
+
+    /**
+     * <p>Get a long setting.</p>
+     * @param key The property name
+     * @param defaultValue The value to use if the property is not set or not a number
+     * @return the property value, or <tt>defaultValue</tt>
+     */
+    public static long getLong(String key, long defaultValue)
+    {
+        String value = getString(key, null);
+        if (value == null)
+        {
+            return defaultValue;
+        }
+        try
+        {
+            return Long.parseLong(value);
+        }
+        catch (NumberFormatException ex)
+        {
+            log.warn("Invalid value '" + value + "' for DAO setting " + key + ", using default " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * <p>Get a boolean setting.</p>
+     * @param key The property name
+     * @param defaultValue The value to use if the property is not set
+     * @return the property value, or <tt>defaultValue</tt>
+     */
+    public static boolean getBoolean(String key, boolean defaultValue)
+    {
+        String value = getString(key, null);
+        if (value == null)
+        {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value);
+    }
+}
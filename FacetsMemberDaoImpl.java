@@ -7,8 +7,12 @@ import java.sql.PreparedStatement;
 import java.sql.Statement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Types;
 
 import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
@@ -45,6 +49,300 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
     {
     	return FacetsMemberDaoImpl.log;
     }
+
+    /** The datasource JNDI name and <tt>DataSource</tt>, resolved once per DAO instance */
+    private final FacetsDatasourceHandle datasource;
+
+    /** Routes the queries to the replica datasources, or null if none are configured */
+    private final ReplicaRouter replicaRouter;
+
+    /** Maximum number of identifiers bound into one IN-list by the bulk lookups (Oracle allows 1000) */
+    private static final int bulkChunkSize = Math.max(1, Math.min(1000,
+        FacetsMemberDaoConfig.getInt("facets.dao.bulk.chunkSize", 500)));
+
+    /** JDBC fetch size of the streaming eligibility lookups */
+    private static final int streamFetchSize = Math.max(1,
+        FacetsMemberDaoConfig.getInt("facets.dao.stream.fetchSize", 500));
+
+    /** Connection lent to the DAO methods called by a composite lookup on this thread */
+    private final ThreadLocal<Connection> pinnedConnection = new ThreadLocal<Connection>();
+
+    /**
+     * <p>Create a DAO on the <tt>Facets</tt> datasource of the current environment.</p>
+     */
+    public FacetsMemberDaoImpl()
+    {
+        this.datasource = new FacetsDatasourceHandle(new FacetsDatasourceHandle.JndiNameResolver()
+        {
+            public String resolveJndiName()
+            {
+                return getJndiNameByEnvironment();
+            }
+        });
+        this.replicaRouter = createReplicaRouter();
+    }
+
+    /**
+     * <p>Create a DAO on a given datasource handle, e.g. one on an H2 test database.</p>
+     * @param datasource The primary datasource; replicas are still taken from the environment
+     */
+    protected FacetsMemberDaoImpl(FacetsDatasourceHandle datasource)
+    {
+        this.datasource = datasource;
+        this.replicaRouter = createReplicaRouter();
+    }
+
+    /** Whether brand lookups are matched in memory instead of with regexp_like on the database */
+    private static final boolean marketBrandCacheEnabled =
+        FacetsMemberDaoConfig.getBoolean("facets.dao.marketBrandCache.enabled", true);
+
+    /** In-memory copy of AGP.MEM_MARKET_BRAND shared by all instances */
+    private static final RefreshingSnapshot<MarketBrandTable> marketBrandSnapshot = new RefreshingSnapshot<MarketBrandTable>(
+        "AGP.MEM_MARKET_BRAND", 1000L * FacetsMemberDaoConfig.getLong("facets.dao.marketBrandCache.refreshSeconds", 900));
+
+    /** Whether blues prefixes are served from memory instead of being queried on every call */
+    private static final boolean bluesPrefixCacheEnabled =
+        FacetsMemberDaoConfig.getBoolean("facets.dao.bluesPrefixCache.enabled", true);
+
+    /** In-memory copy of the blues prefixes shared by all instances, refreshed in the background */
+    private static final RefreshingSnapshot<BluesPrefixSet> bluesPrefixSnapshot = new RefreshingSnapshot<BluesPrefixSet>(
+        "CMC_CSPI_CS_PLAN blues prefixes", 1000L * FacetsMemberDaoConfig.getLong("facets.dao.bluesPrefixCache.refreshSeconds", 900), true);
+
+    /** Whether class plan prefixes are resolved in memory instead of joining CMC_CSPI_CS_PLAN on the database */
+    private static final boolean classPlanIndexEnabled =
+        FacetsMemberDaoConfig.getBoolean("facets.dao.classPlanIndex.enabled", true);
+
+    /** In-memory index of CMC_CSPI_CS_PLAN shared by all instances, refreshed in the background */
+    private static final RefreshingSnapshot<ClassPlanIndex> classPlanSnapshot = new RefreshingSnapshot<ClassPlanIndex>(
+        "CMC_CSPI_CS_PLAN class plans", 1000L * FacetsMemberDaoConfig.getLong("facets.dao.classPlanIndex.refreshSeconds", 900), true);
+
+    /** Whether reference table lookups are served from memory instead of being joined or queried on the database */
+    private static final boolean referenceTablesEnabled =
+        FacetsMemberDaoConfig.getBoolean("facets.dao.referenceTables.enabled", true);
+
+    /** Versioned in-memory copy of the reference tables shared by all instances, refreshed in the background */
+    private static final RefreshingSnapshot<ReferenceTables> referenceSnapshot = new RefreshingSnapshot<ReferenceTables>(
+        "Facets reference tables", 1000L * FacetsMemberDaoConfig.getLong("facets.dao.referenceTables.refreshSeconds", 900), true);
+
+    /**
+     * Whether the single-identifier eligibility lookups leave out the description joins and
+     * fill those columns from the reference tables
+     */
+    private static final boolean joinEliminationEnabled =
+        FacetsMemberDaoConfig.getBoolean("facets.dao.eligibility.joinElimination.enabled", false);
+
+    /** Second attempts of the lookups on the real-time authorization path, when they are slow */
+    private static final HedgedRequests hedgedRequests = new HedgedRequests(
+        FacetsMemberDaoConfig.getBoolean("facets.dao.hedge.enabled", false),
+        FacetsMemberDaoConfig.getInt("facets.dao.hedge.percentile", 95) / 100.0,
+        FacetsMemberDaoConfig.getLong("facets.dao.hedge.minDelayMillis", 5),
+        FacetsMemberDaoConfig.getLong("facets.dao.hedge.minSamples", 100),
+        FacetsMemberDaoConfig.getInt("facets.dao.hedge.threads", 16));
+
+    /** Prepared statements reused across calls on the same physical connection */
+    private static final PreparedStatementCache statementCache = new PreparedStatementCache(
+        FacetsMemberDaoConfig.getBoolean("facets.dao.statementCache.enabled", true),
+        FacetsMemberDaoConfig.getInt("facets.dao.statementCache.maxPerConnection", 64));
+
+    /** Results of the single-identifier eligibility lookups shared by all instances */
+    private static final EligibilityResultCache eligibilityCache = new EligibilityResultCache(
+        FacetsMemberDaoConfig.getBoolean("facets.dao.eligibilityCache.enabled", false),
+        1000L * FacetsMemberDaoConfig.getLong("facets.dao.eligibilityCache.ttlSeconds", 120),
+        FacetsMemberDaoConfig.getInt("facets.dao.eligibilityCache.maxRows", 50000));
+
+    /** Identifiers recently found to have no rows, shared by all instances */
+    private static final NegativeLookupCache negativeCache = new NegativeLookupCache(
+        FacetsMemberDaoConfig.getBoolean("facets.dao.negativeCache.enabled", false),
+        1000L * FacetsMemberDaoConfig.getLong("facets.dao.negativeCache.ttlSeconds", 30),
+        FacetsMemberDaoConfig.getInt("facets.dao.negativeCache.maxEntries", 100000));
+
+    /** The eligibility queries whose empty results are remembered by the negative cache */
+    private static final Set<FacetsEligibilityQuery> negativeCacheQueries = EnumSet.of(
+        FacetsEligibilityQuery.BY_MEDICAID_ID,
+        FacetsEligibilityQuery.BY_CURRENT_MEDICARE_ID,
+        FacetsEligibilityQuery.BY_OLD_MEDICARE_ID);
+
+    /** Per-method query timings shared by all instances */
+    private static final QueryMetricsRegistry metrics = createMetricsRegistry();
+
+    private static QueryMetricsRegistry createMetricsRegistry()
+    {
+        String exporterClass = FacetsMemberDaoConfig.getString("facets.dao.metrics.exporter",
+            LoggingQueryMetricsExporter.class.getName());
+        QueryMetricsExporter exporter = null;
+        try
+        {
+            exporter = (QueryMetricsExporter) Class.forName(exporterClass).newInstance();
+        }
+        catch (Exception ex)
+        {
+            log.error("Unable to create query metrics exporter " + exporterClass + ", using the log", ex);
+            exporter = new LoggingQueryMetricsExporter();
+        }
+        QueryMetricsRegistry registry = new QueryMetricsRegistry(exporter);
+        registry.scheduleExport(1000L * FacetsMemberDaoConfig.getLong("facets.dao.metrics.exportSeconds", 60));
+        return registry;
+    }
+
+    /**
+     * <p>Get the query metrics shared by all instances of this DAO.</p>
+     * @return the registry; call {@link QueryMetricsRegistry#setExporter(QueryMetricsExporter)} to publish elsewhere
+     */
+    public static QueryMetricsRegistry getMetrics()
+    {
+        return metrics;
+    }
+
+    /**
+     * <p>Record the timings of one call in the metrics registry.</p>
+     * <p>Allocates nothing unless DEBUG is on, when the per-call line is written in microseconds;
+     * the exporter publishes the distributions.</p>
+     * @param methodName The DAO method name
+     * @param connectionDuration Nanoseconds spent getting the connection and preparing the statement
+     * @param queryDuration Nanoseconds spent executing the statement
+     * @param loadResultsDuration Nanoseconds spent reading the rows
+     * @param rowsRead The number of rows read
+     */
+    protected void recordQuery(String methodName, long connectionDuration, long queryDuration, long loadResultsDuration, int rowsRead)
+    {
+        metrics.timer(methodName).record(connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        if (replicaRouter != null)
+        {
+            replicaRouter.recordLatency(connectionDuration + queryDuration);
+        }
+        if (log.isDebugEnabled())
+        {
+            log.debug("Query Statistics:" + methodName + "  getJndiName=" + getDatasourceJndiName() + ", getConnectionUs=" + connectionDuration / 1000
+                + ", queryExecutionUs=" + queryDuration / 1000 + ", loadResultsUs=" + loadResultsDuration / 1000 + ", rowsRead=" + rowsRead);
+        }
+    }
+
+    /**
+     * <p>Record that a query failed on the database.</p>
+     * <p>If the connection came from a replica, the replica is put on cooldown so the next
+     * queries go elsewhere.</p>
+     */
+    protected void recordQueryFailure()
+    {
+        if (replicaRouter != null)
+        {
+            replicaRouter.recordFailure();
+        }
+    }
+
+    /**
+     * <p>Get the prepared statement cache shared by all instances of this DAO.</p>
+     * @return the statement cache, with its hit/miss/eviction counters
+     */
+    public static PreparedStatementCache getStatementCache()
+    {
+        return statementCache;
+    }
+
+    /**
+     * <p>Get the eligibility result cache shared by all instances of this DAO.</p>
+     * <p>Call {@link EligibilityResultCache#invalidateMember(String)} when a member's
+     * eligibility changes so the next lookup reads it from the database.</p>
+     * @return the cache, with its hit/miss/eviction counters
+     */
+    public static EligibilityResultCache getEligibilityCache()
+    {
+        return eligibilityCache;
+    }
+
+    /**
+     * <p>Get the cache of identifiers that <tt>findByAgp</tt>, <tt>getAllEligibilityByMedicaidID</tt>,
+     * <tt>getAllEligibilityByCurrentMedicareID</tt> and <tt>getAllEligibilityByOldMedicareID</tt>
+     * recently found nothing for, shared by all instances of this DAO.</p>
+     * <p>Call {@link NegativeLookupCache#invalidate(String)} when a member is added so the
+     * next lookup of its identifiers reads the database.</p>
+     * @return the cache, with its hit and Bloom filter counters
+     */
+    public static NegativeLookupCache getNegativeCache()
+    {
+        return negativeCache;
+    }
+
+    /**
+     * <p>Get the hedged request executor shared by all instances of this DAO.</p>
+     * <p>Its counters show, per lookup, how often a second attempt was started and how often
+     * it finished first.</p>
+     * @return the executor
+     */
+    public static HedgedRequests getHedgedRequests()
+    {
+        return hedgedRequests;
+    }
+
+    /**
+     * <p>Run a lookup through the hedged request executor.</p>
+     * <p>Lookups made by {@link #getMemberProfile(String, Date)} are not hedged, since they
+     * share its one connection.</p>
+     * @param name The name the hedge counters are kept under
+     * @param timerName The metrics timer of the query that decides the hedge delay
+     * @param call The lookup
+     * @return the result of whichever attempt finished first
+     */
+    private <T> T hedged(String name, String timerName, HedgedRequests.Call<T> call)
+    {
+        if (!hedgedRequests.isEnabled() || pinnedConnection.get() != null)
+        {
+            return call.call();
+        }
+        return hedgedRequests.execute(name, metrics.timer(timerName), call);
+    }
+
+    /**
+     * <p>Get the connection acquisition metrics of every datasource the DAO has used: the
+     * checkout time histogram, exhaustion and failure counts, and for a local pool the
+     * active, idle and pending gauges.</p>
+     * @return the metrics keyed by logical datasource name
+     */
+    public static Map<String, DatasourceMetrics> getDatasourceMetrics()
+    {
+        return DatasourceMetrics.getAll();
+    }
+
+    /**
+     * <p>Get the version stamp of the in-memory reference tables this instance is serving.</p>
+     * <p>Every refresh swaps in a complete new copy with a higher version, so two calls that
+     * see the same version read the same data.</p>
+     * @return the version, or 0 if the reference tables are disabled
+     */
+    public long getReferenceTablesVersion()
+    {
+        ReferenceTables references = getReferenceTables();
+        return references == null ? 0 : references.getVersion();
+    }
+
+    /**
+     * <p>Prepare <tt>sql</tt> on <tt>conn</tt> through the statement cache and apply the
+     * fetch size and query timeout configured for the calling method.</p>
+     * @param conn The connection checked out for this call
+     * @param sql The SQL text
+     * @param methodName The DAO method name, used to look up its {@link QuerySettings}
+     * @param shape The kind of query, which supplies the default settings
+     * @return a statement with its parameters cleared
+     * @throws SQLException if the statement cannot be prepared
+     */
+    protected PreparedStatement prepareCachedStatement(Connection conn, String sql, String methodName, QuerySettings.Shape shape) throws SQLException
+    {
+        PreparedStatement ps = statementCache.prepare(conn, sql);
+        QuerySettings.forMethod(methodName, shape).apply(ps);
+        HedgedRequests.register(ps);
+        return ps;
+    }
+
+    /**
+     * <p>Hand a statement back to the statement cache.</p>
+     * @param ps The statement, may be null
+     * @return the statement if it still has to be closed, or null if the cache keeps it
+     */
+    protected PreparedStatement releaseCachedStatement(PreparedStatement ps)
+    {
+        HedgedRequests.unregister(ps);
+        return statementCache.release(ps);
+    }
     
 	/**
 	 * {@inheritDoc}
@@ -52,15 +350,129 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
 	 */
 	 public String getDatasourceJndiName() 
    	 {  
-       	 String jndiName = "";
-     	 if (!Text.isEffectivelyEmptyOrNull(jndiName)){
-	        	return jndiName;
-	  	 } 	        
-	  	 return getJndiNameByEnvironment();
+	  	 return datasource.getJndiName();
    	 }
+
+    /**
+     * <p>Get the resolved datasource handle used by this DAO.</p>
+     * <p>Call {@link FacetsDatasourceHandle#refresh()} on it to pick up a changed environment.</p>
+     * @return the datasource handle
+     */
+    public FacetsDatasourceHandle getDatasourceHandle()
+    {
+        return datasource;
+    }
+
+    /**
+     * <p>Get the router that spreads queries over the replica datasources.</p>
+     * @return the router, or null if no replicas are configured
+     */
+    public ReplicaRouter getReplicaRouter()
+    {
+        return replicaRouter;
+    }
+
+    /**
+     * <p>Build the replica router from <tt>facets.dao.replicas</tt>, a comma-separated list of
+     * datasource names looked up in the environment's datasource properties like
+     * <tt>Facets</tt> is.  Each replica's weight is <tt>facets.dao.replica.&lt;name&gt;.weight</tt>
+     * (default 1).</p>
+     * @return the router, or null if no replicas are configured
+     */
+    private ReplicaRouter createReplicaRouter()
+    {
+        String names = FacetsMemberDaoConfig.getString("facets.dao.replicas", null);
+        if (names == null)
+        {
+            return null;
+        }
+        List<FacetsDatasourceHandle> handles = new ArrayList<FacetsDatasourceHandle>();
+        List<Integer> weights = new ArrayList<Integer>();
+        for (String name : names.split(","))
+        {
+            final String replicaName = name.trim();
+            if (replicaName.length() == 0)
+            {
+                continue;
+            }
+            handles.add(new FacetsDatasourceHandle(replicaName, new FacetsDatasourceHandle.JndiNameResolver()
+            {
+                public String resolveJndiName()
+                {
+                    return getJndiNameByEnvironment(replicaName);
+                }
+            }));
+            weights.add(Integer.valueOf(FacetsMemberDaoConfig.getInt("facets.dao.replica." + replicaName + ".weight", 1)));
+        }
+        if (handles.isEmpty())
+        {
+            return null;
+        }
+        int[] weightArray = new int[weights.size()];
+        for (int i = 0; i < weightArray.length; i++)
+        {
+            weightArray[i] = weights.get(i).intValue();
+        }
+        ReplicaRouter.Selection selection = ReplicaRouter.Selection.WEIGHTED;
+        String configured = FacetsMemberDaoConfig.getString("facets.dao.replicas.selection", "weighted");
+        if ("leastLatency".equalsIgnoreCase(configured))
+        {
+            selection = ReplicaRouter.Selection.LEAST_LATENCY;
+        }
+        else if (!"weighted".equalsIgnoreCase(configured))
+        {
+            log.warn("Unknown replica selection '" + configured + "', using weighted");
+        }
+        return new ReplicaRouter(datasource, handles, weightArray, selection,
+            1000L * FacetsMemberDaoConfig.getLong("facets.dao.replicas.cooldownSeconds", 30));
+    }
+
+    /**
+     * <p>Get a connection from the resolved datasource, falling back to
+     * {@link #getConnection()} if the datasource could not be looked up.</p>
+     * <p>Every query of this DAO is read-only, so when replicas are configured the connection
+     * comes from the {@link ReplicaRouter}, which falls back to the primary datasource.</p>
+     * <p>While {@link #getMemberProfile(String, Date)} is running on this thread the connection
+     * it checked out is returned instead, wrapped so that closing it is a no-op.</p>
+     * @return a connection, or null if no datasource is configured
+     * @throws ConnectionPoolExhaustedException if the pool had no free connection in time
+     * @throws DAOException if the datasource could not hand out a connection
+     */
+    protected Connection openConnection()
+    {
+        Connection pinned = pinnedConnection.get();
+        if (pinned != null)
+        {
+            return pinned;
+        }
+        try
+        {
+            Connection conn = replicaRouter != null ? replicaRouter.getConnection() : datasource.getConnection();
+            return conn != null ? conn : getConnection();
+        }
+        catch (SQLTransientConnectionException ex)
+        {
+            throw new ConnectionPoolExhaustedException("Connection pool exhausted for datasource " + getDatasourceJndiName(), ex);
+        }
+        catch (SQLException ex)
+        {
+            log.error("Unable to get a connection from datasource " + getDatasourceJndiName(), ex);
+            throw new DAOException("Unable to get a connection from datasource " + getDatasourceJndiName(), ex);
+        }
+    }
     
     public String getJndiNameByEnvironment() {
         
+    	return getJndiNameByEnvironment("Facets");
+    }
+
+    /**
+     * <p>Get the JNDI name of a datasource for the current environment.</p>
+     * @param datasourceName The datasource name in the environment's datasource properties
+     * @return the JNDI name, or null if there is no environment
+     */
+    public String getJndiNameByEnvironment(String datasourceName) {
+        
     	com.amerigroup.utilities.EnvironmentResolver envResolver = new com.amerigroup.utilities.EnvironmentResolver(); 
     	String envID = envResolver.getEnvironmentId();
 		log.info("datasource " + envID);
@@ -68,7 +480,7 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
 		if(envID != null)
     	{
 
-			envID= envResolver.getSingleProperty(envID,com.amerigroup.utilities.EnvironmentResolver.PropertyType.PROPERTY_TYPE_DATASOURCE, "Facets");
+			envID= envResolver.getSingleProperty(envID,com.amerigroup.utilities.EnvironmentResolver.PropertyType.PROPERTY_TYPE_DATASOURCE, datasourceName);
         }
         
         return envID;      
@@ -90,6 +502,9 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
 				where sbsb.SBSB_ID=? and upper(cspi.CSPI_ITS_PREFIX)=?
 				and ?  <= cspi.CSPI_TERM_DT and ? >= cspi.CSPI_EFF_DT
 			</pre></blockquote></p>
+     * <p>Unless <tt>facets.dao.classPlanIndex.enabled</tt> is false, only the subscriber's
+     * eligibility spans are read from the database and the <tt>CMC_CSPI_CS_PLAN</tt> join is
+     * resolved in memory.</p>
      * @param subscriberID The SBSB_ID of the member
      * @param prefix The prefix
      * @param searchStartDate The Search Date
@@ -99,6 +514,13 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
      */
     public List<FacetsMemberAmerigroupIDDto> getIdAndPrefixBySbsbIdDateAndPrefix(String subscriberID, String prefix, Date searchStartDate, Date searchEndDate)
     {
+        ClassPlanIndex classPlans = getClassPlanIndex();
+        if (classPlans != null)
+        {
+            return classPlans.idsWithPrefix(querySubscriberSpans("getIdAndPrefixBySbsbIdDateAndPrefix.spans", subscriberID, false),
+                prefix, searchStartDate, searchEndDate);
+        }
+
         List<FacetsMemberAmerigroupIDDto> result = new ArrayList<FacetsMemberAmerigroupIDDto>();
         
         Connection conn = null;
@@ -118,8 +540,8 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
         
         try 
         {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
 			if (conn == null) {
 				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
 					log.debug("<getIdAndPrefixBySbsbIdDateAndPrefix" );
@@ -128,21 +550,33 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
 
 				StringBuilder sb = null;
             
-            ps = conn.prepareStatement(sql);
+            ps = prepareCachedStatement(conn, sql, "getIdAndPrefixBySbsbIdDateAndPrefix", QuerySettings.Shape.LIST);
             
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
+            long connectionDuration = System.nanoTime() - connectionStart;
             
-				log.debug("Executing SQL: " + sql);
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
             
-                log.debug("   Setting parm #1 (subscriberID) to " + subscriberID);
+                if (log.isDebugEnabled())
+                {
+                    log.debug("   Setting parm #1 (subscriberID) to " + subscriberID);
+                }
                 
             ps.setString(1, subscriberID);
             
-                log.debug("   Setting parm #2 (prefix) to " + prefix);
+                if (log.isDebugEnabled())
+                {
+                    log.debug("   Setting parm #2 (prefix) to " + prefix);
+                }
                 
             ps.setString(2, prefix);
             
-                log.debug("   Setting parm #3 (searchStartDate) to " + searchStartDate);
+                if (log.isDebugEnabled())
+                {
+                    log.debug("   Setting parm #3 (searchStartDate) to " + searchStartDate);
+                }
                 
 
 				if (searchStartDate == null) 
@@ -157,7 +591,10 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                 
             }            
             
-                log.debug("   Setting parm #4 (searchEndDate) to " + searchEndDate);
+                if (log.isDebugEnabled())
+                {
+                    log.debug("   Setting parm #4 (searchEndDate) to " + searchEndDate);
+                }
                 
 
 				if (searchEndDate == null) 
@@ -172,13 +609,13 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                 
             }            
             
-            long queryStart = System.currentTimeMillis();
+            long queryStart = System.nanoTime();
 				log.debug("Starting query");
             rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
+            long queryDuration = System.nanoTime() - queryStart;
 
             // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
+            long loadResultsStart = System.nanoTime();
             int rowsRead = 0;
             while (rs.next())
             {
@@ -202,8 +639,8 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
             }
             
             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getIdAndPrefixBySbsbIdDateAndPrefix  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getIdAndPrefixBySbsbIdDateAndPrefix", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
         }
         catch (SQLException ex) 
         {
@@ -219,11 +656,12 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                         + tex.getSQLState() + " - SQL: " + sql, tex);
                 tex = tex.getNextException();
             }
+            recordQueryFailure();
             throw new DAOException("Unable to perform read - SQL: " + sql, ex);
         }
         finally
         {
-            closeDatabaseObjects(rs, ps, conn);
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
         }
         return result;
     }
@@ -242,6 +680,10 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
     public List<FacetsMemberAmerigroupIDDto> findByAgp(String agp)
     {
         List<FacetsMemberAmerigroupIDDto> result = new ArrayList<FacetsMemberAmerigroupIDDto>();
+        if (negativeCache.isKnownMissing("findByAgp", agp))
+        {
+            return result;
+        }
         
         Connection conn = null;
         PreparedStatement ps = null;
@@ -251,8 +693,8 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
         
         try 
         {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
 			if (conn == null) {
 				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
 					log.debug("<findByAgp" );
@@ -261,25 +703,31 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
 
 				StringBuilder sb = null;
             
-            ps = conn.prepareStatement(sql);
+            ps = prepareCachedStatement(conn, sql, "findByAgp", QuerySettings.Shape.LIST);
             
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
+            long connectionDuration = System.nanoTime() - connectionStart;
             
             int parmNum = 1;
             
-				log.debug("Executing SQL: " + sql);
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
             
-				log.debug("   Setting parm #" + parmNum + " (agp) to " + agp);
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (agp) to " + agp);
+				}
                 
             ps.setString(parmNum++, agp);
             
-            long queryStart = System.currentTimeMillis();
+            long queryStart = System.nanoTime();
 				log.debug("Starting query");
             rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
+            long queryDuration = System.nanoTime() - queryStart;
 
             // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
+            long loadResultsStart = System.nanoTime();
             int rowsRead = 0;
             while (rs.next())
             {
@@ -303,8 +751,12 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
             }
             
             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:findByAgp  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("findByAgp", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+            if (rowsRead == 0)
+            {
+                negativeCache.recordMissing("findByAgp", agp);
+            }
         }
         catch (SQLException ex) 
         {
@@ -320,11 +772,12 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                         + tex.getSQLState() + " - SQL: " + sql, tex);
                 tex = tex.getNextException();
             }
+            recordQueryFailure();
             throw new DAOException("Unable to perform read - SQL: " + sql, ex);
         }
         finally
         {
-            closeDatabaseObjects(rs, ps, conn);
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
         }
         return result;
     }
@@ -357,10281 +810,518 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
      */
     public List<FacetsMemberEligibilityDto> getAllEligibilitiesByAmerigroupID(String amerigroupID)
     {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
+        return queryEligibilities(FacetsEligibilityQuery.BY_AMERIGROUP_ID, amerigroupID);
+    }
+	
 
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where s.SBSB_ID =?"+
-         " order by e.MEPE_EFF_DT DESC"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilitiesByAmerigroupID" );
-				return result;
-			}
+		
+    /**
+     * <p>Get the past, current, and future eligibility of many members using their amerigroup ids,
+     * each member's eligibility sorted with most to least recent</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Runs the query of {@link #getAllEligibilitiesByAmerigroupID(String)} with
+     * <tt>where s.SBSB_ID in (?, ...)</tt> on a single connection, binding at most
+     * <tt>facets.dao.bulk.chunkSize</tt> IDs per statement.</p>
+     * @param amerigroupIDs Amerigroup IDs of the members; nulls and duplicates are ignored
+     * @return A <tt>Map</tt> from each requested ID, in request order, to the <tt>List</tt> of
+     * <tt>FacetsMemberEligibilityDto</tt> objects for that member.  Every requested ID is present;
+     * a <tt>List</tt> may be empty but will never be null.
+     */
+    public Map<String, List<FacetsMemberEligibilityDto>> getAllEligibilitiesByAmerigroupIDs(Collection<String> amerigroupIDs)
+    {
+        FacetsEligibilityQuery query = FacetsEligibilityQuery.BY_AMERIGROUP_ID;
+        return getEligibilitiesInChunks("getAllEligibilitiesByAmerigroupIDs", query.getBulkSqlHead(), query.getBulkSqlTail(), amerigroupIDs);
+    }
+	
 
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (amerigroupID) to " + amerigroupID);
-                
-            ps.setString(parmNum++, amerigroupID);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' 
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') and g.grgr_id like 'INMCD%' order by e.MEPE_EFF_DT desc
+            </pre></blockquote></p>
+     * @param medicaidId Medicaid ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilityByINMedicaidID(String medicaidId)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.BY_IN_MEDICAID_ID, medicaidId);
+    }
+	
 
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilitiesByAmerigroupID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' 
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') and g.grgr_id like 'INMCD%' order by e.MEPE_EFF_DT desc
-            </pre></blockquote></p>
-     * @param medicaidId Medicaid ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilityByINMedicaidID(String medicaidId)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') and g.grgr_id like 'INMCD%' order by e.MEPE_EFF_DT desc"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilityByINMedicaidID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
-                
-            ps.setString(parmNum++, medicaidId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilityByINMedicaidID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' 
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') order by e.MEPE_EFF_DT desc
-            </pre></blockquote></p>
-     * @param medicaidId Medicaid ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilityByMedicaidID(String medicaidId)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') order by e.MEPE_EFF_DT desc"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilityByMedicaidID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
-                
-            ps.setString(parmNum++, medicaidId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilityByMedicaidID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' 
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD', 'MDCR') order by e.MEPE_EFF_DT desc
-            </pre></blockquote></p>
-     * @param medicaidId Medicaid ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilityByMedicaidIDWithMDCRGrpType(String medicaidId)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD', 'MDCR') order by e.MEPE_EFF_DT desc"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilityByMedicaidIDWithMDCRGrpType" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
-                
-            ps.setString(parmNum++, medicaidId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilityByMedicaidIDWithMDCRGrpType  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicare id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' 
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where (m.MEME_HICN =?)  and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc
-            </pre></blockquote></p>
-     * @param medicareId Medicare ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilityByCurrentMedicareID(String medicareId)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_HICN =?)  and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilityByCurrentMedicareID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicareId) to " + medicareId);
-                
-            ps.setString(parmNum++, medicareId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilityByCurrentMedicareID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicare id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' 
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where x.MECR_NO_ORIG = ? and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc
-            </pre></blockquote></p>
-     * @param medicareId Medicare ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilityByOldMedicareID(String medicareId)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where x.MECR_NO_ORIG = ? and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilityByOldMedicareID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicareId) to " + medicareId);
-                
-            ps.setString(parmNum++, medicareId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilityByOldMedicareID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members past, current, and future eligibility using the amerigroup id, sorted with most to least recent</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where s.SBSB_ID =?
-                order by e.MEPE_EFF_DT DESC
-            </pre></blockquote></p>
-     * @param amerigroupID Amerigroup ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilitiesWithNoEligibilityCheckByAmerigroupID(String amerigroupID)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where s.SBSB_ID =?"+
-         " order by e.MEPE_EFF_DT DESC"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilitiesWithNoEligibilityCheckByAmerigroupID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (amerigroupID) to " + amerigroupID);
-                
-            ps.setString(parmNum++, amerigroupID);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilitiesWithNoEligibilityCheckByAmerigroupID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') and g.grgr_id like 'INMCD%' order by e.MEPE_EFF_DT desc
-            </pre></blockquote></p>
-     * @param medicaidId Medicaid ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilityWithNoEligibilityCheckByINMedicaidID(String medicaidId)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') and g.grgr_id like 'INMCD%' order by e.MEPE_EFF_DT desc"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilityWithNoEligibilityCheckByINMedicaidID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
-                
-            ps.setString(parmNum++, medicaidId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilityWithNoEligibilityCheckByINMedicaidID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') order by e.MEPE_EFF_DT desc
-            </pre></blockquote></p>
-     * @param medicaidId Medicaid ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilityWithNoEligibilityCheckByMedicaidID(String medicaidId)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') order by e.MEPE_EFF_DT desc"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilityWithNoEligibilityCheckByMedicaidID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
-                
-            ps.setString(parmNum++, medicaidId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilityWithNoEligibilityCheckByMedicaidID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD', 'MDCR') order by e.MEPE_EFF_DT desc
-            </pre></blockquote></p>
-     * @param medicaidId Medicaid ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilityWithNoEligibilityCheckByMedicaidIDWithMdcrGrpType(String medicaidId)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD', 'MDCR') order by e.MEPE_EFF_DT desc"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilityWithNoEligibilityCheckByMedicaidIDWithMdcrGrpType" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
-                
-            ps.setString(parmNum++, medicaidId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilityWithNoEligibilityCheckByMedicaidIDWithMdcrGrpType  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicare id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where (m.MEME_HICN =?) and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc
-            </pre></blockquote></p>
-     * @param medicareId Medicare ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilityWithNoEligibilityCheckByCurrentMedicareID(String medicareId)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_HICN =?) and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilityWithNoEligibilityCheckByCurrentMedicareID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicareId) to " + medicareId);
-                
-            ps.setString(parmNum++, medicareId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilityWithNoEligibilityCheckByCurrentMedicareID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicare id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
-			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-                from CMC_MEPE_PRCS_ELIG e 
-                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
-                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
-                left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK
-                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
-                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
-                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
-                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-                where x.MECR_NO_ORIG = ? and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc
-            </pre></blockquote></p>
-     * @param medicareId Medicare ID of the member
-     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberEligibilityDto> getAllEligibilityWithNoEligibilityCheckByOldMedicareID(String medicareId)
-    {
-        List<FacetsMemberEligibilityDto> result = new ArrayList<FacetsMemberEligibilityDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where x.MECR_NO_ORIG = ? and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc"+
-         "             ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getAllEligibilityWithNoEligibilityCheckByOldMedicareID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicareId) to " + medicareId);
-                
-            ps.setString(parmNum++, medicareId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getAllEligibilityWithNoEligibilityCheckByOldMedicareID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get the home address for a member</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>select a.sbad_type, a.sbad_addr1, a.sbad_addr2, a.sbad_addr3, a.sbad_city, a.sbad_county, a.sbad_state, a.sbad_zip, 
-						a.sbad_phone, a.sbad_phone_ext, a.sbad_email, a.sbad_fax, a.sbad_fax_ext, s.SBAD_TYPE_HOME, s.SBAD_TYPE_MAIL   
-				  from CMC_SBSB_SUBSC s
-				  join CMC_SBAD_ADDR a on a.SBSB_CK = s.SBSB_CK and a.SBAD_TYPE = s.SBAD_TYPE_HOME
-				where s.sbsb_id = ?
-			</pre></blockquote></p>
-     * @param agpID The Amerigroup ID of the member
-     * @return the <tt>FacetsMemberAddressDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
-     */
-    public FacetsMemberAddressDto getHomeAddress(String agpID)
-    {
-        FacetsMemberAddressDto result = null;
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = "select a.sbad_type, a.sbad_addr1, a.sbad_addr2, a.sbad_addr3, a.sbad_city, a.sbad_county, a.sbad_state, a.sbad_zip,"+
-         " a.sbad_phone, a.sbad_phone_ext, a.sbad_email, a.sbad_fax, a.sbad_fax_ext, s.SBAD_TYPE_HOME, s.SBAD_TYPE_MAIL"+
-         " from CMC_SBSB_SUBSC s"+
-         " join CMC_SBAD_ADDR a on a.SBSB_CK = s.SBSB_CK and a.SBAD_TYPE = s.SBAD_TYPE_HOME"+
-         " where s.sbsb_id = ?"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getHomeAddress" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (agpID) to " + agpID);
-                
-            ps.setString(parmNum++, agpID);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberAddressDto dto = new FacetsMemberAddressDto();
-                                
-                dto.type = rs.getString("sbad_type");
-                if (rs.wasNull()) 
-                {
-                    dto.type = null;
-                }
-                                
-                dto.street1 = rs.getString("sbad_addr1");
-                if (rs.wasNull()) 
-                {
-                    dto.street1 = null;
-                }
-                                
-                dto.street2 = rs.getString("sbad_addr2");
-                if (rs.wasNull()) 
-                {
-                    dto.street2 = null;
-                }
-                                
-                dto.street3 = rs.getString("sbad_addr3");
-                if (rs.wasNull()) 
-                {
-                    dto.street3 = null;
-                }
-                                
-                dto.city = rs.getString("sbad_city");
-                if (rs.wasNull()) 
-                {
-                    dto.city = null;
-                }
-                                
-                dto.county = rs.getString("sbad_county");
-                if (rs.wasNull()) 
-                {
-                    dto.county = null;
-                }
-                                
-                dto.state = rs.getString("sbad_state");
-                if (rs.wasNull()) 
-                {
-                    dto.state = null;
-                }
-                                
-                dto.zip = rs.getString("sbad_zip");
-                if (rs.wasNull()) 
-                {
-                    dto.zip = null;
-                }
-                                
-                dto.phone = rs.getString("sbad_phone");
-                if (rs.wasNull()) 
-                {
-                    dto.phone = null;
-                }
-                                
-                dto.phoneExt = rs.getString("sbad_phone_ext");
-                if (rs.wasNull()) 
-                {
-                    dto.phoneExt = null;
-                }
-                                
-                dto.email = rs.getString("sbad_email");
-                if (rs.wasNull()) 
-                {
-                    dto.email = null;
-                }
-                                
-                dto.fax = rs.getString("sbad_fax");
-                if (rs.wasNull()) 
-                {
-                    dto.fax = null;
-                }
-                                
-                dto.faxExt = rs.getString("sbad_fax_ext");
-                if (rs.wasNull()) 
-                {
-                    dto.faxExt = null;
-                }
-                                
-                dto.homeAddrType = rs.getString("SBAD_TYPE_HOME");
-                if (rs.wasNull()) 
-                {
-                    dto.homeAddrType = null;
-                }
-                                
-                dto.mailAddrType = rs.getString("SBAD_TYPE_MAIL");
-                if (rs.wasNull()) 
-                {
-                    dto.mailAddrType = null;
-                }
-                
-                result = dto;
-                break;
-                
-            }
-            
-            
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getHomeAddress  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get the Dual Citizenship details by Subscriber ID</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			WITH TEMP AS
-			(
-				SELECT DISTINCT 
-		            DP.dual_link, DP.dual_type, 
-	            	SUB.sbsb_id as requestedsbsbId,
-	            	GRP.grgr_id as requestedgrgrId, 
-	            	MEM.meme_ck as requestedmemeCk,
-	            	SUB2.sbsb_id as targetsbsbId, 
-	            	GRP2.grgr_id as targetgrgrId,
-	            	MEM2.meme_ck as targetmemeCk,
-	            	DP.DUAL_SPN_START_DT, DP.DUAL_SPN_END_DT,
-	            	DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT 
-				FROM FACETS.CMC_MEME_MEMBER MEM 
-	 			INNER JOIN FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck
-	   			INNER JOIN FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck
-	    		INNER JOIN AGP.DUAL_POPULATION_SPN DP on DP.meme_ck = MEM.meme_ck  AND DP.DUAL_LINK > 0
-	    		INNER JOIN AGP.DUAL_POPULATION_SPN DP2 on DP2.dual_link = DP.dual_link AND dp2.meme_ck != dp.meme_ck AND DP2.DUAL_LINK > 0
-		        INNER JOIN AGP.DUAL_DESC DD on DD.dual_type = DP.dual_type 
-		        LEFT OUTER JOIN AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DP.dual_pop_spn_id = DMACS.dual_spn_id 
-	    		INNER JOIN FACETS.CMC_MEME_MEMBER MEM2 on MEM2.meme_ck = DP2.meme_ck 
-	   			INNER JOIN FACETS.CMC_SBSB_SUBSC SUB2 on SUB2.sbsb_ck = MEM2.sbsb_ck
-	    		INNER JOIN FACETS.CMC_GRGR_GROUP GRP2 on GRP2.grgr_ck = MEM2.grgr_ck 
-				WHERE SUB.sbsb_id = ?
-				
-	    		UNION 
-	    		
-				SELECT DISTINCT 
-		            0, DE.dual_type, 
-	            	SUB.sbsb_id as requestedsbsbId,
-	            	GRP.grgr_id as requestedgrgrId, 
-	            	MEM.meme_ck as requestedmemeCk,
-	            	'' as targetsbsbId, 
-	            	'' as targetgrgrId,
-	            	0 as targetmemeCk,
-	            	DE.DUAL_SPN_START_DT, DE.DUAL_SPN_END_DT,
-					DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT 
-				FROM FACETS.CMC_MEME_MEMBER MEM 
-	     		INNER JOIN FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck 
-	     		INNER JOIN FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck
-				INNER JOIN AGP.DUAL_ELIGIBLE_SPN DE on DE.meme_ck = MEM.meme_ck
-		        INNER JOIN AGP.DUAL_DESC DD on DD.dual_type = DE.dual_type 
-		        LEFT OUTER JOIN AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DE.dual_elig_spn_id = DMACS.dual_spn_id 
-				WHERE SUB.sbsb_id = ?
-				
-				UNION
-				
-				select DISTINCT DP.dual_link, DP.dual_type,SUB.sbsb_id as requestedsbsbId,GRP.grgr_id as requestedgrgrId,
-        MEM.meme_ck as requestedmemeCk,'' as targetsbsbId,'' as targetgrgrId,0 as targetmemeCk,DP.DUAL_SPN_START_DT, DP.DUAL_SPN_END_DT,DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT
-        from FACETS.CMC_MEME_MEMBER MEM inner join FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck 
-        inner join FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck 
-        inner join AGP.DUAL_POPULATION_SPN DP on DP.meme_ck = MEM.meme_ck and dual_link=-1 and dual_type='I'
-        inner join AGP.DUAL_DESC DD on DD.dual_type = DP.dual_type
-        left outer join AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DP.dual_pop_spn_id = DMACS.dual_spn_id
-        where SUB.sbsb_id = ?
-				)
-        		SELECT t.* FROM TEMP t 
-        		order by t.DUAL_SPN_END_DT desc, t.dual_type ASC
-			</pre></blockquote></p>
-     * @param sbsbId Subscriber Id
-     * @return A <tt>List</tt> of <tt>FacetsMemberDualCitizenshipDetailsDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberDualCitizenshipDetailsDto> getDualCitizenshipDetailsBySBSBIDwithMediciad(String sbsbId)
-    {
-        List<FacetsMemberDualCitizenshipDetailsDto> result = new ArrayList<FacetsMemberDualCitizenshipDetailsDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " WITH TEMP AS"+
-         " ("+
-         " SELECT DISTINCT"+
-         " DP.dual_link, DP.dual_type,"+
-         " SUB.sbsb_id as requestedsbsbId,"+
-         " GRP.grgr_id as requestedgrgrId,"+
-         " MEM.meme_ck as requestedmemeCk,"+
-         " SUB2.sbsb_id as targetsbsbId,"+
-         " GRP2.grgr_id as targetgrgrId,"+
-         " MEM2.meme_ck as targetmemeCk,"+
-         " DP.DUAL_SPN_START_DT, DP.DUAL_SPN_END_DT,"+
-         " DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT"+
-         " FROM FACETS.CMC_MEME_MEMBER MEM"+
-         " INNER JOIN FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck"+
-         " INNER JOIN FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck"+
-         " INNER JOIN AGP.DUAL_POPULATION_SPN DP on DP.meme_ck = MEM.meme_ck  AND DP.DUAL_LINK > 0"+
-         " INNER JOIN AGP.DUAL_POPULATION_SPN DP2 on DP2.dual_link = DP.dual_link AND dp2.meme_ck != dp.meme_ck AND DP2.DUAL_LINK > 0"+
-         " INNER JOIN AGP.DUAL_DESC DD on DD.dual_type = DP.dual_type"+
-         " LEFT OUTER JOIN AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DP.dual_pop_spn_id = DMACS.dual_spn_id"+
-         " INNER JOIN FACETS.CMC_MEME_MEMBER MEM2 on MEM2.meme_ck = DP2.meme_ck"+
-         " INNER JOIN FACETS.CMC_SBSB_SUBSC SUB2 on SUB2.sbsb_ck = MEM2.sbsb_ck"+
-         " INNER JOIN FACETS.CMC_GRGR_GROUP GRP2 on GRP2.grgr_ck = MEM2.grgr_ck"+
-         " WHERE SUB.sbsb_id = ?"+
-         " "+
-         " UNION"+
-         " "+
-         " SELECT DISTINCT"+
-         " 0, DE.dual_type,"+
-         " SUB.sbsb_id as requestedsbsbId,"+
-         " GRP.grgr_id as requestedgrgrId,"+
-         " MEM.meme_ck as requestedmemeCk,"+
-         " '' as targetsbsbId,"+
-         " '' as targetgrgrId,"+
-         " 0 as targetmemeCk,"+
-         " DE.DUAL_SPN_START_DT, DE.DUAL_SPN_END_DT,"+
-         " DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT"+
-         " FROM FACETS.CMC_MEME_MEMBER MEM"+
-         " INNER JOIN FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck"+
-         " INNER JOIN FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck"+
-         " INNER JOIN AGP.DUAL_ELIGIBLE_SPN DE on DE.meme_ck = MEM.meme_ck"+
-         " INNER JOIN AGP.DUAL_DESC DD on DD.dual_type = DE.dual_type"+
-         " LEFT OUTER JOIN AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DE.dual_elig_spn_id = DMACS.dual_spn_id"+
-         " WHERE SUB.sbsb_id = ?"+
-         " "+
-         " UNION"+
-         " "+
-         " select DISTINCT DP.dual_link, DP.dual_type,SUB.sbsb_id as requestedsbsbId,GRP.grgr_id as requestedgrgrId,"+
-         " MEM.meme_ck as requestedmemeCk,'' as targetsbsbId,'' as targetgrgrId,0 as targetmemeCk,DP.DUAL_SPN_START_DT, DP.DUAL_SPN_END_DT,DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT"+
-         " from FACETS.CMC_MEME_MEMBER MEM inner join FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck"+
-         " inner join FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck"+
-         " inner join AGP.DUAL_POPULATION_SPN DP on DP.meme_ck = MEM.meme_ck and dual_link=-1 and dual_type='I'"+
-         " inner join AGP.DUAL_DESC DD on DD.dual_type = DP.dual_type"+
-         " left outer join AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DP.dual_pop_spn_id = DMACS.dual_spn_id"+
-         " where SUB.sbsb_id = ?"+
-         " )"+
-         " SELECT t.* FROM TEMP t"+
-         " order by t.DUAL_SPN_END_DT desc, t.dual_type ASC"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getDualCitizenshipDetailsBySBSBIDwithMediciad" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-				log.debug("Executing SQL: " + sql);
-            
-                log.debug("   Setting parm #1 (sbsbId) to " + sbsbId);
-                
-                log.debug("   Setting parm #2 (sbsbId) to " + sbsbId);
-                
-                log.debug("   Setting parm #3 (sbsbId) to " + sbsbId);
-                
-            ps.setString(1, sbsbId);
-            
-            ps.setString(2, sbsbId);
-            
-            ps.setString(3, sbsbId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberDualCitizenshipDetailsDto dto = new FacetsMemberDualCitizenshipDetailsDto();
-                                
-                dto.dualLink = rs.getString("dual_link");
-                if (rs.wasNull()) 
-                {
-                    dto.dualLink = null;
-                }
-                                
-                dto.dualType = rs.getString("dual_type");
-                if (rs.wasNull()) 
-                {
-                    dto.dualType = null;
-                }
-                                
-                dto.requestedSubscriberId = rs.getString("requestedsbsbId");
-                if (rs.wasNull()) 
-                {
-                    dto.requestedSubscriberId = null;
-                }
-                                
-                dto.requestedGroupId = rs.getString("requestedgrgrId");
-                if (rs.wasNull()) 
-                {
-                    dto.requestedGroupId = null;
-                }
-                                
-                dto.requestedMemeCk = rs.getString("requestedmemeCk");
-                if (rs.wasNull()) 
-                {
-                    dto.requestedMemeCk = null;
-                }
-                                
-                dto.targetSubscriberId = rs.getString("targetsbsbId");
-                if (rs.wasNull()) 
-                {
-                    dto.targetSubscriberId = null;
-                }
-                                
-                dto.targetGroupId = rs.getString("targetgrgrId");
-                if (rs.wasNull()) 
-                {
-                    dto.targetGroupId = null;
-                }
-                                
-                dto.targetMemeCk = rs.getString("targetmemeCk");
-                if (rs.wasNull()) 
-                {
-                    dto.targetMemeCk = null;
-                }
-                
-                dto.dualSpanStartDt = rs.getTimestamp("DUAL_SPN_START_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dualSpanStartDt = null;
-                }
-                
-                dto.dualSpanEndDt = rs.getTimestamp("DUAL_SPN_END_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dualSpanEndDt = null;
-                }
-                                
-                dto.dualTypeDesc = rs.getString("dual_desc");
-                if (rs.wasNull()) 
-                {
-                    dto.dualTypeDesc = null;
-                }
-                                
-                dto.medicaidAidCategory = rs.getString("MEDICAID_LEVEL");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidAidCategory = null;
-                }
-                                
-                dto.medicaidCostShare = rs.getString("COST_SHARE_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidCostShare = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getDualCitizenshipDetailsBySBSBIDwithMediciad  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>populate the Dual Citizenship AID Category name based on LAST_VER_DATEs and CREATE_DTM by MEME ID</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			select  MEDICAID_LVL   
-			from AGP.MCR_ENR_MEDICAID_LEVEL MEML 
-			where meme_ck = ? 
-			order by LAST_VER_DATE desc, create_dtm desc 
-			</pre></blockquote></p>
-     * @param memeCk member contrived key
-     * @return A <tt>List</tt> of <tt>FacetsMemberDualCitizenshipAIDCategoryDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberDualCitizenshipAIDCategoryDto> getDualCitizenshipAIDCategoryByMemeCk(String memeCk)
-    {
-        List<FacetsMemberDualCitizenshipAIDCategoryDto> result = new ArrayList<FacetsMemberDualCitizenshipAIDCategoryDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select  MEDICAID_LVL"+
-         " from AGP.MCR_ENR_MEDICAID_LEVEL MEML"+
-         " where meme_ck = ?"+
-         " order by LAST_VER_DATE desc, create_dtm desc"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getDualCitizenshipAIDCategoryByMemeCk" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-				log.debug("Executing SQL: " + sql);
-            
-                log.debug("   Setting parm #1 (memeCk) to " + memeCk);
-                
-            ps.setString(1, memeCk);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberDualCitizenshipAIDCategoryDto dto = new FacetsMemberDualCitizenshipAIDCategoryDto();
-                                
-                dto.medicaidAidCategory = rs.getString("MEDICAID_LVL");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidAidCategory = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getDualCitizenshipAIDCategoryByMemeCk  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Fetches the member details by sbrUid(SBSB_CK from Facets), eligibility effective date and eligibility termination date</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			select
-				m.MEME_FIRST_NAME , m.MEME_MID_INIT, m.MEME_LAST_NAME ,
-				m.MEME_BIRTH_DT , m.MEME_SEX ,
-				m.MEME_CK , m.MEME_HICN , m.MEME_MEDCD_NO, m.SBSB_CK,
-				cspi.CSPI_ITS_PREFIX ,e.MEPE_EFF_DT , e.MEPE_TERM_DT ,
-				e.PDPD_ID , e.CSPI_ID , e.CSCS_ID, e.MEPE_ELIG_IND ,
-				s.SBSB_ID ,pd.LOBD_ID,g.grgr_ck, g.CICI_ID , g.GRGR_ID, 
-				g.GRGR_MCTR_TYPE, sg.SGSG_MCTR_TYPE, sg.sgsg_ck
-			from CMC_SBSB_SUBSC s
-			inner join CMC_MEME_MEMBER m on m.SBSB_CK = s.SBSB_CK
-			inner join CMC_MEPE_PRCS_ELIG e on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'
-			inner join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK
-			inner join FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-			inner join CMC_CSPI_CS_PLAN cspi on cspi.GRGR_CK = e.GRGR_CK and cspi.CSCS_ID = e.CSCS_ID and cspi.CSPI_ID = e.CSPI_ID and cspi.CSPD_CAT = e.CSPD_CAT and e.MEPE_EFF_DT between cspi.CSPI_EFF_DT and cspi.CSPI_TERM_DT
-			left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
-			where s.sbsb_ck = ? and e.MEPE_EFF_DT = ? and e.MEPE_TERM_DT = ?
-		</pre></blockquote></p>
-     * @param sbrUid Member's Subscriber CK(SBSB_CK from Facets)
-     * @param eligibilityEffDt Member's Eligibility Effective Date
-     * @param eligibilityTermDt Member's Eligibility Termination Date
-     * @return the <tt>FacetsMemberMemberDetailsDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
-     */
-    public FacetsMemberMemberDetailsDto getEligibilityBySbrUidAndEligibilityDates(String sbrUid, Date eligibilityEffDt, Date eligibilityTermDt)
-    {
-        FacetsMemberMemberDetailsDto result = null;
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select"+
-         " m.MEME_FIRST_NAME , m.MEME_MID_INIT, m.MEME_LAST_NAME ,"+
-         " m.MEME_BIRTH_DT , m.MEME_SEX ,"+
-         " m.MEME_CK , m.MEME_HICN , m.MEME_MEDCD_NO, m.SBSB_CK,"+
-         " cspi.CSPI_ITS_PREFIX ,e.MEPE_EFF_DT , e.MEPE_TERM_DT ,"+
-         " e.PDPD_ID , e.CSPI_ID , e.CSCS_ID, e.MEPE_ELIG_IND ,"+
-         " s.SBSB_ID ,pd.LOBD_ID,g.grgr_ck, g.CICI_ID , g.GRGR_ID,"+
-         " g.GRGR_MCTR_TYPE, sg.SGSG_MCTR_TYPE, sg.sgsg_ck"+
-         " from CMC_SBSB_SUBSC s"+
-         " inner join CMC_MEME_MEMBER m on m.SBSB_CK = s.SBSB_CK"+
-         " inner join CMC_MEPE_PRCS_ELIG e on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
-         " inner join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK"+
-         " inner join FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " inner join CMC_CSPI_CS_PLAN cspi on cspi.GRGR_CK = e.GRGR_CK and cspi.CSCS_ID = e.CSCS_ID and cspi.CSPI_ID = e.CSPI_ID and cspi.CSPD_CAT = e.CSPD_CAT and e.MEPE_EFF_DT between cspi.CSPI_EFF_DT and cspi.CSPI_TERM_DT"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " where s.sbsb_ck = ? and e.MEPE_EFF_DT = ? and e.MEPE_TERM_DT = ?"+
-         " 		";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getEligibilityBySbrUidAndEligibilityDates" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (sbrUid) to " + sbrUid);
-                
-            ps.setString(parmNum++, sbrUid);
-            
-				log.debug("   Setting parm #" + parmNum + " (eligibilityEffDt) to " + eligibilityEffDt);
-                
-
-				if (eligibilityEffDt == null) 
-            {
-                
-                ps.setTimestamp(parmNum++, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligibilityEffDt.getTime()));
-                
-            }            
-            
-				log.debug("   Setting parm #" + parmNum + " (eligibilityTermDt) to " + eligibilityTermDt);
-                
-
-				if (eligibilityTermDt == null) 
-            {
-                
-                ps.setTimestamp(parmNum++, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligibilityTermDt.getTime()));
-                
-            }            
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberMemberDetailsDto dto = new FacetsMemberMemberDetailsDto();
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.middleInitial = rs.getString("MEME_MID_INIT");
-                if (rs.wasNull()) 
-                {
-                    dto.middleInitial = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                
-                dto.birthDate = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDate = null;
-                }
-                                
-                dto.gender = rs.getString("MEME_SEX");
-                if (rs.wasNull()) 
-                {
-                    dto.gender = null;
-                }
-                                
-                dto.memberCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memberCk = null;
-                }
-                                
-                dto.medicareId = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareId = null;
-                }
-                                
-                dto.medicaidId = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidId = null;
-                }
-                                
-                dto.sbrUid = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbrUid = null;
-                }
-                                
-                dto.planPrefix = rs.getString("CSPI_ITS_PREFIX");
-                if (rs.wasNull()) 
-                {
-                    dto.planPrefix = null;
-                }
-                
-                dto.eligibilityEffDt = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityEffDt = null;
-                }
-                
-                dto.eligibilityTermDt = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityTermDt = null;
-                }
-                                
-                dto.productId = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productId = null;
-                }
-                                
-                dto.planId = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planId = null;
-                }
-                                
-                dto.classId = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classId = null;
-                }
-                                
-                dto.eligibilityIndicator = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityIndicator = null;
-                }
-                                
-                dto.subscriberId = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subscriberId = null;
-                }
-                                
-                dto.lineOfBusiness = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lineOfBusiness = null;
-                }
-                                
-                dto.groupCk = rs.getString("grgr_ck");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.region = rs.getString("CICI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.region = null;
-                }
-                                
-                dto.groupId = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupId = null;
-                }
-                                
-                dto.groupType = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.groupType = null;
-                }
-                                
-                dto.subGroup = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroup = null;
-                }
-                                
-                dto.SGSG_CK = rs.getString("SGSG_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.SGSG_CK = null;
-                }
-                
-                result = dto;
-                break;
-                
-            }
-            
-            
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getEligibilityBySbrUidAndEligibilityDates  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get Member Claim Hold Info by sbruid</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-					SELECT S.SBSB_ID, MH.MEME_CK, MH.MECH_EFF_DT, MH.MECH_TERM_DT, MH.CLST_MCTR_REAS, 
-						MEPE.MEPE_EFF_DT, MEPE.MEPE_TERM_DT, MEPE.MEPE_ELIG_IND
-					FROM CMC_MECH_CLM_HOLD MH
-					JOIN CMC_MEME_MEMBER M ON MH.MEME_CK = M.MEME_CK
-					JOIN CMC_SBSB_SUBSC S ON S.sbsb_ck = M.sbsb_ck
-					JOIN CMC_MEPE_PRCS_ELIG MEPE ON M.MEME_CK = MEPE.MEME_CK 
-					WHERE S.SBSB_CK = ?  
-						AND MH.CLST_MCTR_REAS = 'RETR' 
-						AND MEPE.MEPE_ELIG_IND = 'Y' 
-						AND MH.MECH_TERM_DT BETWEEN ? AND ? 
-						order by MH.MECH_TERM_DT desc
-			</pre></blockquote></p>
-     * @param sbruid Member's SBSB_CK
-     * @param effDate Member's Elig Eff Date
-     * @param termDate Member's Elig Term Date
-     * @return A <tt>List</tt> of <tt>FacetsMemberMemberClaimHoldInfoDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberMemberClaimHoldInfoDto> getMemberClaimHoldDetailsBySbruid(String sbruid, Date effDate, Date termDate)
-    {
-        List<FacetsMemberMemberClaimHoldInfoDto> result = new ArrayList<FacetsMemberMemberClaimHoldInfoDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " SELECT S.SBSB_ID, MH.MEME_CK, MH.MECH_EFF_DT, MH.MECH_TERM_DT, MH.CLST_MCTR_REAS,"+
-         " MEPE.MEPE_EFF_DT, MEPE.MEPE_TERM_DT, MEPE.MEPE_ELIG_IND"+
-         " FROM CMC_MECH_CLM_HOLD MH"+
-         " JOIN CMC_MEME_MEMBER M ON MH.MEME_CK = M.MEME_CK"+
-         " JOIN CMC_SBSB_SUBSC S ON S.sbsb_ck = M.sbsb_ck"+
-         " JOIN CMC_MEPE_PRCS_ELIG MEPE ON M.MEME_CK = MEPE.MEME_CK"+
-         " WHERE S.SBSB_CK = ?"+
-         " AND MH.CLST_MCTR_REAS = 'RETR'"+
-         " AND MEPE.MEPE_ELIG_IND = 'Y'"+
-         " AND MH.MECH_TERM_DT BETWEEN ? AND ?"+
-         " order by MH.MECH_TERM_DT desc"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getMemberClaimHoldDetailsBySbruid" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-				log.debug("Executing SQL: " + sql);
-            
-                log.debug("   Setting parm #1 (sbruid) to " + sbruid);
-                
-            ps.setString(1, sbruid);
-            
-                log.debug("   Setting parm #2 (effDate) to " + effDate);
-                
-
-				if (effDate == null) 
-            {
-                
-                ps.setTimestamp(2, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(2, new java.sql.Timestamp(effDate.getTime()));
-                
-            }            
-            
-                log.debug("   Setting parm #3 (termDate) to " + termDate);
-                
-
-				if (termDate == null) 
-            {
-                
-                ps.setTimestamp(3, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(3, new java.sql.Timestamp(termDate.getTime()));
-                
-            }            
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberMemberClaimHoldInfoDto dto = new FacetsMemberMemberClaimHoldInfoDto();
-                                
-                dto.sbsbId = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbId = null;
-                }
-                                
-                dto.memeCK = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCK = null;
-                }
-                
-                dto.effDate = rs.getTimestamp("MECH_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.effDate = null;
-                }
-                
-                dto.termDate = rs.getTimestamp("MECH_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.termDate = null;
-                }
-                                
-                dto.reasonCode = rs.getString("CLST_MCTR_REAS");
-                if (rs.wasNull()) 
-                {
-                    dto.reasonCode = null;
-                }
-                
-                dto.eligEffDate = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.eligEffDate = null;
-                }
-                
-                dto.eligTermDate = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.eligTermDate = null;
-                }
-                                
-                dto.eligInd = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.eligInd = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getMemberClaimHoldDetailsBySbruid  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>gets the prefix from the given class, plan, grgrCk, cspdCat and with respective elig dates</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-				select CSPI_ITS_PREFIX from CMC_CSPI_CS_PLAN 
-				where ? >= CSPI_EFF_DT and  ? <= CSPI_TERM_DT and GRGR_CK = ? and CSCS_ID = ? and CSPD_CAT = ? and CSPI_ID = ?
-				order by CSPI_TERM_DT desc
-			</pre></blockquote></p>
-     * @param eligTermDt Eligibility Effective Date
-     * @param eligEffDt Eligibility Termination Date
-     * @param groupCk GRGR_CK
-     * @param classId CSCS_ID
-     * @param cspdCat CSPD_CAT
-     * @param planId CSPI_ID
-     * @return the <tt>FacetsMemberClassPlanPrefixDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
-     */
-    public FacetsMemberClassPlanPrefixDto getPrefixByClassPlan(Date eligTermDt, Date eligEffDt, String groupCk, String classId, String cspdCat, String planId)
-    {
-        FacetsMemberClassPlanPrefixDto result = null;
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select CSPI_ITS_PREFIX from CMC_CSPI_CS_PLAN"+
-         " where ? >= CSPI_EFF_DT and  ? <= CSPI_TERM_DT and GRGR_CK = ? and CSCS_ID = ? and CSPD_CAT = ? and CSPI_ID = ?"+
-         " order by CSPI_TERM_DT desc"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getPrefixByClassPlan" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-				log.debug("Executing SQL: " + sql);
-            
-                log.debug("   Setting parm #1 (eligTermDt) to " + eligTermDt);
-                
-
-				if (eligTermDt == null) 
-            {
-                
-                ps.setTimestamp(1, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(1, new java.sql.Timestamp(eligTermDt.getTime()));
-                
-            }            
-            
-                log.debug("   Setting parm #2 (eligEffDt) to " + eligEffDt);
-                
-
-				if (eligEffDt == null) 
-            {
-                
-                ps.setTimestamp(2, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(2, new java.sql.Timestamp(eligEffDt.getTime()));
-                
-            }            
-            
-                log.debug("   Setting parm #3 (groupCk) to " + groupCk);
-                
-            ps.setString(3, groupCk);
-            
-                log.debug("   Setting parm #4 (classId) to " + classId);
-                
-            ps.setString(4, classId);
-            
-                log.debug("   Setting parm #5 (cspdCat) to " + cspdCat);
-                
-            ps.setString(5, cspdCat);
-            
-                log.debug("   Setting parm #6 (planId) to " + planId);
-                
-            ps.setString(6, planId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberClassPlanPrefixDto dto = new FacetsMemberClassPlanPrefixDto();
-                                
-                dto.prefix = rs.getString("CSPI_ITS_PREFIX");
-                if (rs.wasNull()) 
-                {
-                    dto.prefix = null;
-                }
-                
-                result = dto;
-                break;
-                
-            }
-            
-            
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getPrefixByClassPlan  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get member medicaid brand by plan</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>SELECT BRAND_CD,BRAND_DESC,GCPP_PATTERN,MARKET_EFF_DT FROM AGP.MEM_MARKET_BRAND where regexp_like (?, gcpp_pattern) and sysdate between MARKET_EFF_DT and MARKET_TERM_DT and MARKET_BRAND_IND = 'Y'
-			</pre></blockquote></p>
-     * @param GCPProduct a concatenation of group, class, plan and product
-     * @return A <tt>List</tt> of <tt>FacetsMemberMarketBrandDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberMarketBrandDto> getMemberMarketBrand(String GCPProduct)
-    {
-        List<FacetsMemberMarketBrandDto> result = new ArrayList<FacetsMemberMarketBrandDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = "SELECT BRAND_CD,BRAND_DESC,GCPP_PATTERN,MARKET_EFF_DT FROM AGP.MEM_MARKET_BRAND where regexp_like (?, gcpp_pattern) and sysdate between MARKET_EFF_DT and MARKET_TERM_DT and MARKET_BRAND_IND = 'Y'"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getMemberMarketBrand" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (GCPProduct) to " + GCPProduct);
-                
-            ps.setString(parmNum++, GCPProduct);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberMarketBrandDto dto = new FacetsMemberMarketBrandDto();
-                                
-                dto.brandCode = rs.getString("BRAND_CD");
-                if (rs.wasNull()) 
-                {
-                    dto.brandCode = null;
-                }
-                                
-                dto.brandDesc = rs.getString("BRAND_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.brandDesc = null;
-                }
-                                
-                dto.gcppPattern = rs.getString("GCPP_PATTERN");
-                if (rs.wasNull()) 
-                {
-                    dto.gcppPattern = null;
-                }
-                
-                dto.effDate = rs.getTimestamp("MARKET_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.effDate = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getMemberMarketBrand  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get member print brand by plan</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-				SELECT BRAND_CD,BRAND_DESC,GCPP_PATTERN,MARKET_EFF_DT 
-				FROM AGP.MEM_MARKET_BRAND where regexp_like (?, gcpp_pattern) and sysdate between MARKET_EFF_DT and MARKET_TERM_DT and PRINT_BRAND_IND = 'Y'
-			</pre></blockquote></p>
-     * @param GCPProduct a concatenation of group, class, plan and product
-     * @return A <tt>List</tt> of <tt>FacetsMemberMarketBrandDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberMarketBrandDto> getMemberPrinttBrand(String GCPProduct)
-    {
-        List<FacetsMemberMarketBrandDto> result = new ArrayList<FacetsMemberMarketBrandDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " SELECT BRAND_CD,BRAND_DESC,GCPP_PATTERN,MARKET_EFF_DT"+
-         " FROM AGP.MEM_MARKET_BRAND where regexp_like (?, gcpp_pattern) and sysdate between MARKET_EFF_DT and MARKET_TERM_DT and PRINT_BRAND_IND = 'Y'"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getMemberPrinttBrand" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (GCPProduct) to " + GCPProduct);
-                
-            ps.setString(parmNum++, GCPProduct);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberMarketBrandDto dto = new FacetsMemberMarketBrandDto();
-                                
-                dto.brandCode = rs.getString("BRAND_CD");
-                if (rs.wasNull()) 
-                {
-                    dto.brandCode = null;
-                }
-                                
-                dto.brandDesc = rs.getString("BRAND_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.brandDesc = null;
-                }
-                                
-                dto.gcppPattern = rs.getString("GCPP_PATTERN");
-                if (rs.wasNull()) 
-                {
-                    dto.gcppPattern = null;
-                }
-                
-                dto.effDate = rs.getTimestamp("MARKET_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.effDate = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getMemberPrinttBrand  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>get PBP ID from medicare details table with sbsb_ck and eligibility dates</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-				select distinct memd.MEME_CK ,
-				memd.MEMD_EVENT_CD , 
-				memd.MEMD_HCFA_EFF_DT, 
-				memd.MEMD_HCFA_TERM_DT,
-				memd.MEMD_MCTR_PBP
-				from CMC_MEMD_MECR_DETL memd 
-				join cmc_meme_member meme on meme.meme_ck = memd.meme_ck
-				where memd.MEMD_EVENT_CD = 'PBP' and meme.sbsb_ck = ? 
-        		and memd.MEMD_HCFA_TERM_DT > ?  and memd.MEMD_HCFA_EFF_DT < ?
-				order by MEMD_HCFA_EFF_DT DESC
-			</pre></blockquote></p>
-     * @param sbsbCk Subscriber's contrived Key
-     * @param eligEffDt Eligibility Effective Date
-     * @param eligTermDt Eligibility Termination Date
-     * @return the <tt>FacetsMemberPBPDetailsDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
-     */
-    public FacetsMemberPBPDetailsDto getPBPIdBySbrUidAndEligibility(String sbsbCk, Date eligEffDt, Date eligTermDt)
-    {
-        FacetsMemberPBPDetailsDto result = null;
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select distinct memd.MEME_CK ,"+
-         " memd.MEMD_EVENT_CD ,"+
-         " memd.MEMD_HCFA_EFF_DT,"+
-         " memd.MEMD_HCFA_TERM_DT,"+
-         " memd.MEMD_MCTR_PBP"+
-         " from CMC_MEMD_MECR_DETL memd"+
-         " join cmc_meme_member meme on meme.meme_ck = memd.meme_ck"+
-         " where memd.MEMD_EVENT_CD = 'PBP' and meme.sbsb_ck = ?"+
-         " and memd.MEMD_HCFA_TERM_DT > ?  and memd.MEMD_HCFA_EFF_DT < ?"+
-         " order by MEMD_HCFA_EFF_DT DESC"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getPBPIdBySbrUidAndEligibility" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (sbsbCk) to " + sbsbCk);
-                
-            ps.setString(parmNum++, sbsbCk);
-            
-				log.debug("   Setting parm #" + parmNum + " (eligEffDt) to " + eligEffDt);
-                
-
-				if (eligEffDt == null) 
-            {
-                
-                ps.setTimestamp(parmNum++, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligEffDt.getTime()));
-                
-            }            
-            
-				log.debug("   Setting parm #" + parmNum + " (eligTermDt) to " + eligTermDt);
-                
-
-				if (eligTermDt == null) 
-            {
-                
-                ps.setTimestamp(parmNum++, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligTermDt.getTime()));
-                
-            }            
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberPBPDetailsDto dto = new FacetsMemberPBPDetailsDto();
-                                
-                dto.memeCk = rs.getInt("MEME_CK");
-                                
-                dto.event = rs.getString("MEMD_EVENT_CD");
-                if (rs.wasNull()) 
-                {
-                    dto.event = null;
-                }
-                
-                dto.hcfaEffDT = rs.getTimestamp("MEMD_HCFA_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.hcfaEffDT = null;
-                }
-                
-                dto.hcfaTermDT = rs.getTimestamp("MEMD_HCFA_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.hcfaTermDT = null;
-                }
-                                
-                dto.pbpId = rs.getString("MEMD_MCTR_PBP");
-                if (rs.wasNull()) 
-                {
-                    dto.pbpId = null;
-                }
-                
-                result = dto;
-                break;
-                
-            }
-            
-            
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getPBPIdBySbrUidAndEligibility  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get Member Billing Component ID </p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			select distinct PDBL.PDBL_ID, pdesc.PDBL_DESC
-			from CMC_PDBC_PROD_COMP pdbc
-			JOIN CMC_PDBL_PROD_BILL PDBL ON pdbc.pdbc_pfx =  pdbl.pdbc_pfx
-			left join AGP.PROD_PDBL_DESC pdesc on PDBL.PDBL_ID = pdesc.PDBL_ID
-			where pdbc.pdbc_type = 'PDBL'
-			and pdbc.pdpd_id = ?
-		</pre></blockquote></p>
-     * @param pdpdId Members product Id
-     * @return A <tt>List</tt> of <tt>FacetsMemberBillingComponentDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberBillingComponentDto> getBillingComponentID(String pdpdId)
-    {
-        List<FacetsMemberBillingComponentDto> result = new ArrayList<FacetsMemberBillingComponentDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select distinct PDBL.PDBL_ID, pdesc.PDBL_DESC"+
-         " from CMC_PDBC_PROD_COMP pdbc"+
-         " JOIN CMC_PDBL_PROD_BILL PDBL ON pdbc.pdbc_pfx =  pdbl.pdbc_pfx"+
-         " left join AGP.PROD_PDBL_DESC pdesc on PDBL.PDBL_ID = pdesc.PDBL_ID"+
-         " where pdbc.pdbc_type = 'PDBL'"+
-         " and pdbc.pdpd_id = ?"+
-         " 		";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getBillingComponentID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (pdpdId) to " + pdpdId);
-                
-            ps.setString(parmNum++, pdpdId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberBillingComponentDto dto = new FacetsMemberBillingComponentDto();
-                                
-                dto.billingComponentId = rs.getString("PDBL_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.billingComponentId = null;
-                }
-                                
-                dto.billingComponentDesc = rs.getString("PDBL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.billingComponentDesc = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getBillingComponentID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>get CMS contract ID by sbruid and member eligibility period</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-				select distinct bgbg.BGBG_ID,
-			                    memd.MEMD_HCFA_EFF_DT,
-			                    memd.MEMD_HCFA_TERM_DT
-				from CMC_MEMD_MECR_DETL memd 
-				LEFT JOIN cmc_bgbg_bil_group bgbg on memd.bgbg_ck = bgbg.bgbg_ck 
-				join CMC_MEME_MEMBER m on memd.meme_ck = m.meme_ck 
-				where memd.MEMD_EVENT_CD = 'SCCC' and m.sbsb_ck = ?  
-        		and MEMD_HCFA_TERM_DT > ?  and MEMD_HCFA_EFF_DT < ?
-				order by MEMD_HCFA_EFF_DT DESC
-			</pre></blockquote></p>
-     * @param sbsbCk Subscribers's contrived Key
-     * @param eligEffDt Eligibility Effective Date
-     * @param eligTermDt Eligibility Termination Date
-     * @return the <tt>FacetsMemberBillingGroupDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
-     */
-    public FacetsMemberBillingGroupDto getCMSContractIdBySbrUidAndEligibilityDates (String sbsbCk, Date eligEffDt, Date eligTermDt)
-    {
-        FacetsMemberBillingGroupDto result = null;
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select distinct bgbg.BGBG_ID,"+
-         " memd.MEMD_HCFA_EFF_DT,"+
-         " memd.MEMD_HCFA_TERM_DT"+
-         " from CMC_MEMD_MECR_DETL memd"+
-         " LEFT JOIN cmc_bgbg_bil_group bgbg on memd.bgbg_ck = bgbg.bgbg_ck"+
-         " join CMC_MEME_MEMBER m on memd.meme_ck = m.meme_ck"+
-         " where memd.MEMD_EVENT_CD = 'SCCC' and m.sbsb_ck = ?"+
-         " and MEMD_HCFA_TERM_DT > ?  and MEMD_HCFA_EFF_DT < ?"+
-         " order by MEMD_HCFA_EFF_DT DESC"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getCMSContractIdBySbrUidAndEligibilityDates " );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (sbsbCk) to " + sbsbCk);
-                
-            ps.setString(parmNum++, sbsbCk);
-            
-				log.debug("   Setting parm #" + parmNum + " (eligEffDt) to " + eligEffDt);
-                
-
-				if (eligEffDt == null) 
-            {
-                
-                ps.setTimestamp(parmNum++, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligEffDt.getTime()));
-                
-            }            
-            
-				log.debug("   Setting parm #" + parmNum + " (eligTermDt) to " + eligTermDt);
-                
-
-				if (eligTermDt == null) 
-            {
-                
-                ps.setTimestamp(parmNum++, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligTermDt.getTime()));
-                
-            }            
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberBillingGroupDto dto = new FacetsMemberBillingGroupDto();
-                                
-                dto.federalContractId = rs.getString("BGBG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.federalContractId = null;
-                }
-                
-                dto.hcfaEffDT = rs.getTimestamp("MEMD_HCFA_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.hcfaEffDT = null;
-                }
-                
-                dto.hcfaTermDT = rs.getTimestamp("MEMD_HCFA_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.hcfaTermDT = null;
-                }
-                
-                result = dto;
-                break;
-                
-            }
-            
-            
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getCMSContractIdBySbrUidAndEligibilityDates   getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get Member Alert Messages</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-					SELECT DISTINCT			
-					       WMDS.WMDS_REC_TYPE,			
-					       MEWM.MEWM_EFF_DT,			
-					       MEWM.MEWM_TERM_DT,			
-					       WMDS.WMDS_SEQ_NO,			
-					       WMDS.WMDS_TEXT1,			
-					       WMDS.WMDS_TEXT2			
-					FROM CMC_SBSB_SUBSC SBSB			
-					       JOIN CMC_MEME_MEMBER MEME ON SBSB.SBSB_CK = MEME.SBSB_CK			
-					       JOIN CMC_MEWM_ME_MSG MEWM ON MEWM.MEME_CK = MEME.MEME_CK			
-					       JOIN CMC_WMDS_DESC WMDS ON WMDS.WMDS_SEQ_NO = MEWM.WMDS_SEQ_NO			
-					 WHERE WMDS.WMDS_REC_TYPE = 'MEME' 			
-					       AND (MEWM.MEWM_TERM_DT BETWEEN ? AND ? 		
-					         OR MEWM.MEWM_EFF_DT BETWEEN ? AND ?  			
-					         OR ? BETWEEN MEWM.MEWM_EFF_DT AND MEWM.MEWM_TERM_DT 			
-					         OR ? BETWEEN MEWM.MEWM_EFF_DT AND MEWM.MEWM_TERM_DT)			
-		                         AND SBSB.SBSB_ID = ?
-				</pre></blockquote></p>
-     * @param subscriberId The SBSB_ID of the subscriber
-     * @param effDate The term date to check on the eligibility
-     * @param termDate The term date to check on the provider relationship
-     * @return A <tt>List</tt> of <tt>FacetsMemberMemberFullAlertTextDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberMemberFullAlertTextDto> getMemberWarningMsg(String subscriberId, Date effDate, Date termDate)
-    {
-        List<FacetsMemberMemberFullAlertTextDto> result = new ArrayList<FacetsMemberMemberFullAlertTextDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " SELECT DISTINCT"+
-         " WMDS.WMDS_REC_TYPE,"+
-         " MEWM.MEWM_EFF_DT,"+
-         " MEWM.MEWM_TERM_DT,"+
-         " WMDS.WMDS_SEQ_NO,"+
-         " WMDS.WMDS_TEXT1,"+
-         " WMDS.WMDS_TEXT2"+
-         " FROM CMC_SBSB_SUBSC SBSB"+
-         " JOIN CMC_MEME_MEMBER MEME ON SBSB.SBSB_CK = MEME.SBSB_CK"+
-         " JOIN CMC_MEWM_ME_MSG MEWM ON MEWM.MEME_CK = MEME.MEME_CK"+
-         " JOIN CMC_WMDS_DESC WMDS ON WMDS.WMDS_SEQ_NO = MEWM.WMDS_SEQ_NO"+
-         " WHERE WMDS.WMDS_REC_TYPE = 'MEME'"+
-         " AND (MEWM.MEWM_TERM_DT BETWEEN ? AND ?"+
-         " OR MEWM.MEWM_EFF_DT BETWEEN ? AND ?"+
-         " OR ? BETWEEN MEWM.MEWM_EFF_DT AND MEWM.MEWM_TERM_DT"+
-         " OR ? BETWEEN MEWM.MEWM_EFF_DT AND MEWM.MEWM_TERM_DT)"+
-         " AND SBSB.SBSB_ID = ?"+
-         " 				";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getMemberWarningMsg" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-				log.debug("Executing SQL: " + sql);
-            
-                log.debug("   Setting parm #7 (subscriberId) to " + subscriberId);
-                
-            ps.setString(7, subscriberId);
-            
-                log.debug("   Setting parm #1 (effDate) to " + effDate);
-                
-                log.debug("   Setting parm #3 (effDate) to " + effDate);
-                
-                log.debug("   Setting parm #5 (effDate) to " + effDate);
-                
-
-				if (effDate == null) 
-            {
-                
-                ps.setTimestamp(1, null);
-                
-                ps.setTimestamp(3, null);
-                
-                ps.setTimestamp(5, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(1, new java.sql.Timestamp(effDate.getTime()));
-                
-                ps.setTimestamp(3, new java.sql.Timestamp(effDate.getTime()));
-                
-                ps.setTimestamp(5, new java.sql.Timestamp(effDate.getTime()));
-                
-            }            
-            
-                log.debug("   Setting parm #2 (termDate) to " + termDate);
-                
-                log.debug("   Setting parm #4 (termDate) to " + termDate);
-                
-                log.debug("   Setting parm #6 (termDate) to " + termDate);
-                
-
-				if (termDate == null) 
-            {
-                
-                ps.setTimestamp(2, null);
-                
-                ps.setTimestamp(4, null);
-                
-                ps.setTimestamp(6, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(2, new java.sql.Timestamp(termDate.getTime()));
-                
-                ps.setTimestamp(4, new java.sql.Timestamp(termDate.getTime()));
-                
-                ps.setTimestamp(6, new java.sql.Timestamp(termDate.getTime()));
-                
-            }            
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberMemberFullAlertTextDto dto = new FacetsMemberMemberFullAlertTextDto();
-                                
-                dto.recType = rs.getString("wmds_rec_type");
-                if (rs.wasNull()) 
-                {
-                    dto.recType = null;
-                }
-                
-                dto.effDate = rs.getTimestamp("mewm_eff_dt");
-                if (rs.wasNull()) 
-                {
-                    dto.effDate = null;
-                }
-                
-                dto.termDate = rs.getTimestamp("mewm_term_dt");
-                if (rs.wasNull()) 
-                {
-                    dto.termDate = null;
-                }
-                                
-                dto.seqNo = rs.getString("wmds_seq_no");
-                if (rs.wasNull()) 
-                {
-                    dto.seqNo = null;
-                }
-                                
-                dto.text1 = rs.getString("wmds_text1");
-                if (rs.wasNull()) 
-                {
-                    dto.text1 = null;
-                }
-                                
-                dto.text2 = rs.getString("wmds_text2");
-                if (rs.wasNull()) 
-                {
-                    dto.text2 = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getMemberWarningMsg  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get Member Alert Messages</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			SELECT DISTINCT 		
-			       WMDS.WMDS_REC_TYPE,		
-			       CSPI.CSPI_EFF_DT,		
-			       CSPI.CSPI_TERM_DT,		
-			       WMDS.WMDS_SEQ_NO,		
-			       WMDS.WMDS_TEXT1,		
-			       WMDS.WMDS_TEXT2      		
-			  FROM CMC_CSPI_CS_PLAN CSPI 		
-			       JOIN CMC_WMDS_DESC WMDS ON WMDS.WMDS_SEQ_NO = CSPI.WMDS_SEQ_NO		
-			 WHERE WMDS.WMDS_REC_TYPE = 'CSPI'		
-			       AND CSPI.GRGR_CK = ?          		
-			       AND CSPI.CSCS_ID = ?        		
-			       AND CSPI.CSPI_ID = ?   		
-                   AND CSPI.PDPD_ID = ?
-                   AND (CSPI.CSPI_TERM_DT BETWEEN ? AND ?     
-				         OR CSPI.CSPI_EFF_DT BETWEEN ? AND ?      
-				         OR ? BETWEEN CSPI.CSPI_EFF_DT AND CSPI.CSPI_TERM_DT    
-				         OR ?  BETWEEN CSPI.CSPI_EFF_DT AND CSPI.CSPI_TERM_DT)
-                              
-		</pre></blockquote></p>
-     * @param grgrck The grgrck of the subscriber
-     * @param cscsid cscsid of the Plan
-     * @param cspiid cspiid on the plan
-     * @param pdpdid pdpdid on the plan
-     * @param effDate The term date to check on the eligibility
-     * @param termDate The term date to check on the provider relationship
-     * @return A <tt>List</tt> of <tt>FacetsMemberPlanFullAlertTextDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberPlanFullAlertTextDto> getPlanWarningMsg(String grgrck, String cscsid, String cspiid, String pdpdid, Date effDate, Date termDate)
-    {
-        List<FacetsMemberPlanFullAlertTextDto> result = new ArrayList<FacetsMemberPlanFullAlertTextDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " SELECT DISTINCT"+
-         " WMDS.WMDS_REC_TYPE,"+
-         " CSPI.CSPI_EFF_DT,"+
-         " CSPI.CSPI_TERM_DT,"+
-         " WMDS.WMDS_SEQ_NO,"+
-         " WMDS.WMDS_TEXT1,"+
-         " WMDS.WMDS_TEXT2"+
-         " FROM CMC_CSPI_CS_PLAN CSPI"+
-         " JOIN CMC_WMDS_DESC WMDS ON WMDS.WMDS_SEQ_NO = CSPI.WMDS_SEQ_NO"+
-         " WHERE WMDS.WMDS_REC_TYPE = 'CSPI'"+
-         " AND CSPI.GRGR_CK = ?"+
-         " AND CSPI.CSCS_ID = ?"+
-         " AND CSPI.CSPI_ID = ?"+
-         " AND CSPI.PDPD_ID = ?"+
-         " AND (CSPI.CSPI_TERM_DT BETWEEN ? AND ?"+
-         " OR CSPI.CSPI_EFF_DT BETWEEN ? AND ?"+
-         " OR ? BETWEEN CSPI.CSPI_EFF_DT AND CSPI.CSPI_TERM_DT"+
-         " OR ?  BETWEEN CSPI.CSPI_EFF_DT AND CSPI.CSPI_TERM_DT)"+
-         " "+
-         " 		";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getPlanWarningMsg" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-				log.debug("Executing SQL: " + sql);
-            
-                log.debug("   Setting parm #1 (grgrck) to " + grgrck);
-                
-            ps.setString(1, grgrck);
-            
-                log.debug("   Setting parm #2 (cscsid) to " + cscsid);
-                
-            ps.setString(2, cscsid);
-            
-                log.debug("   Setting parm #3 (cspiid) to " + cspiid);
-                
-            ps.setString(3, cspiid);
-            
-                log.debug("   Setting parm #4 (pdpdid) to " + pdpdid);
-                
-            ps.setString(4, pdpdid);
-            
-                log.debug("   Setting parm #5 (effDate) to " + effDate);
-                
-                log.debug("   Setting parm #7 (effDate) to " + effDate);
-                
-                log.debug("   Setting parm #9 (effDate) to " + effDate);
-                
-
-				if (effDate == null) 
-            {
-                
-                ps.setTimestamp(5, null);
-                
-                ps.setTimestamp(7, null);
-                
-                ps.setTimestamp(9, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(5, new java.sql.Timestamp(effDate.getTime()));
-                
-                ps.setTimestamp(7, new java.sql.Timestamp(effDate.getTime()));
-                
-                ps.setTimestamp(9, new java.sql.Timestamp(effDate.getTime()));
-                
-            }            
-            
-                log.debug("   Setting parm #6 (termDate) to " + termDate);
-                
-                log.debug("   Setting parm #8 (termDate) to " + termDate);
-                
-                log.debug("   Setting parm #10 (termDate) to " + termDate);
-                
-
-				if (termDate == null) 
-            {
-                
-                ps.setTimestamp(6, null);
-                
-                ps.setTimestamp(8, null);
-                
-                ps.setTimestamp(10, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(6, new java.sql.Timestamp(termDate.getTime()));
-                
-                ps.setTimestamp(8, new java.sql.Timestamp(termDate.getTime()));
-                
-                ps.setTimestamp(10, new java.sql.Timestamp(termDate.getTime()));
-                
-            }            
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberPlanFullAlertTextDto dto = new FacetsMemberPlanFullAlertTextDto();
-                                
-                dto.recType = rs.getString("wmds_rec_type");
-                if (rs.wasNull()) 
-                {
-                    dto.recType = null;
-                }
-                
-                dto.effDate = rs.getTimestamp("cspi_eff_dt");
-                if (rs.wasNull()) 
-                {
-                    dto.effDate = null;
-                }
-                
-                dto.termDate = rs.getTimestamp("cspi_term_dt");
-                if (rs.wasNull()) 
-                {
-                    dto.termDate = null;
-                }
-                                
-                dto.seqNo = rs.getString("wmds_seq_no");
-                if (rs.wasNull()) 
-                {
-                    dto.seqNo = null;
-                }
-                                
-                dto.text1 = rs.getString("wmds_text1");
-                if (rs.wasNull()) 
-                {
-                    dto.text1 = null;
-                }
-                                
-                dto.text2 = rs.getString("wmds_text2");
-                if (rs.wasNull()) 
-                {
-                    dto.text2 = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getPlanWarningMsg  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>fetch members tobacco Status</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-	   SELECT S.CATEGORY_VALUE 
-           FROM AGP.ENRL_STATE_REPORTING_CAT S 
-           WHERE S.SBSB_CK = ?
-             AND S.CATEGORY = 'Tobacco' 
-             AND S.CATEGORY_VALUE = ANY ('Y','N','R','U') 
-             AND S.CREATED_DT=( 
-           SELECT MAX(C.CREATED_DT)  
-           FROM AGP.ENRL_STATE_REPORTING_CAT C  
-           WHERE C.SBSB_CK = S.SBSB_CK
-             AND C.CATEGORY = 'Tobacco' 
-             AND C.CATEGORY_VALUE = ANY ('Y','N','R','U') 
-              )        
-	   		</pre></blockquote></p>
-     * @param sbsb_ck Member's SBSB_CK
-     * @return the <tt>FacetsMemberTobaccoStatusDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
-     */
-    public FacetsMemberTobaccoStatusDto getMemberTobaccoStatus(String sbsb_ck)
-    {
-        FacetsMemberTobaccoStatusDto result = null;
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " SELECT S.CATEGORY_VALUE"+
-         " FROM AGP.ENRL_STATE_REPORTING_CAT S"+
-         " WHERE S.SBSB_CK = ?"+
-         " AND S.CATEGORY = 'Tobacco'"+
-         " AND S.CATEGORY_VALUE = ANY ('Y','N','R','U')"+
-         " AND S.CREATED_DT=("+
-         " SELECT MAX(C.CREATED_DT)"+
-         " FROM AGP.ENRL_STATE_REPORTING_CAT C"+
-         " WHERE C.SBSB_CK = S.SBSB_CK"+
-         " AND C.CATEGORY = 'Tobacco'"+
-         " AND C.CATEGORY_VALUE = ANY ('Y','N','R','U')"+
-         " )"+
-         " 	   		";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getMemberTobaccoStatus" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-				log.debug("Executing SQL: " + sql);
-            
-                log.debug("   Setting parm #1 (sbsb_ck) to " + sbsb_ck);
-                
-            ps.setString(1, sbsb_ck);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberTobaccoStatusDto dto = new FacetsMemberTobaccoStatusDto();
-                                
-                dto.categoryValue = rs.getString("CATEGORY_VALUE");
-                if (rs.wasNull()) 
-                {
-                    dto.categoryValue = null;
-                }
-                
-                result = dto;
-                break;
-                
-            }
-            
-            
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getMemberTobaccoStatus  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>get blues prefix</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-			SELECT distinct CSPI_ITS_PREFIX as PREFIX
-			FROM CMC_CSPI_CS_PLAN WHERE length(CSPI_ITS_PREFIX)=3			
-		   </pre></blockquote></p>
-     * @return A <tt>List</tt> of <tt>FacetsMemberBluesPrefixDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberBluesPrefixDto> getBluesPrefixes()
-    {
-        List<FacetsMemberBluesPrefixDto> result = new ArrayList<FacetsMemberBluesPrefixDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " SELECT distinct CSPI_ITS_PREFIX as PREFIX"+
-         " FROM CMC_CSPI_CS_PLAN WHERE length(CSPI_ITS_PREFIX)=3"+
-         " 		   ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getBluesPrefixes" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-				log.debug("Executing SQL: " + sql);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberBluesPrefixDto dto = new FacetsMemberBluesPrefixDto();
-                                
-                dto.prefix = rs.getString("PREFIX");
-                if (rs.wasNull()) 
-                {
-                    dto.prefix = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getBluesPrefixes  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>get sbsb ID and bluse prefix</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-				select sbsb.SBSB_ID, cspi.CSPI_ITS_PREFIX
-				from cmc_sbsb_subsc sbsb
-				JOIN cmc_meme_member meme ON sbsb.sbsb_ck = meme.sbsb_ck
-				JOIN cmc_mepe_prcs_elig mepe ON mepe.meme_ck = meme.meme_ck and mepe.MEPE_ELIG_IND='Y' 
-				JOIN CMC_CSPI_CS_PLAN cspi on cspi.GRGR_CK = mepe.GRGR_CK and cspi.cscs_ID=mepe.cscs_ID and cspi.cspi_ID=mepe.cspi_ID 
-					 and cspi.CSPD_CAT=mepe.CSPD_CAT and length(cspi.CSPI_ITS_PREFIX)=3 and mepe.MEPE_EFF_DT <= cspi.CSPI_TERM_DT and mepe.MEPE_TERM_DT >= cspi.CSPI_EFF_DT
-				where sbsb.sbsb_id=? and ? between cspi.CSPI_EFF_DT and cspi.CSPI_TERM_DT			
-		    </pre></blockquote></p>
-     * @param subscriberID The SBSB_ID of the member
-     * @param searchDate The Search Date
-     * @return the <tt>FacetsMemberIdAndBluesPrefixDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
-     */
-    public FacetsMemberIdAndBluesPrefixDto getIdAndBluesPrefixBySbsbIdAndDate(String subscriberID, Date searchDate)
-    {
-        FacetsMemberIdAndBluesPrefixDto result = null;
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select sbsb.SBSB_ID, cspi.CSPI_ITS_PREFIX"+
-         " from cmc_sbsb_subsc sbsb"+
-         " JOIN cmc_meme_member meme ON sbsb.sbsb_ck = meme.sbsb_ck"+
-         " JOIN cmc_mepe_prcs_elig mepe ON mepe.meme_ck = meme.meme_ck and mepe.MEPE_ELIG_IND='Y'"+
-         " JOIN CMC_CSPI_CS_PLAN cspi on cspi.GRGR_CK = mepe.GRGR_CK and cspi.cscs_ID=mepe.cscs_ID and cspi.cspi_ID=mepe.cspi_ID"+
-         " and cspi.CSPD_CAT=mepe.CSPD_CAT and length(cspi.CSPI_ITS_PREFIX)=3 and mepe.MEPE_EFF_DT <= cspi.CSPI_TERM_DT and mepe.MEPE_TERM_DT >= cspi.CSPI_EFF_DT"+
-         " where sbsb.sbsb_id=? and ? between cspi.CSPI_EFF_DT and cspi.CSPI_TERM_DT"+
-         " 		    ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getIdAndBluesPrefixBySbsbIdAndDate" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (subscriberID) to " + subscriberID);
-                
-            ps.setString(parmNum++, subscriberID);
-            
-				log.debug("   Setting parm #" + parmNum + " (searchDate) to " + searchDate);
-                
-
-				if (searchDate == null) 
-            {
-                
-                ps.setTimestamp(parmNum++, null);
-                
-            }
-            else {
-                
-                ps.setTimestamp(parmNum++, new java.sql.Timestamp(searchDate.getTime()));
-                
-            }            
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberIdAndBluesPrefixDto dto = new FacetsMemberIdAndBluesPrefixDto();
-                                
-                dto.sbsbId = rs.getString("sbsb_id");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbId = null;
-                }
-                                
-                dto.prefix = rs.getString("CSPI_ITS_PREFIX");
-                if (rs.wasNull()) 
-                {
-                    dto.prefix = null;
-                }
-                
-                result = dto;
-                break;
-                
-            }
-            
-            
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getIdAndBluesPrefixBySbsbIdAndDate  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get SRI code by SBSB_CK</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre> 
-	            select SRI_CODE
-	            from AGP.SRI 
-				where SBSB_CK = ? AND ( term_dt is null OR (eff_dt is null and sysdate > term_dt) OR (sysdate between eff_dt and term_dt)  )
-	        </pre></blockquote></p>
-     * @param sbsbCK contrived key
-     * @return A <tt>List</tt> of <tt>FacetsMemberSriDto</tt> objects that match the
-     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
-     */
-    public List<FacetsMemberSriDto> getSriBySbsbCK(String sbsbCK)
-    {
-        List<FacetsMemberSriDto> result = new ArrayList<FacetsMemberSriDto>();
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select SRI_CODE"+
-         " from AGP.SRI"+
-         " where SBSB_CK = ? AND ( term_dt is null OR (eff_dt is null and sysdate > term_dt) OR (sysdate between eff_dt and term_dt)  )"+
-         " 	        ";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getSriBySbsbCK" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (sbsbCK) to " + sbsbCK);
-                
-            ps.setString(parmNum++, sbsbCK);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberSriDto dto = new FacetsMemberSriDto();
-                                
-                dto.code = rs.getString("SRI_CODE");
-                if (rs.wasNull()) 
-                {
-                    dto.code = null;
-                }
-                
-                result.add(dto);
-                
-            }
-            
-            
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getSriBySbsbCK  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get hipaa</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre> SELECT SBSB.SBSB_ID, (CASE WHEN MAX(PMCC.PMCC_TERM_DTM) >= SYSDATE THEN 'Y' ELSE 'N' END) AS HIPAA
-				FROM FHP_PMED_MEMBER_D PMED
-				LEFT JOIN FHP_PMCC_COMM_X PMCC ON PMCC.PMED_CKE = PMED.PMED_CKE AND PMCC.PMCC_PZCD_STS = 'ACPT'
-				INNER JOIN CMC_SBSB_SUBSC SBSB ON SBSB.SBSB_ID  = SUBSTR(PMED.PMED_ID,9,9)
-				WHERE
-				    SBSB.SBSB_ID = ?
-				GROUP BY
-				    SBSB.SBSB_ID</pre></blockquote></p>
-     * @param memberId Amerigroup ID of the Facets member.
-     * @return the <tt>FacetsMemberHippaDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
-     */
-    public FacetsMemberHippaDto getHipaa(String memberId)
-    {
-        FacetsMemberHippaDto result = null;
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = "SELECT SBSB.SBSB_ID, (CASE WHEN MAX(PMCC.PMCC_TERM_DTM) >= SYSDATE THEN 'Y' ELSE 'N' END) AS HIPAA"+
-         " FROM FHP_PMED_MEMBER_D PMED"+
-         " LEFT JOIN FHP_PMCC_COMM_X PMCC ON PMCC.PMED_CKE = PMED.PMED_CKE AND PMCC.PMCC_PZCD_STS = 'ACPT'"+
-         " INNER JOIN CMC_SBSB_SUBSC SBSB ON SBSB.SBSB_ID  = SUBSTR(PMED.PMED_ID,9,9)"+
-         " WHERE"+
-         " SBSB.SBSB_ID = ?"+
-         " GROUP BY"+
-         " 				    SBSB.SBSB_ID";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getHipaa" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (memberId) to " + memberId);
-                
-            ps.setString(parmNum++, memberId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberHippaDto dto = new FacetsMemberHippaDto();
-                                
-                dto.amerigroupID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.amerigroupID = null;
-                }
-                                
-                dto.hipaa = rs.getString("HIPAA");
-                if (rs.wasNull()) 
-                {
-                    dto.hipaa = null;
-                }
-                
-                result = dto;
-                break;
-                
-            }
-            
-            
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getHipaa  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
-				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-				from CMC_MEPE_PRCS_ELIG e
-				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'
-				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
-				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
-				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
-				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
-				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-				where (m.MEME_MEDCD_NO =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
-			</pre></blockquote></p>
-     * @param medicaidId Medicaid ID of the member
-     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
-     */
-    public FacetsMemberEligibilityDto getCurrentEligibilityByMedicaidID(String medicaidId)
-    {
-        FacetsMemberEligibilityDto result = null;
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_MEDCD_NO =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getCurrentEligibilityByMedicaidID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
-                
-            ps.setString(parmNum++, medicaidId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                
-                result = dto;
-                break;
-                
-            }
-            
-            
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getCurrentEligibilityByMedicaidID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
-        }
-        catch (SQLException ex) 
-        {
-            SQLException tex = ex;
-            if (ex.getNextException() != null)
-            {
-                tex = ex.getNextException();
-            }
-            while (tex != null)
-            {
-                log.error("Database problem: " + tex.getMessage()
-                        + " - error code=" + tex.getErrorCode() + ", SQLState="
-                        + tex.getSQLState() + " - SQL: " + sql, tex);
-                tex = tex.getNextException();
-            }
-            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
-        }
-        finally
-        {
-            closeDatabaseObjects(rs, ps, conn);
-        }
-        return result;
-    }
-	
-
-		
-    /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
-				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-				from CMC_MEPE_PRCS_ELIG e
-				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'
-				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
-				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
-				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
-				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
-				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-				where (m.MEME_HICN =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
-			</pre></blockquote></p>
-     * @param medicareId Medicaid ID of the member
-     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
-     */
-    public FacetsMemberEligibilityDto getCurrentEligibilityByCurrentMedicareID(String medicareId)
-    {
-        FacetsMemberEligibilityDto result = null;
-        
-        Connection conn = null;
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_HICN =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT"+
-         " 			";
-        
-        try 
-        {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getCurrentEligibilityByCurrentMedicareID" );
-				return result;
-			}
-
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicareId) to " + medicareId);
-                
-            ps.setString(parmNum++, medicareId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' 
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') order by e.MEPE_EFF_DT desc
+            </pre></blockquote></p>
+     * @param medicaidId Medicaid ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilityByMedicaidID(String medicaidId)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.BY_MEDICAID_ID, medicaidId);
+    }
+	
+
+		
+    /**
+     * <p>Get the eligibilities of many members at once using their medicaid ids</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Runs the query of {@link #getAllEligibilityByMedicaidID(String)} with
+     * <tt>m.MEME_MEDCD_NO in (?, ...)</tt> on a single connection, binding at most
+     * <tt>facets.dao.bulk.chunkSize</tt> IDs per statement.</p>
+     * @param medicaidIds Medicaid IDs of the members; nulls and duplicates are ignored
+     * @return A <tt>Map</tt> from each requested ID, in request order, to the <tt>List</tt> of
+     * <tt>FacetsMemberEligibilityDto</tt> objects found for it.  Every requested ID is present;
+     * a <tt>List</tt> may be empty but will never be null.
+     */
+    public Map<String, List<FacetsMemberEligibilityDto>> getAllEligibilityByMedicaidIDs(Collection<String> medicaidIds)
+    {
+        FacetsEligibilityQuery query = FacetsEligibilityQuery.BY_MEDICAID_ID;
+        return getEligibilitiesInChunks("getAllEligibilityByMedicaidIDs", query.getBulkSqlHead(), query.getBulkSqlTail(), medicaidIds);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' 
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD', 'MDCR') order by e.MEPE_EFF_DT desc
+            </pre></blockquote></p>
+     * @param medicaidId Medicaid ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilityByMedicaidIDWithMDCRGrpType(String medicaidId)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.BY_MEDICAID_ID_WITH_MDCR_GRP_TYPE, medicaidId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicare id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' 
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where (m.MEME_HICN =?)  and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc
+            </pre></blockquote></p>
+     * @param medicareId Medicare ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilityByCurrentMedicareID(String medicareId)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.BY_CURRENT_MEDICARE_ID, medicareId);
+    }
+	
+
+		
+    /**
+     * <p>Get the eligibilities of many members at once using their current medicare ids</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Runs the query of {@link #getAllEligibilityByCurrentMedicareID(String)} with
+     * <tt>m.MEME_HICN in (?, ...)</tt> on a single connection, binding at most
+     * <tt>facets.dao.bulk.chunkSize</tt> IDs per statement.</p>
+     * @param medicareIds current Medicare IDs (HICN) of the members; nulls and duplicates are ignored
+     * @return A <tt>Map</tt> from each requested ID, in request order, to the <tt>List</tt> of
+     * <tt>FacetsMemberEligibilityDto</tt> objects found for it.  Every requested ID is present;
+     * a <tt>List</tt> may be empty but will never be null.
+     */
+    public Map<String, List<FacetsMemberEligibilityDto>> getAllEligibilityByCurrentMedicareIDs(Collection<String> medicareIds)
+    {
+        FacetsEligibilityQuery query = FacetsEligibilityQuery.BY_CURRENT_MEDICARE_ID;
+        return getEligibilitiesInChunks("getAllEligibilityByCurrentMedicareIDs", query.getBulkSqlHead(), query.getBulkSqlTail(), medicareIds);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicare id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' 
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where x.MECR_NO_ORIG = ? and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc
+            </pre></blockquote></p>
+     * @param medicareId Medicare ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilityByOldMedicareID(String medicareId)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.BY_OLD_MEDICARE_ID, medicareId);
+    }
+	
+
+		
+    /**
+     * <p>Get the eligibilities of many members at once using their old medicare ids</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Runs the query of {@link #getAllEligibilityByOldMedicareID(String)} with
+     * <tt>x.MECR_NO_ORIG in (?, ...)</tt> on a single connection, binding at most
+     * <tt>facets.dao.bulk.chunkSize</tt> IDs per statement.</p>
+     * @param medicareIds original Medicare IDs of the members; nulls and duplicates are ignored
+     * @return A <tt>Map</tt> from each requested ID, in request order, to the <tt>List</tt> of
+     * <tt>FacetsMemberEligibilityDto</tt> objects found for it.  Every requested ID is present;
+     * a <tt>List</tt> may be empty but will never be null.
+     */
+    public Map<String, List<FacetsMemberEligibilityDto>> getAllEligibilityByOldMedicareIDs(Collection<String> medicareIds)
+    {
+        FacetsEligibilityQuery query = FacetsEligibilityQuery.BY_OLD_MEDICARE_ID;
+        return getEligibilitiesInChunks("getAllEligibilityByOldMedicareIDs", query.getBulkSqlHead(), query.getBulkSqlTail(), medicareIds);
+    }
+	
+
+		
+    /**
+     * <p>Get a members past, current, and future eligibility using the amerigroup id, sorted with most to least recent</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where s.SBSB_ID =?
+                order by e.MEPE_EFF_DT DESC
+            </pre></blockquote></p>
+     * @param amerigroupID Amerigroup ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilitiesWithNoEligibilityCheckByAmerigroupID(String amerigroupID)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.NO_ELIGIBILITY_CHECK_BY_AMERIGROUP_ID, amerigroupID);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') and g.grgr_id like 'INMCD%' order by e.MEPE_EFF_DT desc
+            </pre></blockquote></p>
+     * @param medicaidId Medicaid ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilityWithNoEligibilityCheckByINMedicaidID(String medicaidId)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.NO_ELIGIBILITY_CHECK_BY_IN_MEDICAID_ID, medicaidId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD') order by e.MEPE_EFF_DT desc
+            </pre></blockquote></p>
+     * @param medicaidId Medicaid ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilityWithNoEligibilityCheckByMedicaidID(String medicaidId)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.NO_ELIGIBILITY_CHECK_BY_MEDICAID_ID, medicaidId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where (m.MEME_MEDCD_NO =?) and g.grgr_mctr_type in ('MDCD', 'MDDD', 'MDCR') order by e.MEPE_EFF_DT desc
+            </pre></blockquote></p>
+     * @param medicaidId Medicaid ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilityWithNoEligibilityCheckByMedicaidIDWithMdcrGrpType(String medicaidId)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.NO_ELIGIBILITY_CHECK_BY_MEDICAID_ID_WITH_MDCR_GRP_TYPE, medicaidId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicare id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where (m.MEME_HICN =?) and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc
+            </pre></blockquote></p>
+     * @param medicareId Medicare ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilityWithNoEligibilityCheckByCurrentMedicareID(String medicareId)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.NO_ELIGIBILITY_CHECK_BY_CURRENT_MEDICARE_ID, medicareId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicare id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			    select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT, 
+			    e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+                from CMC_MEPE_PRCS_ELIG e 
+                inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK  
+                inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK 
+                left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK
+                left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK 
+                left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK 
+                left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd 
+                left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+                LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+                left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+                left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+                where x.MECR_NO_ORIG = ? and g.grgr_mctr_type in ('MDCR', 'MDDD') order by e.MEPE_EFF_DT desc
+            </pre></blockquote></p>
+     * @param medicareId Medicare ID of the member
+     * @return A <tt>List</tt> of <tt>FacetsMemberEligibilityDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberEligibilityDto> getAllEligibilityWithNoEligibilityCheckByOldMedicareID(String medicareId)
+    {
+        return queryEligibilities(FacetsEligibilityQuery.NO_ELIGIBILITY_CHECK_BY_OLD_MEDICARE_ID, medicareId);
+    }
+	
+
+		
+    /**
+     * <p>Stream a member's eligibility history instead of collecting it into a list.</p>
+     * <p>Runs the query of the DAO method named by <tt>query</tt> with a JDBC fetch size of
+     * <tt>facets.dao.stream.fetchSize</tt> and maps each row only when the stream asks for it,
+     * so memory stays flat however many rows match.  The connection is held until the stream
+     * is closed or read to the end; use it in a try-with-resources block.</p>
+     * @param query Which eligibility query to run
+     * @param id The member identifier the query takes
+     * @return an ordered, sequential stream, empty if no connection could be obtained
+     */
+    public Stream<FacetsMemberEligibilityDto> streamEligibilities(FacetsEligibilityQuery query, String id)
+    {
+        final EligibilityCursor cursor = openEligibilityCursor(query, id);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(new Runnable()
+            {
+                public void run()
                 {
-                    dto.grpPhNo = null;
+                    cursor.close();
                 }
-                
-                result = dto;
-                break;
-                
+            });
+    }
+
+    /**
+     * <p>Pass each row of a member's eligibility history to <tt>handler</tt> as it is read.</p>
+     * <p>Same query and fetch size as {@link #streamEligibilities(FacetsEligibilityQuery, String)};
+     * the connection is released before this returns, also if the handler throws.</p>
+     * @param query Which eligibility query to run
+     * @param id The member identifier the query takes
+     * @param handler Called once per row, in query order
+     * @return the number of rows handled
+     */
+    public int forEachEligibility(FacetsEligibilityQuery query, String id, FacetsMemberEligibilityHandler handler)
+    {
+        EligibilityCursor cursor = openEligibilityCursor(query, id);
+        try
+        {
+            int rows = 0;
+            while (cursor.hasNext())
+            {
+                handler.handle(cursor.next());
+                rows++;
             }
-            
-            
-            if (rs.next()) 
+            return rows;
+        }
+        finally
+        {
+            cursor.close();
+        }
+    }
+
+    /**
+     * <p>Execute an eligibility query and hand the open result set to a cursor.</p>
+     * <p>The statement is prepared outside the statement cache because its fetch size is
+     * specific to streaming.</p>
+     */
+    private EligibilityCursor openEligibilityCursor(FacetsEligibilityQuery query, String id)
+    {
+        String methodName = query.getMethodName() + ".stream";
+        String sql = query.getSql();
+
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        try
+        {
+            long connectionStart = System.nanoTime();
+            conn = openConnection();
+            if (conn == null)
             {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
+                log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+                return new EligibilityCursor(methodName, sql, null, null, null, null, 0, 0);
             }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getCurrentEligibilityByCurrentMedicareID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
+
+            ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamFetchSize);
+            ps.setQueryTimeout(QuerySettings.forMethod(query.getMethodName(), QuerySettings.Shape.ELIGIBILITY_HISTORY).getTimeoutSeconds());
+            long connectionDuration = System.nanoTime() - connectionStart;
+
+            if (log.isDebugEnabled())
+            {
+                log.debug("Executing SQL: " + sql);
+                log.debug("   Setting parm #1 (id) to " + id);
+            }
+            ps.setString(1, id);
+
+            long queryStart = System.nanoTime();
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            EligibilityCursor cursor = new EligibilityCursor(methodName, sql, conn, ps, rs,
+                FacetsMemberEligibilityRowMapper.forResultSet(sql, rs), connectionDuration, queryDuration);
+            conn = null;
+            ps = null;
+            rs = null;
+            return cursor;
         }
         catch (SQLException ex) 
         {
@@ -10647,509 +1337,323 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                         + tex.getSQLState() + " - SQL: " + sql, tex);
                 tex = tex.getNextException();
             }
+            recordQueryFailure();
             throw new DAOException("Unable to perform read - SQL: " + sql, ex);
         }
         finally
         {
+            // Only non-null if the cursor was not created
             closeDatabaseObjects(rs, ps, conn);
         }
-        return result;
     }
-	
 
-		
     /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
-     * <p><b>Not transaction-aware.</b></p>
-     * <p>Executes the following SQL:<br/>
-     * <blockquote><pre>
-				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
-				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-				from CMC_MEPE_PRCS_ELIG e
-				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'
-				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
-				left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK
-				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
-				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
-				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
-				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-				where (x.MECR_NO_ORIG = ?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
-			</pre></blockquote></p>
-     * @param medicareId Medicaid ID of the member
-     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
+     * <p>Run one of the single-identifier eligibility queries and map its rows.</p>
+     * <p>All of the <tt>getAllEligibility*</tt> and <tt>getCurrentEligibility*</tt> lookups
+     * come through here.  Statement settings and query metrics are kept under the name of the
+     * DAO method the query belongs to.  For a current-eligibility query only the first row is
+     * read, and a warning is logged if there are more.  Results are served from and added to
+     * the eligibility cache when it is enabled, and unknown identifiers of the lookups in
+     * <tt>negativeCacheQueries</tt> are remembered by the negative cache.</p>
+     * <p>With join elimination enabled the database reads only the eligibility, member,
+     * subscriber and sub-group columns ({@link FacetsEligibilityQuery#getCoreSql()}); the
+     * plan, product, line of business and group columns are filled from the reference tables
+     * and the group type filter is applied here.  The full query is used instead while the
+     * reference tables are unavailable or have a duplicated key, since a join on such a key
+     * returns more rows than an in-memory lookup.</p>
      */
-    public FacetsMemberEligibilityDto getCurrentEligibilityByOldMedicareID(String medicareId)
+    private List<FacetsMemberEligibilityDto> queryEligibilities(FacetsEligibilityQuery query, String id)
     {
-        FacetsMemberEligibilityDto result = null;
-        
+        List<FacetsMemberEligibilityDto> result = eligibilityCache.get(query, id);
+        if (result != null)
+        {
+            return result;
+        }
+        result = new ArrayList<FacetsMemberEligibilityDto>();
+        String methodName = query.getMethodName();
+        boolean negativeCacheable = negativeCacheQueries.contains(query);
+        if (negativeCacheable && negativeCache.isKnownMissing(methodName, id))
+        {
+            return result;
+        }
+        boolean firstRowOnly = query.isCurrent();
+        ReferenceTables references = joinEliminationEnabled ? getReferenceTables() : null;
+        if (references != null && !references.isDescriptionsUnique())
+        {
+            references = null;
+        }
+
         Connection conn = null;
         PreparedStatement ps = null;
         ResultSet rs = null;
 
-        String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (x.MECR_NO_ORIG = ?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT"+
-         " 			";
-        
-        try 
+        String sql = references == null ? query.getSql() : query.getCoreSql();
+
+        try
         {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
-			if (conn == null) {
-				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getCurrentEligibilityByOldMedicareID" );
-				return result;
-			}
+            long connectionStart = System.nanoTime();
+            conn = openConnection();
+            if (conn == null)
+            {
+                log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+                if (log.isDebugEnabled())
+                {
+                    log.debug("<" + methodName);
+                }
+                return result;
+            }
 
-				StringBuilder sb = null;
-            
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
-            
-				log.debug("Executing SQL: " + sql);
-            
-				log.debug("   Setting parm #" + parmNum + " (medicareId) to " + medicareId);
-                
-            ps.setString(parmNum++, medicareId);
-            
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
+            ps = prepareCachedStatement(conn, sql, methodName,
+                firstRowOnly ? QuerySettings.Shape.SINGLE_ROW : QuerySettings.Shape.ELIGIBILITY_HISTORY);
+
+            long connectionDuration = System.nanoTime() - connectionStart;
+
+            if (log.isDebugEnabled())
+            {
+                log.debug("Executing SQL: " + sql);
+                log.debug("   Setting parm #1 (id) to " + id);
+            }
+            ps.setString(1, id);
+
+            long queryStart = System.nanoTime();
+            log.debug("Starting query");
             rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
+            long queryDuration = System.nanoTime() - queryStart;
 
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
+            // Load results into list
+            long loadResultsStart = System.nanoTime();
             int rowsRead = 0;
+            FacetsMemberEligibilityRowMapper mapper = FacetsMemberEligibilityRowMapper.forResultSet(sql, rs);
+            int groupKey = references == null ? 0 : rs.findColumn("GROUP_KEY");
             while (rs.next())
             {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
+                rowsRead++;
+                FacetsMemberEligibilityDto dto = mapper.mapRow(rs);
+                if (references != null)
                 {
-                    dto.groupName = null;
+                    references.enrich(dto, rs.getString(groupKey));
+                    if (!query.acceptsGroup(dto.sourceSystem, dto.groupID))
+                    {
+                        continue;
+                    }
                 }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
+                result.add(dto);
+                if (firstRowOnly)
                 {
-                    dto.productID = null;
+                    if (rs.next())
+                    {
+                        log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results.");
+                    }
+                    break;
                 }
+            }
+
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery(methodName, connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+            eligibilityCache.put(query, id, result);
+            if (negativeCacheable && result.isEmpty())
+            {
+                negativeCache.recordMissing(methodName, id);
+            }
+        }
+        catch (SQLException ex)
+        {
+            if (HedgedRequests.isCancelled())
+            {
+                throw new DAOException("Cancelled in favour of a hedged request - SQL: " + sql, ex);
+            }
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+
+    /**
+     * <p>Run a current-eligibility query.</p>
+     * @return the eligibility span in force today, or null if there is none
+     */
+    private FacetsMemberEligibilityDto queryCurrentEligibility(FacetsEligibilityQuery query, String id)
+    {
+        List<FacetsMemberEligibilityDto> rows = queryEligibilities(query, id);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * <p>Get the home address for a member</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>select a.sbad_type, a.sbad_addr1, a.sbad_addr2, a.sbad_addr3, a.sbad_city, a.sbad_county, a.sbad_state, a.sbad_zip, 
+						a.sbad_phone, a.sbad_phone_ext, a.sbad_email, a.sbad_fax, a.sbad_fax_ext, s.SBAD_TYPE_HOME, s.SBAD_TYPE_MAIL   
+				  from CMC_SBSB_SUBSC s
+				  join CMC_SBAD_ADDR a on a.SBSB_CK = s.SBSB_CK and a.SBAD_TYPE = s.SBAD_TYPE_HOME
+				where s.sbsb_id = ?
+			</pre></blockquote></p>
+     * @param agpID The Amerigroup ID of the member
+     * @return the <tt>FacetsMemberAddressDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberAddressDto getHomeAddress(String agpID)
+    {
+        FacetsMemberAddressDto result = null;
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = "select a.sbad_type, a.sbad_addr1, a.sbad_addr2, a.sbad_addr3, a.sbad_city, a.sbad_county, a.sbad_state, a.sbad_zip,"+
+         " a.sbad_phone, a.sbad_phone_ext, a.sbad_email, a.sbad_fax, a.sbad_fax_ext, s.SBAD_TYPE_HOME, s.SBAD_TYPE_MAIL"+
+         " from CMC_SBSB_SUBSC s"+
+         " join CMC_SBAD_ADDR a on a.SBSB_CK = s.SBSB_CK and a.SBAD_TYPE = s.SBAD_TYPE_HOME"+
+         " where s.sbsb_id = ?"+
+         " 			";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getHomeAddress" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getHomeAddress", QuerySettings.Shape.SINGLE_ROW);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+            int parmNum = 1;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (agpID) to " + agpID);
+				}
+                
+            ps.setString(parmNum++, agpID);
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberAddressDto dto = new FacetsMemberAddressDto();
                                 
-                dto.productName = rs.getString("NAME");
+                dto.type = rs.getString("sbad_type");
                 if (rs.wasNull()) 
                 {
-                    dto.productName = null;
+                    dto.type = null;
                 }
                                 
-                dto.productDescription = rs.getString("GENERAL_DESC");
+                dto.street1 = rs.getString("sbad_addr1");
                 if (rs.wasNull()) 
                 {
-                    dto.productDescription = null;
+                    dto.street1 = null;
                 }
                                 
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
+                dto.street2 = rs.getString("sbad_addr2");
                 if (rs.wasNull()) 
                 {
-                    dto.productValueCode = null;
+                    dto.street2 = null;
                 }
                                 
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
+                dto.street3 = rs.getString("sbad_addr3");
                 if (rs.wasNull()) 
                 {
-                    dto.dateTermination = null;
+                    dto.street3 = null;
                 }
                                 
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
+                dto.city = rs.getString("sbad_city");
                 if (rs.wasNull()) 
                 {
-                    dto.coverageTypeCode = null;
+                    dto.city = null;
                 }
                                 
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
+                dto.county = rs.getString("sbad_county");
                 if (rs.wasNull()) 
                 {
-                    dto.firstName = null;
+                    dto.county = null;
                 }
                                 
-                dto.lastName = rs.getString("MEME_LAST_NAME");
+                dto.state = rs.getString("sbad_state");
                 if (rs.wasNull()) 
                 {
-                    dto.lastName = null;
+                    dto.state = null;
                 }
                                 
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
+                dto.zip = rs.getString("sbad_zip");
                 if (rs.wasNull()) 
                 {
-                    dto.birthDt = null;
+                    dto.zip = null;
                 }
                                 
-                dto.lobId = rs.getString("LOBD_ID");
+                dto.phone = rs.getString("sbad_phone");
                 if (rs.wasNull()) 
                 {
-                    dto.lobId = null;
+                    dto.phone = null;
                 }
                                 
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
+                dto.phoneExt = rs.getString("sbad_phone_ext");
                 if (rs.wasNull()) 
                 {
-                    dto.statusCode = null;
+                    dto.phoneExt = null;
                 }
                                 
-                dto.groupName = rs.getString("GRGR_NAME");
+                dto.email = rs.getString("sbad_email");
                 if (rs.wasNull()) 
                 {
-                    dto.groupName = null;
+                    dto.email = null;
                 }
                                 
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
+                dto.fax = rs.getString("sbad_fax");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupTerminationDate = null;
+                    dto.fax = null;
                 }
                                 
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
+                dto.faxExt = rs.getString("sbad_fax_ext");
                 if (rs.wasNull()) 
                 {
-                    dto.eligibilityCreateDtm = null;
+                    dto.faxExt = null;
                 }
                                 
-                dto.memeCk = rs.getString("MEME_CK");
+                dto.homeAddrType = rs.getString("SBAD_TYPE_HOME");
                 if (rs.wasNull()) 
                 {
-                    dto.memeCk = null;
+                    dto.homeAddrType = null;
                 }
                                 
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
+                dto.mailAddrType = rs.getString("SBAD_TYPE_MAIL");
                 if (rs.wasNull()) 
                 {
-                    dto.grpPhNo = null;
+                    dto.mailAddrType = null;
                 }
                 
                 result = dto;
@@ -11163,8 +1667,8 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                 log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
             }
              
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getCurrentEligibilityByOldMedicareID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getHomeAddress", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
         }
         catch (SQLException ex) 
         {
@@ -11180,11 +1684,12 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                         + tex.getSQLState() + " - SQL: " + sql, tex);
                 tex = tex.getNextException();
             }
+            recordQueryFailure();
             throw new DAOException("Unable to perform read - SQL: " + sql, ex);
         }
         finally
         {
-            closeDatabaseObjects(rs, ps, conn);
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
         }
         return result;
     }
@@ -11192,510 +1697,390 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
 
 		
     /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p>Get the Dual Citizenship details by Subscriber ID</p>
      * <p><b>Not transaction-aware.</b></p>
      * <p>Executes the following SQL:<br/>
      * <blockquote><pre>
-				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
-				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-				from CMC_MEPE_PRCS_ELIG e
-				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK
-				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
-				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
-				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
-				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
-				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-				where (m.MEME_MEDCD_NO =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
+			WITH TEMP AS
+			(
+				SELECT DISTINCT 
+		            DP.dual_link, DP.dual_type, 
+	            	SUB.sbsb_id as requestedsbsbId,
+	            	GRP.grgr_id as requestedgrgrId, 
+	            	MEM.meme_ck as requestedmemeCk,
+	            	SUB2.sbsb_id as targetsbsbId, 
+	            	GRP2.grgr_id as targetgrgrId,
+	            	MEM2.meme_ck as targetmemeCk,
+	            	DP.DUAL_SPN_START_DT, DP.DUAL_SPN_END_DT,
+	            	DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT 
+				FROM FACETS.CMC_MEME_MEMBER MEM 
+	 			INNER JOIN FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck
+	   			INNER JOIN FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck
+	    		INNER JOIN AGP.DUAL_POPULATION_SPN DP on DP.meme_ck = MEM.meme_ck  AND DP.DUAL_LINK > 0
+	    		INNER JOIN AGP.DUAL_POPULATION_SPN DP2 on DP2.dual_link = DP.dual_link AND dp2.meme_ck != dp.meme_ck AND DP2.DUAL_LINK > 0
+		        INNER JOIN AGP.DUAL_DESC DD on DD.dual_type = DP.dual_type 
+		        LEFT OUTER JOIN AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DP.dual_pop_spn_id = DMACS.dual_spn_id 
+	    		INNER JOIN FACETS.CMC_MEME_MEMBER MEM2 on MEM2.meme_ck = DP2.meme_ck 
+	   			INNER JOIN FACETS.CMC_SBSB_SUBSC SUB2 on SUB2.sbsb_ck = MEM2.sbsb_ck
+	    		INNER JOIN FACETS.CMC_GRGR_GROUP GRP2 on GRP2.grgr_ck = MEM2.grgr_ck 
+				WHERE SUB.sbsb_id = ?
+				
+	    		UNION 
+	    		
+				SELECT DISTINCT 
+		            0, DE.dual_type, 
+	            	SUB.sbsb_id as requestedsbsbId,
+	            	GRP.grgr_id as requestedgrgrId, 
+	            	MEM.meme_ck as requestedmemeCk,
+	            	'' as targetsbsbId, 
+	            	'' as targetgrgrId,
+	            	0 as targetmemeCk,
+	            	DE.DUAL_SPN_START_DT, DE.DUAL_SPN_END_DT,
+					DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT 
+				FROM FACETS.CMC_MEME_MEMBER MEM 
+	     		INNER JOIN FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck 
+	     		INNER JOIN FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck
+				INNER JOIN AGP.DUAL_ELIGIBLE_SPN DE on DE.meme_ck = MEM.meme_ck
+		        INNER JOIN AGP.DUAL_DESC DD on DD.dual_type = DE.dual_type 
+		        LEFT OUTER JOIN AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DE.dual_elig_spn_id = DMACS.dual_spn_id 
+				WHERE SUB.sbsb_id = ?
+				
+				UNION
+				
+				select DISTINCT DP.dual_link, DP.dual_type,SUB.sbsb_id as requestedsbsbId,GRP.grgr_id as requestedgrgrId,
+        MEM.meme_ck as requestedmemeCk,'' as targetsbsbId,'' as targetgrgrId,0 as targetmemeCk,DP.DUAL_SPN_START_DT, DP.DUAL_SPN_END_DT,DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT
+        from FACETS.CMC_MEME_MEMBER MEM inner join FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck 
+        inner join FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck 
+        inner join AGP.DUAL_POPULATION_SPN DP on DP.meme_ck = MEM.meme_ck and dual_link=-1 and dual_type='I'
+        inner join AGP.DUAL_DESC DD on DD.dual_type = DP.dual_type
+        left outer join AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DP.dual_pop_spn_id = DMACS.dual_spn_id
+        where SUB.sbsb_id = ?
+				)
+        		SELECT t.* FROM TEMP t 
+        		order by t.DUAL_SPN_END_DT desc, t.dual_type ASC
 			</pre></blockquote></p>
-     * @param medicaidId Medicaid ID of the member
-     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
+     * @param sbsbId Subscriber Id
+     * @return A <tt>List</tt> of <tt>FacetsMemberDualCitizenshipDetailsDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
      */
-    public FacetsMemberEligibilityDto getCurrentEligibilityWithNoEligibilityCheckByMedicaidID(String medicaidId)
+    public List<FacetsMemberDualCitizenshipDetailsDto> getDualCitizenshipDetailsBySBSBIDwithMediciad(String sbsbId)
     {
-        FacetsMemberEligibilityDto result = null;
+        List<FacetsMemberDualCitizenshipDetailsDto> result = new ArrayList<FacetsMemberDualCitizenshipDetailsDto>();
         
         Connection conn = null;
         PreparedStatement ps = null;
         ResultSet rs = null;
 
         String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_MEDCD_NO =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT"+
+         " WITH TEMP AS"+
+         " ("+
+         " SELECT DISTINCT"+
+         " DP.dual_link, DP.dual_type,"+
+         " SUB.sbsb_id as requestedsbsbId,"+
+         " GRP.grgr_id as requestedgrgrId,"+
+         " MEM.meme_ck as requestedmemeCk,"+
+         " SUB2.sbsb_id as targetsbsbId,"+
+         " GRP2.grgr_id as targetgrgrId,"+
+         " MEM2.meme_ck as targetmemeCk,"+
+         " DP.DUAL_SPN_START_DT, DP.DUAL_SPN_END_DT,"+
+         " DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT"+
+         " FROM FACETS.CMC_MEME_MEMBER MEM"+
+         " INNER JOIN FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck"+
+         " INNER JOIN FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck"+
+         " INNER JOIN AGP.DUAL_POPULATION_SPN DP on DP.meme_ck = MEM.meme_ck  AND DP.DUAL_LINK > 0"+
+         " INNER JOIN AGP.DUAL_POPULATION_SPN DP2 on DP2.dual_link = DP.dual_link AND dp2.meme_ck != dp.meme_ck AND DP2.DUAL_LINK > 0"+
+         " INNER JOIN AGP.DUAL_DESC DD on DD.dual_type = DP.dual_type"+
+         " LEFT OUTER JOIN AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DP.dual_pop_spn_id = DMACS.dual_spn_id"+
+         " INNER JOIN FACETS.CMC_MEME_MEMBER MEM2 on MEM2.meme_ck = DP2.meme_ck"+
+         " INNER JOIN FACETS.CMC_SBSB_SUBSC SUB2 on SUB2.sbsb_ck = MEM2.sbsb_ck"+
+         " INNER JOIN FACETS.CMC_GRGR_GROUP GRP2 on GRP2.grgr_ck = MEM2.grgr_ck"+
+         " WHERE SUB.sbsb_id = ?"+
+         " "+
+         " UNION"+
+         " "+
+         " SELECT DISTINCT"+
+         " 0, DE.dual_type,"+
+         " SUB.sbsb_id as requestedsbsbId,"+
+         " GRP.grgr_id as requestedgrgrId,"+
+         " MEM.meme_ck as requestedmemeCk,"+
+         " '' as targetsbsbId,"+
+         " '' as targetgrgrId,"+
+         " 0 as targetmemeCk,"+
+         " DE.DUAL_SPN_START_DT, DE.DUAL_SPN_END_DT,"+
+         " DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT"+
+         " FROM FACETS.CMC_MEME_MEMBER MEM"+
+         " INNER JOIN FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck"+
+         " INNER JOIN FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck"+
+         " INNER JOIN AGP.DUAL_ELIGIBLE_SPN DE on DE.meme_ck = MEM.meme_ck"+
+         " INNER JOIN AGP.DUAL_DESC DD on DD.dual_type = DE.dual_type"+
+         " LEFT OUTER JOIN AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DE.dual_elig_spn_id = DMACS.dual_spn_id"+
+         " WHERE SUB.sbsb_id = ?"+
+         " "+
+         " UNION"+
+         " "+
+         " select DISTINCT DP.dual_link, DP.dual_type,SUB.sbsb_id as requestedsbsbId,GRP.grgr_id as requestedgrgrId,"+
+         " MEM.meme_ck as requestedmemeCk,'' as targetsbsbId,'' as targetgrgrId,0 as targetmemeCk,DP.DUAL_SPN_START_DT, DP.DUAL_SPN_END_DT,DD.dual_desc, MEDICAID_LEVEL, COST_SHARE_CAT"+
+         " from FACETS.CMC_MEME_MEMBER MEM inner join FACETS.CMC_SBSB_SUBSC SUB on SUB.sbsb_ck = MEM.sbsb_ck"+
+         " inner join FACETS.CMC_GRGR_GROUP GRP on GRP.grgr_ck = MEM.grgr_ck"+
+         " inner join AGP.DUAL_POPULATION_SPN DP on DP.meme_ck = MEM.meme_ck and dual_link=-1 and dual_type='I'"+
+         " inner join AGP.DUAL_DESC DD on DD.dual_type = DP.dual_type"+
+         " left outer join AGP.DUAL_MEDICAID_AID_CAT_SPN DMACS on DP.dual_pop_spn_id = DMACS.dual_spn_id"+
+         " where SUB.sbsb_id = ?"+
+         " )"+
+         " SELECT t.* FROM TEMP t"+
+         " order by t.DUAL_SPN_END_DT desc, t.dual_type ASC"+
          " 			";
         
         try 
         {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
 			if (conn == null) {
 				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getCurrentEligibilityWithNoEligibilityCheckByMedicaidID" );
+					log.debug("<getDualCitizenshipDetailsBySBSBIDwithMediciad" );
 				return result;
 			}
 
 				StringBuilder sb = null;
             
-            ps = conn.prepareStatement(sql);
+            ps = prepareCachedStatement(conn, sql, "getDualCitizenshipDetailsBySBSBIDwithMediciad", QuerySettings.Shape.LIST);
             
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
+            long connectionDuration = System.nanoTime() - connectionStart;
             
-            int parmNum = 1;
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+                if (log.isDebugEnabled())
+                {
+                    log.debug("   Setting parm #1 (sbsbId) to " + sbsbId);
+                }
+                
+                if (log.isDebugEnabled())
+                {
+                    log.debug("   Setting parm #2 (sbsbId) to " + sbsbId);
+                }
+                
+                if (log.isDebugEnabled())
+                {
+                    log.debug("   Setting parm #3 (sbsbId) to " + sbsbId);
+                }
+                
+            ps.setString(1, sbsbId);
             
-				log.debug("Executing SQL: " + sql);
+            ps.setString(2, sbsbId);
             
-				log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
-                
-            ps.setString(parmNum++, medicaidId);
+            ps.setString(3, sbsbId);
             
-            long queryStart = System.currentTimeMillis();
+            long queryStart = System.nanoTime();
 				log.debug("Starting query");
             rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
+            long queryDuration = System.nanoTime() - queryStart;
 
             // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
+            long loadResultsStart = System.nanoTime();
             int rowsRead = 0;
             while (rs.next())
             {
             	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
+                FacetsMemberDualCitizenshipDetailsDto dto = new FacetsMemberDualCitizenshipDetailsDto();
                                 
-                dto.subGroupId = rs.getString("SGSG_ID");
+                dto.dualLink = rs.getString("dual_link");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupId = null;
+                    dto.dualLink = null;
                 }
                                 
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
+                dto.dualType = rs.getString("dual_type");
                 if (rs.wasNull()) 
                 {
-                    dto.medicaidID = null;
+                    dto.dualType = null;
                 }
                                 
-                dto.medicareID = rs.getString("MEME_HICN");
+                dto.requestedSubscriberId = rs.getString("requestedsbsbId");
                 if (rs.wasNull()) 
                 {
-                    dto.medicareID = null;
+                    dto.requestedSubscriberId = null;
                 }
                                 
-                dto.productID = rs.getString("PDPD_ID");
+                dto.requestedGroupId = rs.getString("requestedgrgrId");
                 if (rs.wasNull()) 
                 {
-                    dto.productID = null;
+                    dto.requestedGroupId = null;
                 }
                                 
-                dto.productName = rs.getString("NAME");
+                dto.requestedMemeCk = rs.getString("requestedmemeCk");
                 if (rs.wasNull()) 
                 {
-                    dto.productName = null;
+                    dto.requestedMemeCk = null;
                 }
                                 
-                dto.productDescription = rs.getString("GENERAL_DESC");
+                dto.targetSubscriberId = rs.getString("targetsbsbId");
                 if (rs.wasNull()) 
                 {
-                    dto.productDescription = null;
+                    dto.targetSubscriberId = null;
                 }
                                 
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
+                dto.targetGroupId = rs.getString("targetgrgrId");
                 if (rs.wasNull()) 
                 {
-                    dto.productValueCode = null;
+                    dto.targetGroupId = null;
                 }
                                 
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
+                dto.targetMemeCk = rs.getString("targetmemeCk");
                 if (rs.wasNull()) 
                 {
-                    dto.dateEffective = null;
+                    dto.targetMemeCk = null;
                 }
                 
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
+                dto.dualSpanStartDt = rs.getTimestamp("DUAL_SPN_START_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.fullLastName = null;
+                    dto.dualSpanStartDt = null;
                 }
                 
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
+                dto.dualSpanEndDt = rs.getTimestamp("DUAL_SPN_END_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.lobId = null;
+                    dto.dualSpanEndDt = null;
                 }
                                 
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
+                dto.dualTypeDesc = rs.getString("dual_desc");
                 if (rs.wasNull()) 
                 {
-                    dto.statusCode = null;
+                    dto.dualTypeDesc = null;
                 }
                                 
-                dto.groupName = rs.getString("GRGR_NAME");
+                dto.medicaidAidCategory = rs.getString("MEDICAID_LEVEL");
                 if (rs.wasNull()) 
                 {
-                    dto.groupName = null;
+                    dto.medicaidAidCategory = null;
                 }
                                 
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
+                dto.medicaidCostShare = rs.getString("COST_SHARE_CAT");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupEffectiveDate = null;
+                    dto.medicaidCostShare = null;
                 }
                 
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
+                result.add(dto);
                 
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
+            }
+            
+            
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getDualCitizenshipDetailsBySBSBIDwithMediciad", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>populate the Dual Citizenship AID Category name based on LAST_VER_DATEs and CREATE_DTM by MEME ID</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			select  MEDICAID_LVL   
+			from AGP.MCR_ENR_MEDICAID_LEVEL MEML 
+			where meme_ck = ? 
+			order by LAST_VER_DATE desc, create_dtm desc 
+			</pre></blockquote></p>
+     * @param memeCk member contrived key
+     * @return A <tt>List</tt> of <tt>FacetsMemberDualCitizenshipAIDCategoryDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberDualCitizenshipAIDCategoryDto> getDualCitizenshipAIDCategoryByMemeCk(String memeCk)
+    {
+        List<FacetsMemberDualCitizenshipAIDCategoryDto> result = new ArrayList<FacetsMemberDualCitizenshipAIDCategoryDto>();
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " select  MEDICAID_LVL"+
+         " from AGP.MCR_ENR_MEDICAID_LEVEL MEML"+
+         " where meme_ck = ?"+
+         " order by LAST_VER_DATE desc, create_dtm desc"+
+         " 			";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getDualCitizenshipAIDCategoryByMemeCk" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getDualCitizenshipAIDCategoryByMemeCk", QuerySettings.Shape.LIST);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.planEntryDt = null;
+                    log.debug("   Setting parm #1 (memeCk) to " + memeCk);
                 }
                 
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
+            ps.setString(1, memeCk);
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberDualCitizenshipAIDCategoryDto dto = new FacetsMemberDualCitizenshipAIDCategoryDto();
                                 
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
+                dto.medicaidAidCategory = rs.getString("MEDICAID_LVL");
                 if (rs.wasNull()) 
                 {
-                    dto.grpPhNo = null;
+                    dto.medicaidAidCategory = null;
                 }
                 
-                result = dto;
-                break;
+                result.add(dto);
                 
             }
             
             
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getCurrentEligibilityWithNoEligibilityCheckByMedicaidID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getDualCitizenshipAIDCategoryByMemeCk", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
         }
         catch (SQLException ex) 
         {
@@ -11711,11 +2096,12 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                         + tex.getSQLState() + " - SQL: " + sql, tex);
                 tex = tex.getNextException();
             }
+            recordQueryFailure();
             throw new DAOException("Unable to perform read - SQL: " + sql, ex);
         }
         finally
         {
-            closeDatabaseObjects(rs, ps, conn);
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
         }
         return result;
     }
@@ -11723,510 +2109,951 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
 
 		
     /**
-     * <p>Get a members current eligibilities using the medicare id</p>
+     * <p>Fetches the member details by sbrUid(SBSB_CK from Facets), eligibility effective date and eligibility termination date</p>
      * <p><b>Not transaction-aware.</b></p>
      * <p>Executes the following SQL:<br/>
      * <blockquote><pre>
-				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
-				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-				from CMC_MEPE_PRCS_ELIG e
-				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK
-				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
-				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
-				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
-				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
-				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-				where (m.MEME_HICN =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
-			</pre></blockquote></p>
-     * @param medicaidId Medicaid ID of the member
-     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
+			select
+				m.MEME_FIRST_NAME , m.MEME_MID_INIT, m.MEME_LAST_NAME ,
+				m.MEME_BIRTH_DT , m.MEME_SEX ,
+				m.MEME_CK , m.MEME_HICN , m.MEME_MEDCD_NO, m.SBSB_CK,
+				cspi.CSPI_ITS_PREFIX ,e.MEPE_EFF_DT , e.MEPE_TERM_DT ,
+				e.PDPD_ID , e.CSPI_ID , e.CSCS_ID, e.MEPE_ELIG_IND ,
+				s.SBSB_ID ,pd.LOBD_ID,g.grgr_ck, g.CICI_ID , g.GRGR_ID, 
+				g.GRGR_MCTR_TYPE, sg.SGSG_MCTR_TYPE, sg.sgsg_ck
+			from CMC_SBSB_SUBSC s
+			inner join CMC_MEME_MEMBER m on m.SBSB_CK = s.SBSB_CK
+			inner join CMC_MEPE_PRCS_ELIG e on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'
+			inner join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK
+			inner join FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+			inner join CMC_CSPI_CS_PLAN cspi on cspi.GRGR_CK = e.GRGR_CK and cspi.CSCS_ID = e.CSCS_ID and cspi.CSPI_ID = e.CSPI_ID and cspi.CSPD_CAT = e.CSPD_CAT and e.MEPE_EFF_DT between cspi.CSPI_EFF_DT and cspi.CSPI_TERM_DT
+			left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
+			where s.sbsb_ck = ? and e.MEPE_EFF_DT = ? and e.MEPE_TERM_DT = ?
+		</pre></blockquote></p>
+     * @param sbrUid Member's Subscriber CK(SBSB_CK from Facets)
+     * @param eligibilityEffDt Member's Eligibility Effective Date
+     * @param eligibilityTermDt Member's Eligibility Termination Date
+     * @return the <tt>FacetsMemberMemberDetailsDto</tt> object that matches the
      * selection criteria, or null if there is no match.
      */
-    public FacetsMemberEligibilityDto getCurrentEligibilityWithNoEligibilityCheckByCurrentMedicareID(String medicaidId)
+    public FacetsMemberMemberDetailsDto getEligibilityBySbrUidAndEligibilityDates(String sbrUid, Date eligibilityEffDt, Date eligibilityTermDt)
     {
-        FacetsMemberEligibilityDto result = null;
+        FacetsMemberMemberDetailsDto result = null;
         
         Connection conn = null;
         PreparedStatement ps = null;
         ResultSet rs = null;
 
         String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
+         " select"+
+         " m.MEME_FIRST_NAME , m.MEME_MID_INIT, m.MEME_LAST_NAME ,"+
+         " m.MEME_BIRTH_DT , m.MEME_SEX ,"+
+         " m.MEME_CK , m.MEME_HICN , m.MEME_MEDCD_NO, m.SBSB_CK,"+
+         " cspi.CSPI_ITS_PREFIX ,e.MEPE_EFF_DT , e.MEPE_TERM_DT ,"+
+         " e.PDPD_ID , e.CSPI_ID , e.CSCS_ID, e.MEPE_ELIG_IND ,"+
+         " s.SBSB_ID ,pd.LOBD_ID,g.grgr_ck, g.CICI_ID , g.GRGR_ID,"+
+         " g.GRGR_MCTR_TYPE, sg.SGSG_MCTR_TYPE, sg.sgsg_ck"+
+         " from CMC_SBSB_SUBSC s"+
+         " inner join CMC_MEME_MEMBER m on m.SBSB_CK = s.SBSB_CK"+
+         " inner join CMC_MEPE_PRCS_ELIG e on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'"+
+         " inner join CMC_GRGR_GROUP g on e.GRGR_CK = g.GRGR_CK"+
+         " inner join FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
+         " inner join CMC_CSPI_CS_PLAN cspi on cspi.GRGR_CK = e.GRGR_CK and cspi.CSCS_ID = e.CSCS_ID and cspi.CSPI_ID = e.CSPI_ID and cspi.CSPD_CAT = e.CSPD_CAT and e.MEPE_EFF_DT between cspi.CSPI_EFF_DT and cspi.CSPI_TERM_DT"+
          " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (m.MEME_HICN =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT"+
-         " 			";
+         " where s.sbsb_ck = ? and e.MEPE_EFF_DT = ? and e.MEPE_TERM_DT = ?"+
+         " 		";
         
         try 
         {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
 			if (conn == null) {
 				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getCurrentEligibilityWithNoEligibilityCheckByCurrentMedicareID" );
+					log.debug("<getEligibilityBySbrUidAndEligibilityDates" );
 				return result;
 			}
 
 				StringBuilder sb = null;
             
-            ps = conn.prepareStatement(sql);
+            ps = prepareCachedStatement(conn, sql, "getEligibilityBySbrUidAndEligibilityDates", QuerySettings.Shape.SINGLE_ROW);
             
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
+            long connectionDuration = System.nanoTime() - connectionStart;
             
             int parmNum = 1;
             
-				log.debug("Executing SQL: " + sql);
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (sbrUid) to " + sbrUid);
+				}
+                
+            ps.setString(parmNum++, sbrUid);
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (eligibilityEffDt) to " + eligibilityEffDt);
+				}
+                
+
+				if (eligibilityEffDt == null) 
+            {
+                
+                ps.setTimestamp(parmNum++, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligibilityEffDt.getTime()));
+                
+            }            
             
-				log.debug("   Setting parm #" + parmNum + " (medicaidId) to " + medicaidId);
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (eligibilityTermDt) to " + eligibilityTermDt);
+				}
+                
+
+				if (eligibilityTermDt == null) 
+            {
+                
+                ps.setTimestamp(parmNum++, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligibilityTermDt.getTime()));
                 
-            ps.setString(parmNum++, medicaidId);
+            }            
             
-            long queryStart = System.currentTimeMillis();
+            long queryStart = System.nanoTime();
 				log.debug("Starting query");
             rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
+            long queryDuration = System.nanoTime() - queryStart;
 
             // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
+            long loadResultsStart = System.nanoTime();
             int rowsRead = 0;
             while (rs.next())
             {
             	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
+                FacetsMemberMemberDetailsDto dto = new FacetsMemberMemberDetailsDto();
                                 
-                dto.groupID = rs.getString("GRGR_ID");
+                dto.firstName = rs.getString("MEME_FIRST_NAME");
                 if (rs.wasNull()) 
                 {
-                    dto.groupID = null;
+                    dto.firstName = null;
                 }
                                 
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
+                dto.middleInitial = rs.getString("MEME_MID_INIT");
                 if (rs.wasNull()) 
                 {
-                    dto.subgroupType = null;
+                    dto.middleInitial = null;
                 }
                                 
-                dto.subGroupId = rs.getString("SGSG_ID");
+                dto.lastName = rs.getString("MEME_LAST_NAME");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupId = null;
+                    dto.lastName = null;
                 }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
+                
+                dto.birthDate = rs.getTimestamp("MEME_BIRTH_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.medicaidID = null;
+                    dto.birthDate = null;
                 }
                                 
-                dto.medicareID = rs.getString("MEME_HICN");
+                dto.gender = rs.getString("MEME_SEX");
                 if (rs.wasNull()) 
                 {
-                    dto.medicareID = null;
+                    dto.gender = null;
                 }
                                 
-                dto.productID = rs.getString("PDPD_ID");
+                dto.memberCk = rs.getString("MEME_CK");
                 if (rs.wasNull()) 
                 {
-                    dto.productID = null;
+                    dto.memberCk = null;
                 }
                                 
-                dto.productName = rs.getString("NAME");
+                dto.medicareId = rs.getString("MEME_HICN");
                 if (rs.wasNull()) 
                 {
-                    dto.productName = null;
+                    dto.medicareId = null;
                 }
                                 
-                dto.productDescription = rs.getString("GENERAL_DESC");
+                dto.medicaidId = rs.getString("MEME_MEDCD_NO");
                 if (rs.wasNull()) 
                 {
-                    dto.productDescription = null;
+                    dto.medicaidId = null;
                 }
                                 
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
+                dto.sbrUid = rs.getString("SBSB_CK");
                 if (rs.wasNull()) 
                 {
-                    dto.productValueCode = null;
+                    dto.sbrUid = null;
                 }
                                 
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
+                dto.planPrefix = rs.getString("CSPI_ITS_PREFIX");
                 if (rs.wasNull()) 
                 {
-                    dto.dateEffective = null;
+                    dto.planPrefix = null;
                 }
                 
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
+                dto.eligibilityEffDt = rs.getTimestamp("MEPE_EFF_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.fullLastName = null;
+                    dto.eligibilityEffDt = null;
                 }
                 
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
+                dto.eligibilityTermDt = rs.getTimestamp("MEPE_TERM_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.birthDt = null;
+                    dto.eligibilityTermDt = null;
                 }
                                 
-                dto.lobId = rs.getString("LOBD_ID");
+                dto.productId = rs.getString("PDPD_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.lobId = null;
+                    dto.productId = null;
                 }
                                 
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
+                dto.planId = rs.getString("CSPI_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.statusCode = null;
+                    dto.planId = null;
                 }
                                 
-                dto.groupName = rs.getString("GRGR_NAME");
+                dto.classId = rs.getString("CSCS_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.groupName = null;
+                    dto.classId = null;
                 }
                                 
-                dto.subGroupName = rs.getString("SGSG_NAME");
+                dto.eligibilityIndicator = rs.getString("MEPE_ELIG_IND");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupName = null;
+                    dto.eligibilityIndicator = null;
                 }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
+                                
+                dto.subscriberId = rs.getString("SBSB_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupEffectiveDate = null;
+                    dto.subscriberId = null;
                 }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
+                                
+                dto.lineOfBusiness = rs.getString("LOBD_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupTerminationDate = null;
+                    dto.lineOfBusiness = null;
                 }
                                 
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
+                dto.groupCk = rs.getString("grgr_ck");
                 if (rs.wasNull()) 
                 {
-                    dto.sourceSystem = null;
+                    dto.groupCk = null;
                 }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
+                                
+                dto.region = rs.getString("CICI_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.planEntryDt = null;
+                    dto.region = null;
                 }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
+                                
+                dto.groupId = rs.getString("GRGR_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.eligibilityCreateDtm = null;
+                    dto.groupId = null;
                 }
                                 
-                dto.memeCk = rs.getString("MEME_CK");
+                dto.groupType = rs.getString("GRGR_MCTR_TYPE");
                 if (rs.wasNull()) 
                 {
-                    dto.memeCk = null;
+                    dto.groupType = null;
                 }
                                 
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
+                dto.subGroup = rs.getString("SGSG_MCTR_TYPE");
                 if (rs.wasNull()) 
                 {
-                    dto.grpPhNo = null;
+                    dto.subGroup = null;
                 }
                                 
-                dto.groupCk = rs.getString("GRGR_CK");
+                dto.SGSG_CK = rs.getString("SGSG_CK");
                 if (rs.wasNull()) 
                 {
-                    dto.groupCk = null;
+                    dto.SGSG_CK = null;
                 }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
+                
+                result = dto;
+                break;
+                
+            }
+            
+            
+            if (rs.next()) 
+            {
+                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
+            }
+             
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getEligibilityBySbrUidAndEligibilityDates", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>Get Member Claim Hold Info by sbruid</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+					SELECT S.SBSB_ID, MH.MEME_CK, MH.MECH_EFF_DT, MH.MECH_TERM_DT, MH.CLST_MCTR_REAS, 
+						MEPE.MEPE_EFF_DT, MEPE.MEPE_TERM_DT, MEPE.MEPE_ELIG_IND
+					FROM CMC_MECH_CLM_HOLD MH
+					JOIN CMC_MEME_MEMBER M ON MH.MEME_CK = M.MEME_CK
+					JOIN CMC_SBSB_SUBSC S ON S.sbsb_ck = M.sbsb_ck
+					JOIN CMC_MEPE_PRCS_ELIG MEPE ON M.MEME_CK = MEPE.MEME_CK 
+					WHERE S.SBSB_CK = ?  
+						AND MH.CLST_MCTR_REAS = 'RETR' 
+						AND MEPE.MEPE_ELIG_IND = 'Y' 
+						AND MH.MECH_TERM_DT BETWEEN ? AND ? 
+						order by MH.MECH_TERM_DT desc
+			</pre></blockquote></p>
+     * @param sbruid Member's SBSB_CK
+     * @param effDate Member's Elig Eff Date
+     * @param termDate Member's Elig Term Date
+     * @return A <tt>List</tt> of <tt>FacetsMemberMemberClaimHoldInfoDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberMemberClaimHoldInfoDto> getMemberClaimHoldDetailsBySbruid(String sbruid, Date effDate, Date termDate)
+    {
+        List<FacetsMemberMemberClaimHoldInfoDto> result = new ArrayList<FacetsMemberMemberClaimHoldInfoDto>();
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " SELECT S.SBSB_ID, MH.MEME_CK, MH.MECH_EFF_DT, MH.MECH_TERM_DT, MH.CLST_MCTR_REAS,"+
+         " MEPE.MEPE_EFF_DT, MEPE.MEPE_TERM_DT, MEPE.MEPE_ELIG_IND"+
+         " FROM CMC_MECH_CLM_HOLD MH"+
+         " JOIN CMC_MEME_MEMBER M ON MH.MEME_CK = M.MEME_CK"+
+         " JOIN CMC_SBSB_SUBSC S ON S.sbsb_ck = M.sbsb_ck"+
+         " JOIN CMC_MEPE_PRCS_ELIG MEPE ON M.MEME_CK = MEPE.MEME_CK"+
+         " WHERE S.SBSB_CK = ?"+
+         " AND MH.CLST_MCTR_REAS = 'RETR'"+
+         " AND MEPE.MEPE_ELIG_IND = 'Y'"+
+         " AND MH.MECH_TERM_DT BETWEEN ? AND ?"+
+         " order by MH.MECH_TERM_DT desc"+
+         " 			";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getMemberClaimHoldDetailsBySbruid" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getMemberClaimHoldDetailsBySbruid", QuerySettings.Shape.LIST);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+                if (log.isDebugEnabled())
+                {
+                    log.debug("   Setting parm #1 (sbruid) to " + sbruid);
+                }
+                
+            ps.setString(1, sbruid);
+            
+                if (log.isDebugEnabled())
+                {
+                    log.debug("   Setting parm #2 (effDate) to " + effDate);
+                }
+                
+
+				if (effDate == null) 
+            {
+                
+                ps.setTimestamp(2, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(2, new java.sql.Timestamp(effDate.getTime()));
+                
+            }            
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.sbsbID = null;
+                    log.debug("   Setting parm #3 (termDate) to " + termDate);
                 }
+                
+
+				if (termDate == null) 
+            {
+                
+                ps.setTimestamp(3, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(3, new java.sql.Timestamp(termDate.getTime()));
+                
+            }            
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberMemberClaimHoldInfoDto dto = new FacetsMemberMemberClaimHoldInfoDto();
                                 
-                dto.sbsbCK = rs.getString("SBSB_CK");
+                dto.sbsbId = rs.getString("SBSB_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.sbsbCK = null;
+                    dto.sbsbId = null;
                 }
                                 
-                dto.classID = rs.getString("CSCS_ID");
+                dto.memeCK = rs.getString("MEME_CK");
                 if (rs.wasNull()) 
                 {
-                    dto.classID = null;
+                    dto.memeCK = null;
                 }
-                                
-                dto.planID = rs.getString("CSPI_ID");
+                
+                dto.effDate = rs.getTimestamp("MECH_EFF_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.planID = null;
+                    dto.effDate = null;
                 }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
+                
+                dto.termDate = rs.getTimestamp("MECH_TERM_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.planDesc = null;
+                    dto.termDate = null;
                 }
                                 
-                dto.groupID = rs.getString("GRGR_ID");
+                dto.reasonCode = rs.getString("CLST_MCTR_REAS");
                 if (rs.wasNull()) 
                 {
-                    dto.groupID = null;
+                    dto.reasonCode = null;
                 }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
+                
+                dto.eligEffDate = rs.getTimestamp("MEPE_EFF_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.subgroupType = null;
+                    dto.eligEffDate = null;
                 }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
+                
+                dto.eligTermDate = rs.getTimestamp("MEPE_TERM_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupId = null;
+                    dto.eligTermDate = null;
                 }
                                 
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
+                dto.eligInd = rs.getString("MEPE_ELIG_IND");
                 if (rs.wasNull()) 
                 {
-                    dto.medicaidID = null;
+                    dto.eligInd = null;
+                }
+                
+                result.add(dto);
+                
+            }
+            
+            
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getMemberClaimHoldDetailsBySbruid", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>gets the prefix from the given class, plan, grgrCk, cspdCat and with respective elig dates</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				select CSPI_ITS_PREFIX from CMC_CSPI_CS_PLAN 
+				where ? >= CSPI_EFF_DT and  ? <= CSPI_TERM_DT and GRGR_CK = ? and CSCS_ID = ? and CSPD_CAT = ? and CSPI_ID = ?
+				order by CSPI_TERM_DT desc
+			</pre></blockquote></p>
+     * <p>Resolved in memory from an index of <tt>CMC_CSPI_CS_PLAN</tt>, refreshed every
+     * <tt>facets.dao.classPlanIndex.refreshSeconds</tt>, unless
+     * <tt>facets.dao.classPlanIndex.enabled</tt> is false.</p>
+     * @param eligTermDt Eligibility Effective Date
+     * @param eligEffDt Eligibility Termination Date
+     * @param groupCk GRGR_CK
+     * @param classId CSCS_ID
+     * @param cspdCat CSPD_CAT
+     * @param planId CSPI_ID
+     * @return the <tt>FacetsMemberClassPlanPrefixDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberClassPlanPrefixDto getPrefixByClassPlan(Date eligTermDt, Date eligEffDt, String groupCk, String classId, String cspdCat, String planId)
+    {
+        ClassPlanIndex classPlans = getClassPlanIndex();
+        if (classPlans != null)
+        {
+            return classPlans.prefixByClassPlan(eligTermDt, eligEffDt, groupCk, classId, cspdCat, planId);
+        }
+
+        FacetsMemberClassPlanPrefixDto result = null;
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " select CSPI_ITS_PREFIX from CMC_CSPI_CS_PLAN"+
+         " where ? >= CSPI_EFF_DT and  ? <= CSPI_TERM_DT and GRGR_CK = ? and CSCS_ID = ? and CSPD_CAT = ? and CSPI_ID = ?"+
+         " order by CSPI_TERM_DT desc"+
+         " 			";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getPrefixByClassPlan" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getPrefixByClassPlan", QuerySettings.Shape.SINGLE_ROW);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+                if (log.isDebugEnabled())
+                {
+                    log.debug("   Setting parm #1 (eligTermDt) to " + eligTermDt);
                 }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
+                
+
+				if (eligTermDt == null) 
+            {
+                
+                ps.setTimestamp(1, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(1, new java.sql.Timestamp(eligTermDt.getTime()));
+                
+            }            
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.medicareID = null;
+                    log.debug("   Setting parm #2 (eligEffDt) to " + eligEffDt);
                 }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
+                
+
+				if (eligEffDt == null) 
+            {
+                
+                ps.setTimestamp(2, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(2, new java.sql.Timestamp(eligEffDt.getTime()));
+                
+            }            
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.productID = null;
+                    log.debug("   Setting parm #3 (groupCk) to " + groupCk);
                 }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
+                
+            ps.setString(3, groupCk);
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.productName = null;
+                    log.debug("   Setting parm #4 (classId) to " + classId);
                 }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
+                
+            ps.setString(4, classId);
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.productDescription = null;
+                    log.debug("   Setting parm #5 (cspdCat) to " + cspdCat);
                 }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
+                
+            ps.setString(5, cspdCat);
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.productValueCode = null;
+                    log.debug("   Setting parm #6 (planId) to " + planId);
                 }
+                
+            ps.setString(6, planId);
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberClassPlanPrefixDto dto = new FacetsMemberClassPlanPrefixDto();
                                 
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
+                dto.prefix = rs.getString("CSPI_ITS_PREFIX");
                 if (rs.wasNull()) 
                 {
-                    dto.productValueCodeDesc = null;
+                    dto.prefix = null;
                 }
                 
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
+                result = dto;
+                break;
                 
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
+            }
+            
+            
+            if (rs.next()) 
+            {
+                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
+            }
+             
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getPrefixByClassPlan", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>Get member medicaid brand by plan</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>SELECT BRAND_CD,BRAND_DESC,GCPP_PATTERN,MARKET_EFF_DT FROM AGP.MEM_MARKET_BRAND where regexp_like (?, gcpp_pattern) and sysdate between MARKET_EFF_DT and MARKET_TERM_DT and MARKET_BRAND_IND = 'Y'
+			</pre></blockquote></p>
+     * <p>Served from an in-memory copy of <tt>AGP.MEM_MARKET_BRAND</tt> with precompiled patterns,
+     * refreshed every <tt>facets.dao.marketBrandCache.refreshSeconds</tt>, unless
+     * <tt>facets.dao.marketBrandCache.enabled</tt> is false or a pattern is not valid Java regex.</p>
+     * @param GCPProduct a concatenation of group, class, plan and product
+     * @return A <tt>List</tt> of <tt>FacetsMemberMarketBrandDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberMarketBrandDto> getMemberMarketBrand(String GCPProduct)
+    {
+        MarketBrandTable brands = getMarketBrandTable();
+        if (brands != null)
+        {
+            return brands.match(GCPProduct, false);
+        }
+
+        List<FacetsMemberMarketBrandDto> result = new ArrayList<FacetsMemberMarketBrandDto>();
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = "SELECT BRAND_CD,BRAND_DESC,GCPP_PATTERN,MARKET_EFF_DT FROM AGP.MEM_MARKET_BRAND where regexp_like (?, gcpp_pattern) and sysdate between MARKET_EFF_DT and MARKET_TERM_DT and MARKET_BRAND_IND = 'Y'"+
+         " 			";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getMemberMarketBrand" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getMemberMarketBrand", QuerySettings.Shape.LIST);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+            int parmNum = 1;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (GCPProduct) to " + GCPProduct);
+				}
+                
+            ps.setString(parmNum++, GCPProduct);
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberMarketBrandDto dto = new FacetsMemberMarketBrandDto();
                                 
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
+                dto.brandCode = rs.getString("BRAND_CD");
                 if (rs.wasNull()) 
                 {
-                    dto.coverageTypeCode = null;
+                    dto.brandCode = null;
                 }
                                 
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
+                dto.brandDesc = rs.getString("BRAND_DESC");
                 if (rs.wasNull()) 
                 {
-                    dto.firstName = null;
+                    dto.brandDesc = null;
                 }
                                 
-                dto.lastName = rs.getString("MEME_LAST_NAME");
+                dto.gcppPattern = rs.getString("GCPP_PATTERN");
                 if (rs.wasNull()) 
                 {
-                    dto.lastName = null;
+                    dto.gcppPattern = null;
                 }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
+                
+                dto.effDate = rs.getTimestamp("MARKET_EFF_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.fullLastName = null;
+                    dto.effDate = null;
                 }
                 
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
+                result.add(dto);
+                
+            }
+            
+            
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getMemberMarketBrand", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>Get member print brand by plan</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				SELECT BRAND_CD,BRAND_DESC,GCPP_PATTERN,MARKET_EFF_DT 
+				FROM AGP.MEM_MARKET_BRAND where regexp_like (?, gcpp_pattern) and sysdate between MARKET_EFF_DT and MARKET_TERM_DT and PRINT_BRAND_IND = 'Y'
+			</pre></blockquote></p>
+     * <p>Served from an in-memory copy of <tt>AGP.MEM_MARKET_BRAND</tt> with precompiled patterns,
+     * refreshed every <tt>facets.dao.marketBrandCache.refreshSeconds</tt>, unless
+     * <tt>facets.dao.marketBrandCache.enabled</tt> is false or a pattern is not valid Java regex.</p>
+     * @param GCPProduct a concatenation of group, class, plan and product
+     * @return A <tt>List</tt> of <tt>FacetsMemberMarketBrandDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberMarketBrandDto> getMemberPrinttBrand(String GCPProduct)
+    {
+        MarketBrandTable brands = getMarketBrandTable();
+        if (brands != null)
+        {
+            return brands.match(GCPProduct, true);
+        }
+
+        List<FacetsMemberMarketBrandDto> result = new ArrayList<FacetsMemberMarketBrandDto>();
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " SELECT BRAND_CD,BRAND_DESC,GCPP_PATTERN,MARKET_EFF_DT"+
+         " FROM AGP.MEM_MARKET_BRAND where regexp_like (?, gcpp_pattern) and sysdate between MARKET_EFF_DT and MARKET_TERM_DT and PRINT_BRAND_IND = 'Y'"+
+         " 			";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getMemberPrinttBrand" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getMemberPrinttBrand", QuerySettings.Shape.LIST);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+            int parmNum = 1;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (GCPProduct) to " + GCPProduct);
+				}
+                
+            ps.setString(parmNum++, GCPProduct);
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberMarketBrandDto dto = new FacetsMemberMarketBrandDto();
                                 
-                dto.groupName = rs.getString("GRGR_NAME");
+                dto.brandCode = rs.getString("BRAND_CD");
                 if (rs.wasNull()) 
                 {
-                    dto.groupName = null;
+                    dto.brandCode = null;
                 }
                                 
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
+                dto.brandDesc = rs.getString("BRAND_DESC");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupTerminationDate = null;
+                    dto.brandDesc = null;
                 }
                                 
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
+                dto.gcppPattern = rs.getString("GCPP_PATTERN");
                 if (rs.wasNull()) 
                 {
-                    dto.planEntryDt = null;
+                    dto.gcppPattern = null;
                 }
                 
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
+                dto.effDate = rs.getTimestamp("MARKET_EFF_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.grpPhNo = null;
+                    dto.effDate = null;
                 }
                 
-                result = dto;
-                break;
+                result.add(dto);
                 
             }
             
             
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getCurrentEligibilityWithNoEligibilityCheckByCurrentMedicareID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getMemberPrinttBrand", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
         }
         catch (SQLException ex) 
         {
@@ -12242,11 +3069,12 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                         + tex.getSQLState() + " - SQL: " + sql, tex);
                 tex = tex.getNextException();
             }
+            recordQueryFailure();
             throw new DAOException("Unable to perform read - SQL: " + sql, ex);
         }
         finally
         {
-            closeDatabaseObjects(rs, ps, conn);
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
         }
         return result;
     }
@@ -12254,512 +3082,715 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
 
 		
     /**
-     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p>get PBP ID from medicare details table with sbsb_ck and eligibility dates</p>
      * <p><b>Not transaction-aware.</b></p>
      * <p>Executes the following SQL:<br/>
      * <blockquote><pre>
-				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
-				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
-				from CMC_MEPE_PRCS_ELIG e
-				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK
-				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
-				left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK
-				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
-				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
-				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
-				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
-				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
-				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
-				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
-				where (x.MECR_NO_ORIG =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
+				select distinct memd.MEME_CK ,
+				memd.MEMD_EVENT_CD , 
+				memd.MEMD_HCFA_EFF_DT, 
+				memd.MEMD_HCFA_TERM_DT,
+				memd.MEMD_MCTR_PBP
+				from CMC_MEMD_MECR_DETL memd 
+				join cmc_meme_member meme on meme.meme_ck = memd.meme_ck
+				where memd.MEMD_EVENT_CD = 'PBP' and meme.sbsb_ck = ? 
+        		and memd.MEMD_HCFA_TERM_DT > ?  and memd.MEMD_HCFA_EFF_DT < ?
+				order by MEMD_HCFA_EFF_DT DESC
 			</pre></blockquote></p>
-     * @param medicareId Medicaid ID of the member
-     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
+     * @param sbsbCk Subscriber's contrived Key
+     * @param eligEffDt Eligibility Effective Date
+     * @param eligTermDt Eligibility Termination Date
+     * @return the <tt>FacetsMemberPBPDetailsDto</tt> object that matches the
      * selection criteria, or null if there is no match.
      */
-    public FacetsMemberEligibilityDto getCurrentEligibilityWithNoEligibilityCheckByOldMedicareID(String medicareId)
+    public FacetsMemberPBPDetailsDto getPBPIdBySbrUidAndEligibility(String sbsbCk, Date eligEffDt, Date eligTermDt)
     {
-        FacetsMemberEligibilityDto result = null;
+        FacetsMemberPBPDetailsDto result = null;
         
         Connection conn = null;
         PreparedStatement ps = null;
         ResultSet rs = null;
 
         String sql = ""+
-         " select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE"+
-         " from CMC_MEPE_PRCS_ELIG e"+
-         " inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK"+
-         " inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK"+
-         " left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK"+
-         " left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK"+
-         " left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK"+
-         " left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd"+
-         " left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id"+
-         " LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT"+
-         " left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id"+
-         " left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'"+
-         " where (x.MECR_NO_ORIG =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT"+
+         " select distinct memd.MEME_CK ,"+
+         " memd.MEMD_EVENT_CD ,"+
+         " memd.MEMD_HCFA_EFF_DT,"+
+         " memd.MEMD_HCFA_TERM_DT,"+
+         " memd.MEMD_MCTR_PBP"+
+         " from CMC_MEMD_MECR_DETL memd"+
+         " join cmc_meme_member meme on meme.meme_ck = memd.meme_ck"+
+         " where memd.MEMD_EVENT_CD = 'PBP' and meme.sbsb_ck = ?"+
+         " and memd.MEMD_HCFA_TERM_DT > ?  and memd.MEMD_HCFA_EFF_DT < ?"+
+         " order by MEMD_HCFA_EFF_DT DESC"+
          " 			";
         
         try 
         {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
 			if (conn == null) {
 				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getCurrentEligibilityWithNoEligibilityCheckByOldMedicareID" );
+					log.debug("<getPBPIdBySbrUidAndEligibility" );
 				return result;
 			}
 
 				StringBuilder sb = null;
             
-            ps = conn.prepareStatement(sql);
+            ps = prepareCachedStatement(conn, sql, "getPBPIdBySbrUidAndEligibility", QuerySettings.Shape.SINGLE_ROW);
             
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
+            long connectionDuration = System.nanoTime() - connectionStart;
             
             int parmNum = 1;
             
-				log.debug("Executing SQL: " + sql);
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (sbsbCk) to " + sbsbCk);
+				}
+                
+            ps.setString(parmNum++, sbsbCk);
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (eligEffDt) to " + eligEffDt);
+				}
+                
+
+				if (eligEffDt == null) 
+            {
+                
+                ps.setTimestamp(parmNum++, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligEffDt.getTime()));
+                
+            }            
             
-				log.debug("   Setting parm #" + parmNum + " (medicareId) to " + medicareId);
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (eligTermDt) to " + eligTermDt);
+				}
+                
+
+				if (eligTermDt == null) 
+            {
+                
+                ps.setTimestamp(parmNum++, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligTermDt.getTime()));
                 
-            ps.setString(parmNum++, medicareId);
+            }            
             
-            long queryStart = System.currentTimeMillis();
+            long queryStart = System.nanoTime();
 				log.debug("Starting query");
             rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
+            long queryDuration = System.nanoTime() - queryStart;
 
             // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
+            long loadResultsStart = System.nanoTime();
             int rowsRead = 0;
             while (rs.next())
             {
             	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
+                FacetsMemberPBPDetailsDto dto = new FacetsMemberPBPDetailsDto();
                                 
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
+                dto.memeCk = rs.getInt("MEME_CK");
                                 
-                dto.subGroupName = rs.getString("SGSG_NAME");
+                dto.event = rs.getString("MEMD_EVENT_CD");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupName = null;
+                    dto.event = null;
                 }
                 
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
+                dto.hcfaEffDT = rs.getTimestamp("MEMD_HCFA_EFF_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupEffectiveDate = null;
+                    dto.hcfaEffDT = null;
                 }
                 
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
+                dto.hcfaTermDT = rs.getTimestamp("MEMD_HCFA_TERM_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupTerminationDate = null;
+                    dto.hcfaTermDT = null;
                 }
                                 
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
+                dto.pbpId = rs.getString("MEMD_MCTR_PBP");
                 if (rs.wasNull()) 
                 {
-                    dto.sourceSystem = null;
+                    dto.pbpId = null;
                 }
                 
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
+                result = dto;
+                break;
                 
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
+            }
+            
+            
+            if (rs.next()) 
+            {
+                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
+            }
+             
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getPBPIdBySbrUidAndEligibility", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>Get Member Billing Component ID </p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			select distinct PDBL.PDBL_ID, pdesc.PDBL_DESC
+			from CMC_PDBC_PROD_COMP pdbc
+			JOIN CMC_PDBL_PROD_BILL PDBL ON pdbc.pdbc_pfx =  pdbl.pdbc_pfx
+			left join AGP.PROD_PDBL_DESC pdesc on PDBL.PDBL_ID = pdesc.PDBL_ID
+			where pdbc.pdbc_type = 'PDBL'
+			and pdbc.pdpd_id = ?
+		</pre></blockquote></p>
+     * <p>Served from the in-memory reference tables, refreshed every
+     * <tt>facets.dao.referenceTables.refreshSeconds</tt>, unless
+     * <tt>facets.dao.referenceTables.enabled</tt> is false.</p>
+     * @param pdpdId Members product Id
+     * @return A <tt>List</tt> of <tt>FacetsMemberBillingComponentDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberBillingComponentDto> getBillingComponentID(String pdpdId)
+    {
+        ReferenceTables references = getReferenceTables();
+        if (references != null)
+        {
+            return references.billingComponents(pdpdId);
+        }
+
+        List<FacetsMemberBillingComponentDto> result = new ArrayList<FacetsMemberBillingComponentDto>();
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " select distinct PDBL.PDBL_ID, pdesc.PDBL_DESC"+
+         " from CMC_PDBC_PROD_COMP pdbc"+
+         " JOIN CMC_PDBL_PROD_BILL PDBL ON pdbc.pdbc_pfx =  pdbl.pdbc_pfx"+
+         " left join AGP.PROD_PDBL_DESC pdesc on PDBL.PDBL_ID = pdesc.PDBL_ID"+
+         " where pdbc.pdbc_type = 'PDBL'"+
+         " and pdbc.pdpd_id = ?"+
+         " 		";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getBillingComponentID" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getBillingComponentID", QuerySettings.Shape.LIST);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+            int parmNum = 1;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (pdpdId) to " + pdpdId);
+				}
+                
+            ps.setString(parmNum++, pdpdId);
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberBillingComponentDto dto = new FacetsMemberBillingComponentDto();
                                 
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
+                dto.billingComponentId = rs.getString("PDBL_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.productValueCode = null;
+                    dto.billingComponentId = null;
                 }
                                 
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
+                dto.billingComponentDesc = rs.getString("PDBL_DESC");
                 if (rs.wasNull()) 
                 {
-                    dto.productValueCodeDesc = null;
+                    dto.billingComponentDesc = null;
                 }
                 
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
+                result.add(dto);
+                
+            }
+            
+            
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getBillingComponentID", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>get CMS contract ID by sbruid and member eligibility period</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				select distinct bgbg.BGBG_ID,
+			                    memd.MEMD_HCFA_EFF_DT,
+			                    memd.MEMD_HCFA_TERM_DT
+				from CMC_MEMD_MECR_DETL memd 
+				LEFT JOIN cmc_bgbg_bil_group bgbg on memd.bgbg_ck = bgbg.bgbg_ck 
+				join CMC_MEME_MEMBER m on memd.meme_ck = m.meme_ck 
+				where memd.MEMD_EVENT_CD = 'SCCC' and m.sbsb_ck = ?  
+        		and MEMD_HCFA_TERM_DT > ?  and MEMD_HCFA_EFF_DT < ?
+				order by MEMD_HCFA_EFF_DT DESC
+			</pre></blockquote></p>
+     * @param sbsbCk Subscribers's contrived Key
+     * @param eligEffDt Eligibility Effective Date
+     * @param eligTermDt Eligibility Termination Date
+     * @return the <tt>FacetsMemberBillingGroupDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberBillingGroupDto getCMSContractIdBySbrUidAndEligibilityDates (String sbsbCk, Date eligEffDt, Date eligTermDt)
+    {
+        FacetsMemberBillingGroupDto result = null;
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " select distinct bgbg.BGBG_ID,"+
+         " memd.MEMD_HCFA_EFF_DT,"+
+         " memd.MEMD_HCFA_TERM_DT"+
+         " from CMC_MEMD_MECR_DETL memd"+
+         " LEFT JOIN cmc_bgbg_bil_group bgbg on memd.bgbg_ck = bgbg.bgbg_ck"+
+         " join CMC_MEME_MEMBER m on memd.meme_ck = m.meme_ck"+
+         " where memd.MEMD_EVENT_CD = 'SCCC' and m.sbsb_ck = ?"+
+         " and MEMD_HCFA_TERM_DT > ?  and MEMD_HCFA_EFF_DT < ?"+
+         " order by MEMD_HCFA_EFF_DT DESC"+
+         " 			";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getCMSContractIdBySbrUidAndEligibilityDates " );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getCMSContractIdBySbrUidAndEligibilityDates", QuerySettings.Shape.SINGLE_ROW);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+            int parmNum = 1;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (sbsbCk) to " + sbsbCk);
+				}
+                
+            ps.setString(parmNum++, sbsbCk);
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (eligEffDt) to " + eligEffDt);
+				}
                 
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
+
+				if (eligEffDt == null) 
+            {
+                
+                ps.setTimestamp(parmNum++, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligEffDt.getTime()));
+                
+            }            
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (eligTermDt) to " + eligTermDt);
+				}
+                
+
+				if (eligTermDt == null) 
+            {
+                
+                ps.setTimestamp(parmNum++, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(parmNum++, new java.sql.Timestamp(eligTermDt.getTime()));
+                
+            }            
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberBillingGroupDto dto = new FacetsMemberBillingGroupDto();
                                 
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
+                dto.federalContractId = rs.getString("BGBG_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.coverageTypeCode = null;
+                    dto.federalContractId = null;
                 }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
+                
+                dto.hcfaEffDT = rs.getTimestamp("MEMD_HCFA_EFF_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.firstName = null;
+                    dto.hcfaEffDT = null;
                 }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
+                
+                dto.hcfaTermDT = rs.getTimestamp("MEMD_HCFA_TERM_DT");
                 if (rs.wasNull()) 
                 {
-                    dto.lastName = null;
+                    dto.hcfaTermDT = null;
                 }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
+                
+                result = dto;
+                break;
+                
+            }
+            
+            
+            if (rs.next()) 
+            {
+                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
+            }
+             
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getCMSContractIdBySbrUidAndEligibilityDates", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>Get Member Alert Messages</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+					SELECT DISTINCT			
+					       WMDS.WMDS_REC_TYPE,			
+					       MEWM.MEWM_EFF_DT,			
+					       MEWM.MEWM_TERM_DT,			
+					       WMDS.WMDS_SEQ_NO,			
+					       WMDS.WMDS_TEXT1,			
+					       WMDS.WMDS_TEXT2			
+					FROM CMC_SBSB_SUBSC SBSB			
+					       JOIN CMC_MEME_MEMBER MEME ON SBSB.SBSB_CK = MEME.SBSB_CK			
+					       JOIN CMC_MEWM_ME_MSG MEWM ON MEWM.MEME_CK = MEME.MEME_CK			
+					       JOIN CMC_WMDS_DESC WMDS ON WMDS.WMDS_SEQ_NO = MEWM.WMDS_SEQ_NO			
+					 WHERE WMDS.WMDS_REC_TYPE = 'MEME' 			
+					       AND (MEWM.MEWM_TERM_DT BETWEEN ? AND ? 		
+					         OR MEWM.MEWM_EFF_DT BETWEEN ? AND ?  			
+					         OR ? BETWEEN MEWM.MEWM_EFF_DT AND MEWM.MEWM_TERM_DT 			
+					         OR ? BETWEEN MEWM.MEWM_EFF_DT AND MEWM.MEWM_TERM_DT)			
+		                         AND SBSB.SBSB_ID = ?
+				</pre></blockquote></p>
+     * @param subscriberId The SBSB_ID of the subscriber
+     * @param effDate The term date to check on the eligibility
+     * @param termDate The term date to check on the provider relationship
+     * @return A <tt>List</tt> of <tt>FacetsMemberMemberFullAlertTextDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberMemberFullAlertTextDto> getMemberWarningMsg(String subscriberId, Date effDate, Date termDate)
+    {
+        List<FacetsMemberMemberFullAlertTextDto> result = new ArrayList<FacetsMemberMemberFullAlertTextDto>();
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " SELECT DISTINCT"+
+         " WMDS.WMDS_REC_TYPE,"+
+         " MEWM.MEWM_EFF_DT,"+
+         " MEWM.MEWM_TERM_DT,"+
+         " WMDS.WMDS_SEQ_NO,"+
+         " WMDS.WMDS_TEXT1,"+
+         " WMDS.WMDS_TEXT2"+
+         " FROM CMC_SBSB_SUBSC SBSB"+
+         " JOIN CMC_MEME_MEMBER MEME ON SBSB.SBSB_CK = MEME.SBSB_CK"+
+         " JOIN CMC_MEWM_ME_MSG MEWM ON MEWM.MEME_CK = MEME.MEME_CK"+
+         " JOIN CMC_WMDS_DESC WMDS ON WMDS.WMDS_SEQ_NO = MEWM.WMDS_SEQ_NO"+
+         " WHERE WMDS.WMDS_REC_TYPE = 'MEME'"+
+         " AND (MEWM.MEWM_TERM_DT BETWEEN ? AND ?"+
+         " OR MEWM.MEWM_EFF_DT BETWEEN ? AND ?"+
+         " OR ? BETWEEN MEWM.MEWM_EFF_DT AND MEWM.MEWM_TERM_DT"+
+         " OR ? BETWEEN MEWM.MEWM_EFF_DT AND MEWM.MEWM_TERM_DT)"+
+         " AND SBSB.SBSB_ID = ?"+
+         " 				";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getMemberWarningMsg" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getMemberWarningMsg", QuerySettings.Shape.LIST);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.fullLastName = null;
+                    log.debug("   Setting parm #7 (subscriberId) to " + subscriberId);
                 }
                 
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
+            ps.setString(7, subscriberId);
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.birthDt = null;
+                    log.debug("   Setting parm #1 (effDate) to " + effDate);
                 }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
+                
+                if (log.isDebugEnabled())
                 {
-                    dto.lobId = null;
+                    log.debug("   Setting parm #3 (effDate) to " + effDate);
                 }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
+                
+                if (log.isDebugEnabled())
                 {
-                    dto.statusCode = null;
+                    log.debug("   Setting parm #5 (effDate) to " + effDate);
                 }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
+                
+
+				if (effDate == null) 
+            {
+                
+                ps.setTimestamp(1, null);
+                
+                ps.setTimestamp(3, null);
+                
+                ps.setTimestamp(5, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(1, new java.sql.Timestamp(effDate.getTime()));
+                
+                ps.setTimestamp(3, new java.sql.Timestamp(effDate.getTime()));
+                
+                ps.setTimestamp(5, new java.sql.Timestamp(effDate.getTime()));
+                
+            }            
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.groupName = null;
+                    log.debug("   Setting parm #2 (termDate) to " + termDate);
                 }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
+                
+                if (log.isDebugEnabled())
                 {
-                    dto.subGroupName = null;
+                    log.debug("   Setting parm #4 (termDate) to " + termDate);
                 }
                 
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
+                if (log.isDebugEnabled())
                 {
-                    dto.subGroupEffectiveDate = null;
+                    log.debug("   Setting parm #6 (termDate) to " + termDate);
                 }
                 
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
+
+				if (termDate == null) 
+            {
+                
+                ps.setTimestamp(2, null);
+                
+                ps.setTimestamp(4, null);
+                
+                ps.setTimestamp(6, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(2, new java.sql.Timestamp(termDate.getTime()));
+                
+                ps.setTimestamp(4, new java.sql.Timestamp(termDate.getTime()));
+                
+                ps.setTimestamp(6, new java.sql.Timestamp(termDate.getTime()));
+                
+            }            
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberMemberFullAlertTextDto dto = new FacetsMemberMemberFullAlertTextDto();
+                                
+                dto.recType = rs.getString("wmds_rec_type");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupTerminationDate = null;
+                    dto.recType = null;
                 }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
+                
+                dto.effDate = rs.getTimestamp("mewm_eff_dt");
                 if (rs.wasNull()) 
                 {
-                    dto.sourceSystem = null;
+                    dto.effDate = null;
                 }
                 
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
+                dto.termDate = rs.getTimestamp("mewm_term_dt");
                 if (rs.wasNull()) 
                 {
-                    dto.planEntryDt = null;
+                    dto.termDate = null;
                 }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
+                                
+                dto.seqNo = rs.getString("wmds_seq_no");
                 if (rs.wasNull()) 
                 {
-                    dto.eligibilityCreateDtm = null;
+                    dto.seqNo = null;
                 }
                                 
-                dto.memeCk = rs.getString("MEME_CK");
+                dto.text1 = rs.getString("wmds_text1");
                 if (rs.wasNull()) 
                 {
-                    dto.memeCk = null;
+                    dto.text1 = null;
                 }
                                 
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
+                dto.text2 = rs.getString("wmds_text2");
                 if (rs.wasNull()) 
                 {
-                    dto.grpPhNo = null;
+                    dto.text2 = null;
                 }
                 
-                result = dto;
-                break;
+                result.add(dto);
                 
             }
             
             
-            if (rs.next()) 
-            {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
-            }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getCurrentEligibilityWithNoEligibilityCheckByOldMedicareID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getMemberWarningMsg", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
         }
         catch (SQLException ex) 
         {
@@ -12775,11 +3806,12 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                         + tex.getSQLState() + " - SQL: " + sql, tex);
                 tex = tex.getNextException();
             }
+            recordQueryFailure();
             throw new DAOException("Unable to perform read - SQL: " + sql, ex);
         }
         finally
         {
-            closeDatabaseObjects(rs, ps, conn);
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
         }
         return result;
     }
@@ -12787,515 +3819,689 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
 
 		
     /**
-     * <p>Get a members current eligibility using the amerigroup id</p>
+     * <p>Get Member Alert Messages</p>
      * <p><b>Not transaction-aware.</b></p>
      * <p>Executes the following SQL:<br/>
-     * <blockquote><pre> select m.MEME_FIRST_NAME, m.MEME_LAST_NAME,
-				CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME,
-				m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT,
-				e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC,
-				g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME,
-				p.GENERAL_DESC, e.CSPD_CAT, e.MEPE_ELIG_IND, g.GRGR_NAME,
-				sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT,
-				sg.SGSG_TERM_DT,g.GRGR_MCTR_TYPE, e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,
-				mctr.mctr_desc, e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK,
-				g.GRGR_PHONE from CMC_MEPE_PRCS_ELIG e inner join CMC_MEME_MEMBER m
-				on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' inner join
-				CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK left outer join
-				CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK left outer join
-				CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK left outer join
-				AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and
-				sg.sgsg_mctr_type=p.market_cd left outer join CMC_PLDS_PLAN_DESC
-				pland ON e.cspi_id = pland.cspi_id LEFT OUTER JOIN
-				FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and
-				e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT left outer
-				join CMC_PDDS_PROD_DESC pdesc on e.pdpd_id = pdesc.pdpd_id left
-				outer join cmc_mctr_cd_trans mctr on mctr.mctr_value =
-				pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and
-				mctr.MCTR_TYPE = 'VAL' where (s.SBSB_ID =?) and TRUNC(SYSDATE)
-				between e.MEPE_EFF_DT and e.MEPE_TERM_DT
-			</pre></blockquote></p>
-     * @param amerigroupID Amerigroup ID of the member
-     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
+     * <blockquote><pre>
+			SELECT DISTINCT 		
+			       WMDS.WMDS_REC_TYPE,		
+			       CSPI.CSPI_EFF_DT,		
+			       CSPI.CSPI_TERM_DT,		
+			       WMDS.WMDS_SEQ_NO,		
+			       WMDS.WMDS_TEXT1,		
+			       WMDS.WMDS_TEXT2      		
+			  FROM CMC_CSPI_CS_PLAN CSPI 		
+			       JOIN CMC_WMDS_DESC WMDS ON WMDS.WMDS_SEQ_NO = CSPI.WMDS_SEQ_NO		
+			 WHERE WMDS.WMDS_REC_TYPE = 'CSPI'		
+			       AND CSPI.GRGR_CK = ?          		
+			       AND CSPI.CSCS_ID = ?        		
+			       AND CSPI.CSPI_ID = ?   		
+                   AND CSPI.PDPD_ID = ?
+                   AND (CSPI.CSPI_TERM_DT BETWEEN ? AND ?     
+				         OR CSPI.CSPI_EFF_DT BETWEEN ? AND ?      
+				         OR ? BETWEEN CSPI.CSPI_EFF_DT AND CSPI.CSPI_TERM_DT    
+				         OR ?  BETWEEN CSPI.CSPI_EFF_DT AND CSPI.CSPI_TERM_DT)
+                              
+		</pre></blockquote></p>
+     * @param grgrck The grgrck of the subscriber
+     * @param cscsid cscsid of the Plan
+     * @param cspiid cspiid on the plan
+     * @param pdpdid pdpdid on the plan
+     * @param effDate The term date to check on the eligibility
+     * @param termDate The term date to check on the provider relationship
+     * @return A <tt>List</tt> of <tt>FacetsMemberPlanFullAlertTextDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
      */
-    public FacetsMemberEligibilityDto getCurrentEligibilityByAmerigroupID(String amerigroupID)
+    public List<FacetsMemberPlanFullAlertTextDto> getPlanWarningMsg(String grgrck, String cscsid, String cspiid, String pdpdid, Date effDate, Date termDate)
     {
-        FacetsMemberEligibilityDto result = null;
+        List<FacetsMemberPlanFullAlertTextDto> result = new ArrayList<FacetsMemberPlanFullAlertTextDto>();
         
         Connection conn = null;
         PreparedStatement ps = null;
         ResultSet rs = null;
 
-        String sql = "select m.MEME_FIRST_NAME, m.MEME_LAST_NAME,"+
-         " CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME,"+
-         " m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT,"+
-         " e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC,"+
-         " g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME,"+
-         " p.GENERAL_DESC, e.CSPD_CAT, e.MEPE_ELIG_IND, g.GRGR_NAME,"+
-         " sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT,"+
-         " sg.SGSG_TERM_DT,g.GRGR_MCTR_TYPE, e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,"+
-         " mctr.mctr_desc, e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK,"+
-         " g.GRGR_PHONE from CMC_MEPE_PRCS_ELIG e inner join CMC_MEME_MEMBER m"+
-         " on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' inner join"+
-         " CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK left outer join"+
-         " CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK left outer join"+
-         " CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK left outer join"+
-         " AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and"+
-         " sg.sgsg_mctr_type=p.market_cd left outer join CMC_PLDS_PLAN_DESC"+
-         " pland ON e.cspi_id = pland.cspi_id LEFT OUTER JOIN"+
-         " FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and"+
-         " e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT left outer"+
-         " join CMC_PDDS_PROD_DESC pdesc on e.pdpd_id = pdesc.pdpd_id left"+
-         " outer join cmc_mctr_cd_trans mctr on mctr.mctr_value ="+
-         " pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and"+
-         " mctr.MCTR_TYPE = 'VAL' where (s.SBSB_ID =?) and TRUNC(SYSDATE)"+
-         " between e.MEPE_EFF_DT and e.MEPE_TERM_DT"+
-         " 			";
+        String sql = ""+
+         " SELECT DISTINCT"+
+         " WMDS.WMDS_REC_TYPE,"+
+         " CSPI.CSPI_EFF_DT,"+
+         " CSPI.CSPI_TERM_DT,"+
+         " WMDS.WMDS_SEQ_NO,"+
+         " WMDS.WMDS_TEXT1,"+
+         " WMDS.WMDS_TEXT2"+
+         " FROM CMC_CSPI_CS_PLAN CSPI"+
+         " JOIN CMC_WMDS_DESC WMDS ON WMDS.WMDS_SEQ_NO = CSPI.WMDS_SEQ_NO"+
+         " WHERE WMDS.WMDS_REC_TYPE = 'CSPI'"+
+         " AND CSPI.GRGR_CK = ?"+
+         " AND CSPI.CSCS_ID = ?"+
+         " AND CSPI.CSPI_ID = ?"+
+         " AND CSPI.PDPD_ID = ?"+
+         " AND (CSPI.CSPI_TERM_DT BETWEEN ? AND ?"+
+         " OR CSPI.CSPI_EFF_DT BETWEEN ? AND ?"+
+         " OR ? BETWEEN CSPI.CSPI_EFF_DT AND CSPI.CSPI_TERM_DT"+
+         " OR ?  BETWEEN CSPI.CSPI_EFF_DT AND CSPI.CSPI_TERM_DT)"+
+         " "+
+         " 		";
         
         try 
         {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
 			if (conn == null) {
 				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getCurrentEligibilityByAmerigroupID" );
+					log.debug("<getPlanWarningMsg" );
 				return result;
 			}
 
 				StringBuilder sb = null;
             
-            ps = conn.prepareStatement(sql);
-            
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
-            
-            int parmNum = 1;
+            ps = prepareCachedStatement(conn, sql, "getPlanWarningMsg", QuerySettings.Shape.LIST);
             
-				log.debug("Executing SQL: " + sql);
+            long connectionDuration = System.nanoTime() - connectionStart;
             
-				log.debug("   Setting parm #" + parmNum + " (amerigroupID) to " + amerigroupID);
-                
-            ps.setString(parmNum++, amerigroupID);
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
             
-            long queryStart = System.currentTimeMillis();
-				log.debug("Starting query");
-            rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
-
-            // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
-            int rowsRead = 0;
-            while (rs.next())
-            {
-            	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
+                if (log.isDebugEnabled())
                 {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
+                    log.debug("   Setting parm #1 (grgrck) to " + grgrck);
                 }
                 
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
+            ps.setString(1, grgrck);
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.subGroupEffectiveDate = null;
+                    log.debug("   Setting parm #2 (cscsid) to " + cscsid);
                 }
                 
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
+            ps.setString(2, cscsid);
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.sourceSystem = null;
+                    log.debug("   Setting parm #3 (cspiid) to " + cspiid);
                 }
                 
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
+            ps.setString(3, cspiid);
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.planEntryDt = null;
+                    log.debug("   Setting parm #4 (pdpdid) to " + pdpdid);
                 }
                 
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
+            ps.setString(4, pdpdid);
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.sbsbID = null;
+                    log.debug("   Setting parm #5 (effDate) to " + effDate);
                 }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
+                
+                if (log.isDebugEnabled())
                 {
-                    dto.sbsbCK = null;
+                    log.debug("   Setting parm #7 (effDate) to " + effDate);
                 }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
+                
+                if (log.isDebugEnabled())
                 {
-                    dto.classID = null;
+                    log.debug("   Setting parm #9 (effDate) to " + effDate);
                 }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
+                
+
+				if (effDate == null) 
+            {
+                
+                ps.setTimestamp(5, null);
+                
+                ps.setTimestamp(7, null);
+                
+                ps.setTimestamp(9, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(5, new java.sql.Timestamp(effDate.getTime()));
+                
+                ps.setTimestamp(7, new java.sql.Timestamp(effDate.getTime()));
+                
+                ps.setTimestamp(9, new java.sql.Timestamp(effDate.getTime()));
+                
+            }            
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.planID = null;
+                    log.debug("   Setting parm #6 (termDate) to " + termDate);
                 }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
+                
+                if (log.isDebugEnabled())
                 {
-                    dto.planDesc = null;
+                    log.debug("   Setting parm #8 (termDate) to " + termDate);
                 }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
+                
+                if (log.isDebugEnabled())
                 {
-                    dto.groupID = null;
+                    log.debug("   Setting parm #10 (termDate) to " + termDate);
                 }
+                
+
+				if (termDate == null) 
+            {
+                
+                ps.setTimestamp(6, null);
+                
+                ps.setTimestamp(8, null);
+                
+                ps.setTimestamp(10, null);
+                
+            }
+            else {
+                
+                ps.setTimestamp(6, new java.sql.Timestamp(termDate.getTime()));
+                
+                ps.setTimestamp(8, new java.sql.Timestamp(termDate.getTime()));
+                
+                ps.setTimestamp(10, new java.sql.Timestamp(termDate.getTime()));
+                
+            }            
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberPlanFullAlertTextDto dto = new FacetsMemberPlanFullAlertTextDto();
                                 
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
+                dto.recType = rs.getString("wmds_rec_type");
                 if (rs.wasNull()) 
                 {
-                    dto.subgroupType = null;
+                    dto.recType = null;
                 }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
+                
+                dto.effDate = rs.getTimestamp("cspi_eff_dt");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupId = null;
+                    dto.effDate = null;
                 }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
+                
+                dto.termDate = rs.getTimestamp("cspi_term_dt");
                 if (rs.wasNull()) 
                 {
-                    dto.medicaidID = null;
+                    dto.termDate = null;
                 }
                                 
-                dto.medicareID = rs.getString("MEME_HICN");
+                dto.seqNo = rs.getString("wmds_seq_no");
                 if (rs.wasNull()) 
                 {
-                    dto.medicareID = null;
+                    dto.seqNo = null;
                 }
                                 
-                dto.productID = rs.getString("PDPD_ID");
+                dto.text1 = rs.getString("wmds_text1");
                 if (rs.wasNull()) 
                 {
-                    dto.productID = null;
+                    dto.text1 = null;
                 }
                                 
-                dto.productName = rs.getString("NAME");
+                dto.text2 = rs.getString("wmds_text2");
                 if (rs.wasNull()) 
                 {
-                    dto.productName = null;
+                    dto.text2 = null;
                 }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
+                
+                result.add(dto);
+                
+            }
+            
+            
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getPlanWarningMsg", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>fetch members tobacco Status</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+	   SELECT S.CATEGORY_VALUE 
+           FROM AGP.ENRL_STATE_REPORTING_CAT S 
+           WHERE S.SBSB_CK = ?
+             AND S.CATEGORY = 'Tobacco' 
+             AND S.CATEGORY_VALUE = ANY ('Y','N','R','U') 
+             AND S.CREATED_DT=( 
+           SELECT MAX(C.CREATED_DT)  
+           FROM AGP.ENRL_STATE_REPORTING_CAT C  
+           WHERE C.SBSB_CK = S.SBSB_CK
+             AND C.CATEGORY = 'Tobacco' 
+             AND C.CATEGORY_VALUE = ANY ('Y','N','R','U') 
+              )        
+	   		</pre></blockquote></p>
+     * @param sbsb_ck Member's SBSB_CK
+     * @return the <tt>FacetsMemberTobaccoStatusDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberTobaccoStatusDto getMemberTobaccoStatus(String sbsb_ck)
+    {
+        FacetsMemberTobaccoStatusDto result = null;
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " SELECT S.CATEGORY_VALUE"+
+         " FROM AGP.ENRL_STATE_REPORTING_CAT S"+
+         " WHERE S.SBSB_CK = ?"+
+         " AND S.CATEGORY = 'Tobacco'"+
+         " AND S.CATEGORY_VALUE = ANY ('Y','N','R','U')"+
+         " AND S.CREATED_DT=("+
+         " SELECT MAX(C.CREATED_DT)"+
+         " FROM AGP.ENRL_STATE_REPORTING_CAT C"+
+         " WHERE C.SBSB_CK = S.SBSB_CK"+
+         " AND C.CATEGORY = 'Tobacco'"+
+         " AND C.CATEGORY_VALUE = ANY ('Y','N','R','U')"+
+         " )"+
+         " 	   		";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getMemberTobaccoStatus" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getMemberTobaccoStatus", QuerySettings.Shape.SINGLE_ROW);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+                if (log.isDebugEnabled())
                 {
-                    dto.productDescription = null;
+                    log.debug("   Setting parm #1 (sbsb_ck) to " + sbsb_ck);
                 }
+                
+            ps.setString(1, sbsb_ck);
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberTobaccoStatusDto dto = new FacetsMemberTobaccoStatusDto();
                                 
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
+                dto.categoryValue = rs.getString("CATEGORY_VALUE");
                 if (rs.wasNull()) 
                 {
-                    dto.productValueCode = null;
+                    dto.categoryValue = null;
                 }
+                
+                result = dto;
+                break;
+                
+            }
+            
+            
+            if (rs.next()) 
+            {
+                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
+            }
+             
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getMemberTobaccoStatus", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>get blues prefix</p>
+     * <p>Served from an in-memory copy loaded with {@link #queryBluesPrefixes(boolean)} on first use
+     * and refreshed in the background every <tt>facets.dao.bluesPrefixCache.refreshSeconds</tt>;
+     * a stale copy is returned while the refresh runs.  Set
+     * <tt>facets.dao.bluesPrefixCache.enabled</tt> to false to query on every call.</p>
+     * @return A <tt>List</tt> of <tt>FacetsMemberBluesPrefixDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    public List<FacetsMemberBluesPrefixDto> getBluesPrefixes()
+    {
+        BluesPrefixSet prefixes = getBluesPrefixSet();
+        if (prefixes != null)
+        {
+            return prefixes.toDtos();
+        }
+        return queryBluesPrefixes(false);
+    }
+
+    /**
+     * <p>Check whether <tt>prefix</tt> is one of the blues prefixes returned by {@link #getBluesPrefixes()}.</p>
+     * @param prefix The three-character prefix, compared exactly as stored
+     * @return true if the prefix is known
+     */
+    public boolean isBluesPrefix(String prefix)
+    {
+        if (prefix == null)
+        {
+            return false;
+        }
+        BluesPrefixSet prefixes = getBluesPrefixSet();
+        if (prefixes != null)
+        {
+            return prefixes.contains(prefix);
+        }
+        for (FacetsMemberBluesPrefixDto dto : queryBluesPrefixes(false))
+        {
+            if (prefix.equals(dto.prefix))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>get blues prefix from the database</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+			SELECT distinct CSPI_ITS_PREFIX as PREFIX
+			FROM CMC_CSPI_CS_PLAN WHERE length(CSPI_ITS_PREFIX)=3			
+		   </pre></blockquote></p>
+     * @param forSnapshot Whether the result will be cached; if so a missing connection is an
+     * error rather than an empty list, so the snapshot keeps its previous copy
+     * @return A <tt>List</tt> of <tt>FacetsMemberBluesPrefixDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
+     */
+    private List<FacetsMemberBluesPrefixDto> queryBluesPrefixes(boolean forSnapshot)
+    {
+        List<FacetsMemberBluesPrefixDto> result = new ArrayList<FacetsMemberBluesPrefixDto>();
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " SELECT distinct CSPI_ITS_PREFIX as PREFIX"+
+         " FROM CMC_CSPI_CS_PLAN WHERE length(CSPI_ITS_PREFIX)=3"+
+         " 		   ";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				if (forSnapshot) {
+					throw new DAOException("Unable to get a connection to datasource " + getDatasourceJndiName());
+				}
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getBluesPrefixes" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "queryBluesPrefixes", QuerySettings.Shape.REFERENCE);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberBluesPrefixDto dto = new FacetsMemberBluesPrefixDto();
                                 
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
+                dto.prefix = rs.getString("PREFIX");
                 if (rs.wasNull()) 
                 {
-                    dto.productValueCodeDesc = null;
+                    dto.prefix = null;
                 }
                 
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
+                result.add(dto);
                 
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
+            }
+            
+            
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getBluesPrefixes", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>get sbsb ID and bluse prefix</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				select sbsb.SBSB_ID, cspi.CSPI_ITS_PREFIX
+				from cmc_sbsb_subsc sbsb
+				JOIN cmc_meme_member meme ON sbsb.sbsb_ck = meme.sbsb_ck
+				JOIN cmc_mepe_prcs_elig mepe ON mepe.meme_ck = meme.meme_ck and mepe.MEPE_ELIG_IND='Y' 
+				JOIN CMC_CSPI_CS_PLAN cspi on cspi.GRGR_CK = mepe.GRGR_CK and cspi.cscs_ID=mepe.cscs_ID and cspi.cspi_ID=mepe.cspi_ID 
+					 and cspi.CSPD_CAT=mepe.CSPD_CAT and length(cspi.CSPI_ITS_PREFIX)=3 and mepe.MEPE_EFF_DT <= cspi.CSPI_TERM_DT and mepe.MEPE_TERM_DT >= cspi.CSPI_EFF_DT
+				where sbsb.sbsb_id=? and ? between cspi.CSPI_EFF_DT and cspi.CSPI_TERM_DT			
+		    </pre></blockquote></p>
+     * <p>Unless <tt>facets.dao.classPlanIndex.enabled</tt> is false, only the subscriber's
+     * eligible spans are read from the database and the <tt>CMC_CSPI_CS_PLAN</tt> join is
+     * resolved in memory.</p>
+     * <p>With <tt>facets.dao.hedge.enabled</tt>, a call slower than the configured percentile
+     * of this query is started again on a second connection and the slower attempt is
+     * cancelled; see {@link HedgedRequests}.</p>
+     * @param subscriberID The SBSB_ID of the member
+     * @param searchDate The Search Date
+     * @return the <tt>FacetsMemberIdAndBluesPrefixDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberIdAndBluesPrefixDto getIdAndBluesPrefixBySbsbIdAndDate(final String subscriberID, final Date searchDate)
+    {
+        return hedged("getIdAndBluesPrefixBySbsbIdAndDate",
+            classPlanIndexEnabled ? "getIdAndBluesPrefixBySbsbIdAndDate.spans" : "getIdAndBluesPrefixBySbsbIdAndDate",
+            new HedgedRequests.Call<FacetsMemberIdAndBluesPrefixDto>()
+        {
+            public FacetsMemberIdAndBluesPrefixDto call()
+            {
+                return queryIdAndBluesPrefix(subscriberID, searchDate);
+            }
+        });
+    }
+
+    /**
+     * <p>The body of {@link #getIdAndBluesPrefixBySbsbIdAndDate(String, Date)}, run once or,
+     * when hedged, once per attempt.</p>
+     */
+    private FacetsMemberIdAndBluesPrefixDto queryIdAndBluesPrefix(String subscriberID, Date searchDate)
+    {
+        ClassPlanIndex classPlans = getClassPlanIndex();
+        if (classPlans != null)
+        {
+            return classPlans.bluesPrefix(querySubscriberSpans("getIdAndBluesPrefixBySbsbIdAndDate.spans", subscriberID, true), searchDate);
+        }
+
+        FacetsMemberIdAndBluesPrefixDto result = null;
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " select sbsb.SBSB_ID, cspi.CSPI_ITS_PREFIX"+
+         " from cmc_sbsb_subsc sbsb"+
+         " JOIN cmc_meme_member meme ON sbsb.sbsb_ck = meme.sbsb_ck"+
+         " JOIN cmc_mepe_prcs_elig mepe ON mepe.meme_ck = meme.meme_ck and mepe.MEPE_ELIG_IND='Y'"+
+         " JOIN CMC_CSPI_CS_PLAN cspi on cspi.GRGR_CK = mepe.GRGR_CK and cspi.cscs_ID=mepe.cscs_ID and cspi.cspi_ID=mepe.cspi_ID"+
+         " and cspi.CSPD_CAT=mepe.CSPD_CAT and length(cspi.CSPI_ITS_PREFIX)=3 and mepe.MEPE_EFF_DT <= cspi.CSPI_TERM_DT and mepe.MEPE_TERM_DT >= cspi.CSPI_EFF_DT"+
+         " where sbsb.sbsb_id=? and ? between cspi.CSPI_EFF_DT and cspi.CSPI_TERM_DT"+
+         " 		    ";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getIdAndBluesPrefixBySbsbIdAndDate" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getIdAndBluesPrefixBySbsbIdAndDate", QuerySettings.Shape.SINGLE_ROW);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+            int parmNum = 1;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (subscriberID) to " + subscriberID);
+				}
                 
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
+            ps.setString(parmNum++, subscriberID);
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (searchDate) to " + searchDate);
+				}
                 
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
+
+				if (searchDate == null) 
+            {
                 
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
+                ps.setTimestamp(parmNum++, null);
                 
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
+            }
+            else {
                 
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
+                ps.setTimestamp(parmNum++, new java.sql.Timestamp(searchDate.getTime()));
+                
+            }            
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberIdAndBluesPrefixDto dto = new FacetsMemberIdAndBluesPrefixDto();
                                 
-                dto.memeCk = rs.getString("MEME_CK");
+                dto.sbsbId = rs.getString("sbsb_id");
                 if (rs.wasNull()) 
                 {
-                    dto.memeCk = null;
+                    dto.sbsbId = null;
                 }
                                 
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
+                dto.prefix = rs.getString("CSPI_ITS_PREFIX");
                 if (rs.wasNull()) 
                 {
-                    dto.grpPhNo = null;
+                    dto.prefix = null;
                 }
                 
                 result = dto;
@@ -13309,11 +4515,15 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                 log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
             }
              
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getCurrentEligibilityByAmerigroupID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getIdAndBluesPrefixBySbsbIdAndDate", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
         }
         catch (SQLException ex) 
         {
+            if (HedgedRequests.isCancelled())
+            {
+                throw new DAOException("Cancelled in favour of a hedged request - SQL: " + sql, ex);
+            }
             SQLException tex = ex;
             if (ex.getNextException() != null)
             {
@@ -13326,11 +4536,12 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                         + tex.getSQLState() + " - SQL: " + sql, tex);
                 tex = tex.getNextException();
             }
+            recordQueryFailure();
             throw new DAOException("Unable to perform read - SQL: " + sql, ex);
         }
         finally
         {
-            closeDatabaseObjects(rs, ps, conn);
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
         }
         return result;
     }
@@ -13338,528 +4549,877 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
 
 		
     /**
-     * <p>Get a members current eligibility using the amerigroup id</p>
+     * <p>Get SRI code by SBSB_CK</p>
      * <p><b>Not transaction-aware.</b></p>
      * <p>Executes the following SQL:<br/>
-     * <blockquote><pre> select m.MEME_FIRST_NAME,
-				m.MEME_LAST_NAME,CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as
-				FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK,
-				e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID,
-				pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE,
-				m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
-				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID,
-				sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT,g.GRGR_MCTR_TYPE,
-				e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,
-				mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK,
-				g.GRGR_PHONE from CMC_MEPE_PRCS_ELIG e inner join CMC_MEME_MEMBER m
-				on e.MEME_CK = m.MEME_CK inner join CMC_SBSB_SUBSC s on m.SBSB_CK =
-				s.SBSB_CK left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK =
-				sg.SGSG_CK left outer join CMC_GRGR_GROUP g on g.GRGR_CK =
-				sg.GRGR_CK left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID =
-				p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd left outer join
-				CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id LEFT OUTER
-				JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and
-				e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT left outer
-				join CMC_PDDS_PROD_DESC pdesc on e.pdpd_id = pdesc.pdpd_id left
-				outer join cmc_mctr_cd_trans mctr on mctr.mctr_value =
-				pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and
-				mctr.MCTR_TYPE = 'VAL' where (s.SBSB_ID =?) and TRUNC(SYSDATE)
-				between e.MEPE_EFF_DT and e.MEPE_TERM_DT </pre></blockquote></p>
-     * @param amerigroupID Amerigroup ID of the member
-     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
-     * selection criteria, or null if there is no match.
+     * <blockquote><pre> 
+	            select SRI_CODE
+	            from AGP.SRI 
+				where SBSB_CK = ? AND ( term_dt is null OR (eff_dt is null and sysdate > term_dt) OR (sysdate between eff_dt and term_dt)  )
+	        </pre></blockquote></p>
+     * @param sbsbCK contrived key
+     * @return A <tt>List</tt> of <tt>FacetsMemberSriDto</tt> objects that match the
+     * selection criteria.  The <tt>List</tt> may be empty but will never return null.
      */
-    public FacetsMemberEligibilityDto getCurrentEligibilityWithNoEligibilityCheckByAmerigroupID(String amerigroupID)
+    public List<FacetsMemberSriDto> getSriBySbsbCK(String sbsbCK)
     {
-        FacetsMemberEligibilityDto result = null;
+        List<FacetsMemberSriDto> result = new ArrayList<FacetsMemberSriDto>();
         
         Connection conn = null;
         PreparedStatement ps = null;
         ResultSet rs = null;
 
-        String sql = "select m.MEME_FIRST_NAME,"+
-         " m.MEME_LAST_NAME,CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as"+
-         " FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK,"+
-         " e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID,"+
-         " pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE,"+
-         " m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,"+
-         " e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID,"+
-         " sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT,g.GRGR_MCTR_TYPE,"+
-         " e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,"+
-         " mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK,"+
-         " g.GRGR_PHONE from CMC_MEPE_PRCS_ELIG e inner join CMC_MEME_MEMBER m"+
-         " on e.MEME_CK = m.MEME_CK inner join CMC_SBSB_SUBSC s on m.SBSB_CK ="+
-         " s.SBSB_CK left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK ="+
-         " sg.SGSG_CK left outer join CMC_GRGR_GROUP g on g.GRGR_CK ="+
-         " sg.GRGR_CK left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID ="+
-         " p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd left outer join"+
-         " CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id LEFT OUTER"+
-         " JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and"+
-         " e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT left outer"+
-         " join CMC_PDDS_PROD_DESC pdesc on e.pdpd_id = pdesc.pdpd_id left"+
-         " outer join cmc_mctr_cd_trans mctr on mctr.mctr_value ="+
-         " pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and"+
-         " mctr.MCTR_TYPE = 'VAL' where (s.SBSB_ID =?) and TRUNC(SYSDATE)"+
-         " 				between e.MEPE_EFF_DT and e.MEPE_TERM_DT ";
+        String sql = ""+
+         " select SRI_CODE"+
+         " from AGP.SRI"+
+         " where SBSB_CK = ? AND ( term_dt is null OR (eff_dt is null and sysdate > term_dt) OR (sysdate between eff_dt and term_dt)  )"+
+         " 	        ";
         
         try 
         {
-	        long connectionStart = System.currentTimeMillis();
-			conn = getConnection();
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
 			if (conn == null) {
 				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
-					log.debug("<getCurrentEligibilityWithNoEligibilityCheckByAmerigroupID" );
+					log.debug("<getSriBySbsbCK" );
 				return result;
 			}
 
 				StringBuilder sb = null;
             
-            ps = conn.prepareStatement(sql);
+            ps = prepareCachedStatement(conn, sql, "getSriBySbsbCK", QuerySettings.Shape.LIST);
             
-            long connectionDuration = System.currentTimeMillis() - connectionStart;
+            long connectionDuration = System.nanoTime() - connectionStart;
             
             int parmNum = 1;
             
-				log.debug("Executing SQL: " + sql);
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
             
-				log.debug("   Setting parm #" + parmNum + " (amerigroupID) to " + amerigroupID);
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (sbsbCK) to " + sbsbCK);
+				}
                 
-            ps.setString(parmNum++, amerigroupID);
+            ps.setString(parmNum++, sbsbCK);
             
-            long queryStart = System.currentTimeMillis();
+            long queryStart = System.nanoTime();
 				log.debug("Starting query");
             rs = ps.executeQuery();
-            int queryDuration = (int) (System.currentTimeMillis() - queryStart);
+            long queryDuration = System.nanoTime() - queryStart;
 
             // Load results into list            
-            long loadResultsStart = System.currentTimeMillis();
+            long loadResultsStart = System.nanoTime();
             int rowsRead = 0;
             while (rs.next())
             {
             	rowsRead++;
-                FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
-                                
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCodeDesc = null;
-                }
-                
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
-                
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
-                
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
-                                
-                dto.groupName = rs.getString("GRGR_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.groupName = null;
-                }
-                                
-                dto.subGroupName = rs.getString("SGSG_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupName = null;
-                }
-                
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
-                
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupTerminationDate = null;
-                }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.sourceSystem = null;
-                }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.planEntryDt = null;
-                }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
-                {
-                    dto.eligibilityCreateDtm = null;
-                }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.memeCk = null;
-                }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
-                {
-                    dto.grpPhNo = null;
-                }
-                                
-                dto.groupCk = rs.getString("GRGR_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.groupCk = null;
-                }
-                                
-                dto.sbsbID = rs.getString("SBSB_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbID = null;
-                }
-                                
-                dto.sbsbCK = rs.getString("SBSB_CK");
-                if (rs.wasNull()) 
-                {
-                    dto.sbsbCK = null;
-                }
-                                
-                dto.classID = rs.getString("CSCS_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.classID = null;
-                }
-                                
-                dto.planID = rs.getString("CSPI_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.planID = null;
-                }
-                                
-                dto.planDesc = rs.getString("PLDS_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.planDesc = null;
-                }
-                                
-                dto.groupID = rs.getString("GRGR_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.groupID = null;
-                }
-                                
-                dto.subgroupType = rs.getString("SGSG_MCTR_TYPE");
-                if (rs.wasNull()) 
-                {
-                    dto.subgroupType = null;
-                }
-                                
-                dto.subGroupId = rs.getString("SGSG_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupId = null;
-                }
-                                
-                dto.medicaidID = rs.getString("MEME_MEDCD_NO");
-                if (rs.wasNull()) 
-                {
-                    dto.medicaidID = null;
-                }
-                                
-                dto.medicareID = rs.getString("MEME_HICN");
-                if (rs.wasNull()) 
-                {
-                    dto.medicareID = null;
-                }
-                                
-                dto.productID = rs.getString("PDPD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.productID = null;
-                }
-                                
-                dto.productName = rs.getString("NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.productName = null;
-                }
-                                
-                dto.productDescription = rs.getString("GENERAL_DESC");
-                if (rs.wasNull()) 
-                {
-                    dto.productDescription = null;
-                }
-                                
-                dto.productValueCode = rs.getString("PDDS_MCTR_VAL1");
-                if (rs.wasNull()) 
-                {
-                    dto.productValueCode = null;
-                }
+                FacetsMemberSriDto dto = new FacetsMemberSriDto();
                                 
-                dto.productValueCodeDesc = rs.getString("MCTR_DESC");
+                dto.code = rs.getString("SRI_CODE");
                 if (rs.wasNull()) 
                 {
-                    dto.productValueCodeDesc = null;
+                    dto.code = null;
                 }
                 
-                dto.dateEffective = rs.getTimestamp("MEPE_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateEffective = null;
-                }
+                result.add(dto);
                 
-                dto.dateTermination = rs.getTimestamp("MEPE_TERM_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.dateTermination = null;
-                }
-                                
-                dto.coverageTypeCode = rs.getString("CSPD_CAT");
-                if (rs.wasNull()) 
-                {
-                    dto.coverageTypeCode = null;
-                }
-                                
-                dto.firstName = rs.getString("MEME_FIRST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.firstName = null;
-                }
-                                
-                dto.lastName = rs.getString("MEME_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.lastName = null;
-                }
-                                
-                dto.fullLastName = rs.getString("FULL_LAST_NAME");
-                if (rs.wasNull()) 
-                {
-                    dto.fullLastName = null;
-                }
+            }
+            
+            
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getSriBySbsbCK", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>Get hipaa</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre> SELECT SBSB.SBSB_ID, (CASE WHEN MAX(PMCC.PMCC_TERM_DTM) >= SYSDATE THEN 'Y' ELSE 'N' END) AS HIPAA
+				FROM FHP_PMED_MEMBER_D PMED
+				LEFT JOIN FHP_PMCC_COMM_X PMCC ON PMCC.PMED_CKE = PMED.PMED_CKE AND PMCC.PMCC_PZCD_STS = 'ACPT'
+				INNER JOIN CMC_SBSB_SUBSC SBSB ON SBSB.SBSB_ID  = SUBSTR(PMED.PMED_ID,9,9)
+				WHERE
+				    SBSB.SBSB_ID = ?
+				GROUP BY
+				    SBSB.SBSB_ID</pre></blockquote></p>
+     * @param memberId Amerigroup ID of the Facets member.
+     * @return the <tt>FacetsMemberHippaDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberHippaDto getHipaa(String memberId)
+    {
+        FacetsMemberHippaDto result = null;
+        
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = "SELECT SBSB.SBSB_ID, (CASE WHEN MAX(PMCC.PMCC_TERM_DTM) >= SYSDATE THEN 'Y' ELSE 'N' END) AS HIPAA"+
+         " FROM FHP_PMED_MEMBER_D PMED"+
+         " LEFT JOIN FHP_PMCC_COMM_X PMCC ON PMCC.PMED_CKE = PMED.PMED_CKE AND PMCC.PMCC_PZCD_STS = 'ACPT'"+
+         " INNER JOIN CMC_SBSB_SUBSC SBSB ON SBSB.SBSB_ID  = SUBSTR(PMED.PMED_ID,9,9)"+
+         " WHERE"+
+         " SBSB.SBSB_ID = ?"+
+         " GROUP BY"+
+         " 				    SBSB.SBSB_ID";
+        
+        try 
+        {
+	        long connectionStart = System.nanoTime();
+			conn = openConnection();
+			if (conn == null) {
+				log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+					log.debug("<getHipaa" );
+				return result;
+			}
+
+				StringBuilder sb = null;
+            
+            ps = prepareCachedStatement(conn, sql, "getHipaa", QuerySettings.Shape.SINGLE_ROW);
+            
+            long connectionDuration = System.nanoTime() - connectionStart;
+            
+            int parmNum = 1;
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("Executing SQL: " + sql);
+				}
+            
+				if (log.isDebugEnabled())
+				{
+				    log.debug("   Setting parm #" + parmNum + " (memberId) to " + memberId);
+				}
                 
-                dto.birthDt = rs.getTimestamp("MEME_BIRTH_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.birthDt = null;
-                }
-                                
-                dto.lobId = rs.getString("LOBD_ID");
-                if (rs.wasNull()) 
-                {
-                    dto.lobId = null;
-                }
-                                
-                dto.statusCode = rs.getString("MEPE_ELIG_IND");
-                if (rs.wasNull()) 
-                {
-                    dto.statusCode = null;
-                }
+            ps.setString(parmNum++, memberId);
+            
+            long queryStart = System.nanoTime();
+				log.debug("Starting query");
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            // Load results into list            
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+            	rowsRead++;
+                FacetsMemberHippaDto dto = new FacetsMemberHippaDto();
                                 
-                dto.groupName = rs.getString("GRGR_NAME");
+                dto.amerigroupID = rs.getString("SBSB_ID");
                 if (rs.wasNull()) 
                 {
-                    dto.groupName = null;
+                    dto.amerigroupID = null;
                 }
                                 
-                dto.subGroupName = rs.getString("SGSG_NAME");
+                dto.hipaa = rs.getString("HIPAA");
                 if (rs.wasNull()) 
                 {
-                    dto.subGroupName = null;
+                    dto.hipaa = null;
                 }
                 
-                dto.subGroupEffectiveDate = rs.getTimestamp("SGSG_ORIG_EFF_DT");
-                if (rs.wasNull()) 
-                {
-                    dto.subGroupEffectiveDate = null;
-                }
+                result = dto;
+                break;
                 
-                dto.subGroupTerminationDate = rs.getTimestamp("SGSG_TERM_DT");
-                if (rs.wasNull()) 
+            }
+            
+            
+            if (rs.next()) 
+            {
+                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
+            }
+             
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("getHipaa", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>Get the pieces of a member's eligibility response in one connection checkout</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Runs {@link #getCurrentEligibilityByAmerigroupID(String)}, {@link #getHomeAddress(String)},
+     * {@link #getMemberTobaccoStatus(String)}, {@link #getSriBySbsbCK(String)}, {@link #getHipaa(String)}
+     * and {@link #getIdAndBluesPrefixBySbsbIdAndDate(String, Date)} back to back on the same connection,
+     * so the request pays for one pool checkout instead of six.  The tobacco status and SRI codes
+     * are looked up with the SBSB_CK of the current eligibility and are left empty if the member
+     * has none.</p>
+     * @param amerigroupID Amerigroup ID of the member
+     * @param searchDate The date for the blues prefix lookup
+     * @return the <tt>FacetsMemberProfileDto</tt>; never null, but its parts may be empty
+     */
+    public FacetsMemberProfileDto getMemberProfile(String amerigroupID, Date searchDate)
+    {
+        FacetsMemberProfileDto result = new FacetsMemberProfileDto();
+
+        long connectionStart = System.nanoTime();
+        Connection conn = openConnection();
+        if (conn == null) {
+            log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+            log.debug("<getMemberProfile" );
+            return result;
+        }
+        long connectionDuration = System.nanoTime() - connectionStart;
+
+        pinnedConnection.set(NonClosingConnection.wrap(conn));
+        try
+        {
+            long queryStart = System.nanoTime();
+            result.currentEligibility = getCurrentEligibilityByAmerigroupID(amerigroupID);
+            result.homeAddress = getHomeAddress(amerigroupID);
+            String sbsbCK = result.currentEligibility == null ? null : result.currentEligibility.sbsbCK;
+            if (sbsbCK != null)
+            {
+                result.tobaccoStatus = getMemberTobaccoStatus(sbsbCK);
+                result.sriCodes = getSriBySbsbCK(sbsbCK);
+            }
+            result.hipaa = getHipaa(amerigroupID);
+            result.idAndBluesPrefix = getIdAndBluesPrefixBySbsbIdAndDate(amerigroupID, searchDate);
+            long queryDuration = System.nanoTime() - queryStart;
+            recordQuery("getMemberProfile", connectionDuration, queryDuration, 0, 0);
+        }
+        finally
+        {
+            pinnedConnection.remove();
+            closeDatabaseObjects(null, null, conn);
+        }
+        return result;
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
+				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK ,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+				from CMC_MEPE_PRCS_ELIG e
+				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'
+				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
+				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
+				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
+				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
+				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+				where (m.MEME_MEDCD_NO =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
+			</pre></blockquote></p>
+     * @param medicaidId Medicaid ID of the member
+     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberEligibilityDto getCurrentEligibilityByMedicaidID(String medicaidId)
+    {
+        return queryCurrentEligibility(FacetsEligibilityQuery.CURRENT_BY_MEDICAID_ID, medicaidId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
+				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+				from CMC_MEPE_PRCS_ELIG e
+				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'
+				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
+				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
+				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
+				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
+				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+				where (m.MEME_HICN =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
+			</pre></blockquote></p>
+     * @param medicareId Medicaid ID of the member
+     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberEligibilityDto getCurrentEligibilityByCurrentMedicareID(String medicareId)
+    {
+        return queryCurrentEligibility(FacetsEligibilityQuery.CURRENT_BY_CURRENT_MEDICARE_ID, medicareId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
+				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+				from CMC_MEPE_PRCS_ELIG e
+				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y'
+				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
+				left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK
+				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
+				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
+				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
+				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+				where (x.MECR_NO_ORIG = ?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
+			</pre></blockquote></p>
+     * @param medicareId Medicaid ID of the member
+     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberEligibilityDto getCurrentEligibilityByOldMedicareID(String medicareId)
+    {
+        return queryCurrentEligibility(FacetsEligibilityQuery.CURRENT_BY_OLD_MEDICARE_ID, medicareId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
+				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+				from CMC_MEPE_PRCS_ELIG e
+				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK
+				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
+				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
+				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
+				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
+				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+				where (m.MEME_MEDCD_NO =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
+			</pre></blockquote></p>
+     * @param medicaidId Medicaid ID of the member
+     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberEligibilityDto getCurrentEligibilityWithNoEligibilityCheckByMedicaidID(String medicaidId)
+    {
+        return queryCurrentEligibility(FacetsEligibilityQuery.CURRENT_NO_ELIGIBILITY_CHECK_BY_MEDICAID_ID, medicaidId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicare id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
+				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+				from CMC_MEPE_PRCS_ELIG e
+				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK
+				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
+				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
+				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
+				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
+				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+				where (m.MEME_HICN =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
+			</pre></blockquote></p>
+     * @param medicaidId Medicaid ID of the member
+     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberEligibilityDto getCurrentEligibilityWithNoEligibilityCheckByCurrentMedicareID(String medicaidId)
+    {
+        return queryCurrentEligibility(FacetsEligibilityQuery.CURRENT_NO_ELIGIBILITY_CHECK_BY_CURRENT_MEDICARE_ID, medicaidId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibilities using the medicaid id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				select m.MEME_FIRST_NAME, m.MEME_LAST_NAME, CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
+				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT, g.GRGR_MCTR_TYPE , e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK, g.GRGR_PHONE
+				from CMC_MEPE_PRCS_ELIG e
+				inner join CMC_MEME_MEMBER m on e.MEME_CK = m.MEME_CK
+				inner join CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK
+				left join CMC_MECR_NO_XREF x on x.MEME_CK = M.MEME_CK
+				left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK
+				left outer join CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK
+				left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd
+				left outer join CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id
+				LEFT OUTER JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT
+				left outer join CMC_PDDS_PROD_DESC pdesc  on e.pdpd_id = pdesc.pdpd_id
+				left outer join  cmc_mctr_cd_trans mctr on mctr.mctr_value = pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and mctr.MCTR_TYPE = 'VAL'
+				where (x.MECR_NO_ORIG =?) and TRUNC(SYSDATE) between e.MEPE_EFF_DT and e.MEPE_TERM_DT
+			</pre></blockquote></p>
+     * @param medicareId Medicaid ID of the member
+     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberEligibilityDto getCurrentEligibilityWithNoEligibilityCheckByOldMedicareID(String medicareId)
+    {
+        return queryCurrentEligibility(FacetsEligibilityQuery.CURRENT_NO_ELIGIBILITY_CHECK_BY_OLD_MEDICARE_ID, medicareId);
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibility using the amerigroup id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre> select m.MEME_FIRST_NAME, m.MEME_LAST_NAME,
+				CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as FULL_LAST_NAME,
+				m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK, e.MEPE_EFF_DT,
+				e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID, pland.PLDS_DESC,
+				g.GRGR_ID, sg.SGSG_MCTR_TYPE, m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME,
+				p.GENERAL_DESC, e.CSPD_CAT, e.MEPE_ELIG_IND, g.GRGR_NAME,
+				sg.SGSG_NAME, sg.SGSG_ID, sg.SGSG_ORIG_EFF_DT,
+				sg.SGSG_TERM_DT,g.GRGR_MCTR_TYPE, e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,
+				mctr.mctr_desc, e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK,
+				g.GRGR_PHONE from CMC_MEPE_PRCS_ELIG e inner join CMC_MEME_MEMBER m
+				on e.MEME_CK = m.MEME_CK and e.MEPE_ELIG_IND = 'Y' inner join
+				CMC_SBSB_SUBSC s on m.SBSB_CK = s.SBSB_CK left outer join
+				CMC_SGSG_SUB_GROUP sg on e.SGSG_CK = sg.SGSG_CK left outer join
+				CMC_GRGR_GROUP g on g.GRGR_CK = sg.GRGR_CK left outer join
+				AGP.CCTR_PRODUCT p on e.PDPD_ID = p.PRODUCT_ID and
+				sg.sgsg_mctr_type=p.market_cd left outer join CMC_PLDS_PLAN_DESC
+				pland ON e.cspi_id = pland.cspi_id LEFT OUTER JOIN
+				FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and
+				e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT left outer
+				join CMC_PDDS_PROD_DESC pdesc on e.pdpd_id = pdesc.pdpd_id left
+				outer join cmc_mctr_cd_trans mctr on mctr.mctr_value =
+				pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and
+				mctr.MCTR_TYPE = 'VAL' where (s.SBSB_ID =?) and TRUNC(SYSDATE)
+				between e.MEPE_EFF_DT and e.MEPE_TERM_DT
+			</pre></blockquote></p>
+     * <p>With <tt>facets.dao.hedge.enabled</tt>, a call slower than the configured percentile
+     * of this query is started again on a second connection and the slower attempt is
+     * cancelled; see {@link HedgedRequests}.</p>
+     * @param amerigroupID Amerigroup ID of the member
+     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberEligibilityDto getCurrentEligibilityByAmerigroupID(final String amerigroupID)
+    {
+        return hedged("getCurrentEligibilityByAmerigroupID", FacetsEligibilityQuery.CURRENT_BY_AMERIGROUP_ID.getMethodName(),
+            new HedgedRequests.Call<FacetsMemberEligibilityDto>()
+        {
+            public FacetsMemberEligibilityDto call()
+            {
+                return queryCurrentEligibility(FacetsEligibilityQuery.CURRENT_BY_AMERIGROUP_ID, amerigroupID);
+            }
+        });
+    }
+	
+
+		
+    /**
+     * <p>Get a members current eligibility using the amerigroup id</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre> select m.MEME_FIRST_NAME,
+				m.MEME_LAST_NAME,CONCAT(m.MEME_LAST_NAME, m.MEME_TITLE) as
+				FULL_LAST_NAME, m.MEME_BIRTH_DT, pd.LOBD_ID, s.SBSB_ID, s.SBSB_CK,
+				e.MEPE_EFF_DT, e.MEPE_TERM_DT, e.CSCS_ID, e.PDPD_ID, e.CSPI_ID,
+				pland.PLDS_DESC, g.GRGR_ID, sg.SGSG_MCTR_TYPE,
+				m.MEME_MEDCD_NO,m.MEME_HICN, p.NAME, p.GENERAL_DESC, e.CSPD_CAT,
+				e.MEPE_ELIG_IND, g.GRGR_NAME, sg.SGSG_NAME, sg.SGSG_ID,
+				sg.SGSG_ORIG_EFF_DT, sg.SGSG_TERM_DT,g.GRGR_MCTR_TYPE,
+				e.GRGR_CK,pdesc.PDDS_MCTR_VAL1,
+				mctr.mctr_desc,e.MEPE_PLAN_ENTRY_DT,e.MEPE_CREATE_DTM,m.MEME_CK,
+				g.GRGR_PHONE from CMC_MEPE_PRCS_ELIG e inner join CMC_MEME_MEMBER m
+				on e.MEME_CK = m.MEME_CK inner join CMC_SBSB_SUBSC s on m.SBSB_CK =
+				s.SBSB_CK left outer join CMC_SGSG_SUB_GROUP sg on e.SGSG_CK =
+				sg.SGSG_CK left outer join CMC_GRGR_GROUP g on g.GRGR_CK =
+				sg.GRGR_CK left outer join AGP.CCTR_PRODUCT p on e.PDPD_ID =
+				p.PRODUCT_ID and sg.sgsg_mctr_type=p.market_cd left outer join
+				CMC_PLDS_PLAN_DESC pland ON e.cspi_id = pland.cspi_id LEFT OUTER
+				JOIN FACETS.CMC_PDPD_PRODUCT pd on e.PDPD_ID = pd.PDPD_ID and
+				e.MEPE_EFF_DT between pd.PDPD_EFF_DT and pd.PDPD_TERM_DT left outer
+				join CMC_PDDS_PROD_DESC pdesc on e.pdpd_id = pdesc.pdpd_id left
+				outer join cmc_mctr_cd_trans mctr on mctr.mctr_value =
+				pdesc.PDDS_MCTR_VAL1 and mctr.mctr_entity = 'PDDS' and
+				mctr.MCTR_TYPE = 'VAL' where (s.SBSB_ID =?) and TRUNC(SYSDATE)
+				between e.MEPE_EFF_DT and e.MEPE_TERM_DT </pre></blockquote></p>
+     * @param amerigroupID Amerigroup ID of the member
+     * @return the <tt>FacetsMemberEligibilityDto</tt> object that matches the
+     * selection criteria, or null if there is no match.
+     */
+    public FacetsMemberEligibilityDto getCurrentEligibilityWithNoEligibilityCheckByAmerigroupID(String amerigroupID)
+    {
+        return queryCurrentEligibility(FacetsEligibilityQuery.CURRENT_NO_ELIGIBILITY_CHECK_BY_AMERIGROUP_ID, amerigroupID);
+    }
+	
+
+    /**
+     * <p>Run an eligibility query for many identifiers, binding them into IN-lists of at most
+     * <tt>facets.dao.bulk.chunkSize</tt> entries, all on one connection.</p>
+     * <p>The SQL is <tt>sqlHead + "?, ?, ..." + sqlTail</tt> and must select the identifier being
+     * matched as <tt>LOOKUP_KEY</tt>.  Each IN-list is padded to the next power of two by repeating
+     * its last identifier, so only a handful of statement shapes reach the statement cache.
+     * Rows keep the order the query returns them in within each identifier.</p>
+     * @param methodName The public method name, for logging
+     * @param sqlHead The SQL up to and including the opening parenthesis of the IN-list
+     * @param sqlTail The SQL from the closing parenthesis of the IN-list onwards
+     * @param ids The identifiers to look up; nulls and duplicates are ignored
+     * @return A <tt>Map</tt> from each identifier, in request order, to its rows.  The lists may be empty but never null.
+     */
+    private Map<String, List<FacetsMemberEligibilityDto>> getEligibilitiesInChunks(String methodName, String sqlHead, String sqlTail, Collection<String> ids)
+    {
+        Map<String, List<FacetsMemberEligibilityDto>> result = new LinkedHashMap<String, List<FacetsMemberEligibilityDto>>();
+        if (ids != null)
+        {
+            for (String id : ids)
+            {
+                if (id != null && !result.containsKey(id))
                 {
-                    dto.subGroupTerminationDate = null;
+                    result.put(id, new ArrayList<FacetsMemberEligibilityDto>());
                 }
-                                
-                dto.sourceSystem = rs.getString("GRGR_MCTR_TYPE");
-                if (rs.wasNull()) 
+            }
+        }
+        if (result.isEmpty())
+        {
+            return result;
+        }
+
+        List<String> keys = new ArrayList<String>(result.keySet());
+        int chunkSize = bulkChunkSize;
+
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        String sql = sqlHead + "?" + sqlTail;
+
+        try
+        {
+            long connectionStart = System.nanoTime();
+            conn = openConnection();
+            if (conn == null) {
+                log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+                if (log.isDebugEnabled())
                 {
-                    dto.sourceSystem = null;
+                    log.debug("<" + methodName);
                 }
-                
-                dto.planEntryDt = rs.getTimestamp("MEPE_PLAN_ENTRY_DT");
-                if (rs.wasNull()) 
+                return result;
+            }
+            long connectionDuration = System.nanoTime() - connectionStart;
+
+            long queryDuration = 0;
+            long loadResultsDuration = 0;
+            int rowsRead = 0;
+            int chunks = 0;
+            for (int from = 0; from < keys.size(); from += chunkSize)
+            {
+                List<String> chunk = keys.subList(from, Math.min(from + chunkSize, keys.size()));
+                int width = inListWidth(chunk.size(), chunkSize);
+                sql = sqlHead + inListPlaceholders(width) + sqlTail;
+                chunks++;
+
+                ps = prepareCachedStatement(conn, sql, methodName, QuerySettings.Shape.BULK);
+                if (log.isDebugEnabled())
                 {
-                    dto.planEntryDt = null;
+                    log.debug("Executing SQL: " + sql);
                 }
-                
-                dto.eligibilityCreateDtm = rs.getTimestamp("MEPE_CREATE_DTM");
-                if (rs.wasNull()) 
+                for (int i = 0; i < width; i++)
                 {
-                    dto.eligibilityCreateDtm = null;
+                    ps.setString(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
                 }
-                                
-                dto.memeCk = rs.getString("MEME_CK");
-                if (rs.wasNull()) 
+
+                long queryStart = System.nanoTime();
+                rs = ps.executeQuery();
+                queryDuration += System.nanoTime() - queryStart;
+
+                long loadResultsStart = System.nanoTime();
+                FacetsMemberEligibilityRowMapper mapper = FacetsMemberEligibilityRowMapper.forResultSet(sql, rs);
+                int keyColumn = rs.findColumn("LOOKUP_KEY");
+                while (rs.next())
                 {
-                    dto.memeCk = null;
+                    rowsRead++;
+                    String key = rs.getString(keyColumn);
+                    List<FacetsMemberEligibilityDto> rows = key == null ? null : result.get(key);
+                    if (rows == null && key != null)
+                    {
+                        rows = result.get(key.trim());
+                    }
+                    if (rows != null)
+                    {
+                        rows.add(mapper.mapRow(rs));
+                    }
                 }
-                                
-                dto.grpPhNo = rs.getString("GRGR_PHONE");
-                if (rs.wasNull()) 
+                loadResultsDuration += System.nanoTime() - loadResultsStart;
+
+                rs.close();
+                rs = null;
+                PreparedStatement done = releaseCachedStatement(ps);
+                ps = null;
+                if (done != null)
                 {
-                    dto.grpPhNo = null;
+                    done.close();
                 }
-                
-                result = dto;
-                break;
-                
             }
-            
-            
-            if (rs.next()) 
+            recordQuery(methodName, connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+            if (log.isDebugEnabled())
+            {
+                log.debug(methodName + " looked up " + keys.size() + " ids in " + chunks + " chunks");
+            }
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return result;
+    }
+
+    /**
+     * <p>Round an IN-list length up to the next power of two, capped at the chunk size.</p>
+     */
+    private static int inListWidth(int size, int chunkSize)
+    {
+        int width = 1;
+        while (width < size)
+        {
+            width <<= 1;
+        }
+        return Math.min(width, chunkSize);
+    }
+
+    /**
+     * <p>Build <tt>count</tt> comma-separated bind markers.</p>
+     */
+    private static String inListPlaceholders(int count)
+    {
+        StringBuilder sb = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++)
+        {
+            if (i > 0)
+            {
+                sb.append(',');
+            }
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * <p>Load the whole market brand table for the in-memory brand matcher</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				SELECT BRAND_CD, BRAND_DESC, GCPP_PATTERN, MARKET_EFF_DT, MARKET_TERM_DT, MARKET_BRAND_IND, PRINT_BRAND_IND
+				FROM AGP.MEM_MARKET_BRAND
+			</pre></blockquote></p>
+     * @return the loaded <tt>MarketBrandTable</tt>
+     */
+    private MarketBrandTable loadMarketBrandTable()
+    {
+        List<MarketBrandTable.Entry> rows = new ArrayList<MarketBrandTable.Entry>();
+
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " SELECT BRAND_CD, BRAND_DESC, GCPP_PATTERN, MARKET_EFF_DT, MARKET_TERM_DT, MARKET_BRAND_IND, PRINT_BRAND_IND"+
+         " FROM AGP.MEM_MARKET_BRAND";
+
+        try 
+        {
+            long connectionStart = System.nanoTime();
+            conn = openConnection();
+            if (conn == null) {
+                throw new DAOException("Unable to get a connection to datasource " + getDatasourceJndiName());
+            }
+
+            ps = prepareCachedStatement(conn, sql, "loadMarketBrandTable", QuerySettings.Shape.REFERENCE);
+
+            long connectionDuration = System.nanoTime() - connectionStart;
+
+            if (log.isDebugEnabled())
+            {
+                log.debug("Executing SQL: " + sql);
+            }
+
+            long queryStart = System.nanoTime();
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+                rowsRead++;
+                rows.add(new MarketBrandTable.Entry(
+                    rs.getString("BRAND_CD"),
+                    rs.getString("BRAND_DESC"),
+                    rs.getString("GCPP_PATTERN"),
+                    rs.getTimestamp("MARKET_EFF_DT"),
+                    rs.getTimestamp("MARKET_TERM_DT"),
+                    "Y".equals(rs.getString("MARKET_BRAND_IND")),
+                    "Y".equals(rs.getString("PRINT_BRAND_IND"))));
+            }
+
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("loadMarketBrandTable", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
             {
-                log.warn("Warning - SQL query returned multiple results but DAO cardinality was not 'many' - possible ambiguous results."); 
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
             }
-             
-            long loadResultsDuration = System.currentTimeMillis() - loadResultsStart;
-            log.info(String.format("Query Statistics:getCurrentEligibilityWithNoEligibilityCheckByAmerigroupID  getJndiName="+getDatasourceJndiName()+", getConnection=%s, queryExecution=%s, loadResults=%s, rowsRead=%s", connectionDuration, queryDuration, loadResultsDuration, rowsRead));
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return new MarketBrandTable(rows);
+    }
+
+    /**
+     * <p>Load the whole class plan table for the in-memory prefix index</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				SELECT GRGR_CK, CSCS_ID, CSPI_ID, CSPD_CAT, CSPI_ITS_PREFIX, CSPI_EFF_DT, CSPI_TERM_DT
+				FROM CMC_CSPI_CS_PLAN
+			</pre></blockquote></p>
+     * @return the loaded <tt>ClassPlanIndex</tt>
+     */
+    private ClassPlanIndex loadClassPlanIndex()
+    {
+        List<ClassPlanIndex.Entry> rows = new ArrayList<ClassPlanIndex.Entry>();
+
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " SELECT GRGR_CK, CSCS_ID, CSPI_ID, CSPD_CAT, CSPI_ITS_PREFIX, CSPI_EFF_DT, CSPI_TERM_DT"+
+         " FROM CMC_CSPI_CS_PLAN";
+
+        try 
+        {
+            long connectionStart = System.nanoTime();
+            conn = openConnection();
+            if (conn == null) {
+                throw new DAOException("Unable to get a connection to datasource " + getDatasourceJndiName());
+            }
+
+            ps = prepareCachedStatement(conn, sql, "loadClassPlanIndex", QuerySettings.Shape.REFERENCE);
+
+            long connectionDuration = System.nanoTime() - connectionStart;
+
+            if (log.isDebugEnabled())
+            {
+                log.debug("Executing SQL: " + sql);
+            }
+
+            long queryStart = System.nanoTime();
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+                rowsRead++;
+                rows.add(new ClassPlanIndex.Entry(
+                    rs.getString("GRGR_CK"),
+                    rs.getString("CSCS_ID"),
+                    rs.getString("CSPI_ID"),
+                    rs.getString("CSPD_CAT"),
+                    rs.getString("CSPI_ITS_PREFIX"),
+                    rs.getTimestamp("CSPI_EFF_DT"),
+                    rs.getTimestamp("CSPI_TERM_DT")));
+            }
+
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery("loadClassPlanIndex", connectionDuration, queryDuration, loadResultsDuration, rowsRead);
         }
         catch (SQLException ex) 
         {
@@ -13875,15 +5435,435 @@ public class FacetsMemberDaoImpl extends ADatabaseDao implements IFacetsMemberDa
                         + tex.getSQLState() + " - SQL: " + sql, tex);
                 tex = tex.getNextException();
             }
+            recordQueryFailure();
             throw new DAOException("Unable to perform read - SQL: " + sql, ex);
         }
         finally
         {
-            closeDatabaseObjects(rs, ps, conn);
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
+        }
+        return new ClassPlanIndex(rows);
+    }
+
+    /**
+     * <p>Get the eligibility spans of a subscriber's members with the class plan each points at,
+     * for resolving the <tt>CMC_CSPI_CS_PLAN</tt> join in memory</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				select sbsb.SBSB_ID, sbsb.GRGR_CK, mepe.GRGR_CK as MEPE_GRGR_CK, mepe.CSCS_ID, mepe.CSPI_ID, mepe.CSPD_CAT, mepe.MEPE_EFF_DT, mepe.MEPE_TERM_DT
+				from cmc_sbsb_subsc sbsb
+				JOIN cmc_meme_member meme ON sbsb.sbsb_ck = meme.sbsb_ck
+				JOIN cmc_mepe_prcs_elig mepe ON mepe.meme_ck = meme.meme_ck [and mepe.MEPE_ELIG_IND='Y']
+				where sbsb.SBSB_ID=?
+			</pre></blockquote></p>
+     * @param methodName The name the query's timings and settings are kept under
+     * @param subscriberID The SBSB_ID of the member
+     * @param eligibleOnly Whether to read only spans with <tt>MEPE_ELIG_IND='Y'</tt>
+     * @return the spans; empty but never null
+     */
+    private List<ClassPlanIndex.Span> querySubscriberSpans(String methodName, String subscriberID, boolean eligibleOnly)
+    {
+        List<ClassPlanIndex.Span> result = new ArrayList<ClassPlanIndex.Span>();
+
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        String sql = ""+
+         " select sbsb.SBSB_ID, sbsb.GRGR_CK, mepe.GRGR_CK as MEPE_GRGR_CK, mepe.CSCS_ID, mepe.CSPI_ID, mepe.CSPD_CAT, mepe.MEPE_EFF_DT, mepe.MEPE_TERM_DT"+
+         " from cmc_sbsb_subsc sbsb"+
+         " JOIN cmc_meme_member meme ON sbsb.sbsb_ck = meme.sbsb_ck"+
+         " JOIN cmc_mepe_prcs_elig mepe ON mepe.meme_ck = meme.meme_ck"+
+         (eligibleOnly ? " and mepe.MEPE_ELIG_IND='Y'" : "")+
+         " where sbsb.SBSB_ID=?";
+
+        try 
+        {
+            long connectionStart = System.nanoTime();
+            conn = openConnection();
+            if (conn == null) {
+                log.error("Unable to get a connection to datasource " + getDatasourceJndiName());
+                return result;
+            }
+
+            ps = prepareCachedStatement(conn, sql, methodName, QuerySettings.Shape.LIST);
+
+            long connectionDuration = System.nanoTime() - connectionStart;
+
+            if (log.isDebugEnabled())
+            {
+                log.debug("Executing SQL: " + sql);
+                log.debug("   Setting parm #1 (subscriberID) to " + subscriberID);
+            }
+            ps.setString(1, subscriberID);
+
+            long queryStart = System.nanoTime();
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            long loadResultsStart = System.nanoTime();
+            int rowsRead = 0;
+            while (rs.next())
+            {
+                rowsRead++;
+                result.add(new ClassPlanIndex.Span(
+                    rs.getString("SBSB_ID"),
+                    rs.getString("GRGR_CK"),
+                    rs.getString("MEPE_GRGR_CK"),
+                    rs.getString("CSCS_ID"),
+                    rs.getString("CSPI_ID"),
+                    rs.getString("CSPD_CAT"),
+                    rs.getTimestamp("MEPE_EFF_DT"),
+                    rs.getTimestamp("MEPE_TERM_DT")));
+            }
+
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery(methodName, connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+        }
+        catch (SQLException ex) 
+        {
+            if (HedgedRequests.isCancelled())
+            {
+                throw new DAOException("Cancelled in favour of a hedged request - SQL: " + sql, ex);
+            }
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), conn);
         }
         return result;
     }
-	
+
+    /**
+     * <p>Load the reference tables for the in-memory snapshot, all on one connection</p>
+     * <p><b>Not transaction-aware.</b></p>
+     * <p>Executes the following SQL:<br/>
+     * <blockquote><pre>
+				SELECT CSPI_ID, PLDS_DESC FROM CMC_PLDS_PLAN_DESC
+				SELECT PDPD_ID, PDDS_MCTR_VAL1 FROM CMC_PDDS_PROD_DESC
+				SELECT MCTR_VALUE, MCTR_DESC FROM CMC_MCTR_CD_TRANS WHERE MCTR_ENTITY = 'PDDS' AND MCTR_TYPE = 'VAL'
+				SELECT PRODUCT_ID, MARKET_CD, NAME, GENERAL_DESC FROM AGP.CCTR_PRODUCT
+				select distinct pdbc.PDPD_ID, PDBL.PDBL_ID, pdesc.PDBL_DESC
+				from CMC_PDBC_PROD_COMP pdbc
+				JOIN CMC_PDBL_PROD_BILL PDBL ON pdbc.pdbc_pfx =  pdbl.pdbc_pfx
+				left join AGP.PROD_PDBL_DESC pdesc on PDBL.PDBL_ID = pdesc.PDBL_ID
+				where pdbc.pdbc_type = 'PDBL'
+				SELECT GRGR_CK, GRGR_ID, GRGR_NAME, GRGR_MCTR_TYPE, GRGR_PHONE FROM CMC_GRGR_GROUP
+				SELECT PDPD_ID, PDPD_EFF_DT, PDPD_TERM_DT, LOBD_ID FROM CMC_PDPD_PRODUCT
+			</pre></blockquote></p>
+     * @return the loaded <tt>ReferenceTables</tt>
+     */
+    private ReferenceTables loadReferenceTables()
+    {
+        Connection conn = openConnection();
+        if (conn == null) {
+            throw new DAOException("Unable to get a connection to datasource " + getDatasourceJndiName());
+        }
+        try
+        {
+            return new ReferenceTables(
+                readReferenceRows(conn, "loadReferenceTables.planDescriptions",
+                    " SELECT CSPI_ID, PLDS_DESC FROM CMC_PLDS_PLAN_DESC"),
+                readReferenceRows(conn, "loadReferenceTables.productValueCodes",
+                    " SELECT PDPD_ID, PDDS_MCTR_VAL1 FROM CMC_PDDS_PROD_DESC"),
+                readReferenceRows(conn, "loadReferenceTables.valueCodeDescriptions",
+                    " SELECT MCTR_VALUE, MCTR_DESC FROM CMC_MCTR_CD_TRANS WHERE MCTR_ENTITY = 'PDDS' AND MCTR_TYPE = 'VAL'"),
+                readReferenceRows(conn, "loadReferenceTables.products",
+                    " SELECT PRODUCT_ID, MARKET_CD, NAME, GENERAL_DESC FROM AGP.CCTR_PRODUCT"),
+                readReferenceRows(conn, "loadReferenceTables.billingComponents", ""+
+                    " select distinct pdbc.PDPD_ID, PDBL.PDBL_ID, pdesc.PDBL_DESC"+
+                    " from CMC_PDBC_PROD_COMP pdbc"+
+                    " JOIN CMC_PDBL_PROD_BILL PDBL ON pdbc.pdbc_pfx =  pdbl.pdbc_pfx"+
+                    " left join AGP.PROD_PDBL_DESC pdesc on PDBL.PDBL_ID = pdesc.PDBL_ID"+
+                    " where pdbc.pdbc_type = 'PDBL'"),
+                readReferenceRows(conn, "loadReferenceTables.groups",
+                    " SELECT GRGR_CK, GRGR_ID, GRGR_NAME, GRGR_MCTR_TYPE, GRGR_PHONE FROM CMC_GRGR_GROUP"),
+                readReferenceRows(conn, "loadReferenceTables.productLines",
+                    " SELECT PDPD_ID, PDPD_EFF_DT, PDPD_TERM_DT, LOBD_ID FROM CMC_PDPD_PRODUCT"));
+        }
+        finally
+        {
+            closeDatabaseObjects(null, null, conn);
+        }
+    }
+
+    /**
+     * <p>Read every row of a reference query in column order, date and timestamp columns as
+     * <tt>Timestamp</tt> and everything else as strings.</p>
+     * @param conn The connection checked out for the whole load; not closed here
+     */
+    private List<Object[]> readReferenceRows(Connection conn, String methodName, String sql)
+    {
+        List<Object[]> rows = new ArrayList<Object[]>();
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        try 
+        {
+            long connectionStart = System.nanoTime();
+            ps = prepareCachedStatement(conn, sql, methodName, QuerySettings.Shape.REFERENCE);
+            long connectionDuration = System.nanoTime() - connectionStart;
+
+            if (log.isDebugEnabled())
+            {
+                log.debug("Executing SQL: " + sql);
+            }
+
+            long queryStart = System.nanoTime();
+            rs = ps.executeQuery();
+            long queryDuration = System.nanoTime() - queryStart;
+
+            long loadResultsStart = System.nanoTime();
+            int columns = rs.getMetaData().getColumnCount();
+            boolean[] dated = new boolean[columns];
+            for (int i = 0; i < columns; i++)
+            {
+                int type = rs.getMetaData().getColumnType(i + 1);
+                dated[i] = type == Types.DATE || type == Types.TIMESTAMP;
+            }
+            while (rs.next())
+            {
+                Object[] row = new Object[columns];
+                for (int i = 0; i < columns; i++)
+                {
+                    row[i] = dated[i] ? rs.getTimestamp(i + 1) : rs.getString(i + 1);
+                }
+                rows.add(row);
+            }
+
+            long loadResultsDuration = System.nanoTime() - loadResultsStart;
+            recordQuery(methodName, connectionDuration, queryDuration, loadResultsDuration, rows.size());
+        }
+        catch (SQLException ex) 
+        {
+            SQLException tex = ex;
+            if (ex.getNextException() != null)
+            {
+                tex = ex.getNextException();
+            }
+            while (tex != null)
+            {
+                log.error("Database problem: " + tex.getMessage()
+                        + " - error code=" + tex.getErrorCode() + ", SQLState="
+                        + tex.getSQLState() + " - SQL: " + sql, tex);
+                tex = tex.getNextException();
+            }
+            recordQueryFailure();
+            throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+        }
+        finally
+        {
+            closeDatabaseObjects(rs, releaseCachedStatement(ps), null);
+        }
+        return rows;
+    }
+
+    /**
+     * <p>Get the in-memory brand table, or null if brand lookups should go to the database.</p>
+     */
+    private MarketBrandTable getMarketBrandTable()
+    {
+        if (!marketBrandCacheEnabled)
+        {
+            return null;
+        }
+        MarketBrandTable table = marketBrandSnapshot.get(new RefreshingSnapshot.Loader<MarketBrandTable>()
+        {
+            public MarketBrandTable load()
+            {
+                return loadMarketBrandTable();
+            }
+        });
+        return table.isComplete() ? table : null;
+    }
+
+    /**
+     * <p>Get the in-memory blues prefix set, or null if prefixes should be queried on every call.</p>
+     * <p>The first call loads the set on the calling thread and schedules the background refresh.</p>
+     */
+    private BluesPrefixSet getBluesPrefixSet()
+    {
+        if (!bluesPrefixCacheEnabled)
+        {
+            return null;
+        }
+        RefreshingSnapshot.Loader<BluesPrefixSet> loader = new RefreshingSnapshot.Loader<BluesPrefixSet>()
+        {
+            public BluesPrefixSet load()
+            {
+                List<String> prefixes = new ArrayList<String>();
+                for (FacetsMemberBluesPrefixDto dto : queryBluesPrefixes(true))
+                {
+                    prefixes.add(dto.prefix);
+                }
+                return new BluesPrefixSet(prefixes);
+            }
+        };
+        BluesPrefixSet prefixes = bluesPrefixSnapshot.get(loader);
+        bluesPrefixSnapshot.scheduleRefresh(loader);
+        return prefixes;
+    }
+
+
+    /**
+     * <p>Get the in-memory class plan index, or null if class plan prefixes should be joined on the database.</p>
+     * <p>The first call loads the index on the calling thread and schedules the background refresh.</p>
+     */
+    private ClassPlanIndex getClassPlanIndex()
+    {
+        if (!classPlanIndexEnabled)
+        {
+            return null;
+        }
+        RefreshingSnapshot.Loader<ClassPlanIndex> loader = new RefreshingSnapshot.Loader<ClassPlanIndex>()
+        {
+            public ClassPlanIndex load()
+            {
+                return loadClassPlanIndex();
+            }
+        };
+        ClassPlanIndex classPlans = classPlanSnapshot.get(loader);
+        classPlanSnapshot.scheduleRefresh(loader);
+        return classPlans;
+    }
+
+    /**
+     * <p>Get the in-memory reference tables, or null if reference data should be read from the database.</p>
+     * <p>The first call loads the tables on the calling thread and schedules the background refresh.</p>
+     */
+    private ReferenceTables getReferenceTables()
+    {
+        if (!referenceTablesEnabled)
+        {
+            return null;
+        }
+        RefreshingSnapshot.Loader<ReferenceTables> loader = new RefreshingSnapshot.Loader<ReferenceTables>()
+        {
+            public ReferenceTables load()
+            {
+                return loadReferenceTables();
+            }
+        };
+        ReferenceTables references = referenceSnapshot.get(loader);
+        referenceSnapshot.scheduleRefresh(loader);
+        return references;
+    }
+
+    /**
+     * <p>Reads and maps one eligibility row per call to {@link #next()}.</p>
+     * <p>Closes its result set, statement and connection when the last row has been read,
+     * on a read error, or on {@link #close()}, and records the query timings then.  Not
+     * thread-safe; a cursor belongs to the caller that opened it.</p>
+     */
+    private final class EligibilityCursor implements Iterator<FacetsMemberEligibilityDto>
+    {
+        private final String methodName;
+        private final String sql;
+        private final Connection conn;
+        private final PreparedStatement ps;
+        private final ResultSet rs;
+        private final FacetsMemberEligibilityRowMapper mapper;
+        private final long connectionDuration;
+        private final long queryDuration;
+
+        private long loadResultsDuration;
+        private int rowsRead;
+        private FacetsMemberEligibilityDto pending;
+        private boolean closed;
+
+        EligibilityCursor(String methodName, String sql, Connection conn, PreparedStatement ps, ResultSet rs,
+            FacetsMemberEligibilityRowMapper mapper, long connectionDuration, long queryDuration)
+        {
+            this.methodName = methodName;
+            this.sql = sql;
+            this.conn = conn;
+            this.ps = ps;
+            this.rs = rs;
+            this.mapper = mapper;
+            this.connectionDuration = connectionDuration;
+            this.queryDuration = queryDuration;
+            this.closed = rs == null;
+        }
+
+        public boolean hasNext()
+        {
+            if (pending != null)
+            {
+                return true;
+            }
+            if (closed)
+            {
+                return false;
+            }
+            long loadResultsStart = System.nanoTime();
+            try
+            {
+                if (rs.next())
+                {
+                    pending = mapper.mapRow(rs);
+                    rowsRead++;
+                }
+            }
+            catch (SQLException ex)
+            {
+                log.error("Database problem: " + ex.getMessage()
+                        + " - error code=" + ex.getErrorCode() + ", SQLState="
+                        + ex.getSQLState() + " - SQL: " + sql, ex);
+                close();
+                throw new DAOException("Unable to perform read - SQL: " + sql, ex);
+            }
+            loadResultsDuration += System.nanoTime() - loadResultsStart;
+            if (pending == null)
+            {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        public FacetsMemberEligibilityDto next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            FacetsMemberEligibilityDto dto = pending;
+            pending = null;
+            return dto;
+        }
+
+        void close()
+        {
+            if (closed)
+            {
+                return;
+            }
+            closed = true;
+            try
+            {
+                closeDatabaseObjects(rs, ps, conn);
+            }
+            finally
+            {
+                recordQuery(methodName, connectionDuration, queryDuration, loadResultsDuration, rowsRead);
+            }
+        }
+    }
 
     
 }
@@ -0,0 +1,17 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import com.amerigroup.facets.dao.dto.FacetsMemberEligibilityDto;
+
+/**
+ * <p>Receives eligibility rows one at a time from
+ * {@link FacetsMemberDaoImpl#forEachEligibility(FacetsEligibilityQuery, String, FacetsMemberEligibilityHandler)}.</p>
+ */
+public interface FacetsMemberEligibilityHandler
+{
+    /**
+     * <p>Handle one row.  The connection is held open while this runs, so keep it short.</p>
+     * @param eligibility The mapped row; not retained by the DAO
+     */
+    void handle(FacetsMemberEligibilityDto eligibility);
+}
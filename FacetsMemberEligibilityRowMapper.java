@@ -0,0 +1,204 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.amerigroup.facets.dao.dto.FacetsMemberEligibilityDto;
+
+/**
+ * <p>Maps rows of the eligibility SELECT onto <tt>FacetsMemberEligibilityDto</tt> objects.</p>
+ * <p>Column positions are resolved from the <tt>ResultSetMetaData</tt> the first time a
+ * given statement is executed and are reused for every later row and call, so the
+ * per-row cost is a fixed set of positional getters rather than one driver-side
+ * column-name lookup (and one <tt>wasNull()</tt> call) per field.</p>
+ * <p>Instances are immutable and thread-safe.</p>
+ */
+public final class FacetsMemberEligibilityRowMapper
+{
+
+    /** Column labels read by the mapper, in the order the positions are stored */
+    private static final String[] COLUMNS = {
+        "GRGR_CK", "SBSB_ID", "SBSB_CK", "CSCS_ID", "CSPI_ID", "PLDS_DESC", "GRGR_ID",
+        "SGSG_MCTR_TYPE", "SGSG_ID", "MEME_MEDCD_NO", "MEME_HICN", "PDPD_ID", "NAME",
+        "GENERAL_DESC", "PDDS_MCTR_VAL1", "MCTR_DESC", "MEPE_EFF_DT", "MEPE_TERM_DT",
+        "CSPD_CAT", "MEME_FIRST_NAME", "MEME_LAST_NAME", "FULL_LAST_NAME", "MEME_BIRTH_DT",
+        "LOBD_ID", "MEPE_ELIG_IND", "GRGR_NAME", "SGSG_NAME", "SGSG_ORIG_EFF_DT",
+        "SGSG_TERM_DT", "GRGR_MCTR_TYPE", "MEPE_PLAN_ENTRY_DT", "MEPE_CREATE_DTM",
+        "MEME_CK", "GRGR_PHONE"
+    };
+
+    /** Resolved mappers keyed by the SQL text of the statement that produced the rows */
+    private static final ConcurrentMap<String, FacetsMemberEligibilityRowMapper> MAPPERS =
+        new ConcurrentHashMap<String, FacetsMemberEligibilityRowMapper>();
+
+    private final int groupCk;
+    private final int sbsbID;
+    private final int sbsbCK;
+    private final int classID;
+    private final int planID;
+    private final int planDesc;
+    private final int groupID;
+    private final int subgroupType;
+    private final int subGroupId;
+    private final int medicaidID;
+    private final int medicareID;
+    private final int productID;
+    private final int productName;
+    private final int productDescription;
+    private final int productValueCode;
+    private final int productValueCodeDesc;
+    private final int dateEffective;
+    private final int dateTermination;
+    private final int coverageTypeCode;
+    private final int firstName;
+    private final int lastName;
+    private final int fullLastName;
+    private final int birthDt;
+    private final int lobId;
+    private final int statusCode;
+    private final int groupName;
+    private final int subGroupName;
+    private final int subGroupEffectiveDate;
+    private final int subGroupTerminationDate;
+    private final int sourceSystem;
+    private final int planEntryDt;
+    private final int eligibilityCreateDtm;
+    private final int memeCk;
+    private final int grpPhNo;
+
+    private FacetsMemberEligibilityRowMapper(int[] positions)
+    {
+        int i = 0;
+        this.groupCk = positions[i++];
+        this.sbsbID = positions[i++];
+        this.sbsbCK = positions[i++];
+        this.classID = positions[i++];
+        this.planID = positions[i++];
+        this.planDesc = positions[i++];
+        this.groupID = positions[i++];
+        this.subgroupType = positions[i++];
+        this.subGroupId = positions[i++];
+        this.medicaidID = positions[i++];
+        this.medicareID = positions[i++];
+        this.productID = positions[i++];
+        this.productName = positions[i++];
+        this.productDescription = positions[i++];
+        this.productValueCode = positions[i++];
+        this.productValueCodeDesc = positions[i++];
+        this.dateEffective = positions[i++];
+        this.dateTermination = positions[i++];
+        this.coverageTypeCode = positions[i++];
+        this.firstName = positions[i++];
+        this.lastName = positions[i++];
+        this.fullLastName = positions[i++];
+        this.birthDt = positions[i++];
+        this.lobId = positions[i++];
+        this.statusCode = positions[i++];
+        this.groupName = positions[i++];
+        this.subGroupName = positions[i++];
+        this.subGroupEffectiveDate = positions[i++];
+        this.subGroupTerminationDate = positions[i++];
+        this.sourceSystem = positions[i++];
+        this.planEntryDt = positions[i++];
+        this.eligibilityCreateDtm = positions[i++];
+        this.memeCk = positions[i++];
+        this.grpPhNo = positions[i++];
+    }
+
+    /**
+     * <p>Get the mapper for the given statement, resolving the column positions from the
+     * result set metadata if this statement has not been seen before.</p>
+     * @param sql The SQL text that produced <tt>rs</tt>; used as the cache key
+     * @param rs The open result set
+     * @return the mapper for this statement shape
+     * @throws SQLException if the metadata cannot be read or a required column is missing
+     */
+    public static FacetsMemberEligibilityRowMapper forResultSet(String sql, ResultSet rs) throws SQLException
+    {
+        FacetsMemberEligibilityRowMapper mapper = MAPPERS.get(sql);
+        if (mapper == null)
+        {
+            mapper = new FacetsMemberEligibilityRowMapper(resolvePositions(rs.getMetaData()));
+            FacetsMemberEligibilityRowMapper existing = MAPPERS.putIfAbsent(sql, mapper);
+            if (existing != null)
+            {
+                mapper = existing;
+            }
+        }
+        return mapper;
+    }
+
+    private static int[] resolvePositions(ResultSetMetaData md) throws SQLException
+    {
+        Map<String, Integer> byLabel = new HashMap<String, Integer>();
+        for (int col = md.getColumnCount(); col >= 1; col--)
+        {
+            byLabel.put(md.getColumnLabel(col).toUpperCase(Locale.ROOT), Integer.valueOf(col));
+        }
+
+        int[] positions = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++)
+        {
+            Integer col = byLabel.get(COLUMNS[i]);
+            if (col == null)
+            {
+                throw new SQLException("Column " + COLUMNS[i] + " not found in eligibility result set");
+            }
+            positions[i] = col.intValue();
+        }
+        return positions;
+    }
+
+    /**
+     * <p>Map the current row of the result set.</p>
+     * <p>The JDBC getters already return null for SQL NULL, so no <tt>wasNull()</tt> check is made.</p>
+     * @param rs The result set, positioned on a row
+     * @return a new <tt>FacetsMemberEligibilityDto</tt>
+     * @throws SQLException if a column cannot be read
+     */
+    public FacetsMemberEligibilityDto mapRow(ResultSet rs) throws SQLException
+    {
+        FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
+        dto.groupCk = rs.getString(groupCk);
+        dto.sbsbID = rs.getString(sbsbID);
+        dto.sbsbCK = rs.getString(sbsbCK);
+        dto.classID = rs.getString(classID);
+        dto.planID = rs.getString(planID);
+        dto.planDesc = rs.getString(planDesc);
+        dto.groupID = rs.getString(groupID);
+        dto.subgroupType = rs.getString(subgroupType);
+        dto.subGroupId = rs.getString(subGroupId);
+        dto.medicaidID = rs.getString(medicaidID);
+        dto.medicareID = rs.getString(medicareID);
+        dto.productID = rs.getString(productID);
+        dto.productName = rs.getString(productName);
+        dto.productDescription = rs.getString(productDescription);
+        dto.productValueCode = rs.getString(productValueCode);
+        dto.productValueCodeDesc = rs.getString(productValueCodeDesc);
+        dto.dateEffective = rs.getTimestamp(dateEffective);
+        dto.dateTermination = rs.getTimestamp(dateTermination);
+        dto.coverageTypeCode = rs.getString(coverageTypeCode);
+        dto.firstName = rs.getString(firstName);
+        dto.lastName = rs.getString(lastName);
+        dto.fullLastName = rs.getString(fullLastName);
+        dto.birthDt = rs.getTimestamp(birthDt);
+        dto.lobId = rs.getString(lobId);
+        dto.statusCode = rs.getString(statusCode);
+        dto.groupName = rs.getString(groupName);
+        dto.subGroupName = rs.getString(subGroupName);
+        dto.subGroupEffectiveDate = rs.getTimestamp(subGroupEffectiveDate);
+        dto.subGroupTerminationDate = rs.getTimestamp(subGroupTerminationDate);
+        dto.sourceSystem = rs.getString(sourceSystem);
+        dto.planEntryDt = rs.getTimestamp(planEntryDt);
+        dto.eligibilityCreateDtm = rs.getTimestamp(eligibilityCreateDtm);
+        dto.memeCk = rs.getString(memeCk);
+        dto.grpPhNo = rs.getString(grpPhNo);
+        return dto;
+    }
+}
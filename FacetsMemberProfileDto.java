@@ -0,0 +1,33 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao.dto;
+
+import java.util.*;
+
+/**
+ * <p>The pieces of a member's eligibility response that are loaded together by
+ * <tt>FacetsMemberDaoImpl.getMemberProfile</tt>.</p>
+ * <p>Each field holds what the corresponding single-purpose DAO method would have returned.</p>
+ */
+@SuppressWarnings("all")
+public class FacetsMemberProfileDto implements java.io.Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    /** Result of <tt>getCurrentEligibilityByAmerigroupID</tt>; null if the member has no current eligibility */
+    public FacetsMemberEligibilityDto currentEligibility;
+
+    /** Result of <tt>getHomeAddress</tt>; null if there is no home address */
+    public FacetsMemberAddressDto homeAddress;
+
+    /** Result of <tt>getMemberTobaccoStatus</tt> for the current eligibility's SBSB_CK; null if unknown */
+    public FacetsMemberTobaccoStatusDto tobaccoStatus;
+
+    /** Result of <tt>getSriBySbsbCK</tt> for the current eligibility's SBSB_CK; never null */
+    public List<FacetsMemberSriDto> sriCodes = new ArrayList<FacetsMemberSriDto>();
+
+    /** Result of <tt>getHipaa</tt>; null if there is no match */
+    public FacetsMemberHippaDto hipaa;
+
+    /** Result of <tt>getIdAndBluesPrefixBySbsbIdAndDate</tt>; null if there is no match */
+    public FacetsMemberIdAndBluesPrefixDto idAndBluesPrefix;
+}
@@ -0,0 +1,23 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import javax.sql.DataSource;
+
+/**
+ * <p>A <tt>FacetsMemberDaoImpl</tt> whose primary datasource is a given one, e.g. an H2
+ * database filled by {@link FacetsH2Schema}, instead of the JNDI datasource.</p>
+ * <p>Connections are checked out the way production checks them out: through the
+ * {@link FacetsDatasourceHandle}, with its metrics, the connection pinned by
+ * {@link #getMemberProfile(String, java.util.Date)} and any configured replicas.</p>
+ */
+final class H2FacetsMemberDao extends FacetsMemberDaoImpl
+{
+
+    /**
+     * @param dataSource The datasource every query checks out its connection from
+     */
+    H2FacetsMemberDao(DataSource dataSource)
+    {
+        super(new FacetsDatasourceHandle("H2", dataSource));
+    }
+}
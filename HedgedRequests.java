@@ -0,0 +1,565 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.amerigroup.exception.runtime.execution.DAOException;
+import org.apache.log4j.Logger;
+
+/**
+ * <p>Hedged execution of latency-sensitive reads: if a call has not returned within a delay
+ * taken from its own latency distribution, the same call is started again on a worker
+ * thread, which checks out its own connection (on another replica if replicas are routed).
+ * The first result wins and the loser's statement is cancelled with
+ * <tt>Statement.cancel()</tt>.</p>
+ * <p>The delay is the configured percentile of the connection wait plus the percentile of
+ * the execution time recorded in the call's {@link QueryTimer}, and at least
+ * <tt>minDelayMillis</tt>; it is recomputed at most once a second.  A call is not hedged
+ * until its timer has <tt>minSamples</tt> executions, or when no worker thread is free.</p>
+ * <p>Both attempts run on worker threads while the calling thread waits for the first
+ * success, so a caller is released as soon as the hedge wins even if the original attempt is
+ * stuck before it has a statement to cancel, e.g. waiting for a connection; the loser finishes
+ * in the background.  If no worker is free the original attempt runs on the calling thread.
+ * Statements prepared by an attempt are registered with {@link #register(Statement)}
+ * and dropped again with {@link #unregister(Statement)} before they go back to the
+ * statement cache, so a late cancel never reaches a statement another caller is using.
+ * If one attempt fails the other is still waited for; the call fails only if both do.</p>
+ * <p>Thread-safe.</p>
+ */
+public class HedgedRequests
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(HedgedRequests.class);
+
+    /** How long a computed delay is reused before the histograms are read again */
+    private static final long DELAY_REFRESH_NANOS = 1000000000L;
+
+    /** The attempt running on the current thread, if any */
+    private static final ThreadLocal<Slot> current = new ThreadLocal<Slot>();
+
+    /**
+     * <p>A read that can be run more than once.</p>
+     */
+    public interface Call<T>
+    {
+        /**
+         * @return the result
+         */
+        T call();
+    }
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long minSamples;
+    private final ScheduledThreadPoolExecutor timer;
+    private final ExecutorService workers;
+    private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<String, Counters>();
+
+    /**
+     * @param enabled If false every call runs once, unhedged
+     * @param percentile The fraction of calls expected to finish before the hedge fires, e.g. 0.95
+     * @param minDelayMillis The shortest delay ever used
+     * @param minSamples The number of timed executions needed before a call is hedged
+     * @param threads The number of worker threads, shared by the original attempts and the
+     * hedges of the calls in flight
+     */
+    public HedgedRequests(boolean enabled, double percentile, long minDelayMillis, long minSamples, int threads)
+    {
+        this.enabled = enabled && threads > 0;
+        this.percentile = percentile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMillis);
+        this.minSamples = minSamples;
+        if (this.enabled)
+        {
+            timer = new ScheduledThreadPoolExecutor(1, daemonThreads("facets-dao-hedge-timer"));
+            timer.setRemoveOnCancelPolicy(true);
+            workers = new ThreadPoolExecutor(0, threads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<Runnable>(), daemonThreads("facets-dao-hedge"));
+        }
+        else
+        {
+            timer = null;
+            workers = null;
+        }
+    }
+
+    /**
+     * <p>Run <tt>call</tt>, hedging it if it is slow.</p>
+     * @param name The name the hedge counters are kept under
+     * @param timings The timer whose connection wait and execution histograms give the delay
+     * @param call The read
+     * @return the result of whichever attempt finished first
+     * @throws RuntimeException the first failure, if every attempt failed
+     */
+    public <T> T execute(String name, QueryTimer timings, final Call<T> call)
+    {
+        final Counters stats = countersFor(name);
+        long delay = enabled ? stats.delay(timings) : 0;
+        if (delay <= 0)
+        {
+            return call.call();
+        }
+
+        final Race<T> race = new Race<T>();
+        final Slot primary = new Slot();
+        final Slot hedge = new Slot();
+        ScheduledFuture<?> hedgeTimer = timer.schedule(new Runnable()
+        {
+            public void run()
+            {
+                if (race.isDone())
+                {
+                    return;
+                }
+                try
+                {
+                    workers.execute(new Runnable()
+                    {
+                        public void run()
+                        {
+                            if (!race.start())
+                            {
+                                return;
+                            }
+                            stats.fired.incrementAndGet();
+                            if (attempt(call, hedge, race))
+                            {
+                                primary.cancel();
+                            }
+                        }
+                    });
+                }
+                catch (RejectedExecutionException ex)
+                {
+                    stats.rejected.incrementAndGet();
+                }
+            }
+        }, delay, TimeUnit.NANOSECONDS);
+
+        race.start();
+        Runnable original = new Runnable()
+        {
+            public void run()
+            {
+                if (attempt(call, primary, race))
+                {
+                    hedge.cancel();
+                }
+            }
+        };
+        try
+        {
+            workers.execute(original);
+        }
+        catch (RejectedExecutionException ex)
+        {
+            original.run();
+        }
+        try
+        {
+            T result = race.await();
+            if (race.getWinner() == hedge)
+            {
+                stats.won.incrementAndGet();
+            }
+            return result;
+        }
+        finally
+        {
+            hedgeTimer.cancel(false);
+        }
+    }
+
+    /**
+     * <p>Run one attempt with <tt>slot</tt> as the current thread's slot.</p>
+     * @return whether this attempt finished first
+     */
+    private static <T> boolean attempt(Call<T> call, Slot slot, Race<T> race)
+    {
+        Slot previous = current.get();
+        current.set(slot);
+        try
+        {
+            return race.succeed(call.call(), slot);
+        }
+        catch (RuntimeException ex)
+        {
+            race.fail(ex);
+        }
+        catch (Error err)
+        {
+            race.fail(new DAOException("Hedged request failed", err));
+            throw err;
+        }
+        finally
+        {
+            slot.finish();
+            if (previous == null)
+            {
+                current.remove();
+            }
+            else
+            {
+                current.set(previous);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Register a statement the current attempt is about to execute, so it can be cancelled
+     * if the other attempt wins.  Does nothing outside a hedged call.</p>
+     * @param statement The statement
+     * @throws SQLException if the current attempt has already lost
+     */
+    public static void register(Statement statement) throws SQLException
+    {
+        Slot slot = current.get();
+        if (slot != null)
+        {
+            slot.register(statement);
+        }
+    }
+
+    /**
+     * <p>Forget a statement before it is handed back for reuse.  Does nothing outside a hedged call.</p>
+     * @param statement The statement, may be null
+     */
+    public static void unregister(Statement statement)
+    {
+        Slot slot = current.get();
+        if (slot != null && statement != null)
+        {
+            slot.unregister(statement);
+        }
+    }
+
+    /**
+     * @return whether the current thread is running a hedged attempt that lost and was
+     * cancelled; its <tt>SQLException</tt> is then expected and not a database problem
+     */
+    public static boolean isCancelled()
+    {
+        Slot slot = current.get();
+        return slot != null && slot.isCancelled();
+    }
+
+    /** @return whether calls are hedged at all */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * @return the counters of every call hedged so far, keyed and sorted by name; unmodifiable
+     */
+    public Map<String, Counters> getCounters()
+    {
+        return Collections.unmodifiableMap(new TreeMap<String, Counters>(counters));
+    }
+
+    private Counters countersFor(String name)
+    {
+        Counters stats = counters.get(name);
+        if (stats == null)
+        {
+            stats = new Counters();
+            Counters existing = counters.putIfAbsent(name, stats);
+            if (existing != null)
+            {
+                stats = existing;
+            }
+        }
+        return stats;
+    }
+
+    private static ThreadFactory daemonThreads(final String name)
+    {
+        final AtomicInteger count = new AtomicInteger();
+        return new ThreadFactory()
+        {
+            public Thread newThread(Runnable r)
+            {
+                Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        };
+    }
+
+    /**
+     * <p>How often the hedge of one call fired and won.</p>
+     */
+    public final class Counters
+    {
+        private final AtomicLong fired = new AtomicLong();
+        private final AtomicLong won = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private volatile long delayNanos;
+        private volatile long delayComputedAt;
+
+        /** @return the number of calls that started a second attempt */
+        public long getFired()
+        {
+            return fired.get();
+        }
+
+        /** @return the number of calls the second attempt finished first */
+        public long getWon()
+        {
+            return won.get();
+        }
+
+        /** @return the number of calls that were due a hedge but found no free worker */
+        public long getRejected()
+        {
+            return rejected.get();
+        }
+
+        /** @return the delay last used, in nanoseconds; 0 if the call is not hedged yet */
+        public long getDelayNanos()
+        {
+            return delayNanos;
+        }
+
+        long delay(QueryTimer timings)
+        {
+            long now = System.nanoTime();
+            if (delayComputedAt != 0 && now - delayComputedAt < DELAY_REFRESH_NANOS)
+            {
+                return delayNanos;
+            }
+            long computed = 0;
+            if (timings.getExecute().getCount() >= minSamples)
+            {
+                computed = Math.max(minDelayNanos,
+                    timings.getConnectionWait().getPercentile(percentile) + timings.getExecute().getPercentile(percentile));
+            }
+            delayNanos = computed;
+            delayComputedAt = now;
+            return computed;
+        }
+    }
+
+    /**
+     * <p>The statement an attempt is executing and whether the attempt has lost.</p>
+     */
+    private static final class Slot
+    {
+        /**
+         * Guards the fields below.  A lock rather than a monitor, since the statement is
+         * cancelled while it is held and a virtual thread blocked in a monitor pins its carrier.
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+        private Statement statement;
+        private boolean cancelled;
+        private boolean finished;
+
+        void register(Statement s) throws SQLException
+        {
+            lock.lock();
+            try
+            {
+                if (cancelled)
+                {
+                    throw new SQLException("Cancelled in favour of a hedged request");
+                }
+                statement = s;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        void unregister(Statement s)
+        {
+            lock.lock();
+            try
+            {
+                if (statement == s)
+                {
+                    statement = null;
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        void cancel()
+        {
+            lock.lock();
+            try
+            {
+                if (finished)
+                {
+                    return;
+                }
+                cancelled = true;
+                if (statement != null)
+                {
+                    try
+                    {
+                        statement.cancel();
+                    }
+                    catch (SQLException ex)
+                    {
+                        log.debug("Unable to cancel losing hedged statement: " + ex.getMessage());
+                    }
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        void finish()
+        {
+            lock.lock();
+            try
+            {
+                finished = true;
+                statement = null;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        boolean isCancelled()
+        {
+            lock.lock();
+            try
+            {
+                return cancelled;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * <p>The outcome of the attempts of one call: the first success, or the first failure
+     * once every attempt that started has failed.</p>
+     * <p>The caller waits on a <tt>CompletableFuture</tt>, so a virtual thread waiting for a
+     * hedged call unmounts instead of pinning its carrier.</p>
+     */
+    private static final class Race<T>
+    {
+        /** Guards the counts and the first failure */
+        private final ReentrantLock lock = new ReentrantLock();
+        private final CompletableFuture<T> outcome = new CompletableFuture<T>();
+        private int started;
+        private int failed;
+        private RuntimeException error;
+        private volatile Slot winner;
+
+        boolean isDone()
+        {
+            return outcome.isDone();
+        }
+
+        boolean start()
+        {
+            lock.lock();
+            try
+            {
+                if (outcome.isDone())
+                {
+                    return false;
+                }
+                started++;
+                return true;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        boolean succeed(T result, Slot slot)
+        {
+            lock.lock();
+            try
+            {
+                if (outcome.isDone())
+                {
+                    return false;
+                }
+                winner = slot;
+                return outcome.complete(result);
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        void fail(RuntimeException ex)
+        {
+            lock.lock();
+            try
+            {
+                failed++;
+                if (error == null)
+                {
+                    error = ex;
+                }
+                if (failed == started)
+                {
+                    outcome.completeExceptionally(error);
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        Slot getWinner()
+        {
+            return winner;
+        }
+
+        /**
+         * <p>Wait for the outcome.  An interrupt does not end the wait; the flag is left set.</p>
+         */
+        T await()
+        {
+            try
+            {
+                return outcome.join();
+            }
+            catch (CompletionException ex)
+            {
+                throw (RuntimeException) ex.getCause();
+            }
+        }
+    }
+}
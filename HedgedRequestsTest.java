@@ -0,0 +1,125 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.Test;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Statement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+
+
+public class HedgedRequestsTest {
+
+    private static QueryTimer timerWithSamples(String name) {
+        QueryTimer timer = new QueryTimer(name);
+        for (int i = 0; i < 10; i++) {
+            timer.record(0, 1000000, 0, 1);
+        }
+        return timer;
+    }
+
+    private static Statement cancellable(final CountDownLatch cancelled) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(),
+            new Class<?>[] { Statement.class }, new InvocationHandler() {
+                public Object invoke(Object proxy, Method method, Object[] args) {
+                    if ("cancel".equals(method.getName())) {
+                        cancelled.countDown();
+                    }
+                    return null;
+                }
+            });
+    }
+
+    @Test
+    public void testSlowCallIsHedgedAndLoserCancelled() throws Exception {
+        HedgedRequests hedging = new HedgedRequests(true, 0.95, 100, 1, 2);
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch cancelled = new CountDownLatch(1);
+
+        String result = hedging.execute("slow", timerWithSamples("slow"), new HedgedRequests.Call<String>() {
+            public String call() {
+                if (attempts.incrementAndGet() == 1) {
+                    try {
+                        HedgedRequests.register(cancellable(cancelled));
+                        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+                    } catch (Exception ex) {
+                        throw new RuntimeException(ex);
+                    }
+                    assertTrue(HedgedRequests.isCancelled());
+                    throw new IllegalStateException("cancelled");
+                }
+                return "hedge";
+            }
+        });
+
+        assertEquals("hedge", result);
+        assertEquals(1, hedging.getCounters().get("slow").getFired());
+        assertEquals(1, hedging.getCounters().get("slow").getWon());
+    }
+
+    @Test
+    public void testCallerReturnsWhenHedgeWinsWhileOriginalIsStillWaiting() throws Exception {
+        HedgedRequests hedging = new HedgedRequests(true, 0.95, 100, 1, 2);
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch stuck = new CountDownLatch(1);
+        final CountDownLatch originalDone = new CountDownLatch(1);
+
+        try {
+            long start = System.nanoTime();
+            String result = hedging.execute("stuck", timerWithSamples("stuck"), new HedgedRequests.Call<String>() {
+                public String call() {
+                    if (attempts.incrementAndGet() == 1) {
+                        try {
+                            stuck.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            originalDone.countDown();
+                        }
+                        return "original";
+                    }
+                    return "hedge";
+                }
+            });
+
+            assertEquals("hedge", result);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+            assertEquals(1, originalDone.getCount());
+            assertEquals(1, hedging.getCounters().get("stuck").getWon());
+        } finally {
+            stuck.countDown();
+        }
+        assertTrue(originalDone.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFastCallIsNotHedged() {
+        HedgedRequests hedging = new HedgedRequests(true, 0.95, 1000, 1, 2);
+
+        String result = hedging.execute("fast", timerWithSamples("fast"), new HedgedRequests.Call<String>() {
+            public String call() {
+                return "primary";
+            }
+        });
+
+        assertEquals("primary", result);
+        assertEquals(0, hedging.getCounters().get("fast").getFired());
+        assertFalse(HedgedRequests.isCancelled());
+    }
+
+    @Test
+    public void testNotHedgedUntilEnoughSamples() {
+        HedgedRequests hedging = new HedgedRequests(true, 0.95, 1, 100, 2);
+
+        hedging.execute("new", timerWithSamples("new"), new HedgedRequests.Call<String>() {
+            public String call() {
+                return "primary";
+            }
+        });
+
+        assertEquals(0, hedging.getCounters().get("new").getDelayNanos());
+    }
+}
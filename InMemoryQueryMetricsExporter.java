@@ -0,0 +1,39 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.*;
+
+/**
+ * <p>Keeps the call counts seen at each export in memory; a stand-in exporter for tests.</p>
+ */
+public class InMemoryQueryMetricsExporter implements QueryMetricsExporter
+{
+
+    private final List<Map<String, Long>> exports = new ArrayList<Map<String, Long>>();
+
+    public synchronized void export(Map<String, QueryTimer> timers)
+    {
+        Map<String, Long> counts = new TreeMap<String, Long>();
+        for (QueryTimer timer : timers.values())
+        {
+            counts.put(timer.getName(), Long.valueOf(timer.getCount()));
+        }
+        exports.add(counts);
+    }
+
+    /**
+     * @return the call counts by method name at each export, oldest first
+     */
+    public synchronized List<Map<String, Long>> getExports()
+    {
+        return new ArrayList<Map<String, Long>>(exports);
+    }
+
+    /**
+     * @return the call counts by method name at the most recent export, or an empty map if none
+     */
+    public synchronized Map<String, Long> getLastExport()
+    {
+        return exports.isEmpty() ? Collections.<String, Long>emptyMap() : exports.get(exports.size() - 1);
+    }
+}
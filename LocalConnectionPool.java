@@ -0,0 +1,416 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.log4j.Logger;
+
+/**
+ * <p>A small bounded JDBC connection pool for running the DAO outside a container, e.g.
+ * from a batch job or against the H2 test database.</p>
+ * <p>A pool is configured per logical datasource name (<tt>Facets</tt> for the main
+ * datasource) with the environment properties
+ * <tt>facets.dao.pool.&lt;name&gt;.jdbcUrl</tt>, <tt>.username</tt>, <tt>.password</tt>,
+ * <tt>.maximumPoolSize</tt> (default 10) and <tt>.connectionTimeoutMillis</tt> (default
+ * 5000).  When no <tt>jdbcUrl</tt> is set the container's JNDI datasource is used as before.</p>
+ * <p>At most <tt>maximumPoolSize</tt> connections are checked out at once.  A caller that
+ * cannot get one within <tt>connectionTimeoutMillis</tt> gets a
+ * <tt>SQLTransientConnectionException</tt>.  Closing a checked-out connection returns the
+ * physical connection to the pool; the most recently returned one is handed out first, and
+ * one that has been idle for a while is validated before reuse.</p>
+ * <p>Thread-safe.</p>
+ */
+public class LocalConnectionPool implements DataSource
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(LocalConnectionPool.class);
+
+    /** Idle connections older than this are validated before being handed out */
+    private static final long VALIDATE_AFTER_IDLE_MILLIS = 30000L;
+
+    /** Pools configured from the environment properties, keyed by logical datasource name */
+    private static final ConcurrentMap<String, LocalConnectionPool> configured =
+        new ConcurrentHashMap<String, LocalConnectionPool>();
+
+    private final String name;
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final int maximumPoolSize;
+    private final long connectionTimeoutMillis;
+
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<IdleConnection> idle = new ConcurrentLinkedDeque<IdleConnection>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * @param name The logical datasource name, used in messages
+     * @param jdbcUrl The JDBC URL passed to <tt>DriverManager</tt>
+     * @param username The user name, may be null
+     * @param password The password, may be null
+     * @param maximumPoolSize The maximum number of connections checked out at once
+     * @param connectionTimeoutMillis How long a caller waits for a connection before giving up
+     */
+    public LocalConnectionPool(String name, String jdbcUrl, String username, String password,
+        int maximumPoolSize, long connectionTimeoutMillis)
+    {
+        this.name = name;
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        this.maximumPoolSize = Math.max(1, maximumPoolSize);
+        this.connectionTimeoutMillis = Math.max(0, connectionTimeoutMillis);
+        this.permits = new Semaphore(this.maximumPoolSize, true);
+    }
+
+    /**
+     * <p>Get the pool configured for a logical datasource, creating it on first use.</p>
+     * @param name The logical datasource name
+     * @return the shared pool, or null if no <tt>jdbcUrl</tt> is configured for the name
+     */
+    static LocalConnectionPool forDatasource(String name)
+    {
+        LocalConnectionPool pool = configured.get(name);
+        if (pool == null)
+        {
+            String prefix = "facets.dao.pool." + name + ".";
+            String jdbcUrl = FacetsMemberDaoConfig.getString(prefix + "jdbcUrl", null);
+            if (jdbcUrl == null)
+            {
+                return null;
+            }
+            pool = new LocalConnectionPool(name, jdbcUrl,
+                FacetsMemberDaoConfig.getString(prefix + "username", null),
+                FacetsMemberDaoConfig.getString(prefix + "password", null),
+                FacetsMemberDaoConfig.getInt(prefix + "maximumPoolSize", 10),
+                FacetsMemberDaoConfig.getLong(prefix + "connectionTimeoutMillis", 5000));
+            LocalConnectionPool existing = configured.putIfAbsent(name, pool);
+            if (existing != null)
+            {
+                pool = existing;
+            }
+            else
+            {
+                log.info("Using local connection pool for datasource " + name + ": " + jdbcUrl
+                    + ", maximumPoolSize=" + pool.maximumPoolSize);
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * <p>Check out a connection, waiting up to <tt>connectionTimeoutMillis</tt> if all are in use.</p>
+     * @return a connection whose <tt>close()</tt> returns it to the pool
+     * @throws SQLTransientConnectionException if none became free in time
+     * @throws SQLException if the pool is closed or a new connection cannot be opened
+     */
+    public Connection getConnection() throws SQLException
+    {
+        if (closed)
+        {
+            throw new SQLException("Connection pool " + name + " is closed");
+        }
+        boolean acquired;
+        pending.incrementAndGet();
+        try
+        {
+            acquired = permits.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for a connection from pool " + name, ex);
+        }
+        finally
+        {
+            pending.decrementAndGet();
+        }
+        if (!acquired)
+        {
+            throw new SQLTransientConnectionException("Connection pool " + name + " exhausted: all "
+                + maximumPoolSize + " connections in use after waiting " + connectionTimeoutMillis + "ms");
+        }
+
+        try
+        {
+            Connection physical = takeIdle();
+            if (physical == null)
+            {
+                physical = DriverManager.getConnection(jdbcUrl, username, password);
+            }
+            active.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new PooledConnection(physical));
+        }
+        catch (SQLException ex)
+        {
+            permits.release();
+            throw ex;
+        }
+        catch (RuntimeException ex)
+        {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * <p>Not supported: every connection uses the configured credentials.</p>
+     */
+    public Connection getConnection(String user, String pass) throws SQLException
+    {
+        throw new SQLFeatureNotSupportedException("Connection pool " + name + " only uses its configured credentials");
+    }
+
+    /**
+     * <p>Close the idle connections and stop handing out new ones.  Connections still checked
+     * out are closed when they are returned.</p>
+     */
+    public void close()
+    {
+        closed = true;
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null)
+        {
+            closeQuietly(entry.connection);
+        }
+    }
+
+    /** @return the logical datasource name */
+    public String getName()
+    {
+        return name;
+    }
+
+    /** @return the number of connections checked out */
+    public int getActive()
+    {
+        return active.get();
+    }
+
+    /** @return the number of open connections waiting in the pool */
+    public int getIdle()
+    {
+        return idle.size();
+    }
+
+    /** @return the number of threads waiting for a connection */
+    public int getPending()
+    {
+        return pending.get();
+    }
+
+    /** @return the maximum number of connections checked out at once */
+    public int getMaximumPoolSize()
+    {
+        return maximumPoolSize;
+    }
+
+    public PrintWriter getLogWriter() throws SQLException
+    {
+        return DriverManager.getLogWriter();
+    }
+
+    public void setLogWriter(PrintWriter out) throws SQLException
+    {
+        DriverManager.setLogWriter(out);
+    }
+
+    public void setLoginTimeout(int seconds) throws SQLException
+    {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    public int getLoginTimeout() throws SQLException
+    {
+        return DriverManager.getLoginTimeout();
+    }
+
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException
+    {
+        throw new SQLFeatureNotSupportedException("Connection pool " + name + " does not use java.util.logging");
+    }
+
+    public <T> T unwrap(Class<T> iface) throws SQLException
+    {
+        if (iface.isInstance(this))
+        {
+            return iface.cast(this);
+        }
+        throw new SQLException("Connection pool " + name + " does not wrap a " + iface.getName());
+    }
+
+    public boolean isWrapperFor(Class<?> iface)
+    {
+        return iface.isInstance(this);
+    }
+
+    private Connection takeIdle()
+    {
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null)
+        {
+            if (isUsable(entry))
+            {
+                return entry.connection;
+            }
+            closeQuietly(entry.connection);
+        }
+        return null;
+    }
+
+    private static boolean isUsable(IdleConnection entry)
+    {
+        try
+        {
+            if (entry.connection.isClosed())
+            {
+                return false;
+            }
+            return System.currentTimeMillis() - entry.since < VALIDATE_AFTER_IDLE_MILLIS
+                || entry.connection.isValid(5);
+        }
+        catch (SQLException ex)
+        {
+            log.debug("Discarding idle connection: " + ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * <p>Take back a physical connection, resetting it for the next caller.</p>
+     */
+    private void giveBack(Connection physical)
+    {
+        boolean reusable = !closed;
+        if (reusable)
+        {
+            try
+            {
+                if (!physical.getAutoCommit())
+                {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+            }
+            catch (SQLException ex)
+            {
+                log.debug("Discarding connection that could not be reset: " + ex.getMessage());
+                reusable = false;
+            }
+        }
+        if (reusable)
+        {
+            idle.offerFirst(new IdleConnection(physical));
+        }
+        else
+        {
+            closeQuietly(physical);
+        }
+        active.decrementAndGet();
+        permits.release();
+    }
+
+    private static void closeQuietly(Connection conn)
+    {
+        try
+        {
+            conn.close();
+        }
+        catch (SQLException ex)
+        {
+            log.debug("Unable to close pooled connection: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * <p>A physical connection waiting in the pool and when it was returned.</p>
+     */
+    private static final class IdleConnection
+    {
+        final Connection connection;
+        final long since = System.currentTimeMillis();
+
+        IdleConnection(Connection connection)
+        {
+            this.connection = connection;
+        }
+    }
+
+    /**
+     * <p>The checked-out handle on a physical connection: <tt>close()</tt> returns it to the
+     * pool once and every later call except <tt>isClosed()</tt> fails.  Everything else,
+     * including <tt>unwrap</tt>, goes straight to the physical connection, so the statement
+     * cache keeps working across checkouts.</p>
+     */
+    private final class PooledConnection implements InvocationHandler
+    {
+        private final Connection physical;
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        PooledConnection(Connection physical)
+        {
+            this.physical = physical;
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+        {
+            String methodName = method.getName();
+            int parameters = method.getParameterTypes().length;
+            if ("close".equals(methodName) && parameters == 0)
+            {
+                if (returned.compareAndSet(false, true))
+                {
+                    giveBack(physical);
+                }
+                return null;
+            }
+            if ("isClosed".equals(methodName) && parameters == 0)
+            {
+                return Boolean.valueOf(returned.get() || physical.isClosed());
+            }
+            if ("equals".equals(methodName) && args != null && args.length == 1)
+            {
+                return Boolean.valueOf(proxy == args[0]);
+            }
+            if ("hashCode".equals(methodName) && parameters == 0)
+            {
+                return Integer.valueOf(System.identityHashCode(proxy));
+            }
+            if (returned.get())
+            {
+                throw new SQLException("Connection has been returned to pool " + name);
+            }
+            try
+            {
+                return method.invoke(physical, args);
+            }
+            catch (InvocationTargetException ex)
+            {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import static org.junit.Assert.*;
+
+
+public class LocalConnectionPoolTest {
+    private LocalConnectionPool pool;
+
+    @Before
+    public void setUp() throws Exception {
+        pool = new LocalConnectionPool("test", "jdbc:h2:mem:localpool;DB_CLOSE_DELAY=-1", "sa", "", 1, 50);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        pool.close();
+    }
+
+    @Test
+    public void testReturnsPhysicalConnectionToPool() throws Exception {
+        Connection first = pool.getConnection();
+        Connection physical = first.unwrap(Connection.class);
+        assertEquals(1, pool.getActive());
+        first.close();
+        first.close();
+
+        assertTrue(first.isClosed());
+        assertEquals(0, pool.getActive());
+        assertEquals(1, pool.getIdle());
+
+        Connection second = pool.getConnection();
+        assertSame(physical, second.unwrap(Connection.class));
+        second.close();
+    }
+
+    @Test
+    public void testExhaustedPoolTimesOut() throws Exception {
+        Connection held = pool.getConnection();
+        try {
+            pool.getConnection();
+            fail("Expected the pool to be exhausted");
+        } catch (SQLTransientConnectionException expected) {
+            assertEquals(0, pool.getPending());
+        } finally {
+            held.close();
+        }
+        assertEquals(1, pool.getIdle());
+    }
+}
@@ -0,0 +1,38 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+
+/**
+ * <p>Writes one INFO line per DAO method with its call count and the median, p99 and max
+ * of each timing, in microseconds.  The default exporter.</p>
+ */
+public class LoggingQueryMetricsExporter implements QueryMetricsExporter
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(LoggingQueryMetricsExporter.class);
+
+    public void export(Map<String, QueryTimer> timers)
+    {
+        if (!log.isInfoEnabled())
+        {
+            return;
+        }
+        for (QueryTimer timer : timers.values())
+        {
+            log.info("Query Metrics:" + timer.getName() + " calls=" + timer.getCount()
+                + ", getConnectionUs=" + summary(timer.getConnectionWait(), 1000)
+                + ", queryExecutionUs=" + summary(timer.getExecute(), 1000)
+                + ", loadResultsUs=" + summary(timer.getRowLoad(), 1000)
+                + ", rowsRead=" + summary(timer.getRowsRead(), 1));
+        }
+    }
+
+    private static String summary(QueryHistogram h, long divisor)
+    {
+        return "p50:" + h.getPercentile(0.5) / divisor + "/p99:" + h.getPercentile(0.99) / divisor + "/max:" + h.getMax() / divisor;
+    }
+}
@@ -0,0 +1,224 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.sql.Timestamp;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.log4j.Logger;
+
+import com.amerigroup.facets.dao.dto.FacetsMemberMarketBrandDto;
+
+/**
+ * <p>An immutable in-memory copy of <tt>AGP.MEM_MARKET_BRAND</tt> with every
+ * <tt>GCPP_PATTERN</tt> precompiled.</p>
+ * <p>Matching reproduces the DAO's SQL: <tt>regexp_like(product, GCPP_PATTERN)</tt> is a
+ * <tt>Matcher.find()</tt>, and <tt>sysdate between MARKET_EFF_DT and MARKET_TERM_DT</tt> is
+ * checked against the current time, with a null date never matching.  The POSIX character
+ * classes Oracle allows in a bracket expression, e.g. <tt>[[:digit:]]</tt>, are rewritten as
+ * their Java equivalents (<tt>[\p{Digit}]</tt>).  If any pattern uses an equivalence class,
+ * a collating element or an unknown character class, or is not valid Java regex syntax, the
+ * table is marked incomplete and callers should fall back to the database query.</p>
+ */
+final class MarketBrandTable
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(MarketBrandTable.class);
+
+    /** Java names of the POSIX character classes, keyed by their Oracle names */
+    private static final Map<String, String> POSIX_CLASSES = new HashMap<String, String>();
+
+    static
+    {
+        POSIX_CLASSES.put("alpha", "Alpha");
+        POSIX_CLASSES.put("digit", "Digit");
+        POSIX_CLASSES.put("alnum", "Alnum");
+        POSIX_CLASSES.put("upper", "Upper");
+        POSIX_CLASSES.put("lower", "Lower");
+        POSIX_CLASSES.put("space", "Space");
+        POSIX_CLASSES.put("blank", "Blank");
+        POSIX_CLASSES.put("punct", "Punct");
+        POSIX_CLASSES.put("xdigit", "XDigit");
+        POSIX_CLASSES.put("cntrl", "Cntrl");
+        POSIX_CLASSES.put("graph", "Graph");
+        POSIX_CLASSES.put("print", "Print");
+    }
+
+    /**
+     * <p>One row of the brand table.</p>
+     */
+    static final class Entry
+    {
+        final String brandCode;
+        final String brandDesc;
+        final String gcppPattern;
+        final Timestamp effDate;
+        final Timestamp termDate;
+        final boolean marketBrand;
+        final boolean printBrand;
+        Pattern pattern;
+
+        Entry(String brandCode, String brandDesc, String gcppPattern, Timestamp effDate, Timestamp termDate, boolean marketBrand, boolean printBrand)
+        {
+            this.brandCode = brandCode;
+            this.brandDesc = brandDesc;
+            this.gcppPattern = gcppPattern;
+            this.effDate = effDate;
+            this.termDate = termDate;
+            this.marketBrand = marketBrand;
+            this.printBrand = printBrand;
+        }
+    }
+
+    private final Entry[] entries;
+    private final boolean complete;
+
+    /**
+     * @param rows The rows of the table, in load order
+     */
+    MarketBrandTable(List<Entry> rows)
+    {
+        boolean ok = true;
+        List<Entry> usable = new ArrayList<Entry>(rows.size());
+        for (Entry entry : rows)
+        {
+            if (entry.gcppPattern == null)
+            {
+                continue;
+            }
+            String javaPattern = toJavaPattern(entry.gcppPattern);
+            if (javaPattern == null)
+            {
+                log.warn("GCPP_PATTERN '" + entry.gcppPattern + "' for brand " + entry.brandCode
+                    + " uses bracket syntax with no Java equivalent; brand lookups will use the database");
+                ok = false;
+                continue;
+            }
+            try
+            {
+                entry.pattern = Pattern.compile(javaPattern);
+                usable.add(entry);
+            }
+            catch (PatternSyntaxException ex)
+            {
+                log.warn("GCPP_PATTERN '" + entry.gcppPattern + "' for brand " + entry.brandCode
+                    + " is not a valid Java pattern; brand lookups will use the database");
+                ok = false;
+            }
+        }
+        this.entries = usable.toArray(new Entry[usable.size()]);
+        this.complete = ok;
+    }
+
+    /**
+     * <p>Rewrite the POSIX character classes in the bracket expressions of an Oracle pattern as
+     * Java's <tt>\p{...}</tt> classes.  A <tt>[</tt> inside a bracket expression that does not
+     * open a class is escaped, since Java would read it as a nested class.</p>
+     * @param oracle The pattern as <tt>regexp_like</tt> reads it
+     * @return the equivalent Java pattern, or null if it uses an equivalence class
+     * (<tt>[=a=]</tt>), a collating element (<tt>[.a.]</tt>) or an unknown character class
+     */
+    static String toJavaPattern(String oracle)
+    {
+        int length = oracle.length();
+        StringBuilder java = new StringBuilder(length + 16);
+        boolean inBracket = false;
+        int i = 0;
+        while (i < length)
+        {
+            char c = oracle.charAt(i);
+            if (!inBracket)
+            {
+                java.append(c);
+                i++;
+                if (c == '\\' && i < length)
+                {
+                    java.append(oracle.charAt(i));
+                    i++;
+                }
+                else if (c == '[')
+                {
+                    inBracket = true;
+                    if (i < length && oracle.charAt(i) == '^')
+                    {
+                        java.append('^');
+                        i++;
+                    }
+                    if (i < length && oracle.charAt(i) == ']')
+                    {
+                        java.append("\\]");
+                        i++;
+                    }
+                }
+                continue;
+            }
+            if (c == '[' && i + 1 < length && ":=.".indexOf(oracle.charAt(i + 1)) >= 0)
+            {
+                char kind = oracle.charAt(i + 1);
+                int end = oracle.indexOf(kind + "]", i + 2);
+                String name = kind == ':' && end >= 0 ? POSIX_CLASSES.get(oracle.substring(i + 2, end)) : null;
+                if (name == null)
+                {
+                    return null;
+                }
+                java.append("\\p{").append(name).append('}');
+                i = end + 2;
+                continue;
+            }
+            if (c == '[')
+            {
+                java.append('\\');
+            }
+            else if (c == ']')
+            {
+                inBracket = false;
+            }
+            java.append(c);
+            i++;
+        }
+        return java.toString();
+    }
+
+    /**
+     * @return false if some pattern could not be translated or compiled, in which case the table must not be used
+     */
+    boolean isComplete()
+    {
+        return complete;
+    }
+
+    /**
+     * <p>Find the brands whose pattern matches <tt>product</tt> and which are in effect now.</p>
+     * @param product The group, class, plan and product concatenation
+     * @param print True for print brands (<tt>PRINT_BRAND_IND = 'Y'</tt>), false for market brands
+     * @return the matching brands; empty but never null
+     */
+    List<FacetsMemberMarketBrandDto> match(String product, boolean print)
+    {
+        List<FacetsMemberMarketBrandDto> result = new ArrayList<FacetsMemberMarketBrandDto>();
+        if (product == null)
+        {
+            return result;
+        }
+        long now = System.currentTimeMillis();
+        for (Entry entry : entries)
+        {
+            if ((print ? entry.printBrand : entry.marketBrand)
+                && entry.effDate != null && entry.termDate != null
+                && entry.effDate.getTime() <= now && now <= entry.termDate.getTime()
+                && entry.pattern.matcher(product).find())
+            {
+                FacetsMemberMarketBrandDto dto = new FacetsMemberMarketBrandDto();
+                dto.brandCode = entry.brandCode;
+                dto.brandDesc = entry.brandDesc;
+                dto.gcppPattern = entry.gcppPattern;
+                dto.effDate = entry.effDate;
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+}
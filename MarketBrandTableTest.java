@@ -0,0 +1,87 @@
+package com.amerigroup.facets.dao;
+
+import com.amerigroup.facets.dao.dto.FacetsMemberMarketBrandDto;
+import org.junit.Test;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+
+
+public class MarketBrandTableTest {
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    private static MarketBrandTable.Entry entry(String code, String pattern, long effOffset, long termOffset, boolean market, boolean print) {
+        long now = System.currentTimeMillis();
+        return new MarketBrandTable.Entry(code, code + " desc", pattern,
+                new Timestamp(now + effOffset), new Timestamp(now + termOffset), market, print);
+    }
+
+    @Test
+    public void testMatchesPatternAnywhereLikeRegexpLike() {
+        List<MarketBrandTable.Entry> rows = new ArrayList<MarketBrandTable.Entry>();
+        rows.add(entry("TX", "^TX.*MCD", -DAY, DAY, true, false));
+        rows.add(entry("FL", "FLK", -DAY, DAY, true, false));
+        MarketBrandTable table = new MarketBrandTable(rows);
+
+        List<FacetsMemberMarketBrandDto> result = table.match("TXG1C1P1MCD", false);
+
+        assertTrue(table.isComplete());
+        assertEquals(1, result.size());
+        assertEquals("TX", result.get(0).brandCode);
+    }
+
+    @Test
+    public void testFiltersOnIndicatorAndEffectiveDates() {
+        List<MarketBrandTable.Entry> rows = new ArrayList<MarketBrandTable.Entry>();
+        rows.add(entry("PRINT", "ABC", -DAY, DAY, false, true));
+        rows.add(entry("EXPIRED", "ABC", -2 * DAY, -DAY, true, true));
+        rows.add(entry("FUTURE", "ABC", DAY, 2 * DAY, true, true));
+        MarketBrandTable table = new MarketBrandTable(rows);
+
+        assertTrue(table.match("xABCx", false).isEmpty());
+        assertEquals(1, table.match("xABCx", true).size());
+        assertTrue(table.match(null, true).isEmpty());
+    }
+
+    @Test
+    public void testInvalidPatternMarksTableIncomplete() {
+        List<MarketBrandTable.Entry> rows = new ArrayList<MarketBrandTable.Entry>();
+        rows.add(entry("BAD", "[unclosed", -DAY, DAY, true, true));
+        MarketBrandTable table = new MarketBrandTable(rows);
+
+        assertFalse(table.isComplete());
+    }
+
+    @Test
+    public void testTranslatesPosixCharacterClasses() {
+        List<MarketBrandTable.Entry> rows = new ArrayList<MarketBrandTable.Entry>();
+        rows.add(entry("DIGITS", "^TX[[:digit:]]{3}", -DAY, DAY, true, false));
+        rows.add(entry("UPPER", "^[^[:upper:][]+$", -DAY, DAY, true, false));
+        MarketBrandTable table = new MarketBrandTable(rows);
+
+        assertTrue(table.isComplete());
+        assertEquals(1, table.match("TX123", false).size());
+        assertEquals("DIGITS", table.match("TX123", false).get(0).brandCode);
+        assertTrue(table.match("TXd12", false).isEmpty());
+        assertEquals("UPPER", table.match("tx12", false).get(0).brandCode);
+        assertTrue(table.match("tx[12", false).isEmpty());
+        assertEquals("x[\\p{Digit}_\\[]", MarketBrandTable.toJavaPattern("x[[:digit:]_[]"));
+        assertEquals("[\\]a]\\[", MarketBrandTable.toJavaPattern("[]a]\\["));
+    }
+
+    @Test
+    public void testUnsupportedBracketSyntaxMarksTableIncomplete() {
+        assertNull(MarketBrandTable.toJavaPattern("[[=a=]]"));
+        assertNull(MarketBrandTable.toJavaPattern("[[.hyphen.]]"));
+        assertNull(MarketBrandTable.toJavaPattern("[[:word:]]"));
+        assertNull(MarketBrandTable.toJavaPattern("[[:digit]"));
+
+        List<MarketBrandTable.Entry> rows = new ArrayList<MarketBrandTable.Entry>();
+        rows.add(entry("OK", "ABC", -DAY, DAY, true, false));
+        rows.add(entry("EQUIV", "[[=a=]]BC", -DAY, DAY, true, false));
+        MarketBrandTable table = new MarketBrandTable(rows);
+
+        assertFalse(table.isComplete());
+    }
+}
@@ -0,0 +1,206 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Remembers, for a short time, identifiers that a lookup found nothing for, so that
+ * repeated lookups of unknown IDs (typos, stale IDs from upstream feeds) are answered without
+ * a database round trip.</p>
+ * <p>Entries are kept per lookup and expire <tt>ttlMillis</tt> after they were recorded; at
+ * most <tt>maxEntries</tt> are kept, the oldest being dropped first.  A Bloom filter in front
+ * of the entries lets lookups of IDs that were never missing, which is nearly all of them,
+ * skip the lock.  The filter cannot forget, so it is rebuilt from the live entries once
+ * enough IDs have been added to it to push its false-positive rate up.</p>
+ * <p>Thread-safe.</p>
+ */
+public class NegativeLookupCache
+{
+
+    /** False-positive rate the Bloom filter is sized for at <tt>maxEntries</tt> IDs */
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final BloomFilter filter;
+
+    /** Expiry time of each missing ID, oldest first; guarded by <tt>this</tt> */
+    private final LinkedHashMap<String, Long> expiries = new LinkedHashMap<String, Long>();
+
+    /** IDs added to the filter since it was last rebuilt; guarded by <tt>this</tt> */
+    private int filterInsertions;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong filterPasses = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    /**
+     * @param enabled If false nothing is remembered
+     * @param ttlMillis How long an ID is treated as missing
+     * @param maxEntries The maximum number of missing IDs remembered across all lookups
+     */
+    public NegativeLookupCache(boolean enabled, long ttlMillis, int maxEntries)
+    {
+        this.enabled = enabled && ttlMillis > 0 && maxEntries > 0;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxEntries = Math.max(1, maxEntries);
+        this.filter = new BloomFilter(this.enabled ? this.maxEntries : 1, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * <p>Check whether a lookup recently found nothing for an ID.</p>
+     * @param lookup The lookup, usually the DAO method name
+     * @param id The identifier
+     * @return true if the lookup can be answered as empty without going to the database
+     */
+    public boolean isKnownMissing(String lookup, String id)
+    {
+        if (!enabled || id == null)
+        {
+            return false;
+        }
+        String key = key(lookup, id);
+        if (!filter.mightContain(key))
+        {
+            return false;
+        }
+        filterPasses.incrementAndGet();
+        synchronized (this)
+        {
+            Long expiry = expiries.get(key);
+            if (expiry != null)
+            {
+                if (System.nanoTime() - expiry.longValue() < 0)
+                {
+                    hits.incrementAndGet();
+                    return true;
+                }
+                expiries.remove(key);
+                return false;
+            }
+        }
+        falsePositives.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * <p>Record that a lookup found nothing for an ID.</p>
+     * @param lookup The lookup, usually the DAO method name
+     * @param id The identifier
+     */
+    public void recordMissing(String lookup, String id)
+    {
+        if (!enabled || id == null)
+        {
+            return;
+        }
+        String key = key(lookup, id);
+        synchronized (this)
+        {
+            expiries.remove(key);
+            expiries.put(key, Long.valueOf(System.nanoTime() + ttlNanos));
+            Iterator<String> oldest = expiries.keySet().iterator();
+            while (expiries.size() > maxEntries)
+            {
+                oldest.next();
+                oldest.remove();
+            }
+            if (++filterInsertions > 2 * maxEntries)
+            {
+                rebuildFilter();
+            }
+            filter.put(key);
+        }
+    }
+
+    /**
+     * <p>Forget that an ID was missing, for every lookup; call when the member is added.</p>
+     * @param id The identifier
+     * @return the number of entries dropped
+     */
+    public synchronized int invalidate(String id)
+    {
+        int removed = 0;
+        String suffix = "\u0000" + id;
+        Iterator<String> it = expiries.keySet().iterator();
+        while (it.hasNext())
+        {
+            if (it.next().endsWith(suffix))
+            {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * <p>Forget every missing ID.</p>
+     */
+    public synchronized void clear()
+    {
+        expiries.clear();
+        filter.clear();
+        filterInsertions = 0;
+    }
+
+    /** @return the number of lookups answered as empty without a database round trip */
+    public long getHits()
+    {
+        return hits.get();
+    }
+
+    /** @return the number of lookups the Bloom filter could not rule out */
+    public long getFilterPasses()
+    {
+        return filterPasses.get();
+    }
+
+    /** @return the number of lookups the Bloom filter passed for an ID that was never recorded */
+    public long getFalsePositives()
+    {
+        return falsePositives.get();
+    }
+
+    /** @return the number of missing IDs remembered */
+    public synchronized int getSize()
+    {
+        return expiries.size();
+    }
+
+    /** @return whether missing IDs are being remembered */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /** Drop expired entries and rebuild the filter from the rest; caller holds the lock */
+    private void rebuildFilter()
+    {
+        long now = System.nanoTime();
+        filter.clear();
+        Iterator<Map.Entry<String, Long>> it = expiries.entrySet().iterator();
+        while (it.hasNext())
+        {
+            Map.Entry<String, Long> entry = it.next();
+            if (now - entry.getValue().longValue() >= 0)
+            {
+                it.remove();
+            }
+            else
+            {
+                filter.put(entry.getKey());
+            }
+        }
+        filterInsertions = expiries.size();
+    }
+
+    private static String key(String lookup, String id)
+    {
+        return lookup + "\u0000" + id;
+    }
+}
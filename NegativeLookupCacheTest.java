@@ -0,0 +1,53 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+public class NegativeLookupCacheTest {
+
+    @Test
+    public void testRemembersMissingIdPerLookup() {
+        NegativeLookupCache cache = new NegativeLookupCache(true, 60000, 100);
+        cache.recordMissing("findByAgp", "NOPE");
+
+        assertTrue(cache.isKnownMissing("findByAgp", "NOPE"));
+        assertFalse(cache.isKnownMissing("getAllEligibilityByMedicaidID", "NOPE"));
+        assertFalse(cache.isKnownMissing("findByAgp", "SUB1"));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testExpiresAfterTtl() throws Exception {
+        NegativeLookupCache cache = new NegativeLookupCache(true, 1, 100);
+        cache.recordMissing("findByAgp", "NOPE");
+        Thread.sleep(10);
+
+        assertFalse(cache.isKnownMissing("findByAgp", "NOPE"));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testDropsOldestOverMaxEntriesAndRebuildsFilter() {
+        NegativeLookupCache cache = new NegativeLookupCache(true, 60000, 10);
+        for (int i = 0; i < 50; i++) {
+            cache.recordMissing("findByAgp", "NOPE" + i);
+        }
+
+        assertEquals(10, cache.getSize());
+        assertFalse(cache.isKnownMissing("findByAgp", "NOPE0"));
+        assertTrue(cache.isKnownMissing("findByAgp", "NOPE49"));
+    }
+
+    @Test
+    public void testInvalidateForgetsIdForEveryLookup() {
+        NegativeLookupCache cache = new NegativeLookupCache(true, 60000, 100);
+        cache.recordMissing("findByAgp", "NEW1");
+        cache.recordMissing("getAllEligibilityByMedicaidID", "NEW1");
+        cache.recordMissing("findByAgp", "NEW2");
+
+        assertEquals(2, cache.invalidate("NEW1"));
+        assertFalse(cache.isKnownMissing("findByAgp", "NEW1"));
+        assertTrue(cache.isKnownMissing("findByAgp", "NEW2"));
+    }
+}
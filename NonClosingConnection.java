@@ -0,0 +1,61 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+
+/**
+ * <p>Wraps a connection so that <tt>close()</tt> is ignored.</p>
+ * <p>Used to lend one checked-out connection to several DAO methods in a row: each method
+ * still calls <tt>closeDatabaseObjects</tt> as usual, and the owner closes the real
+ * connection once at the end.  Every other call, including <tt>unwrap</tt>, goes straight to
+ * the wrapped connection.</p>
+ */
+final class NonClosingConnection implements InvocationHandler
+{
+
+    private final Connection target;
+
+    private NonClosingConnection(Connection target)
+    {
+        this.target = target;
+    }
+
+    /**
+     * @param target The connection to lend out
+     * @return a connection whose <tt>close()</tt> does nothing
+     */
+    static Connection wrap(Connection target)
+    {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class }, new NonClosingConnection(target));
+    }
+
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+    {
+        String name = method.getName();
+        if ("close".equals(name) && method.getParameterTypes().length == 0)
+        {
+            return null;
+        }
+        if ("equals".equals(name) && args != null && args.length == 1)
+        {
+            return Boolean.valueOf(proxy == args[0]);
+        }
+        if ("hashCode".equals(name) && method.getParameterTypes().length == 0)
+        {
+            return Integer.valueOf(System.identityHashCode(proxy));
+        }
+        try
+        {
+            return method.invoke(target, args);
+        }
+        catch (InvocationTargetException ex)
+        {
+            throw ex.getTargetException();
+        }
+    }
+}
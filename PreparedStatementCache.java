@@ -0,0 +1,309 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.log4j.Logger;
+
+/**
+ * <p>A per-connection cache of prepared statements keyed by SQL text.</p>
+ * <p>Statements are prepared on the physical connection behind the pooled handle
+ * (<tt>Connection.unwrap</tt>), so they survive the handle being returned to the pool and
+ * are reused the next time the same physical connection is checked out.  Each physical
+ * connection keeps at most <tt>maxPerConnection</tt> statements; the least recently used
+ * one is closed when the limit is reached.</p>
+ * <p>A cached statement refers back to its connection, so entries are never released by
+ * garbage collection.  Instead, every time a statement has to be prepared, the statements of
+ * physical connections that have since been closed (e.g. discarded by the pool) are closed
+ * and forgotten.</p>
+ * <p>A pooled connection is only used by one thread at a time, so the statements of one
+ * connection are never shared between threads.  Callers must close the result set before
+ * handing the statement back with {@link #release(PreparedStatement)}.</p>
+ */
+public class PreparedStatementCache
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(PreparedStatementCache.class);
+
+    private final boolean enabled;
+    private final int maxPerConnection;
+
+    /**
+     * Guards the maps below.  A lock rather than a monitor, since statements are closed while
+     * it is held and a virtual thread blocked in a monitor pins its carrier thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Cached statements per physical connection; guarded by <tt>lock</tt> */
+    private final Map<Connection, Map<String, PreparedStatement>> byConnection =
+        new IdentityHashMap<Connection, Map<String, PreparedStatement>>();
+
+    /** Statements currently owned by the cache; guarded by <tt>lock</tt> */
+    private final Set<PreparedStatement> owned =
+        Collections.newSetFromMap(new IdentityHashMap<PreparedStatement, Boolean>());
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param enabled If false every call prepares a new statement and release hands it back for closing
+     * @param maxPerConnection The maximum number of statements kept open per physical connection
+     */
+    public PreparedStatementCache(boolean enabled, int maxPerConnection)
+    {
+        this.enabled = enabled && maxPerConnection > 0;
+        this.maxPerConnection = maxPerConnection;
+    }
+
+    /**
+     * <p>Get a prepared statement for <tt>sql</tt> on <tt>conn</tt>, reusing a cached one if possible.</p>
+     * @param conn The connection checked out for this call
+     * @param sql The SQL text
+     * @return a statement with its parameters cleared
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepare(Connection conn, String sql) throws SQLException
+    {
+        if (!enabled)
+        {
+            return conn.prepareStatement(sql);
+        }
+
+        Connection physical = physicalConnection(conn);
+        lock.lock();
+        try
+        {
+            Map<String, PreparedStatement> statements = byConnection.get(physical);
+            if (statements != null)
+            {
+                PreparedStatement ps = statements.get(sql);
+                if (ps != null)
+                {
+                    if (!ps.isClosed())
+                    {
+                        hits.incrementAndGet();
+                        ps.clearParameters();
+                        return ps;
+                    }
+                    statements.remove(sql);
+                    owned.remove(ps);
+                }
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        misses.incrementAndGet();
+        PreparedStatement ps = physical.prepareStatement(sql);
+        ps.setPoolable(true);
+        lock.lock();
+        try
+        {
+            pruneClosedConnections();
+            Map<String, PreparedStatement> statements = byConnection.get(physical);
+            if (statements == null)
+            {
+                statements = new StatementLru();
+                byConnection.put(physical, statements);
+            }
+            PreparedStatement previous = statements.put(sql, ps);
+            if (previous != null && previous != ps)
+            {
+                owned.remove(previous);
+                closeQuietly(previous);
+            }
+            owned.add(ps);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        return ps;
+    }
+
+    /**
+     * <p>Hand a statement back after use.</p>
+     * @param ps The statement returned by {@link #prepare(Connection, String)}, may be null
+     * @return <tt>null</tt> if the cache keeps the statement open, otherwise <tt>ps</tt>, which the caller should close
+     */
+    public PreparedStatement release(PreparedStatement ps)
+    {
+        if (ps == null || !enabled)
+        {
+            return ps;
+        }
+        lock.lock();
+        try
+        {
+            return owned.contains(ps) ? null : ps;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * <p>Close and forget every cached statement.</p>
+     */
+    public void clear()
+    {
+        lock.lock();
+        try
+        {
+            for (Map<String, PreparedStatement> statements : byConnection.values())
+            {
+                for (PreparedStatement ps : statements.values())
+                {
+                    closeQuietly(ps);
+                }
+            }
+            byConnection.clear();
+            owned.clear();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /** @return the number of calls served by an already prepared statement */
+    public long getHits()
+    {
+        return hits.get();
+    }
+
+    /** @return the number of calls that had to prepare a new statement */
+    public long getMisses()
+    {
+        return misses.get();
+    }
+
+    /** @return the number of statements closed to stay within the per-connection limit */
+    public long getEvictions()
+    {
+        return evictions.get();
+    }
+
+    /** @return the number of physical connections with cached statements */
+    public int getConnectionCount()
+    {
+        lock.lock();
+        try
+        {
+            return byConnection.size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /** @return whether statements are being cached */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * <p>Close and forget the statements of physical connections that have been closed.
+     * Caller must hold the lock.</p>
+     */
+    private void pruneClosedConnections()
+    {
+        Iterator<Map.Entry<Connection, Map<String, PreparedStatement>>> it = byConnection.entrySet().iterator();
+        while (it.hasNext())
+        {
+            Map.Entry<Connection, Map<String, PreparedStatement>> entry = it.next();
+            if (isClosed(entry.getKey()))
+            {
+                for (PreparedStatement ps : entry.getValue().values())
+                {
+                    owned.remove(ps);
+                    closeQuietly(ps);
+                }
+                it.remove();
+            }
+        }
+    }
+
+    private static boolean isClosed(Connection conn)
+    {
+        try
+        {
+            return conn.isClosed();
+        }
+        catch (SQLException ex)
+        {
+            return true;
+        }
+    }
+
+    private static Connection physicalConnection(Connection conn)
+    {
+        try
+        {
+            if (conn.isWrapperFor(Connection.class))
+            {
+                Connection physical = conn.unwrap(Connection.class);
+                if (physical != null)
+                {
+                    return physical;
+                }
+            }
+        }
+        catch (SQLException ex)
+        {
+            log.debug("Connection " + conn.getClass().getName() + " cannot be unwrapped, caching against the handle");
+        }
+        return conn;
+    }
+
+    private static void closeQuietly(PreparedStatement ps)
+    {
+        try
+        {
+            ps.close();
+        }
+        catch (SQLException ex)
+        {
+            log.debug("Unable to close evicted statement: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * <p>Access-ordered map that closes the least recently used statement once full.</p>
+     */
+    private final class StatementLru extends LinkedHashMap<String, PreparedStatement>
+    {
+        private static final long serialVersionUID = 1L;
+
+        StatementLru()
+        {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest)
+        {
+            if (size() <= maxPerConnection)
+            {
+                return false;
+            }
+            evictions.incrementAndGet();
+            owned.remove(eldest.getValue());
+            closeQuietly(eldest.getValue());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import static org.junit.Assert.*;
+
+
+public class PreparedStatementCacheTest {
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:stmtcache", "sa", "");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    public void testReusesStatementForSameSql() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(true, 8);
+
+        PreparedStatement first = cache.prepare(connection, "select 1");
+        assertNull(cache.release(first));
+        PreparedStatement second = cache.prepare(connection, "select 1");
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(true, 1);
+
+        PreparedStatement first = cache.prepare(connection, "select 1");
+        cache.prepare(connection, "select 2");
+
+        assertTrue(first.isClosed());
+        assertEquals(1, cache.getEvictions());
+        assertSame(first, cache.release(first));
+    }
+
+    @Test
+    public void testForgetsStatementsOfClosedConnections() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(true, 8);
+        Connection other = DriverManager.getConnection("jdbc:h2:mem:stmtcache2", "sa", "");
+
+        PreparedStatement stale = cache.prepare(other, "select 1");
+        assertEquals(1, cache.getConnectionCount());
+        other.close();
+
+        cache.prepare(connection, "select 1");
+
+        assertEquals(1, cache.getConnectionCount());
+        assertTrue(stale.isClosed());
+        assertSame(stale, cache.release(stale));
+    }
+
+    @Test
+    public void testDisabledCacheHandsStatementBack() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(false, 8);
+
+        PreparedStatement ps = cache.prepare(connection, "select 1");
+
+        assertSame(ps, cache.release(ps));
+        assertEquals(0, cache.getHits());
+        ps.close();
+    }
+}
@@ -0,0 +1,129 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>A distribution of non-negative values recorded into preallocated log-linear buckets,
+ * in the style of HdrHistogram.</p>
+ * <p>Values below 4 get a bucket each; above that every power of two is split into four
+ * sub-buckets, so a percentile is reported as the upper bound of its bucket with at most
+ * 25% error (never more than the largest value seen).  That resolves a 40 microsecond
+ * query from a 50 microsecond one and still covers the full range of <tt>long</tt>.</p>
+ * <p>{@link #record(long)} is lock-free and allocates nothing: it is one atomic increment
+ * per bucket, count and sum, plus a compare-and-set while the max grows.  Readers see
+ * each counter atomically but not all of them at one instant, which is fine for
+ * monitoring.  Values are cumulative from creation.</p>
+ */
+public class QueryHistogram
+{
+
+    /** Bits of sub-bucket resolution within each power of two */
+    private static final int SUB_BITS = 2;
+
+    /** Sub-buckets per power of two */
+    private static final int SUB = 1 << SUB_BITS;
+
+    /** Number of buckets: the values below <tt>SUB</tt>, then <tt>SUB</tt> per power of two up to 2^62 */
+    static final int BUCKETS = SUB + (63 - SUB_BITS) * SUB;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * <p>Record one value; negative values are recorded as 0.</p>
+     * @param value The value
+     */
+    public void record(long value)
+    {
+        long v = value < 0 ? 0 : value;
+        buckets.incrementAndGet(bucketOf(v));
+        count.incrementAndGet();
+        sum.addAndGet(v);
+        long current = max.get();
+        while (v > current && !max.compareAndSet(current, v))
+        {
+            current = max.get();
+        }
+    }
+
+    /** @return the number of values recorded */
+    public long getCount()
+    {
+        return count.get();
+    }
+
+    /** @return the sum of the values recorded */
+    public long getSum()
+    {
+        return sum.get();
+    }
+
+    /** @return the largest value recorded, or 0 if none */
+    public long getMax()
+    {
+        return max.get();
+    }
+
+    /** @return the mean of the values recorded, or 0 if none */
+    public double getMean()
+    {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * <p>Get the value below which the given fraction of recorded values fall.</p>
+     * @param percentile The fraction, e.g. 0.99 for p99
+     * @return the upper bound of the bucket holding that value, capped at the max; 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile)
+    {
+        long n = count.get();
+        if (n == 0)
+        {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * n);
+        if (rank < 1)
+        {
+            rank = 1;
+        }
+        long seen = 0;
+        long highest = max.get();
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            seen += buckets.get(i);
+            if (seen >= rank)
+            {
+                return Math.min(upperBound(i), highest);
+            }
+        }
+        return highest;
+    }
+
+    static int bucketOf(long value)
+    {
+        if (value < SUB)
+        {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) - SUB;
+        return SUB + (exponent - SUB_BITS) * SUB + sub;
+    }
+
+    static long upperBound(int bucket)
+    {
+        if (bucket < SUB)
+        {
+            return bucket;
+        }
+        int shift = (bucket - SUB) / SUB;
+        long lower = (long) (SUB + (bucket - SUB) % SUB) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,20 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.Map;
+
+/**
+ * <p>Publishes the DAO query metrics somewhere they can be watched, e.g. a log or a
+ * monitoring system.  Called periodically by {@link QueryMetricsRegistry}.</p>
+ * <p>Implementations used through <tt>facets.dao.metrics.exporter</tt> need a public
+ * no-argument constructor.</p>
+ */
+public interface QueryMetricsExporter
+{
+    /**
+     * <p>Publish the current values.  The timers are live and cumulative; read what is
+     * needed and do not keep them.</p>
+     * @param timers The timers keyed by DAO method name, sorted by name
+     */
+    void export(Map<String, QueryTimer> timers);
+}
@@ -0,0 +1,143 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+
+/**
+ * <p>Per-method query timers for the Facets DAO, published through a pluggable
+ * {@link QueryMetricsExporter}.</p>
+ * <p>Timers are created on first use and live for the life of the registry.  Exports run
+ * on a daemon thread once {@link #scheduleExport(long)} has been called, or on demand with
+ * {@link #export()}; an exporter that throws is logged and does not affect the DAO.</p>
+ */
+public class QueryMetricsRegistry
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(QueryMetricsRegistry.class);
+
+    private final ConcurrentMap<String, QueryTimer> timers = new ConcurrentHashMap<String, QueryTimer>();
+
+    private volatile QueryMetricsExporter exporter;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param exporter The exporter, may be null to export nowhere
+     */
+    public QueryMetricsRegistry(QueryMetricsExporter exporter)
+    {
+        this.exporter = exporter;
+    }
+
+    /**
+     * <p>Get the timer for a DAO method, creating it if necessary.  Only the first call for
+     * a name allocates.</p>
+     * @param name The DAO method name
+     * @return the timer
+     */
+    public QueryTimer timer(String name)
+    {
+        QueryTimer timer = timers.get(name);
+        if (timer == null)
+        {
+            timer = new QueryTimer(name);
+            QueryTimer existing = timers.putIfAbsent(name, timer);
+            if (existing != null)
+            {
+                timer = existing;
+            }
+        }
+        return timer;
+    }
+
+    /**
+     * <p>Record one call of a DAO method.</p>
+     * @param name The DAO method name
+     * @param connectionNanos Time spent getting the connection and preparing the statement
+     * @param executeNanos Time spent executing the statement
+     * @param loadNanos Time spent reading and mapping the rows
+     * @param rows The number of rows read
+     */
+    public void record(String name, long connectionNanos, long executeNanos, long loadNanos, long rows)
+    {
+        timer(name).record(connectionNanos, executeNanos, loadNanos, rows);
+    }
+
+    /**
+     * @return the timers keyed by method name, sorted by name; unmodifiable
+     */
+    public Map<String, QueryTimer> getTimers()
+    {
+        return Collections.unmodifiableMap(new TreeMap<String, QueryTimer>(timers));
+    }
+
+    /**
+     * @param exporter The exporter to use from the next export on, may be null
+     */
+    public void setExporter(QueryMetricsExporter exporter)
+    {
+        this.exporter = exporter;
+    }
+
+    /** @return the current exporter, or null */
+    public QueryMetricsExporter getExporter()
+    {
+        return exporter;
+    }
+
+    /**
+     * <p>Hand the current timers to the exporter now.</p>
+     */
+    public void export()
+    {
+        QueryMetricsExporter current = exporter;
+        if (current == null)
+        {
+            return;
+        }
+        try
+        {
+            current.export(getTimers());
+        }
+        catch (RuntimeException ex)
+        {
+            log.warn("Query metrics exporter " + current.getClass().getName() + " failed", ex);
+        }
+    }
+
+    /**
+     * <p>Export every <tt>intervalMillis</tt> on a daemon thread.  Only the first call has an effect.</p>
+     * @param intervalMillis The export interval; 0 or less disables scheduled exports
+     */
+    public synchronized void scheduleExport(long intervalMillis)
+    {
+        if (scheduler != null || intervalMillis <= 0)
+        {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory()
+        {
+            public Thread newThread(Runnable r)
+            {
+                Thread t = new Thread(r, "facets-dao-metrics-export");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        scheduler.scheduleAtFixedRate(new Runnable()
+        {
+            public void run()
+            {
+                export();
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,60 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+public class QueryMetricsRegistryTest {
+
+    @Test
+    public void testRecordsPerMethodTimers() {
+        QueryMetricsRegistry registry = new QueryMetricsRegistry(null);
+
+        registry.record("findByAgp", 1, 10, 2, 1);
+        registry.record("findByAgp", 3, 30, 4, 1);
+        registry.record("getHipaa", 0, 5, 0, 0);
+
+        QueryTimer timer = registry.getTimers().get("findByAgp");
+        assertEquals(2, timer.getCount());
+        assertEquals(40, timer.getExecute().getSum());
+        assertEquals(30, timer.getExecute().getMax());
+        assertEquals(2, registry.getTimers().size());
+    }
+
+    @Test
+    public void testPercentileIsBucketUpperBoundCappedAtMax() {
+        QueryHistogram histogram = new QueryHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(3);
+        }
+        histogram.record(100);
+
+        assertEquals(3, histogram.getPercentile(0.5));
+        assertEquals(3, histogram.getPercentile(0.99));
+        assertEquals(100, histogram.getPercentile(1.0));
+    }
+
+    @Test
+    public void testPercentileWithinQuarterOfValue() {
+        QueryHistogram histogram = new QueryHistogram();
+        histogram.record(40000);
+        histogram.record(50000);
+        histogram.record(1000000000L);
+
+        long p50 = histogram.getPercentile(0.5);
+        assertTrue(p50 >= 50000 && p50 < 62500);
+        assertEquals(1000000000L, histogram.getPercentile(1.0));
+    }
+
+    @Test
+    public void testExportsToInMemoryExporter() {
+        InMemoryQueryMetricsExporter exporter = new InMemoryQueryMetricsExporter();
+        QueryMetricsRegistry registry = new QueryMetricsRegistry(exporter);
+
+        registry.record("findByAgp", 1, 1, 1, 1);
+        registry.export();
+
+        assertEquals(Long.valueOf(1), exporter.getLastExport().get("findByAgp"));
+        assertEquals(1, exporter.getExports().size());
+    }
+}
@@ -0,0 +1,123 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>The JDBC fetch size and query timeout used for one DAO method.</p>
+ * <p>Each method belongs to a {@link Shape} that supplies the defaults.  Both values can be
+ * overridden for a whole shape or for a single method in the environment properties:</p>
+ * <blockquote><pre>
+ * facets.dao.query.shape.eligibilityHistory.fetchSize=200
+ * facets.dao.query.getAllEligibilityByMedicaidID.timeoutSeconds=15
+ * </pre></blockquote>
+ * <p>A method-level value wins over a shape-level one.  A fetch size of 0 leaves the
+ * driver default (10 rows on Oracle); a timeout of 0 means no timeout.  Settings are read
+ * once per method and cached until {@link #clear()}.</p>
+ */
+public final class QuerySettings
+{
+
+    /**
+     * <p>The kinds of query the DAO runs, with their default fetch size and timeout.</p>
+     */
+    public enum Shape
+    {
+        /** Lookups returning at most one row */
+        SINGLE_ROW("singleRow", 10, 10),
+        /** Short lists, a handful of rows per member */
+        LIST("list", 50, 20),
+        /** The eleven-join eligibility history lists */
+        ELIGIBILITY_HISTORY("eligibilityHistory", 100, 30),
+        /** IN-list lookups for many members at once */
+        BULK("bulk", 500, 60),
+        /** Whole reference tables loaded into memory */
+        REFERENCE("reference", 500, 60);
+
+        private final String key;
+        private final int defaultFetchSize;
+        private final int defaultTimeoutSeconds;
+
+        private Shape(String key, int defaultFetchSize, int defaultTimeoutSeconds)
+        {
+            this.key = key;
+            this.defaultFetchSize = defaultFetchSize;
+            this.defaultTimeoutSeconds = defaultTimeoutSeconds;
+        }
+    }
+
+    private static final ConcurrentMap<String, QuerySettings> SETTINGS = new ConcurrentHashMap<String, QuerySettings>();
+
+    private final int fetchSize;
+    private final int timeoutSeconds;
+
+    private QuerySettings(int fetchSize, int timeoutSeconds)
+    {
+        this.fetchSize = Math.max(0, fetchSize);
+        this.timeoutSeconds = Math.max(0, timeoutSeconds);
+    }
+
+    /**
+     * <p>Get the settings of a DAO method, reading them from the environment on first use.</p>
+     * @param methodName The DAO method name
+     * @param shape The kind of query the method runs; only used on first use
+     * @return the settings
+     */
+    public static QuerySettings forMethod(String methodName, Shape shape)
+    {
+        QuerySettings settings = SETTINGS.get(methodName);
+        if (settings == null)
+        {
+            String shapePrefix = "facets.dao.query.shape." + shape.key;
+            String methodPrefix = "facets.dao.query." + methodName;
+            int fetchSize = FacetsMemberDaoConfig.getInt(methodPrefix + ".fetchSize",
+                FacetsMemberDaoConfig.getInt(shapePrefix + ".fetchSize", shape.defaultFetchSize));
+            int timeoutSeconds = FacetsMemberDaoConfig.getInt(methodPrefix + ".timeoutSeconds",
+                FacetsMemberDaoConfig.getInt(shapePrefix + ".timeoutSeconds", shape.defaultTimeoutSeconds));
+            settings = new QuerySettings(fetchSize, timeoutSeconds);
+            QuerySettings existing = SETTINGS.putIfAbsent(methodName, settings);
+            if (existing != null)
+            {
+                settings = existing;
+            }
+        }
+        return settings;
+    }
+
+    /**
+     * <p>Forget the cached settings so they are read from the environment again.</p>
+     */
+    public static void clear()
+    {
+        SETTINGS.clear();
+    }
+
+    /**
+     * <p>Set the fetch size and query timeout on a statement.</p>
+     * @param statement The statement, fresh or taken from the statement cache
+     * @throws SQLException if the driver rejects a value
+     */
+    public void apply(Statement statement) throws SQLException
+    {
+        if (fetchSize > 0)
+        {
+            statement.setFetchSize(fetchSize);
+        }
+        statement.setQueryTimeout(timeoutSeconds);
+    }
+
+    /** @return the fetch size, 0 for the driver default */
+    public int getFetchSize()
+    {
+        return fetchSize;
+    }
+
+    /** @return the query timeout in seconds, 0 for none */
+    public int getTimeoutSeconds()
+    {
+        return timeoutSeconds;
+    }
+}
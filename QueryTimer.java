@@ -0,0 +1,77 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+/**
+ * <p>The timings of one DAO method: how long it waited for a connection, how long the
+ * statement took to execute and how long the rows took to load, in nanoseconds from
+ * <tt>System.nanoTime</tt>, plus the number of rows read per call.</p>
+ * <p>Look the timer up once and keep it: recording allocates nothing.</p>
+ */
+public class QueryTimer
+{
+
+    private final String name;
+    private final QueryHistogram connectionWait = new QueryHistogram();
+    private final QueryHistogram execute = new QueryHistogram();
+    private final QueryHistogram rowLoad = new QueryHistogram();
+    private final QueryHistogram rowsRead = new QueryHistogram();
+
+    /**
+     * @param name The DAO method name
+     */
+    public QueryTimer(String name)
+    {
+        this.name = name;
+    }
+
+    /**
+     * <p>Record one call.</p>
+     * @param connectionNanos Time spent getting the connection and preparing the statement
+     * @param executeNanos Time spent in <tt>executeQuery</tt>
+     * @param loadNanos Time spent reading and mapping the rows
+     * @param rows The number of rows read
+     */
+    public void record(long connectionNanos, long executeNanos, long loadNanos, long rows)
+    {
+        connectionWait.record(connectionNanos);
+        execute.record(executeNanos);
+        rowLoad.record(loadNanos);
+        rowsRead.record(rows);
+    }
+
+    /** @return the DAO method name */
+    public String getName()
+    {
+        return name;
+    }
+
+    /** @return the number of calls recorded */
+    public long getCount()
+    {
+        return execute.getCount();
+    }
+
+    /** @return the connection wait times, in nanoseconds */
+    public QueryHistogram getConnectionWait()
+    {
+        return connectionWait;
+    }
+
+    /** @return the statement execution times, in nanoseconds */
+    public QueryHistogram getExecute()
+    {
+        return execute;
+    }
+
+    /** @return the row load times, in nanoseconds */
+    public QueryHistogram getRowLoad()
+    {
+        return rowLoad;
+    }
+
+    /** @return the rows read per call */
+    public QueryHistogram getRowsRead()
+    {
+        return rowsRead;
+    }
+}
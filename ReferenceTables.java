@@ -0,0 +1,275 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amerigroup.facets.dao.dto.FacetsMemberBillingComponentDto;
+import com.amerigroup.facets.dao.dto.FacetsMemberEligibilityDto;
+
+/**
+ * <p>An immutable, versioned in-memory copy of the slowly changing Facets reference tables.</p>
+ * <p>Holds the plan descriptions (<tt>CMC_PLDS_PLAN_DESC</tt>), the product description value
+ * codes (<tt>CMC_PDDS_PROD_DESC</tt>), their descriptions (<tt>cmc_mctr_cd_trans</tt>), the
+ * <tt>AGP.CCTR_PRODUCT</tt> names, the billing components of each product
+ * (<tt>CMC_PDBC_PROD_COMP</tt>/<tt>CMC_PDBL_PROD_BILL</tt>/<tt>AGP.PROD_PDBL_DESC</tt>),
+ * the groups (<tt>CMC_GRGR_GROUP</tt>) and the dated product lines of business
+ * (<tt>CMC_PDPD_PRODUCT</tt>).  Together these are every table the eligibility query joins
+ * for descriptions, so an eligibility row read without those joins can be completed with
+ * {@link #enrich(FacetsMemberEligibilityDto, String)}.</p>
+ * <p>All tables of one load share a version stamp.  A refresh builds a new instance and
+ * swaps it in whole, so a reader never sees tables from two different loads.</p>
+ */
+final class ReferenceTables
+{
+
+    /** Source of version stamps; each load gets the next one */
+    private static final AtomicLong versions = new AtomicLong();
+
+    private final long version = versions.incrementAndGet();
+    private final long loadedAt = System.currentTimeMillis();
+
+    private final Map<String, String> planDescriptions;
+    private final Map<String, String> productValueCodes;
+    private final Map<String, String> valueCodeDescriptions;
+    private final Map<String, String[]> products;
+    private final Map<String, List<String[]>> billingComponents;
+    private final Map<String, String[]> groups;
+    private final Map<String, List<Object[]>> productLines;
+    private final boolean descriptionsUnique;
+
+    /**
+     * <p>Each row is an array of column values in the order of the loading query.</p>
+     * @param planDescriptions <tt>CSPI_ID, PLDS_DESC</tt>
+     * @param productValueCodes <tt>PDPD_ID, PDDS_MCTR_VAL1</tt>
+     * @param valueCodeDescriptions <tt>MCTR_VALUE, MCTR_DESC</tt> of the <tt>PDDS</tt>/<tt>VAL</tt> codes
+     * @param products <tt>PRODUCT_ID, MARKET_CD, NAME, GENERAL_DESC</tt>
+     * @param billingComponents <tt>PDPD_ID, PDBL_ID, PDBL_DESC</tt>, distinct
+     * @param groups <tt>GRGR_CK, GRGR_ID, GRGR_NAME, GRGR_MCTR_TYPE, GRGR_PHONE</tt>
+     * @param productLines <tt>PDPD_ID, PDPD_EFF_DT, PDPD_TERM_DT, LOBD_ID</tt>, the dates as <tt>java.util.Date</tt>
+     */
+    ReferenceTables(List<Object[]> planDescriptions, List<Object[]> productValueCodes, List<Object[]> valueCodeDescriptions,
+        List<Object[]> products, List<Object[]> billingComponents, List<Object[]> groups, List<Object[]> productLines)
+    {
+        boolean unique = true;
+        this.planDescriptions = new HashMap<String, String>();
+        for (Object[] row : planDescriptions)
+        {
+            unique &= putFirst(this.planDescriptions, (String) row[0], (String) row[1]);
+        }
+        this.productValueCodes = new HashMap<String, String>();
+        for (Object[] row : productValueCodes)
+        {
+            unique &= putFirst(this.productValueCodes, (String) row[0], (String) row[1]);
+        }
+        this.valueCodeDescriptions = new HashMap<String, String>();
+        for (Object[] row : valueCodeDescriptions)
+        {
+            unique &= putFirst(this.valueCodeDescriptions, (String) row[0], (String) row[1]);
+        }
+        this.products = new HashMap<String, String[]>();
+        for (Object[] row : products)
+        {
+            unique &= putFirst(this.products, row[0] == null || row[1] == null ? null : key((String) row[0], (String) row[1]),
+                new String[] { (String) row[2], (String) row[3] });
+        }
+        this.groups = new HashMap<String, String[]>();
+        for (Object[] row : groups)
+        {
+            unique &= putFirst(this.groups, (String) row[0], new String[] { (String) row[1], (String) row[2], (String) row[3], (String) row[4] });
+        }
+        this.productLines = new HashMap<String, List<Object[]>>();
+        for (Object[] row : productLines)
+        {
+            if (row[0] != null && row[1] != null && row[2] != null)
+            {
+                List<Object[]> lines = this.productLines.get(row[0]);
+                if (lines == null)
+                {
+                    lines = new ArrayList<Object[]>(2);
+                    this.productLines.put((String) row[0], lines);
+                }
+                lines.add(row);
+            }
+        }
+        for (List<Object[]> lines : this.productLines.values())
+        {
+            unique &= !overlapping(lines);
+        }
+        this.descriptionsUnique = unique;
+
+        this.billingComponents = new HashMap<String, List<String[]>>();
+        for (Object[] row : billingComponents)
+        {
+            List<String[]> components = this.billingComponents.get(row[0]);
+            if (components == null)
+            {
+                components = new ArrayList<String[]>(2);
+                this.billingComponents.put((String) row[0], components);
+            }
+            components.add(new String[] { (String) row[1], (String) row[2] });
+        }
+    }
+
+    /** @return the version stamp of this load; later loads have higher versions */
+    long getVersion()
+    {
+        return version;
+    }
+
+    /** @return when this load completed, in epoch milliseconds */
+    long getLoadedAt()
+    {
+        return loadedAt;
+    }
+
+    /**
+     * @return false if some description key occurs more than once, in which case a lookup
+     * returns only the first row where the SQL join would have returned them all
+     */
+    boolean isDescriptionsUnique()
+    {
+        return descriptionsUnique;
+    }
+
+    /** @return <tt>PLDS_DESC</tt> for a <tt>CSPI_ID</tt>, or null */
+    String planDescription(String planId)
+    {
+        return planId == null ? null : planDescriptions.get(planId);
+    }
+
+    /** @return <tt>PDDS_MCTR_VAL1</tt> for a <tt>PDPD_ID</tt>, or null */
+    String productValueCode(String productId)
+    {
+        return productId == null ? null : productValueCodes.get(productId);
+    }
+
+    /** @return <tt>mctr_desc</tt> of a <tt>PDDS</tt> value code, or null */
+    String valueCodeDescription(String valueCode)
+    {
+        return valueCode == null ? null : valueCodeDescriptions.get(valueCode);
+    }
+
+    /** @return <tt>NAME</tt> and <tt>GENERAL_DESC</tt> of an <tt>AGP.CCTR_PRODUCT</tt> row, or null */
+    String[] product(String productId, String marketCode)
+    {
+        return productId == null || marketCode == null ? null : products.get(key(productId, marketCode));
+    }
+
+    /** @return <tt>GRGR_ID, GRGR_NAME, GRGR_MCTR_TYPE, GRGR_PHONE</tt> for a <tt>GRGR_CK</tt>, or null */
+    String[] group(String groupCk)
+    {
+        return groupCk == null ? null : groups.get(groupCk);
+    }
+
+    /**
+     * @return <tt>LOBD_ID</tt> of the <tt>CMC_PDPD_PRODUCT</tt> row of a <tt>PDPD_ID</tt> in
+     * effect on <tt>date</tt>, bounds included, or null
+     */
+    String lineOfBusiness(String productId, Date date)
+    {
+        List<Object[]> lines = productId == null || date == null ? null : productLines.get(productId);
+        if (lines != null)
+        {
+            for (Object[] line : lines)
+            {
+                if (!date.before((Date) line[1]) && !date.after((Date) line[2]))
+                {
+                    return (String) line[3];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <p>Fill the descriptive columns of an eligibility row read without the description
+     * joins, as the outer joins of the full query would have.</p>
+     * @param dto The row; <tt>planID</tt>, <tt>productID</tt>, <tt>subgroupType</tt> and
+     * <tt>dateEffective</tt> must already be set
+     * @param groupCk <tt>GRGR_CK</tt> of the group the full query joins for the row
+     */
+    void enrich(FacetsMemberEligibilityDto dto, String groupCk)
+    {
+        dto.planDesc = planDescription(dto.planID);
+        dto.lobId = lineOfBusiness(dto.productID, dto.dateEffective);
+        String[] product = product(dto.productID, dto.subgroupType);
+        dto.productName = product == null ? null : product[0];
+        dto.productDescription = product == null ? null : product[1];
+        dto.productValueCode = productValueCode(dto.productID);
+        dto.productValueCodeDesc = valueCodeDescription(dto.productValueCode);
+        String[] group = group(groupCk);
+        dto.groupID = group == null ? null : group[0];
+        dto.groupName = group == null ? null : group[1];
+        dto.sourceSystem = group == null ? null : group[2];
+        dto.grpPhNo = group == null ? null : group[3];
+    }
+
+    /**
+     * <p>The in-memory form of <tt>getBillingComponentID</tt>.</p>
+     * @param productId <tt>PDPD_ID</tt>
+     * @return new DTOs for the product's billing components; empty but never null
+     */
+    List<FacetsMemberBillingComponentDto> billingComponents(String productId)
+    {
+        List<FacetsMemberBillingComponentDto> result = new ArrayList<FacetsMemberBillingComponentDto>();
+        List<String[]> components = productId == null ? null : billingComponents.get(productId);
+        if (components != null)
+        {
+            for (String[] component : components)
+            {
+                FacetsMemberBillingComponentDto dto = new FacetsMemberBillingComponentDto();
+                dto.billingComponentId = component[0];
+                dto.billingComponentDesc = component[1];
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * <p>Add a row unless its key is null or already present; SQL equality never matches a null key.</p>
+     * @return false if the key was already present
+     */
+    private static <V> boolean putFirst(Map<String, V> map, String key, V value)
+    {
+        if (key == null)
+        {
+            return true;
+        }
+        if (map.containsKey(key))
+        {
+            return false;
+        }
+        map.put(key, value);
+        return true;
+    }
+
+    /**
+     * @return whether any date on which two of the lines are in effect exists, in which case
+     * the SQL join would have returned a row for each
+     */
+    private static boolean overlapping(List<Object[]> lines)
+    {
+        Collections.sort(lines, new Comparator<Object[]>()
+        {
+            public int compare(Object[] a, Object[] b)
+            {
+                return ((Date) a[1]).compareTo((Date) b[1]);
+            }
+        });
+        for (int i = 1; i < lines.size(); i++)
+        {
+            if (!((Date) lines.get(i)[1]).after((Date) lines.get(i - 1)[2]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String key(String a, String b)
+    {
+        return a + '\u0000' + b;
+    }
+}
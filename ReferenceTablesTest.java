@@ -0,0 +1,95 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.Test;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.amerigroup.facets.dao.dto.FacetsMemberEligibilityDto;
+import static org.junit.Assert.*;
+
+
+public class ReferenceTablesTest {
+
+    private static final List<Object[]> NONE = new ArrayList<Object[]>();
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<Object[]>(Arrays.asList(rows));
+    }
+
+    @Test
+    public void testBillingComponentsPerProduct() {
+        ReferenceTables tables = new ReferenceTables(NONE, NONE, NONE, NONE, rows(
+            new String[] { "PD01", "BL01", "Premium" },
+            new String[] { "PD01", "BL02", null },
+            new String[] { "PD02", "BL01", "Premium" }), NONE, NONE);
+
+        assertEquals(2, tables.billingComponents("PD01").size());
+        assertEquals("BL02", tables.billingComponents("PD01").get(1).billingComponentId);
+        assertNull(tables.billingComponents("PD01").get(1).billingComponentDesc);
+        assertTrue(tables.billingComponents("PD03").isEmpty());
+    }
+
+    @Test
+    public void testDescriptionLookupsAndUniqueness() {
+        ReferenceTables tables = new ReferenceTables(
+            rows(new String[] { "P0000001", "Gold plan" }),
+            rows(new String[] { "PD01", "V1" }),
+            rows(new String[] { "V1", "Value one" }),
+            rows(new String[] { "PD01", "MDCD", "Product", "General" }, new String[] { "PD01", null, "Other", "Other" }),
+            NONE, NONE, NONE);
+
+        assertEquals("Gold plan", tables.planDescription("P0000001"));
+        assertEquals("Value one", tables.valueCodeDescription(tables.productValueCode("PD01")));
+        assertEquals("Product", tables.product("PD01", "MDCD")[0]);
+        assertNull(tables.product("PD01", null));
+        assertTrue(tables.isDescriptionsUnique());
+
+        ReferenceTables duplicated = new ReferenceTables(
+            rows(new String[] { "P0000001", "Gold plan" }, new String[] { "P0000001", "Gold plan (old)" }),
+            NONE, NONE, NONE, NONE, NONE, NONE);
+        assertFalse(duplicated.isDescriptionsUnique());
+        assertTrue(duplicated.getVersion() > tables.getVersion());
+    }
+
+    @Test
+    public void testEnrichFillsDescriptiveColumns() {
+        ReferenceTables tables = new ReferenceTables(
+            rows(new String[] { "P0000001", "Gold plan" }),
+            rows(new String[] { "PD01", "V1" }),
+            rows(new String[] { "V1", "Value one" }),
+            rows(new String[] { "PD01", "MDCD", "Product", "General" }),
+            NONE,
+            rows(new String[] { "42", "INMCD001", "Indiana", "MDCD", "5551234" }),
+            rows(new Object[] { "PD01", Timestamp.valueOf("2010-01-01 00:00:00"), Timestamp.valueOf("2014-12-31 00:00:00"), "LOB1" },
+                 new Object[] { "PD01", Timestamp.valueOf("2015-01-01 00:00:00"), Timestamp.valueOf("9999-12-31 00:00:00"), "LOB2" }));
+        assertTrue(tables.isDescriptionsUnique());
+
+        FacetsMemberEligibilityDto dto = new FacetsMemberEligibilityDto();
+        dto.planID = "P0000001";
+        dto.productID = "PD01";
+        dto.subgroupType = "MDCD";
+        dto.dateEffective = Timestamp.valueOf("2015-01-01 00:00:00");
+        tables.enrich(dto, "42");
+
+        assertEquals("Gold plan", dto.planDesc);
+        assertEquals("LOB2", dto.lobId);
+        assertEquals("Product", dto.productName);
+        assertEquals("Value one", dto.productValueCodeDesc);
+        assertEquals("INMCD001", dto.groupID);
+        assertEquals("MDCD", dto.sourceSystem);
+
+        tables.enrich(dto, "43");
+        assertNull(dto.groupID);
+        assertNull(dto.grpPhNo);
+    }
+
+    @Test
+    public void testOverlappingProductLinesAreNotUnique() {
+        ReferenceTables tables = new ReferenceTables(NONE, NONE, NONE, NONE, NONE, NONE,
+            rows(new Object[] { "PD01", Timestamp.valueOf("2010-01-01 00:00:00"), Timestamp.valueOf("2015-01-01 00:00:00"), "LOB1" },
+                 new Object[] { "PD01", Timestamp.valueOf("2015-01-01 00:00:00"), Timestamp.valueOf("9999-12-31 00:00:00"), "LOB2" }));
+
+        assertFalse(tables.isDescriptionsUnique());
+    }
+}
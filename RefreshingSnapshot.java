@@ -0,0 +1,217 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.log4j.Logger;
+
+/**
+ * <p>Holds an in-memory copy of slowly changing reference data and reloads it periodically.</p>
+ * <p>The first call loads the data on the calling thread.  Once the refresh interval has
+ * passed the copy is stale.  By default the next call reloads it on its own thread; in
+ * stale-while-revalidate mode the stale copy is returned at once and the reload runs on a
+ * background thread instead.  {@link #scheduleRefresh(Loader)} additionally reloads on a
+ * timer so the request path does not have to notice staleness at all.</p>
+ * <p>If a reload fails the previous copy is kept and the reload is retried after another
+ * interval, so a database outage does not take reference lookups down with it.</p>
+ * <p>The loader is passed on each call so a snapshot shared by all DAO instances can be
+ * loaded through whichever instance happens to need it.</p>
+ * @param <T> The type of the snapshot; should be immutable
+ */
+public class RefreshingSnapshot<T>
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(RefreshingSnapshot.class);
+
+    /** Runs background and scheduled reloads for every snapshot */
+    private static final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory()
+    {
+        public Thread newThread(Runnable r)
+        {
+            Thread t = new Thread(r, "facets-dao-snapshot-refresh");
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
+    /**
+     * <p>Loads a fresh copy of the data.</p>
+     * @param <T> The type of the snapshot
+     */
+    public interface Loader<T>
+    {
+        /**
+         * @return the freshly loaded data, never null
+         */
+        T load();
+    }
+
+    private final String name;
+    private final long refreshIntervalMillis;
+    private final boolean staleWhileRevalidate;
+
+    /**
+     * Held while loading, so one thread loads and the others wait for its copy.  Loaders query
+     * the database, and a virtual thread cannot unmount while it holds a monitor.
+     */
+    private final ReentrantLock loading = new ReentrantLock();
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private volatile T value;
+    private volatile long loadedAt;
+    private volatile long nextRefreshAt;
+
+    /**
+     * <p>Create a snapshot that reloads on the calling thread once stale.</p>
+     * @param name A name for log messages
+     * @param refreshIntervalMillis How long a loaded copy is used before it is reloaded
+     */
+    public RefreshingSnapshot(String name, long refreshIntervalMillis)
+    {
+        this(name, refreshIntervalMillis, false);
+    }
+
+    /**
+     * @param name A name for log messages
+     * @param refreshIntervalMillis How long a loaded copy is used before it is reloaded
+     * @param staleWhileRevalidate If true a stale copy is returned while it is reloaded in the background
+     */
+    public RefreshingSnapshot(String name, long refreshIntervalMillis, boolean staleWhileRevalidate)
+    {
+        this.name = name;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    /**
+     * <p>Get the current copy, loading or reloading it first if it is missing or due.</p>
+     * @param loader Used if a load is needed
+     * @return the data
+     * @throws RuntimeException from the loader if there is no previous copy to fall back on
+     */
+    public T get(final Loader<T> loader)
+    {
+        T current = value;
+        if (current != null && System.currentTimeMillis() < nextRefreshAt)
+        {
+            return current;
+        }
+        if (current != null && staleWhileRevalidate)
+        {
+            if (refreshing.compareAndSet(false, true))
+            {
+                refresher.execute(new Runnable()
+                {
+                    public void run()
+                    {
+                        try
+                        {
+                            reload(loader);
+                        }
+                        finally
+                        {
+                            refreshing.set(false);
+                        }
+                    }
+                });
+            }
+            return current;
+        }
+        return reload(loader);
+    }
+
+    /**
+     * <p>Reload the data every refresh interval on a background thread, starting one interval
+     * from now.  Calling this more than once has no further effect.</p>
+     * @param loader Used for the scheduled reloads
+     */
+    public void scheduleRefresh(final Loader<T> loader)
+    {
+        if (!scheduled.compareAndSet(false, true) || refreshIntervalMillis <= 0)
+        {
+            return;
+        }
+        refresher.scheduleWithFixedDelay(new Runnable()
+        {
+            public void run()
+            {
+                if (refreshing.compareAndSet(false, true))
+                {
+                    try
+                    {
+                        invalidate();
+                        reload(loader);
+                    }
+                    catch (RuntimeException ex)
+                    {
+                        log.warn("Scheduled refresh of " + name + " failed", ex);
+                    }
+                    finally
+                    {
+                        refreshing.set(false);
+                    }
+                }
+            }
+        }, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private T reload(Loader<T> loader)
+    {
+        loading.lock();
+        try
+        {
+            T current = value;
+            if (current != null && System.currentTimeMillis() < nextRefreshAt)
+            {
+                return current;
+            }
+            try
+            {
+                T loaded = loader.load();
+                long now = System.currentTimeMillis();
+                value = loaded;
+                loadedAt = now;
+                nextRefreshAt = now + refreshIntervalMillis;
+                return loaded;
+            }
+            catch (RuntimeException ex)
+            {
+                if (current == null)
+                {
+                    throw ex;
+                }
+                log.warn("Unable to refresh " + name + ", keeping the copy loaded at " + new java.util.Date(loadedAt), ex);
+                nextRefreshAt = System.currentTimeMillis() + refreshIntervalMillis;
+                return current;
+            }
+        }
+        finally
+        {
+            loading.unlock();
+        }
+    }
+
+    /**
+     * <p>Mark the current copy stale so the next call reloads it.</p>
+     */
+    public void invalidate()
+    {
+        nextRefreshAt = 0;
+    }
+
+    /**
+     * @return when the current copy was loaded, in epoch millis, or 0 if never
+     */
+    public long getLoadedAt()
+    {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,245 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+
+/**
+ * <p>Spreads the DAO's read-only queries over replica datasources, falling back to the
+ * primary.</p>
+ * <p>Each checkout picks one replica that is not cooling down:</p>
+ * <ul>
+ * <li><tt>WEIGHTED</tt> picks at random in proportion to the replicas' weights; a weight of
+ * 0 takes a replica out of rotation.</li>
+ * <li><tt>LEAST_LATENCY</tt> picks two replicas at random and uses the one with the lower
+ * moving average query time ({@link DatasourceMetrics#getLatencyAverage()}).  Comparing two
+ * rather than taking the overall fastest stops all callers piling onto the same one.  An
+ * average only moves when its replica is used, so one pick in twenty goes to a random
+ * replica; otherwise one slow sample could keep a replica out of rotation for good.</li>
+ * </ul>
+ * <p>A replica that has no datasource or fails to hand out a connection, including an
+ * exhausted pool, is skipped for <tt>cooldownMillis</tt> and the call goes to the primary.
+ * So is a replica that hands out connections but fails a query on one, once the failure is
+ * reported with {@link #recordFailure()}.  The primary is also used when every replica is
+ * cooling down.</p>
+ * <p>The replica a connection came from is remembered on the calling thread until the next
+ * checkout, so {@link #recordLatency(long)} and {@link #recordFailure()} can credit the query
+ * to it.</p>
+ * <p>Thread-safe.</p>
+ */
+public class ReplicaRouter
+{
+
+    /** Log4j logger */
+    private static final Logger log = Logger.getLogger(ReplicaRouter.class);
+
+    /** Share of least-latency picks that go to a random replica to refresh its average */
+    private static final double EXPLORE_RATE = 0.05;
+
+    /**
+     * <p>How a replica is chosen.</p>
+     */
+    public enum Selection
+    {
+        WEIGHTED,
+        LEAST_LATENCY
+    }
+
+    private final FacetsDatasourceHandle primary;
+    private final Replica[] replicas;
+    private final Selection selection;
+    private final long cooldownMillis;
+
+    /** Replica the calling thread's current connection came from, null for the primary */
+    private final ThreadLocal<Replica> routed = new ThreadLocal<Replica>();
+
+    private final AtomicLong fallbacks = new AtomicLong();
+    private final AtomicLong queryFailures = new AtomicLong();
+
+    /**
+     * @param primary The primary datasource, used when no replica is available
+     * @param replicas The replica datasources
+     * @param weights The weight of each replica, in the same order
+     * @param selection How a replica is chosen
+     * @param cooldownMillis How long a replica that failed is skipped
+     */
+    public ReplicaRouter(FacetsDatasourceHandle primary, List<FacetsDatasourceHandle> replicas, int[] weights,
+        Selection selection, long cooldownMillis)
+    {
+        this.primary = primary;
+        this.replicas = new Replica[replicas.size()];
+        for (int i = 0; i < this.replicas.length; i++)
+        {
+            this.replicas[i] = new Replica(replicas.get(i), Math.max(0, weights[i]));
+        }
+        this.selection = selection;
+        this.cooldownMillis = cooldownMillis;
+    }
+
+    /**
+     * <p>Check out a connection from a replica, or from the primary if none is available.</p>
+     * @return a connection, or null if the primary has no datasource either
+     * @throws SQLException if the primary could not hand out a connection
+     */
+    public Connection getConnection() throws SQLException
+    {
+        routed.remove();
+        Replica replica = select(System.currentTimeMillis());
+        if (replica != null)
+        {
+            try
+            {
+                Connection conn = replica.handle.getConnection();
+                if (conn != null)
+                {
+                    routed.set(replica);
+                    return conn;
+                }
+                log.warn("No datasource for replica " + replica.handle.getName() + ", using the primary for "
+                    + cooldownMillis + "ms");
+            }
+            catch (SQLException ex)
+            {
+                log.warn("Unable to get a connection from replica " + replica.handle.getName()
+                    + ", using the primary for " + cooldownMillis + "ms", ex);
+            }
+            replica.downUntil = System.currentTimeMillis() + cooldownMillis;
+            fallbacks.incrementAndGet();
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * <p>Credit the time of a query to the replica the calling thread's connection came from.
+     * Does nothing if it came from the primary.</p>
+     * @param nanos Connection and execution time of the query
+     */
+    public void recordLatency(long nanos)
+    {
+        Replica replica = routed.get();
+        if (replica != null)
+        {
+            replica.handle.getMetrics().recordLatency(nanos);
+        }
+    }
+
+    /**
+     * <p>Put the replica the calling thread's connection came from on cooldown because a query
+     * on it failed.  Does nothing if it came from the primary.</p>
+     */
+    public void recordFailure()
+    {
+        Replica replica = routed.get();
+        if (replica != null)
+        {
+            log.warn("Query failed on replica " + replica.handle.getName() + ", using the primary for "
+                + cooldownMillis + "ms");
+            replica.downUntil = System.currentTimeMillis() + cooldownMillis;
+            queryFailures.incrementAndGet();
+        }
+    }
+
+    /** @return the primary datasource */
+    public FacetsDatasourceHandle getPrimary()
+    {
+        return primary;
+    }
+
+    /** @return the replica datasources, in configuration order */
+    public List<FacetsDatasourceHandle> getReplicas()
+    {
+        List<FacetsDatasourceHandle> handles = new ArrayList<FacetsDatasourceHandle>(replicas.length);
+        for (Replica replica : replicas)
+        {
+            handles.add(replica.handle);
+        }
+        return handles;
+    }
+
+    /** @return the number of checkouts that went to the primary because the chosen replica failed */
+    public long getFallbacks()
+    {
+        return fallbacks.get();
+    }
+
+    /** @return the number of failed queries that put a replica on cooldown */
+    public long getQueryFailures()
+    {
+        return queryFailures.get();
+    }
+
+    /**
+     * <p>Choose a replica.</p>
+     * @param now The current time in epoch milliseconds
+     * @return a replica in rotation and not cooling down, or null if there is none
+     */
+    Replica select(long now)
+    {
+        Replica[] candidates = new Replica[replicas.length];
+        int count = 0;
+        int totalWeight = 0;
+        for (Replica replica : replicas)
+        {
+            if (replica.weight > 0 && replica.downUntil <= now)
+            {
+                candidates[count++] = replica;
+                totalWeight += replica.weight;
+            }
+        }
+        if (count <= 1)
+        {
+            return count == 0 ? null : candidates[0];
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (selection == Selection.LEAST_LATENCY)
+        {
+            int first = random.nextInt(count);
+            if (random.nextDouble() < EXPLORE_RATE)
+            {
+                return candidates[first];
+            }
+            int second = random.nextInt(count - 1);
+            if (second >= first)
+            {
+                second++;
+            }
+            double a = candidates[first].handle.getMetrics().getLatencyAverage();
+            double b = candidates[second].handle.getMetrics().getLatencyAverage();
+            return b < a ? candidates[second] : candidates[first];
+        }
+
+        int pick = random.nextInt(totalWeight);
+        for (int i = 0; i < count; i++)
+        {
+            pick -= candidates[i].weight;
+            if (pick < 0)
+            {
+                return candidates[i];
+            }
+        }
+        return candidates[count - 1];
+    }
+
+    /**
+     * <p>A replica datasource and its routing state.</p>
+     */
+    static final class Replica
+    {
+        final FacetsDatasourceHandle handle;
+        final int weight;
+        volatile long downUntil;
+
+        Replica(FacetsDatasourceHandle handle, int weight)
+        {
+            this.handle = handle;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.Test;
+import java.util.Arrays;
+import static org.junit.Assert.*;
+
+
+public class ReplicaRouterTest {
+
+    private static FacetsDatasourceHandle handle(String name) {
+        return new FacetsDatasourceHandle(name, new FacetsDatasourceHandle.JndiNameResolver() {
+            public String resolveJndiName() {
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void testWeightedSkipsZeroWeightAndCoolingDownReplicas() {
+        FacetsDatasourceHandle a = handle("routerA");
+        FacetsDatasourceHandle b = handle("routerB");
+        FacetsDatasourceHandle c = handle("routerC");
+        ReplicaRouter router = new ReplicaRouter(handle("routerPrimary"), Arrays.asList(a, b, c),
+            new int[] { 1, 0, 3 }, ReplicaRouter.Selection.WEIGHTED, 1000);
+
+        for (int i = 0; i < 100; i++) {
+            assertNotSame(b, router.select(0).handle);
+        }
+
+        router.select(0).downUntil = 500;
+        ReplicaRouter.Replica remaining = router.select(0);
+        assertEquals(0, remaining.downUntil);
+        for (int i = 0; i < 100; i++) {
+            assertSame(remaining, router.select(100));
+        }
+
+        remaining.downUntil = 500;
+        assertNull(router.select(100));
+        assertNotNull(router.select(500));
+    }
+
+    @Test
+    public void testLeastLatencyPrefersFasterReplicaButStillTriesTheSlowerOne() {
+        FacetsDatasourceHandle slow = handle("routerSlow");
+        FacetsDatasourceHandle fast = handle("routerFast");
+        slow.getMetrics().recordLatency(5000000);
+        fast.getMetrics().recordLatency(1000000);
+        ReplicaRouter router = new ReplicaRouter(handle("routerPrimary"), Arrays.asList(slow, fast),
+            new int[] { 1, 1 }, ReplicaRouter.Selection.LEAST_LATENCY, 1000);
+
+        int slowPicks = 0;
+        for (int i = 0; i < 2000; i++) {
+            if (router.select(0).handle == slow) {
+                slowPicks++;
+            }
+        }
+        assertTrue(slowPicks > 0);
+        assertTrue(slowPicks < 200);
+    }
+
+    @Test
+    public void testReplicaWithoutDatasourceFallsBackToPrimary() throws Exception {
+        ReplicaRouter router = new ReplicaRouter(handle("routerPrimary"), Arrays.asList(handle("routerMissing")),
+            new int[] { 1 }, ReplicaRouter.Selection.WEIGHTED, 60000);
+
+        assertNull(router.getConnection());
+        assertEquals(1, router.getFallbacks());
+        assertNull(router.select(System.currentTimeMillis()));
+    }
+
+    @Test
+    public void testQueryFailureOnThePrimaryCoolsNothingDown() throws Exception {
+        ReplicaRouter router = new ReplicaRouter(handle("routerPrimary"), Arrays.asList(handle("routerOnly")),
+            new int[] { 1 }, ReplicaRouter.Selection.WEIGHTED, 60000);
+
+        router.recordFailure();
+        assertEquals(0, router.getQueryFailures());
+        assertNotNull(router.select(System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,114 @@
+// CHECKSTYLE:OFF
+package com.amerigroup.facets.dao;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Collapses concurrent calls with the same key into one execution.</p>
+ * <p>The first caller for a key runs the call on its own thread; callers arriving with the
+ * same key while it is in flight wait for it and get the same result, or the same exception.
+ * Nothing is remembered once the call completes, so the next caller runs it again.</p>
+ * <p>Thread-safe.</p>
+ * @param <K> The key type; must implement <tt>equals</tt> and <tt>hashCode</tt>
+ * @param <V> The result type
+ */
+public class SingleFlight<K, V>
+{
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<K, CompletableFuture<V>>();
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * <p>Run <tt>call</tt>, or wait for the call already running under <tt>key</tt>.</p>
+     * @param key Identifies calls that may share a result
+     * @param call The call to run if none is in flight
+     * @return the result of the call that ran
+     * @throws Exception whatever the call that ran threw
+     */
+    public V execute(K key, Callable<V> call) throws Exception
+    {
+        CompletableFuture<V> mine = new CompletableFuture<V>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null)
+        {
+            coalesced.incrementAndGet();
+            return await(running);
+        }
+
+        executions.incrementAndGet();
+        try
+        {
+            V result = call.call();
+            mine.complete(result);
+            return result;
+        }
+        catch (Throwable t)
+        {
+            mine.completeExceptionally(t);
+            throw rethrow(t);
+        }
+        finally
+        {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** @return the number of calls that were actually run */
+    public long getExecutions()
+    {
+        return executions.get();
+    }
+
+    /** @return the number of callers that shared the result of a call already in flight */
+    public long getCoalesced()
+    {
+        return coalesced.get();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) throws Exception
+    {
+        boolean interrupted = false;
+        try
+        {
+            while (true)
+            {
+                try
+                {
+                    return running.get();
+                }
+                catch (InterruptedException ex)
+                {
+                    // The leader's call cannot be abandoned, so keep waiting and restore the flag after
+                    interrupted = true;
+                }
+                catch (ExecutionException ex)
+                {
+                    throw rethrow(ex.getCause());
+                }
+            }
+        }
+        finally
+        {
+            if (interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Exception rethrow(Throwable t)
+    {
+        if (t instanceof Error)
+        {
+            throw (Error) t;
+        }
+        return (Exception) t;
+    }
+}
@@ -0,0 +1,79 @@
+package com.amerigroup.facets.dao;
+
+import org.junit.Test;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+
+
+public class SingleFlightTest {
+
+    @Test
+    public void testConcurrentCallsShareOneExecution() throws Exception {
+        final SingleFlight<String, Integer> flights = new SingleFlight<String, Integer>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger runs = new AtomicInteger();
+        final Callable<Integer> slow = new Callable<Integer>() {
+            public Integer call() throws Exception {
+                runs.incrementAndGet();
+                started.countDown();
+                release.await();
+                return Integer.valueOf(42);
+            }
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> leader = pool.submit(new Callable<Integer>() {
+                public Integer call() throws Exception {
+                    return flights.execute("SUB1", slow);
+                }
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<Integer> follower = pool.submit(new Callable<Integer>() {
+                public Integer call() throws Exception {
+                    return flights.execute("SUB1", slow);
+                }
+            });
+            while (flights.getCoalesced() == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            assertEquals(Integer.valueOf(42), leader.get(5, TimeUnit.SECONDS));
+            assertEquals(Integer.valueOf(42), follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, runs.get());
+            assertEquals(1, flights.getExecutions());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRunsAgainOnceCompleteAndPropagatesFailure() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<String, Integer>();
+        try {
+            flights.execute("SUB1", new Callable<Integer>() {
+                public Integer call() {
+                    throw new IllegalStateException("down");
+                }
+            });
+            fail("Expected the call's exception");
+        } catch (IllegalStateException ex) {
+            assertEquals("down", ex.getMessage());
+        }
+
+        assertEquals(Integer.valueOf(1), flights.execute("SUB1", new Callable<Integer>() {
+            public Integer call() {
+                return Integer.valueOf(1);
+            }
+        }));
+        assertEquals(2, flights.getExecutions());
+    }
+}